@@ -234,6 +234,18 @@ public String toString() {
     @ConfigItem(defaultValue = "true")
     public boolean includeDependencyList;
 
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true then the application
+     * classes and resources, as well as the generated and transformed classes, are stored uncompressed. These jars are
+     * then memory mapped when the application starts and the classes are loaded directly from the mapped jars,
+     * without inflating them or locking the jars, which reduces the startup time of large applications at the cost of
+     * a bigger distribution.
+     * <p>
+     * The dependencies in the {@code lib} directory are copied unchanged and are loaded as usual.
+     */
+    @ConfigItem
+    public boolean mapApplicationJars;
+
     /**
      * Quiltflower Decompiler configuration
      */
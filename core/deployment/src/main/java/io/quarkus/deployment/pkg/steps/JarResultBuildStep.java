@@ -623,7 +623,7 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
         if (!transformedClasses.getTransformedClassesByJar().isEmpty()) {
             Path transformedZip = quarkus.resolve(TRANSFORMED_BYTECODE_JAR);
             fastJarJarsBuilder.setTransformed(transformedZip);
-            try (FileSystem out = ZipUtils.newZip(transformedZip)) {
+            try (FileSystem out = newFastJarZip(transformedZip, packageConfig)) {
                 for (Set<TransformedClassesBuildItem.TransformedClass> transformedSet : transformedClasses
                         .getTransformedClassesByJar().values()) {
                     for (TransformedClassesBuildItem.TransformedClass transformed : transformedSet) {
@@ -644,7 +644,7 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
         //now generated classes and resources
         Path generatedZip = quarkus.resolve(GENERATED_BYTECODE_JAR);
         fastJarJarsBuilder.setGenerated(generatedZip);
-        try (FileSystem out = ZipUtils.newZip(generatedZip)) {
+        try (FileSystem out = newFastJarZip(generatedZip, packageConfig)) {
             for (GeneratedClassBuildItem i : generatedClasses) {
                 String fileName = i.getName().replace('.', '/') + ".class";
                 Path target = out.getPath(fileName);
@@ -677,7 +677,7 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
         if (!rebuild) {
             Predicate<String> ignoredEntriesPredicate = getThinJarIgnoredEntriesPredicate(packageConfig);
 
-            try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
+            try (FileSystem runnerZipFs = newFastJarZip(runnerJar, packageConfig)) {
                 copyFiles(applicationArchivesBuildItem.getRootArchive(), runnerZipFs, null, ignoredEntriesPredicate);
             }
         }
@@ -740,8 +740,17 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             Collections.sort(sortedParentFirst);
             List<String> sortedNonExistentResources = new ArrayList<>(nonExistentResources);
             Collections.sort(sortedNonExistentResources);
+            Set<Path> mappedJars = new HashSet<>();
+            if (packageConfig.mapApplicationJars) {
+                //the jars written above, the dependencies are not rewritten
+                if (fastJarJars.transformed != null) {
+                    mappedJars.add(fastJarJars.transformed);
+                }
+                mappedJars.add(fastJarJars.generated);
+                mappedJars.add(fastJarJars.runner);
+            }
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
-                    sortedNonExistentResources);
+                    sortedNonExistentResources, mappedJars);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -1431,6 +1440,24 @@ static boolean isBlockOrSF(final String s) {
                 || s.endsWith(".EC");
     }
 
+    /**
+     * Creates one of the jars of the fast-jar that contain the application classes, whose entries are stored
+     * uncompressed if the jars are memory mapped at runtime.
+     */
+    private static FileSystem newFastJarZip(Path zip, PackageConfig packageConfig) throws IOException {
+        if (!packageConfig.mapApplicationJars) {
+            return ZipUtils.newZip(zip);
+        }
+        Files.createDirectories(zip.getParent());
+        Map<String, Object> env = new HashMap<>();
+        String user = System.getProperty("user.name");
+        env.put("defaultOwner", user);
+        env.put("defaultGroup", user);
+        env.put("create", "true");
+        env.put("noCompression", "true");
+        return ZipUtils.newFileSystem(ZipUtils.toZipUri(zip), env);
+    }
+
     private Predicate<String> getThinJarIgnoredEntriesPredicate(PackageConfig packageConfig) {
         if (packageConfig.userConfiguredIgnoredEntries.isEmpty()) {
             return new Predicate<String>() {
@@ -0,0 +1,21 @@
+package io.quarkus.cache.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.cache.CacheManagerInfo;
+
+/**
+ * This build item can be used by an extension to provide an additional cache type. The {@link CacheManagerInfo} is usually
+ * returned by a recorder method.
+ */
+public final class CacheManagerInfoBuildItem extends MultiBuildItem {
+
+    private final CacheManagerInfo info;
+
+    public CacheManagerInfoBuildItem(CacheManagerInfo info) {
+        this.info = info;
+    }
+
+    public CacheManagerInfo get() {
+        return info;
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,11 +10,17 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_STATS_ENDPOINT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_STATS_PATH;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_WEIGHER;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
 import static java.util.stream.Collectors.toList;
@@ -39,6 +47,7 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
@@ -46,17 +55,23 @@
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.DotNames;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheManagerInfo;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
 import io.quarkus.cache.deployment.exception.UnsupportedRepeatedAnnotationException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
+import io.quarkus.cache.runtime.BulkCacheResultInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheManagerRecorder;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -64,7 +79,10 @@
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.vertx.http.deployment.spi.NonApplicationRouteBuildItem;
 
 class CacheProcessor {
 
@@ -191,6 +209,8 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                } else if (BULK_CACHE_RESULT.equals(binding.name())) {
+                    validateBulkCacheResultTarget(methodInfo).ifPresent(throwables::add);
                 }
                 break;
             default:
@@ -200,6 +220,27 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private Optional<Throwable> validateBulkCacheResultTarget(MethodInfo methodInfo) {
+        if (methodInfo.hasAnnotation(CACHE_RESULT)) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo, "it is also annotated with @CacheResult"));
+        }
+        if (methodInfo.parametersCount() != 1 || !BULK_KEYS_TYPES.contains(methodInfo.parameterType(0).name())) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                    "it must have exactly one parameter of type " + BULK_KEYS_TYPES));
+        }
+        Type returnType = methodInfo.returnType();
+        if (UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name())) {
+            if (returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                returnType = returnType.asParameterizedType().arguments().get(0);
+            }
+        }
+        if (!MAP.equals(returnType.name())) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                    "it must return " + MAP + ", optionally wrapped in a " + UNI + " or a " + COMPLETION_STAGE));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -230,19 +271,78 @@ private List<Throwable> validateKeyGeneratorsDefaultConstructor(CombinedIndexBui
         return throwables;
     }
 
+    /*
+     * The cache weighers are selected from the configuration at run time, so they must not be removed by Arc and must be
+     * available for reflection when they are not managed by Arc.
+     */
+    @BuildStep
+    void registerCacheWeighers(CombinedIndexBuildItem combinedIndex, BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        Set<String> weighers = new HashSet<>();
+        for (ClassInfo weigher : combinedIndex.getIndex().getAllKnownImplementors(CACHE_WEIGHER)) {
+            if (!Modifier.isAbstract(weigher.flags())) {
+                weighers.add(weigher.name().toString());
+            }
+        }
+        if (!weighers.isEmpty()) {
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(weighers));
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(weighers.toArray(new String[0])).constructors()
+                    .build());
+        }
+    }
+
+    /*
+     * The refresh-after-write configuration is read at run time and the refreshed entries are recomputed by invoking the
+     * cached methods with reflection.
+     */
+    @BuildStep
+    void registerCachedMethodsForReflection(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<ReflectiveMethodBuildItem> reflectiveMethods) {
+        for (DotName bindingName : List.of(CACHE_RESULT, BULK_CACHE_RESULT)) {
+            for (AnnotationInstance binding : combinedIndex.getIndex().getAnnotations(bindingName)) {
+                if (binding.target().kind() == METHOD
+                        && !Modifier.isInterface(binding.target().asMethod().declaringClass().flags())) {
+                    reflectiveMethods.produce(new ReflectiveMethodBuildItem(binding.target().asMethod()));
+                }
+            }
+        }
+    }
+
+    /*
+     * The Vert.x HTTP extension is an optional dependency, so the stats endpoint is registered through its SPI and the
+     * endpoint class, which depends on Vert.x Web, is only added as a bean when the extension is present.
+     */
+    @BuildStep
+    void registerStatsEndpoint(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<NonApplicationRouteBuildItem> routes) {
+        if (capabilities.isPresent(Capability.VERTX_HTTP)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(CACHE_STATS_ENDPOINT)
+                    .setDefaultScope(DotNames.SINGLETON)
+                    .setUnremovable()
+                    .build());
+            routes.produce(new NonApplicationRouteBuildItem(CACHE_STATS_PATH, CACHE_STATS_ENDPOINT, "Cache statistics"));
+        }
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void cacheManagerInfos(BuildProducer<CacheManagerInfoBuildItem> producer, CacheManagerRecorder recorder) {
+        producer.produce(new CacheManagerInfoBuildItem(recorder.noOpCacheManagerInfo()));
+        producer.produce(new CacheManagerInfoBuildItem(recorder.caffeineCacheManagerInfo()));
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames,
-            CacheManagerRecorder cacheManagerRecorder, Optional<MetricsCapabilityBuildItem> metricsCapability) {
+            List<CacheManagerInfoBuildItem> infos, CacheManagerRecorder cacheManagerRecorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
 
         boolean micrometerSupported = metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER);
 
-        Supplier<CacheManager> cacheManagerSupplier;
-        if (micrometerSupported) {
-            cacheManagerSupplier = cacheManagerRecorder.getCacheManagerSupplierWithMicrometerMetrics(cacheNames.getNames());
-        } else {
-            cacheManagerSupplier = cacheManagerRecorder.getCacheManagerSupplierWithoutMetrics(cacheNames.getNames());
-        }
+        List<CacheManagerInfo> cacheManagerInfos = infos.stream().map(CacheManagerInfoBuildItem::get).collect(toList());
+        Supplier<CacheManager> cacheManagerSupplier = cacheManagerRecorder.resolveCacheInfo(cacheManagerInfos,
+                cacheNames.getNames(), micrometerSupported);
 
         return SyntheticBeanBuildItem.configure(CacheManager.class)
                 .scope(ApplicationScoped.class)
@@ -257,6 +357,7 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
         List<BytecodeTransformerBuildItem> bytecodeTransformers = new ArrayList<>();
         boolean cacheInvalidate = false;
         boolean cacheResult = false;
+        boolean bulkCacheResult = false;
         boolean cacheInvalidateAll = false;
 
         for (AnnotationInstance registerRestClientAnnotation : combinedIndex.getIndex().getAnnotations(REGISTER_REST_CLIENT)) {
@@ -273,6 +374,9 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
                         transform = true;
                         cacheResult = true;
                     }
+                    if (methodInfo.hasAnnotation(BULK_CACHE_RESULT)) {
+                        bulkCacheResult = true;
+                    }
                     if (methodInfo.hasAnnotation(CACHE_INVALIDATE_ALL) || methodInfo.hasAnnotation(CACHE_INVALIDATE_ALL_LIST)) {
                         cacheInvalidateAll = true;
                     }
@@ -295,6 +399,9 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
         if (cacheResult) {
             unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheResultInterceptor.class.getName()));
         }
+        if (bulkCacheResult) {
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(BulkCacheResultInterceptor.class.getName()));
+        }
         if (cacheInvalidate) {
             unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheInvalidateInterceptor.class.getName()));
         }
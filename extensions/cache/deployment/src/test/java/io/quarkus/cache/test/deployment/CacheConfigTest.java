@@ -50,6 +50,7 @@ void testConfig() {
         assertEquals(100L, cache.getCacheInfo().maximumSize);
         assertEquals(Duration.ofSeconds(30L), cache.getCacheInfo().expireAfterWrite);
         assertEquals(Duration.ofDays(2L), cache.getCacheInfo().expireAfterAccess);
+        assertEquals(Duration.ofSeconds(10L), cache.getCacheInfo().refreshAfterWrite);
         assertTrue(cache.getCacheInfo().metricsEnabled);
 
         long newMaxSize = 123L;
@@ -70,8 +71,12 @@ void testCache2Config() {
         CaffeineCacheImpl cache = (CaffeineCacheImpl) testCache2;
         assertEquals(80, cache.getCacheInfo().initialCapacity);
         assertNull(cache.getCacheInfo().maximumSize);
+        assertEquals(64L * 1024L * 1024L, cache.getCacheInfo().maximumWeight);
+        assertNull(cache.getCacheInfo().weigher);
+        assertThrows(IllegalStateException.class, () -> cache.setMaximumSize(10L));
         assertEquals(Duration.ofDays(4L), cache.getCacheInfo().expireAfterWrite);
         assertEquals(Duration.ofSeconds(90L), cache.getCacheInfo().expireAfterAccess);
+        assertNull(cache.getCacheInfo().refreshAfterWrite);
         assertFalse(cache.getCacheInfo().metricsEnabled);
     }
 
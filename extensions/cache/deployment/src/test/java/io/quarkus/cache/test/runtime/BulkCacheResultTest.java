@@ -0,0 +1,138 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.BulkCacheResult;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link BulkCacheResult} annotation.
+ */
+public class BulkCacheResultTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @BeforeEach
+    void clear() {
+        cachedService.invalidateAll();
+        cachedService.getLoadedKeys().clear();
+    }
+
+    @Test
+    void testOnlyMissingKeysAreLoaded() {
+        // STEP 1
+        // Action: the bulk method is invoked with keys which are all missing from the cache.
+        // Expected effect: the method is invoked once with all the keys.
+        Map<Integer, String> values1 = cachedService.bulk(List.of(1, 2, 3));
+        assertEquals(Map.of(1, "value-1", 2, "value-2", 3, "value-3"), values1);
+        assertEquals(List.of(List.of(1, 2, 3)), cachedService.getLoadedKeys());
+
+        // STEP 2
+        // Action: the bulk method is invoked with overlapping keys.
+        // Expected effect: the method is invoked once with the missing keys only and the result merges both.
+        Map<Integer, String> values2 = cachedService.bulk(List.of(2, 3, 4, 5));
+        assertEquals(Map.of(2, "value-2", 3, "value-3", 4, "value-4", 5, "value-5"), values2);
+        assertEquals(List.of(4, 5), cachedService.getLoadedKeys().get(1));
+
+        // STEP 3
+        // Action: the bulk method is invoked with cached keys only.
+        // Expected effect: the method is not invoked.
+        assertEquals(Map.of(1, "value-1", 5, "value-5"), cachedService.bulk(List.of(1, 5)));
+        assertEquals(2, cachedService.getLoadedKeys().size());
+
+        // STEP 4
+        // Action: a single-key method sharing the cache is invoked with a key loaded in bulk.
+        // Expected effect: the cached value is returned and no method is invoked.
+        assertEquals("value-4", cachedService.single(4));
+        assertEquals(2, cachedService.getLoadedKeys().size());
+    }
+
+    @Test
+    void testUniReturnType() {
+        assertEquals(Map.of(1, "value-1", 2, "value-2"), cachedService.bulkUni(Set.of(1, 2)).await().indefinitely());
+        assertEquals(Map.of(1, "value-1", 3, "value-3"), cachedService.bulkUni(Set.of(1, 3)).await().indefinitely());
+        assertEquals(List.of(3), cachedService.getLoadedKeys().get(1));
+    }
+
+    @Test
+    void testMissingValuesAreNotCached() {
+        Map<Integer, String> values = cachedService.bulk(List.of(1, -1));
+        assertEquals(Map.of(1, "value-1"), values);
+        assertFalse(values.containsKey(-1));
+        cachedService.bulk(List.of(1, -1));
+        assertEquals(List.of(-1), cachedService.getLoadedKeys().get(1));
+    }
+
+    @Test
+    void testExceptionIsNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> cachedService.bulk(List.of(1, 0)));
+        assertEquals(Map.of(1, "value-1", 2, "value-2"), cachedService.bulk(List.of(1, 2)));
+        assertEquals(List.of(1, 2), cachedService.getLoadedKeys().get(1));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<List<Integer>> loadedKeys = new ArrayList<>();
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Map<Integer, String> bulk(List<Integer> keys) {
+            return load(keys);
+        }
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Uni<Map<Integer, String>> bulkUni(Set<Integer> keys) {
+            return Uni.createFrom().item(() -> load(new ArrayList<>(keys)));
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String single(Integer key) {
+            return load(List.of(key)).get(key);
+        }
+
+        private Map<Integer, String> load(List<Integer> keys) {
+            loadedKeys.add(new ArrayList<>(keys));
+            Map<Integer, String> result = new LinkedHashMap<>();
+            for (Integer key : keys) {
+                if (key == 0) {
+                    throw new IllegalArgumentException();
+                } else if (key > 0) {
+                    result.put(key, "value-" + key);
+                }
+            }
+            return result;
+        }
+
+        @CacheInvalidateAll(cacheName = CACHE_NAME)
+        public void invalidateAll() {
+        }
+
+        public List<List<Integer>> getLoadedKeys() {
+            return loadedKeys;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests that the cache statistics endpoint is served from the management interface when the latter is enabled.
+ */
+public class CacheStatsOnManagementInterfaceTest {
+
+    private static final String CACHE_NAME = "management-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.stats-enabled", "true")
+            .overrideConfigKey("quarkus.cache.stats.endpoint-enabled", "true")
+            .overrideConfigKey("quarkus.management.enabled", "true");
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testEndpoint() {
+        cachedService.cachedMethod("a");
+
+        RestAssured.get("http://0.0.0.0:9001/q/cache/stats").then()
+                .statusCode(200)
+                .body("'" + CACHE_NAME + "'.misses", equalTo(1));
+        RestAssured.get("/q/cache/stats").then()
+                .statusCode(404);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.quarkus.cache.test.runtime;
+
+import static io.restassured.RestAssured.when;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheStats;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the statistics recorded for the caches and the endpoint which exposes them.
+ */
+public class CacheStatsTest {
+
+    private static final String SYNC_CACHE = "sync-cache";
+    private static final String ASYNC_CACHE = "async-cache";
+    private static final String BOUNDED_CACHE = "bounded-cache";
+    private static final String LOCK_CACHE = "lock-cache";
+    private static final String NO_STATS_CACHE = "no-stats-cache";
+    private static final String ENDPOINT_CACHE = "endpoint-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.stats-enabled", "true")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + BOUNDED_CACHE + "\".maximum-size", "1")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + NO_STATS_CACHE + "\".stats-enabled", "false")
+            .overrideConfigKey("quarkus.cache.stats.endpoint-enabled", "true");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @CacheName(SYNC_CACHE)
+    Cache syncCache;
+
+    @CacheName(ASYNC_CACHE)
+    Cache asyncCache;
+
+    @CacheName(BOUNDED_CACHE)
+    Cache boundedCache;
+
+    @CacheName(LOCK_CACHE)
+    Cache lockCache;
+
+    @CacheName(NO_STATS_CACHE)
+    Cache noStatsCache;
+
+    @Test
+    public void testHitsMissesAndLoads() {
+        cachedService.sync("a");
+        cachedService.sync("a");
+        cachedService.sync("b");
+        assertThrows(IllegalStateException.class, () -> cachedService.sync("fail"));
+
+        CacheStats stats = syncCache.getStats();
+        assertTrue(stats.isEnabled());
+        assertEquals(1L, stats.getHitCount());
+        assertEquals(3L, stats.getMissCount());
+        assertEquals(0.25, stats.getHitRatio());
+        assertEquals(2L, stats.getLoadSuccessCount());
+        assertEquals(1L, stats.getLoadFailureCount());
+        assertEquals(0L, stats.getInFlightLoadCount());
+        assertTrue(stats.getLoadTimePercentile(50.0).compareTo(Duration.ZERO) > 0);
+        assertTrue(stats.getLoadTimePercentile(50.0).compareTo(stats.getLoadTimePercentile(100.0)) <= 0);
+        assertThrows(IllegalArgumentException.class, () -> stats.getLoadTimePercentile(101.0));
+    }
+
+    @Test
+    public void testAsyncLoads() {
+        cachedService.async("a").await().indefinitely();
+        cachedService.async("a").await().indefinitely();
+
+        CacheStats stats = asyncCache.getStats();
+        assertEquals(1L, stats.getHitCount());
+        assertEquals(1L, stats.getMissCount());
+        assertEquals(1L, stats.getLoadSuccessCount());
+        assertEquals(0L, stats.getInFlightLoadCount());
+    }
+
+    @Test
+    public void testEvictions() {
+        for (int i = 0; i < 10; i++) {
+            cachedService.bounded(i);
+        }
+        // Caffeine evicts the entries asynchronously, its maintenance is triggered by the cache accesses.
+        await().until(() -> {
+            cachedService.bounded(0);
+            return boundedCache.getStats().getEvictionCounts().getOrDefault("size", 0L) >= 9L;
+        });
+        assertEquals(boundedCache.getStats().getEvictionCounts().get("size"), boundedCache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testLockTimeouts() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        cachedService.setLatches(started, release);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> cachedService.locked("key"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1L, lockCache.getStats().getInFlightLoadCount());
+
+        // The second invocation gives up waiting for the first one and invokes the method without the cache.
+        assertEquals("key", cachedService.locked("key"));
+        release.countDown();
+        assertEquals("key", slow.get(5, TimeUnit.SECONDS));
+
+        CacheStats stats = lockCache.getStats();
+        assertEquals(1L, stats.getLockTimeoutCount());
+        assertEquals(0L, stats.getInFlightLoadCount());
+    }
+
+    @Test
+    public void testDisabledStats() {
+        cachedService.noStats("a");
+        cachedService.noStats("a");
+
+        CacheStats stats = noStatsCache.getStats();
+        assertFalse(stats.isEnabled());
+        assertEquals(0L, stats.getHitCount());
+        assertEquals(0L, stats.getMissCount());
+        assertTrue(cacheManager.getStats().keySet().contains(NO_STATS_CACHE));
+    }
+
+    @Test
+    public void testEndpoint() {
+        cachedService.endpoint("a");
+        cachedService.endpoint("a");
+
+        when().get("/q/cache/stats").then()
+                .statusCode(200)
+                .body("'" + ENDPOINT_CACHE + "'.enabled", equalTo(true))
+                .body("'" + ENDPOINT_CACHE + "'.hits", equalTo(1))
+                .body("'" + ENDPOINT_CACHE + "'.misses", equalTo(1))
+                .body("'" + ENDPOINT_CACHE + "'.loadSuccesses", equalTo(1))
+                .body("'" + ENDPOINT_CACHE + "'.loadTimeMillis.p99", notNullValue())
+                .body("'" + NO_STATS_CACHE + "'.enabled", equalTo(false));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private volatile CountDownLatch started;
+        private volatile CountDownLatch release;
+
+        @CacheResult(cacheName = SYNC_CACHE)
+        public String sync(String key) {
+            if ("fail".equals(key)) {
+                throw new IllegalStateException();
+            }
+            return key;
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE)
+        public Uni<String> async(String key) {
+            return Uni.createFrom().item(key);
+        }
+
+        @CacheResult(cacheName = BOUNDED_CACHE)
+        public Integer bounded(Integer key) {
+            return key;
+        }
+
+        @CacheResult(cacheName = LOCK_CACHE, lockTimeout = 100)
+        public String locked(String key) {
+            CountDownLatch started = this.started;
+            if (started != null && started.getCount() > 0) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return key;
+        }
+
+        @CacheResult(cacheName = NO_STATS_CACHE)
+        public String noStats(String key) {
+            return key;
+        }
+
+        @CacheResult(cacheName = ENDPOINT_CACHE)
+        public String endpoint(String key) {
+            return key;
+        }
+
+        void setLatches(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+    }
+}
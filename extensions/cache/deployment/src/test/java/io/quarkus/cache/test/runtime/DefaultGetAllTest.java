@@ -0,0 +1,103 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.Cache;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the default implementation of {@link Cache#getAll(java.util.Collection, Function)}.
+ */
+public class DefaultGetAllTest {
+
+    @Test
+    public void testMissingKeysAreLoaded() {
+        MapCache cache = new MapCache();
+        cache.values.put("a", "A");
+        List<Set<String>> loadedKeys = new ArrayList<>();
+
+        Map<String, String> values = cache.getAll(List.of("a", "b", "c", "b"),
+                new Function<Set<String>, Uni<Map<String, String>>>() {
+                    @Override
+                    public Uni<Map<String, String>> apply(Set<String> keys) {
+                        loadedKeys.add(keys);
+                        Map<String, String> loaded = new HashMap<>();
+                        for (String key : keys) {
+                            // The value of "c" is missing.
+                            if (!key.equals("c")) {
+                                loaded.put(key, key.toUpperCase());
+                            }
+                        }
+                        return Uni.createFrom().item(loaded);
+                    }
+                }).await().indefinitely();
+
+        assertEquals(Map.of("a", "A", "b", "B"), values);
+        assertEquals(List.of("a", "b"), new ArrayList<>(values.keySet()));
+        assertEquals(List.of(Set.of("b"), Set.of("c")), loadedKeys);
+        assertEquals("B", cache.values.get("b"));
+        assertFalse(cache.values.containsKey("c"));
+    }
+
+    static class MapCache implements Cache {
+
+        final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        @Override
+        public String getName() {
+            return "map-cache";
+        }
+
+        @Override
+        public Object getDefaultKey() {
+            throw new UnsupportedOperationException("This method is not tested here");
+        }
+
+        @Override
+        public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+            throw new UnsupportedOperationException("This method is not tested here");
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+            Object value = values.get(key);
+            if (value != null) {
+                return Uni.createFrom().item((V) value);
+            }
+            return valueLoader.apply(key).invoke(v -> values.put(key, v));
+        }
+
+        @Override
+        public Uni<Void> invalidate(Object key) {
+            throw new UnsupportedOperationException("This method is not tested here");
+        }
+
+        @Override
+        public Uni<Void> invalidateAll() {
+            throw new UnsupportedOperationException("This method is not tested here");
+        }
+
+        @Override
+        public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+            throw new UnsupportedOperationException("This method is not tested here");
+        }
+
+        @Override
+        public <T extends Cache> T as(Class<T> type) {
+            throw new UnsupportedOperationException("This method is not tested here");
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the refresh-after-write configuration with methods returning a plain value or a {@link Uni}.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String SYNC_CACHE = "sync-cache";
+    private static final String ASYNC_CACHE = "async-cache";
+    private static final String FAILING_CACHE = "failing-cache";
+    private static final String DEPENDENT_CACHE = "dependent-cache";
+    private static final String CONTEXT_CACHE = "context-cache";
+    private static final String KEY = "key";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, DependentService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.refresh-after-write", "0.2S");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(SYNC_CACHE)
+    Cache syncCache;
+
+    @CacheName(FAILING_CACHE)
+    Cache failingCache;
+
+    @Inject
+    DependentService dependentService;
+
+    @CacheName(DEPENDENT_CACHE)
+    Cache dependentCache;
+
+    @Test
+    void testSyncRefresh() throws InterruptedException {
+        assertEquals(Duration.ofMillis(200L), ((CaffeineCacheImpl) syncCache).getCacheInfo().refreshAfterWrite);
+
+        String value1 = cachedService.sync(KEY);
+        assertEquals("sync-1", value1);
+        assertEquals(value1, cachedService.sync(KEY));
+        assertEquals(1, cachedService.getSyncInvocations());
+
+        /*
+         * Once the entry is stale, the next read triggers a background refresh. It returns the stale value, unless Caffeine
+         * sees the refresh completed before the read returns.
+         */
+        Thread.sleep(300L);
+        assertTrue(List.of(value1, "sync-2").contains(cachedService.sync(KEY)));
+        await().until(() -> "sync-2".equals(cachedService.sync(KEY)));
+        assertEquals(2, cachedService.getSyncInvocations());
+        assertEquals(1L, ((CaffeineCacheImpl) syncCache).getRefreshSuccessCount());
+    }
+
+    @Test
+    void testAsyncRefresh() throws InterruptedException {
+        String value1 = cachedService.async(KEY).await().indefinitely();
+        assertEquals("async-1", value1);
+        assertEquals(value1, cachedService.async(KEY).await().indefinitely());
+        assertEquals(1, cachedService.getAsyncInvocations());
+
+        Thread.sleep(300L);
+        assertTrue(List.of(value1, "async-2").contains(cachedService.async(KEY).await().indefinitely()));
+        await().until(() -> "async-2".equals(cachedService.async(KEY).await().indefinitely()));
+        assertEquals(2, cachedService.getAsyncInvocations());
+    }
+
+    @Test
+    void testFailedRefreshKeepsStaleValue() throws InterruptedException {
+        String value1 = cachedService.failing(KEY);
+        assertEquals("failing-1", value1);
+
+        cachedService.failRefresh();
+        Thread.sleep(300L);
+        assertEquals(value1, cachedService.failing(KEY));
+        await().until(() -> ((CaffeineCacheImpl) failingCache).getRefreshFailureCount() > 0);
+        assertEquals(value1, cachedService.failing(KEY));
+        assertEquals(0L, ((CaffeineCacheImpl) failingCache).getRefreshSuccessCount());
+    }
+
+    @Test
+    void testSyncRefreshRunsOnAWorkerThreadWithinARequestContext() throws InterruptedException {
+        assertEquals("context-1", cachedService.context(KEY));
+
+        Thread.sleep(300L);
+        await().until(() -> "context-2".equals(cachedService.context(KEY)));
+        assertTrue(cachedService.getRefreshThread().startsWith("executor-thread-"), cachedService.getRefreshThread());
+        assertTrue(cachedService.isRefreshRequestContextActive());
+    }
+
+    @Test
+    void testDependentBeanEntryIsRemovedOnceStale() throws InterruptedException {
+        assertEquals("dependent-1", dependentService.get(KEY));
+        assertEquals("dependent-1", dependentService.get(KEY));
+
+        // The bean instance may not exist anymore when the entry is refreshed, so the method is not invoked again.
+        Thread.sleep(300L);
+        await().until(() -> "dependent-2".equals(dependentService.get(KEY)));
+        assertEquals(0L, ((CaffeineCacheImpl) dependentCache).getRefreshSuccessCount());
+    }
+
+    @Dependent
+    static class DependentService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = DEPENDENT_CACHE)
+        public String get(String key) {
+            return "dependent-" + invocations.incrementAndGet();
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger syncInvocations = new AtomicInteger();
+        private final AtomicInteger asyncInvocations = new AtomicInteger();
+        private final AtomicInteger failingInvocations = new AtomicInteger();
+        private final AtomicBoolean failRefresh = new AtomicBoolean();
+        private final AtomicInteger contextInvocations = new AtomicInteger();
+        private volatile String refreshThread;
+        private volatile boolean refreshRequestContextActive;
+
+        @CacheResult(cacheName = SYNC_CACHE)
+        public String sync(String key) {
+            return "sync-" + syncInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE)
+        public Uni<String> async(String key) {
+            return Uni.createFrom().item(() -> "async-" + asyncInvocations.incrementAndGet());
+        }
+
+        @CacheResult(cacheName = FAILING_CACHE)
+        public String failing(String key) {
+            if (failRefresh.get()) {
+                throw new IllegalStateException("Refresh failure");
+            }
+            return "failing-" + failingInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = CONTEXT_CACHE)
+        public String context(String key) {
+            refreshThread = Thread.currentThread().getName();
+            refreshRequestContextActive = Arc.container().requestContext().isActive();
+            return "context-" + contextInvocations.incrementAndGet();
+        }
+
+        public int getSyncInvocations() {
+            return syncInvocations.get();
+        }
+
+        public int getAsyncInvocations() {
+            return asyncInvocations.get();
+        }
+
+        public String getRefreshThread() {
+            return refreshThread;
+        }
+
+        public boolean isRefreshRequestContextActive() {
+            return refreshRequestContextActive;
+        }
+
+        public void failRefresh() {
+            failRefresh.set(true);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.DefaultCacheWeigher;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the caches bounded by a {@code maximum-weight} configuration value, with the default weigher or a weigher bean.
+ */
+public class WeightBoundedCacheTest {
+
+    private static final String DEFAULT_WEIGHER_CACHE = "default-weigher-cache";
+    private static final String CUSTOM_WEIGHER_CACHE = "custom-weigher-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, FixedWeigher.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + DEFAULT_WEIGHER_CACHE + "\".maximum-weight", "10K")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".maximum-weight", "100")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".weigher", FixedWeigher.class.getName());
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    FixedWeigher fixedWeigher;
+
+    @CacheName(DEFAULT_WEIGHER_CACHE)
+    Cache defaultWeigherCache;
+
+    @CacheName(CUSTOM_WEIGHER_CACHE)
+    Cache customWeigherCache;
+
+    @Test
+    void testDefaultWeigher() {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) defaultWeigherCache;
+        assertEquals(10L * 1024L, cache.getCacheInfo().maximumWeight);
+        assertNull(cache.getCacheInfo().weigher);
+
+        // Each entry weighs about 2 KB, so the cache can't hold more than 5 entries.
+        for (int i = 0; i < 20; i++) {
+            cachedService.largeValue(i);
+        }
+        await().until(() -> cache.getSize() <= 5L);
+        assertTrue(cache.getSize() > 0L);
+    }
+
+    @Test
+    void testCustomWeigherBean() {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) customWeigherCache;
+        assertEquals(FixedWeigher.class.getName(), cache.getCacheInfo().weigher);
+
+        for (int i = 0; i < 20; i++) {
+            cachedService.smallValue(i);
+        }
+        assertEquals(20, fixedWeigher.getInvocations());
+        await().until(() -> cache.getSize() <= 10L);
+    }
+
+    @Test
+    void testDefaultWeigherEstimations() {
+        DefaultCacheWeigher weigher = new DefaultCacheWeigher();
+        assertEquals(weigher.weigh("key", null), weigher.weigh(null, "key"));
+        assertTrue(weigher.weigh(null, new byte[1000]) >= 1000);
+        assertTrue(weigher.weigh(null, "a".repeat(1000)) >= 2000);
+        List<String> values = Arrays.asList("a".repeat(1000), "b".repeat(1000));
+        assertTrue(weigher.weigh(null, values) >= 4000);
+        assertTrue(weigher.weigh(null, values) > weigher.weigh(null, values.get(0)) * 2);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = DEFAULT_WEIGHER_CACHE)
+        public String largeValue(int key) {
+            return "a".repeat(1000);
+        }
+
+        @CacheResult(cacheName = CUSTOM_WEIGHER_CACHE)
+        public String smallValue(int key) {
+            return "b";
+        }
+    }
+
+    @ApplicationScoped
+    public static class FixedWeigher implements CacheWeigher {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public int weigh(Object key, Object value) {
+            invocations.incrementAndGet();
+            return 10;
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * When a method annotated with {@link BulkCacheResult} is invoked, Quarkus will use each element of the collection passed as
+ * the method argument as an individual cache key and look it up in the cache.
+ * <p>
+ * The annotated method must declare exactly one parameter whose type is {@link java.util.Collection}, {@link java.util.List}
+ * or {@link java.util.Set} and must return a {@link java.util.Map} (optionally wrapped in a
+ * {@link io.smallrye.mutiny.Uni Uni} or a {@link java.util.concurrent.CompletionStage CompletionStage}) whose keys are
+ * elements of the argument collection.
+ * <p>
+ * If all the keys are found in the cache, their values are returned and the annotated method is never actually executed.
+ * Otherwise, the annotated method is invoked once with a collection containing only the missing keys, and each entry of the
+ * returned map is stored in the cache. The result is a map merging the cached and the loaded values. Keys missing from the
+ * map returned by the method are neither cached nor included in the result.
+ * <p>
+ * The entries stored by a method annotated with {@link BulkCacheResult} can be shared with a method annotated with
+ * {@link CacheResult} using the same cache, as long as the single-key method uses the collection elements as cache keys.
+ * <p>
+ * A method annotated with {@link BulkCacheResult} is protected by a lock on cache miss mechanism, just like
+ * {@link CacheResult}: concurrent invocations trying to load overlapping keys will wait for the first invocation to complete
+ * instead of loading the same keys again.
+ * <p>
+ * This annotation can be combined with {@link CacheInvalidateAll} and {@link CacheInvalidate} on a single method, but not
+ * with {@link CacheResult}.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BulkCacheResult {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
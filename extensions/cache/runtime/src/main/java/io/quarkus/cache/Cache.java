@@ -1,5 +1,8 @@
 package io.quarkus.cache;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -54,6 +57,27 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from {@code valueLoader} if necessary. The {@code valueLoader} is invoked at most once with all the keys that are
+     * not already associated with a value. Keys which are missing from the map returned by {@code valueLoader} are not cached
+     * and are not part of the emitted map.
+     * <p>
+     * The default implementation loads each missing key separately with {@link #getAsync(Object, Function)}, so the
+     * {@code valueLoader} is invoked once per missing key. Cache implementations should override it to load all the missing
+     * keys at once.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valueLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit a map of cache values
+     * @throws NullPointerException if one of the keys is {@code null}
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        return PerKeyBulkLoad.getAll(this, keys, valueLoader);
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
@@ -75,6 +99,17 @@ public interface Cache {
      */
     Uni<Void> invalidateIf(Predicate<Object> predicate);
 
+    /**
+     * Returns a snapshot of the statistics recorded for this cache. Cache implementations which do not record any statistics
+     * return disabled statistics.
+     *
+     * @return cache statistics
+     * @see CacheStats#isEnabled()
+     */
+    default CacheStats getStats() {
+        return DisabledCacheStats.INSTANCE;
+    }
+
     /**
      * Returns this cache as an instance of the provided type if possible.
      *
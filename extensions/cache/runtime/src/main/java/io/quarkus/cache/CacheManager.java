@@ -1,7 +1,10 @@
 package io.quarkus.cache;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * <p>
@@ -47,4 +50,20 @@ public interface CacheManager {
      * @return an {@link Optional} containing the identified cache if it exists, or an empty {@link Optional} otherwise
      */
     Optional<Cache> getCache(String name);
+
+    /**
+     * Gets a snapshot of the statistics of all caches.
+     *
+     * @return an unmodifiable map of the cache statistics, sorted by cache name
+     */
+    default Map<String, CacheStats> getStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        for (String name : getCacheNames()) {
+            Optional<Cache> cache = getCache(name);
+            if (cache.isPresent()) {
+                stats.put(name, cache.get().getStats());
+            }
+        }
+        return Collections.unmodifiableMap(stats);
+    }
 }
@@ -0,0 +1,56 @@
+package io.quarkus.cache;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Implement this interface to provide an additional cache type from a Quarkus extension. The implementation is produced at
+ * build time by the extension and the first implementation that supports the configured {@code quarkus.cache.type} value is
+ * used to create the {@link CacheManager} when the application starts.
+ */
+public interface CacheManagerInfo {
+
+    /**
+     * Whether or not this implementation can create the cache manager for the given context.
+     *
+     * @param context the cache manager creation context
+     * @return {@code true} if this implementation supports the context
+     */
+    boolean supports(Context context);
+
+    /**
+     * Returns the supplier of the cache manager.
+     *
+     * @param context the cache manager creation context
+     * @return cache manager supplier
+     */
+    Supplier<CacheManager> get(Context context);
+
+    interface Context {
+
+        /**
+         * @return whether or not the cache extension is enabled
+         */
+        boolean cacheEnabled();
+
+        /**
+         * @return the metrics support available in the application
+         */
+        Metrics metrics();
+
+        /**
+         * @return the configured cache type
+         */
+        String cacheType();
+
+        /**
+         * @return the names of the caches collected at build time
+         */
+        Set<String> cacheNames();
+
+        enum Metrics {
+            NONE,
+            MICROMETER
+        }
+    }
+}
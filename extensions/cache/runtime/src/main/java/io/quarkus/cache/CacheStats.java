@@ -0,0 +1,104 @@
+package io.quarkus.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Point-in-time snapshot of the statistics of a {@link Cache}. A snapshot is immutable: the statistics recorded after it was
+ * taken are only visible in a new snapshot obtained from {@link Cache#getStats()}.
+ * <p>
+ * The statistics are only recorded if they are enabled for the cache from the Quarkus configuration, otherwise all the
+ * counters are equal to zero and {@link #isEnabled()} returns {@code false}.
+ */
+public interface CacheStats {
+
+    /**
+     * Returns whether or not the statistics are recorded for the cache.
+     *
+     * @return {@code true} if the statistics are recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the number of times a lookup returned a value which was already cached.
+     *
+     * @return number of cache hits
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of times a lookup did not find any value in the cache.
+     *
+     * @return number of cache misses
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of lookups which were cache hits, or {@code 1.0} if there has not been any lookup.
+     *
+     * @return cache hit ratio, between {@code 0.0} and {@code 1.0}
+     */
+    double getHitRatio();
+
+    /**
+     * Returns the number of values successfully computed by a value loader.
+     *
+     * @return number of successful loads
+     */
+    long getLoadSuccessCount();
+
+    /**
+     * Returns the number of times a value loader failed to compute a value.
+     *
+     * @return number of failed loads
+     */
+    long getLoadFailureCount();
+
+    /**
+     * Returns the number of value computations which were still in progress when the snapshot was taken.
+     *
+     * @return number of in-flight loads
+     */
+    long getInFlightLoadCount();
+
+    /**
+     * Returns the average duration of the value computations, or {@link Duration#ZERO} if there has not been any.
+     *
+     * @return average load time
+     */
+    Duration getAverageLoadTime();
+
+    /**
+     * Returns an estimate of the given percentile of the value computation durations, or {@link Duration#ZERO} if there has
+     * not been any computation. The estimate is never lower than the actual value and is at most 12.5% higher.
+     *
+     * @param percentile percentile between {@code 0.0} and {@code 100.0}, e.g. {@code 99.0}
+     * @return estimated load time percentile
+     * @throws IllegalArgumentException if the percentile is not between {@code 0.0} and {@code 100.0}
+     */
+    Duration getLoadTimePercentile(double percentile);
+
+    /**
+     * Returns the total number of entries evicted from the cache.
+     *
+     * @return number of evictions
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the number of entries evicted from the cache, grouped by cause. The causes depend on the cache implementation.
+     * With Caffeine, the possible causes are {@code size}, {@code expired} and {@code collected}.
+     *
+     * @return an unmodifiable map of the number of evictions by cause
+     */
+    Map<String, Long> getEvictionCounts();
+
+    /**
+     * Returns the number of times a {@link CacheResult} method invocation stopped waiting for a concurrent value computation
+     * because its {@link CacheResult#lockTimeout() lock timeout} was reached, and invoked the method without using the cache.
+     *
+     * @return number of lock timeouts
+     */
+    long getLockTimeoutCount();
+
+}
@@ -0,0 +1,22 @@
+package io.quarkus.cache;
+
+/**
+ * Implement this interface to compute the weight of the entries of a cache configured with a {@code maximum-weight} value. The
+ * implementation is selected from the {@code weigher} configuration property of the cache and is injected as a CDI bean if
+ * possible or is instantiated using the default constructor otherwise.
+ * <p>
+ * The weight of an entry is computed once, when the entry is written into the cache. It should therefore only depend on the
+ * entry key and value, which should not be modified while they are cached.
+ */
+public interface CacheWeigher {
+
+    /**
+     * Computes the weight of a cache entry. The unit of the weight must match the unit of the {@code maximum-weight}
+     * configuration value, which is usually a number of bytes.
+     *
+     * @param key the cache key
+     * @param value the cached value, which may be {@code null} if the cached method returned {@code null}
+     * @return weight of the entry, must be positive or zero
+     */
+    int weigh(Object key, Object value);
+}
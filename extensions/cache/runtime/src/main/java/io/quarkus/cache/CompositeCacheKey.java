@@ -25,6 +25,15 @@ public CompositeCacheKey(Object... keyElements) {
         this.keyElements = keyElements;
     }
 
+    /**
+     * Returns a copy of the key elements.
+     *
+     * @return the key elements
+     */
+    public Object[] getKeyElements() {
+        return keyElements.clone();
+    }
+
     @Override
     public int hashCode() {
         return Arrays.deepHashCode(keyElements);
@@ -20,6 +20,15 @@ public DefaultCacheKey(String cacheName) {
         this.cacheName = Objects.requireNonNull(cacheName);
     }
 
+    /**
+     * Returns the name of the cache this key belongs to.
+     *
+     * @return the cache name
+     */
+    public String getCacheName() {
+        return cacheName;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(cacheName);
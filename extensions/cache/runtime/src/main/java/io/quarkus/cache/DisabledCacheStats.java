@@ -0,0 +1,81 @@
+package io.quarkus.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The statistics returned by default from {@link Cache#getStats()}, for the cache implementations which do not record any
+ * statistics.
+ */
+final class DisabledCacheStats implements CacheStats {
+
+    static final CacheStats INSTANCE = new DisabledCacheStats();
+
+    private DisabledCacheStats() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public long getHitCount() {
+        return 0L;
+    }
+
+    @Override
+    public long getMissCount() {
+        return 0L;
+    }
+
+    @Override
+    public double getHitRatio() {
+        return 1.0;
+    }
+
+    @Override
+    public long getLoadSuccessCount() {
+        return 0L;
+    }
+
+    @Override
+    public long getLoadFailureCount() {
+        return 0L;
+    }
+
+    @Override
+    public long getInFlightLoadCount() {
+        return 0L;
+    }
+
+    @Override
+    public Duration getAverageLoadTime() {
+        return Duration.ZERO;
+    }
+
+    @Override
+    public Duration getLoadTimePercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("The percentile must be between 0.0 and 100.0: " + percentile);
+        }
+        return Duration.ZERO;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return 0L;
+    }
+
+    @Override
+    public Map<String, Long> getEvictionCounts() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public long getLockTimeoutCount() {
+        return 0L;
+    }
+
+}
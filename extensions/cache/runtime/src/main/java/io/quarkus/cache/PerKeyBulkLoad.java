@@ -0,0 +1,82 @@
+package io.quarkus.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * The default implementation of {@link Cache#getAll(Collection, Function)}, which loads each key with
+ * {@link Cache#getAsync(Object, Function)}.
+ */
+final class PerKeyBulkLoad {
+
+    // Emitted instead of the value of a key which is missing from the map returned by the value loader.
+    private static final Object MISSING_VALUE = new Object();
+
+    /*
+     * Fails the value loading of a key which is missing from the map returned by the value loader, so that the key is not
+     * cached. The failure is recovered before the values are emitted.
+     */
+    private static final RuntimeException MISSING_VALUE_FAILURE = new RuntimeException("Missing cache value", null, false,
+            false) {
+    };
+
+    private PerKeyBulkLoad() {
+    }
+
+    static <K, V> Uni<Map<K, V>> getAll(Cache cache, Collection<K> keys,
+            Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        Set<K> distinctKeys = new LinkedHashSet<>(keys);
+        if (distinctKeys.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyMap());
+        }
+        List<K> orderedKeys = new ArrayList<>(distinctKeys);
+        List<Uni<Object>> values = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            Uni<Object> value = cache.getAsync(key, new Function<K, Uni<Object>>() {
+                @Override
+                public Uni<Object> apply(K k) {
+                    return valueLoader.apply(Collections.singleton(k)).map(new Function<Map<K, V>, Object>() {
+                        @Override
+                        public Object apply(Map<K, V> loaded) {
+                            if (loaded == null || !loaded.containsKey(k)) {
+                                throw MISSING_VALUE_FAILURE;
+                            }
+                            return loaded.get(k);
+                        }
+                    });
+                }
+            });
+            values.add(value.onFailure(new Predicate<Throwable>() {
+                @Override
+                public boolean test(Throwable failure) {
+                    return failure == MISSING_VALUE_FAILURE;
+                }
+            }).recoverWithItem(MISSING_VALUE));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<Object>, Map<K, V>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Map<K, V> apply(List<Object> loaded) {
+                Map<K, V> result = new LinkedHashMap<>(loaded.size() * 4 / 3 + 1);
+                for (int i = 0; i < loaded.size(); i++) {
+                    Object value = loaded.get(i);
+                    if (value != MISSING_VALUE) {
+                        result.put(orderedKeys.get(i), (V) value);
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+}
@@ -1,7 +1,14 @@
 package io.quarkus.cache.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheStats;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
@@ -17,6 +24,59 @@ public Object getDefaultKey() {
         return defaultKey;
     }
 
+    /**
+     * Same as {@link #get(Object, Function)}, but the cache value is recomputed with {@code refreshFunction} when the cache
+     * entry is refreshed. The entry is not refreshed if {@code refreshFunction} is {@code null}. The caches which do not
+     * refresh their entries ignore {@code refreshFunction}.
+     */
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader, Function<K, V> refreshFunction) {
+        return get(key, valueLoader);
+    }
+
+    /**
+     * Same as {@link #getAsync(Object, Function)}, but the cache value is recomputed with {@code refreshFunction} when the
+     * cache entry is refreshed.
+     *
+     * @see #get(Object, Function, Function)
+     */
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader, Function<K, Uni<V>> refreshFunction) {
+        return getAsync(key, valueLoader);
+    }
+
+    /**
+     * Same as {@link #getAll(Collection, Function)}, but the cache values are recomputed with {@code refreshFunction} when
+     * the cache entries are refreshed.
+     *
+     * @see #get(Object, Function, Function)
+     */
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader,
+            Function<Set<K>, Uni<Map<K, V>>> refreshFunction) {
+        return getAll(keys, valueLoader);
+    }
+
+    /**
+     * Returns {@code true} if the entries of this cache are refreshed in the background once they become stale.
+     *
+     * @return {@code true} if the entries are refreshed
+     */
+    public boolean isRefreshEnabled() {
+        return false;
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return getStatsCollector().snapshot();
+    }
+
+    /**
+     * Returns the collector of the statistics of this cache. The statistics are not recorded unless this method is overridden.
+     *
+     * @return statistics collector
+     */
+    public CacheStatsCollector getStatsCollector() {
+        return CacheStatsCollector.DISABLED;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Cache> T as(Class<T> type) {
@@ -0,0 +1,131 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.BulkCacheResult;
+import io.quarkus.cache.CacheException;
+import io.smallrye.mutiny.Uni;
+
+@BulkCacheResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class BulkCacheResultInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(BulkCacheResultInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (BulkCacheResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<BulkCacheResult> interceptionContext = getInterceptionContext(invocationContext,
+                BulkCacheResult.class, false);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        Object[] parameters = invocationContext.getParameters();
+        @SuppressWarnings("unchecked")
+        Collection<Object> keys = (Collection<Object>) parameters[0];
+        if (keys == null || keys.isEmpty()) {
+            return invocationContext.proceed();
+        }
+
+        BulkCacheResult binding = interceptionContext.getInterceptorBindings().get(0);
+        AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        Class<?> keysType = invocationContext.getMethod().getParameterTypes()[0];
+        ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+        // Only set by the value loader: the invocation is not created if all the cache values are already present.
+        AtomicReference<CachedMethodInvocation> refreshInvocation = isRefreshSupported(cache) ? new AtomicReference<>()
+                : null;
+
+        try {
+            Uni<Map<Object, Object>> cacheValues = cache.getAll(keys,
+                    new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                        @Override
+                        public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                            LOGGER.debugf("Adding %s entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                            if (refreshInvocation != null) {
+                                refreshInvocation.set(CachedMethodInvocation.of(invocationContext, parameters));
+                            }
+                            // The caller's arguments are left untouched, the method is invoked with the missing keys only.
+                            Object[] missingKeysParameters = parameters.clone();
+                            missingKeysParameters[0] = toParameterType(missingKeys, keysType);
+                            invocationContext.setParameters(missingKeysParameters);
+                            try {
+                                return toValues(invocationContext.proceed(), returnType);
+                            } catch (CacheException e) {
+                                throw e;
+                            } catch (Exception e) {
+                                throw new CacheException(e);
+                            }
+                        }
+                    }, refreshInvocation == null ? null : new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                        @Override
+                        public Uni<Map<Object, Object>> apply(Set<Object> refreshedKeys) {
+                            try {
+                                return toValues(
+                                        refreshInvocation.get().withParameter(0, toParameterType(refreshedKeys, keysType))
+                                                .invoke(),
+                                        returnType);
+                            } catch (CacheException e) {
+                                throw e;
+                            } catch (Exception e) {
+                                throw new CacheException(e);
+                            }
+                        }
+                    });
+
+            if (returnType == ReturnType.NonAsync) {
+                return cacheValues.await().indefinitely();
+            } else {
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                Uni<Object> result = (Uni) cacheValues;
+                return createAsyncResult(result, returnType);
+            }
+
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Uni<Map<Object, Object>> toValues(Object invocationResult, ReturnType returnType) {
+        if (returnType == ReturnType.NonAsync) {
+            Map<Object, Object> values = (Map<Object, Object>) invocationResult;
+            return Uni.createFrom().item(values == null ? Collections.emptyMap() : values);
+        } else {
+            Uni<Map<Object, Object>> values = (Uni<Map<Object, Object>>) asyncInvocationResultToUni(invocationResult,
+                    returnType);
+            return values.onItem().ifNull().continueWith(Collections.emptyMap());
+        }
+    }
+
+    private static Collection<Object> toParameterType(Set<Object> keys, Class<?> keysType) {
+        if (Set.class.isAssignableFrom(keysType)) {
+            return new LinkedHashSet<>(keys);
+        } else {
+            return new ArrayList<>(keys);
+        }
+    }
+}
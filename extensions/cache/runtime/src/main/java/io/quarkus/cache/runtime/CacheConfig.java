@@ -13,6 +13,7 @@
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigRoot(phase = RUN_TIME)
 public class CacheConfig {
@@ -26,7 +27,8 @@ public class CacheConfig {
     public boolean enabled;
 
     /**
-     * Cache type.
+     * Cache type. The {@code caffeine} type is always available, other types such as {@code redis} are provided by
+     * additional extensions.
      */
     @ConfigItem(defaultValue = CAFFEINE_CACHE_TYPE)
     public String type;
@@ -37,6 +39,25 @@ public class CacheConfig {
     @ConfigItem
     public CaffeineConfig caffeine;
 
+    /**
+     * Cache statistics configuration.
+     */
+    @ConfigItem
+    public StatsConfig stats;
+
+    @ConfigGroup
+    public static class StatsConfig {
+
+        /**
+         * Whether or not the statistics of all caches are exposed as JSON from the {@code cache/stats} endpoint, relative to
+         * the non-application root path (e.g. {@code /q/cache/stats}). The statistics also have to be enabled for each cache
+         * with the {@code stats-enabled} configuration value. The endpoint is only available if the application depends on
+         * the Quarkus HTTP extension, it is served from the management interface when the latter is enabled.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean endpointEnabled;
+    }
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -74,6 +95,26 @@ public static class CaffeineCacheConfig {
             @ConfigItem
             public OptionalLong maximumSize;
 
+            /**
+             * Maximum weight of the entries the cache may contain, usually expressed as an amount of memory (e.g. {@code 64M}).
+             * The weight of each entry is computed by the {@code weigher} when the entry is written into the cache. The same
+             * eviction rules as {@code maximum-size} apply. This value cannot be combined with {@code maximum-size}.
+             * <p>
+             * If a named cache defines either {@code maximum-size} or {@code maximum-weight}, both bounds from the default
+             * configuration are ignored for that cache.
+             */
+            @ConfigItem
+            public Optional<MemorySize> maximumWeight;
+
+            /**
+             * Fully qualified name of the {@link io.quarkus.cache.CacheWeigher} implementation used to compute the weight of
+             * the cache entries when {@code maximum-weight} is set. The implementation is injected as a CDI bean if possible or
+             * is instantiated using the default constructor otherwise. If this value is not set, the weight of each entry is
+             * estimated from the approximate heap size of its key and value.
+             */
+            @ConfigItem
+            public Optional<String> weigher;
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -88,12 +129,33 @@ public static class CaffeineCacheConfig {
             @ConfigItem
             public Optional<Duration> expireAfterAccess;
 
+            /**
+             * Specifies that each entry should be eligible for a refresh once a fixed duration has elapsed after the entry's
+             * creation, or the most recent replacement of its value. The refresh is triggered by the first read of a stale
+             * entry and is performed in the background by invoking the method annotated with {@code @CacheResult} again,
+             * while the stale value keeps being returned. If the refresh fails, the stale value is retained.
+             * <p>
+             * This value should be lower than {@code expire-after-write}, otherwise the entries will expire before they can be
+             * refreshed.
+             */
+            @ConfigItem
+            public Optional<Duration> refreshAfterWrite;
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
              */
             @ConfigItem
             public Optional<Boolean> metricsEnabled;
+
+            /**
+             * Whether or not the cache statistics are recorded. They are available from
+             * {@link io.quarkus.cache.Cache#getStats()}
+             * and from the cache statistics endpoint. Unlike the metrics, the statistics do not require the Micrometer
+             * extension and include the value load time percentiles, the evictions by cause and the lock timeouts.
+             */
+            @ConfigItem
+            public Optional<Boolean> statsEnabled;
         }
     }
 }
@@ -12,6 +12,7 @@
 import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Intercepted;
 import jakarta.inject.Inject;
 import jakarta.interceptor.Interceptor.Priority;
 import jakarta.interceptor.InvocationContext;
@@ -19,6 +20,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.AbstractAnnotationLiteral;
+import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.runtime.InterceptorBindings;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheException;
@@ -42,6 +44,14 @@ public abstract class CacheInterceptor {
     @Inject
     Instance<CacheKeyGenerator> keyGenerator;
 
+    /*
+     * The intercepted bean is used to invoke a cached method again when a cache entry is refreshed in the background. It is
+     * null when the interception is not managed by Arc.
+     */
+    @Inject
+    @Intercepted
+    InjectableBean<?> interceptedBean;
+
     /*
      * The interception is almost always managed by Arc in a Quarkus application. In such a case, we want to retrieve the
      * interceptor bindings stored by Arc in the invocation context data (very good performance-wise). But sometimes the
@@ -178,6 +188,14 @@ private <T extends CacheKeyGenerator> Object generateKey(Class<T> keyGeneratorCl
         }
     }
 
+    /**
+     * Returns {@code true} if the entries loaded by the current invocation can be refreshed. The invocation used to refresh
+     * them is only created by the value loader, when entries are missing.
+     */
+    boolean isRefreshSupported(AbstractCache cache) {
+        return cache.isRefreshEnabled() && CachedMethodInvocation.isSupported(interceptedBean);
+    }
+
     protected static ReturnType determineReturnType(Class<?> returnType) {
         if (Uni.class.isAssignableFrom(returnType)) {
             return ReturnType.Uni;
@@ -2,12 +2,14 @@
 
 import static io.quarkus.cache.runtime.CacheConfig.CAFFEINE_CACHE_TYPE;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.spi.DeploymentException;
 
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheManagerBuilder;
 import io.quarkus.cache.runtime.noop.NoOpCacheManagerBuilder;
 import io.quarkus.runtime.annotations.Recorder;
@@ -21,37 +23,66 @@ public CacheManagerRecorder(CacheConfig cacheConfig) {
         this.cacheConfig = cacheConfig;
     }
 
-    public Supplier<CacheManager> getCacheManagerSupplierWithMicrometerMetrics(Set<String> cacheNames) {
-        Supplier<Supplier<CacheManager>> caffeineCacheManagerSupplier = new Supplier<Supplier<CacheManager>>() {
+    public Supplier<CacheManager> resolveCacheInfo(Collection<CacheManagerInfo> infos, Set<String> cacheNames,
+            boolean micrometerMetricsEnabled) {
+        CacheManagerInfo.Context context = new CacheManagerInfo.Context() {
             @Override
-            public Supplier<CacheManager> get() {
-                return CaffeineCacheManagerBuilder.buildWithMicrometerMetrics(cacheNames, cacheConfig);
+            public boolean cacheEnabled() {
+                return cacheConfig.enabled;
+            }
+
+            @Override
+            public Metrics metrics() {
+                return micrometerMetricsEnabled ? Metrics.MICROMETER : Metrics.NONE;
+            }
+
+            @Override
+            public String cacheType() {
+                return cacheConfig.type;
+            }
+
+            @Override
+            public Set<String> cacheNames() {
+                return cacheNames;
             }
         };
-        return getCacheManagerSupplier(cacheNames, caffeineCacheManagerSupplier);
+        for (CacheManagerInfo info : infos) {
+            if (info.supports(context)) {
+                return info.get(context);
+            }
+        }
+        throw new DeploymentException("Unknown cache type: " + context.cacheType());
     }
 
-    public Supplier<CacheManager> getCacheManagerSupplierWithoutMetrics(Set<String> cacheNames) {
-        Supplier<Supplier<CacheManager>> caffeineCacheManagerSupplier = new Supplier<Supplier<CacheManager>>() {
+    public CacheManagerInfo noOpCacheManagerInfo() {
+        return new CacheManagerInfo() {
             @Override
-            public Supplier<CacheManager> get() {
-                return CaffeineCacheManagerBuilder.buildWithoutMetrics(cacheNames, cacheConfig);
+            public boolean supports(Context context) {
+                return !context.cacheEnabled();
+            }
+
+            @Override
+            public Supplier<CacheManager> get(Context context) {
+                return NoOpCacheManagerBuilder.build(context.cacheNames());
             }
         };
-        return getCacheManagerSupplier(cacheNames, caffeineCacheManagerSupplier);
     }
 
-    private Supplier<CacheManager> getCacheManagerSupplier(Set<String> cacheNames,
-            Supplier<Supplier<CacheManager>> caffeineCacheManagerSupplier) {
-        if (cacheConfig.enabled) {
-            switch (cacheConfig.type) {
-                case CAFFEINE_CACHE_TYPE:
-                    return caffeineCacheManagerSupplier.get();
-                default:
-                    throw new DeploymentException("Unknown cache type: " + cacheConfig.type);
-            }
-        } else {
-            return NoOpCacheManagerBuilder.build(cacheNames);
-        }
+    public CacheManagerInfo caffeineCacheManagerInfo() {
+        return new CacheManagerInfo() {
+            @Override
+            public boolean supports(Context context) {
+                return context.cacheEnabled() && CAFFEINE_CACHE_TYPE.equals(context.cacheType());
+            }
+
+            @Override
+            public Supplier<CacheManager> get(Context context) {
+                if (context.metrics() == Context.Metrics.MICROMETER) {
+                    return CaffeineCacheManagerBuilder.buildWithMicrometerMetrics(context.cacheNames(), cacheConfig);
+                } else {
+                    return CaffeineCacheManagerBuilder.buildWithoutMetrics(context.cacheNames(), cacheConfig);
+                }
+            }
+        };
     }
 }
@@ -1,6 +1,9 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -13,6 +16,7 @@
 
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
@@ -50,6 +54,10 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
 
+        // Only set by the value loader: the invocation is not created if the cache value is already present.
+        AtomicReference<CachedMethodInvocation> refreshInvocation = isRefreshSupported(cache) ? new AtomicReference<>()
+                : null;
+
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
             if (returnType != ReturnType.NonAsync) {
@@ -58,6 +66,10 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
                     @Override
                     public Uni<Object> apply(Object key) {
                         try {
+                            if (refreshInvocation != null) {
+                                refreshInvocation.set(CachedMethodInvocation.of(invocationContext,
+                                        invocationContext.getParameters()));
+                            }
                             return (Uni<Object>) asyncInvocationResultToUni(invocationContext.proceed(), returnType);
                         } catch (CacheException e) {
                             throw e;
@@ -65,6 +77,19 @@ public Uni<Object> apply(Object key) {
                             throw new CacheException(e);
                         }
                     }
+                }, refreshInvocation == null ? null : new Function<Object, Uni<Object>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Uni<Object> apply(Object key) {
+                        try {
+                            return (Uni<Object>) asyncInvocationResultToUni(refreshInvocation.get().invoke(),
+                                    returnType);
+                        } catch (CacheException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new CacheException(e);
+                        }
+                    }
                 });
 
                 if (binding.lockTimeout() <= 0) {
@@ -74,6 +99,7 @@ public Uni<Object> apply(Object key) {
                         .recoverWithUni(new Supplier<Uni<?>>() {
                             @Override
                             public Uni<?> get() {
+                                cache.getStatsCollector().recordLockTimeout();
                                 try {
                                     return asyncInvocationResultToUni(invocationContext.proceed(), returnType);
                                 } catch (CacheException e) {
@@ -91,6 +117,10 @@ public Object apply(Object k) {
                         try {
                             LOGGER.debugf("Adding entry with key [%s] into cache [%s]",
                                     key, binding.cacheName());
+                            if (refreshInvocation != null) {
+                                refreshInvocation.set(CachedMethodInvocation.of(invocationContext,
+                                        invocationContext.getParameters()));
+                            }
                             return invocationContext.proceed();
                         } catch (CacheException e) {
                             throw e;
@@ -98,9 +128,35 @@ public Object apply(Object k) {
                             throw new CacheException(e);
                         }
                     }
+                }, refreshInvocation == null ? null : new Function<Object, Object>() {
+                    @Override
+                    public Object apply(Object k) {
+                        try {
+                            return refreshInvocation.get().invoke();
+                        } catch (CacheException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new CacheException(e);
+                        }
+                    }
                 });
                 Object value;
-                if (binding.lockTimeout() <= 0) {
+                if (!BlockingOperationControl.isBlockingAllowed()) {
+                    /*
+                     * The current thread can't be blocked, e.g. an event loop thread. The cache value is only used if the
+                     * cache provided it synchronously, otherwise the method is invoked without the cache.
+                     */
+                    CompletableFuture<Object> future = cacheValue.subscribeAsCompletionStage();
+                    if (!future.isDone()) {
+                        future.cancel(false);
+                        return invocationContext.proceed();
+                    }
+                    try {
+                        value = future.join();
+                    } catch (CompletionException e) {
+                        throw e.getCause();
+                    }
+                } else if (binding.lockTimeout() <= 0) {
                     value = cacheValue.await().indefinitely();
                 } else {
                     try {
@@ -111,7 +167,7 @@ public Object apply(Object k) {
                          */
                         value = cacheValue.await().atMost(Duration.ofMillis(binding.lockTimeout()));
                     } catch (TimeoutException e) {
-                        // TODO: Add statistics here to monitor the timeout.
+                        cache.getStatsCollector().recordLockTimeout();
                         return invocationContext.proceed();
                     }
                 }
@@ -0,0 +1,294 @@
+package io.quarkus.cache.runtime;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.quarkus.cache.CacheStats;
+
+/**
+ * Records the statistics of a cache. The counters are striped so that recording a hit or a miss does not cause contention
+ * between the threads accessing the cache. A disabled collector does not record anything.
+ * <p>
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application.
+ */
+public class CacheStatsCollector {
+
+    public static final CacheStatsCollector DISABLED = new CacheStatsCollector(false);
+
+    /*
+     * The load times are recorded in a histogram with 8 linear sub-buckets per power of two, which bounds the relative error
+     * of the percentiles to 12.5% whatever the magnitude of the durations.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final boolean enabled;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder inFlightLoads = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAccumulator maxLoadTime = new LongAccumulator(Math::max, 0L);
+    private final AtomicLongArray loadTimes;
+    private final ConcurrentMap<String, LongAdder> evictions = new ConcurrentHashMap<>();
+    private final LongAdder lockTimeouts = new LongAdder();
+
+    public CacheStatsCollector() {
+        this(true);
+    }
+
+    private CacheStatsCollector(boolean enabled) {
+        this.enabled = enabled;
+        loadTimes = enabled ? new AtomicLongArray(BUCKETS) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void recordHits(int count) {
+        if (enabled) {
+            hits.add(count);
+        }
+    }
+
+    public void recordMisses(int count) {
+        if (enabled) {
+            misses.add(count);
+        }
+    }
+
+    /**
+     * Must be called when a value loader is about to be invoked, and followed by a call to {@link #recordLoadSuccess(long)}
+     * or {@link #recordLoadFailure(long)} once the value is computed.
+     *
+     * @return the start time of the load, in nanoseconds
+     */
+    public long recordLoadStart() {
+        if (!enabled) {
+            return 0L;
+        }
+        inFlightLoads.increment();
+        return System.nanoTime();
+    }
+
+    public void recordLoadSuccess(long startTime) {
+        if (enabled) {
+            loadSuccesses.increment();
+            recordLoadEnd(startTime);
+        }
+    }
+
+    public void recordLoadFailure(long startTime) {
+        if (enabled) {
+            loadFailures.increment();
+            recordLoadEnd(startTime);
+        }
+    }
+
+    /**
+     * Records the end of a load which was cancelled before the value was computed. Its duration is not recorded.
+     */
+    public void recordLoadCancellation() {
+        if (enabled) {
+            inFlightLoads.decrement();
+        }
+    }
+
+    public void recordEviction(String cause) {
+        if (enabled) {
+            evictions.computeIfAbsent(cause, NEW_COUNTER).increment();
+        }
+    }
+
+    public void recordLockTimeout() {
+        if (enabled) {
+            lockTimeouts.increment();
+        }
+    }
+
+    public CacheStats snapshot() {
+        return new Snapshot(this);
+    }
+
+    private void recordLoadEnd(long startTime) {
+        inFlightLoads.decrement();
+        long loadTime = Math.max(System.nanoTime() - startTime, 0L);
+        totalLoadTime.add(loadTime);
+        maxLoadTime.accumulate(loadTime);
+        loadTimes.incrementAndGet(bucket(loadTime));
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return the highest value of the given bucket
+     */
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static final Function<String, LongAdder> NEW_COUNTER = new Function<String, LongAdder>() {
+        @Override
+        public LongAdder apply(String cause) {
+            return new LongAdder();
+        }
+    };
+
+    private static class Snapshot implements CacheStats {
+
+        private final boolean enabled;
+        private final long hitCount;
+        private final long missCount;
+        private final long loadSuccessCount;
+        private final long loadFailureCount;
+        private final long inFlightLoadCount;
+        private final long totalLoadTime;
+        private final long maxLoadTime;
+        private final long[] loadTimes;
+        private final long loadCount;
+        private final Map<String, Long> evictionCounts;
+        private final long evictionCount;
+        private final long lockTimeoutCount;
+
+        Snapshot(CacheStatsCollector collector) {
+            enabled = collector.enabled;
+            hitCount = collector.hits.sum();
+            missCount = collector.misses.sum();
+            loadSuccessCount = collector.loadSuccesses.sum();
+            loadFailureCount = collector.loadFailures.sum();
+            inFlightLoadCount = Math.max(collector.inFlightLoads.sum(), 0L);
+            totalLoadTime = collector.totalLoadTime.sum();
+            maxLoadTime = collector.maxLoadTime.get();
+            if (collector.loadTimes == null) {
+                loadTimes = new long[0];
+            } else {
+                loadTimes = new long[BUCKETS];
+                for (int i = 0; i < BUCKETS; i++) {
+                    loadTimes[i] = collector.loadTimes.get(i);
+                }
+            }
+            // The counters are read one after the other, so the histogram is the reference for the percentiles.
+            long count = 0L;
+            for (long bucketCount : loadTimes) {
+                count += bucketCount;
+            }
+            loadCount = count;
+            Map<String, Long> evictions = new TreeMap<>();
+            long total = 0L;
+            for (Map.Entry<String, LongAdder> entry : collector.evictions.entrySet()) {
+                long value = entry.getValue().sum();
+                evictions.put(entry.getKey(), value);
+                total += value;
+            }
+            evictionCounts = Collections.unmodifiableMap(evictions);
+            evictionCount = total;
+            lockTimeoutCount = collector.lockTimeouts.sum();
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount;
+        }
+
+        @Override
+        public double getHitRatio() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0L ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public long getLoadSuccessCount() {
+            return loadSuccessCount;
+        }
+
+        @Override
+        public long getLoadFailureCount() {
+            return loadFailureCount;
+        }
+
+        @Override
+        public long getInFlightLoadCount() {
+            return inFlightLoadCount;
+        }
+
+        @Override
+        public Duration getAverageLoadTime() {
+            long count = loadSuccessCount + loadFailureCount;
+            return count == 0L ? Duration.ZERO : Duration.ofNanos(totalLoadTime / count);
+        }
+
+        @Override
+        public Duration getLoadTimePercentile(double percentile) {
+            if (!(percentile >= 0.0 && percentile <= 100.0)) {
+                throw new IllegalArgumentException("The percentile must be between 0.0 and 100.0: " + percentile);
+            }
+            if (loadCount == 0L) {
+                return Duration.ZERO;
+            }
+            long rank = Math.max((long) Math.ceil(percentile / 100.0 * loadCount), 1L);
+            long count = 0L;
+            for (int i = 0; i < loadTimes.length; i++) {
+                count += loadTimes[i];
+                if (count >= rank) {
+                    return Duration.ofNanos(Math.min(bucketUpperBound(i), maxLoadTime));
+                }
+            }
+            return Duration.ofNanos(maxLoadTime);
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        @Override
+        public Map<String, Long> getEvictionCounts() {
+            return evictionCounts;
+        }
+
+        @Override
+        public long getLockTimeoutCount() {
+            return lockTimeoutCount;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStats[hits=" + hitCount + ", misses=" + missCount + ", loadSuccesses=" + loadSuccessCount
+                    + ", loadFailures=" + loadFailureCount + ", inFlightLoads=" + inFlightLoadCount + ", evictions="
+                    + evictionCounts + ", lockTimeouts=" + lockTimeoutCount + "]";
+        }
+    }
+}
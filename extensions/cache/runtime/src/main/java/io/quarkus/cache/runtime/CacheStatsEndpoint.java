@@ -0,0 +1,71 @@
+package io.quarkus.cache.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.cache.CacheStats;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exposes the statistics of all caches as JSON. This handler is registered as a non-application route at build time, only
+ * if the application depends on the Quarkus HTTP extension, so it is served from the management interface when it is
+ * enabled.
+ */
+public class CacheStatsEndpoint implements Handler<RoutingContext> {
+
+    private static final double[] PERCENTILES = { 50.0, 90.0, 95.0, 99.0, 100.0 };
+
+    @ConfigProperty(name = "quarkus.cache.stats.endpoint-enabled", defaultValue = "false")
+    boolean enabled;
+
+    @Override
+    public void handle(RoutingContext context) {
+        if (!enabled) {
+            // The route is registered at build time, the endpoint is disabled at runtime: the request ends with a 404 response.
+            context.next();
+            return;
+        }
+        context.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end(toJson(CaffeineCacheSupplier.cacheManager().getStats()).encode());
+    }
+
+    static JsonObject toJson(Map<String, CacheStats> allStats) {
+        JsonObject json = new JsonObject();
+        for (Map.Entry<String, CacheStats> entry : allStats.entrySet()) {
+            CacheStats stats = entry.getValue();
+            JsonObject cacheJson = new JsonObject().put("enabled", stats.isEnabled());
+            if (stats.isEnabled()) {
+                JsonObject loadTimes = new JsonObject().put("average", toMillis(stats.getAverageLoadTime()));
+                for (double percentile : PERCENTILES) {
+                    loadTimes.put(percentile == 100.0 ? "max" : "p" + (int) percentile,
+                            toMillis(stats.getLoadTimePercentile(percentile)));
+                }
+                JsonObject evictions = new JsonObject().put("total", stats.getEvictionCount());
+                for (Map.Entry<String, Long> eviction : stats.getEvictionCounts().entrySet()) {
+                    evictions.put(eviction.getKey(), eviction.getValue());
+                }
+                cacheJson.put("hits", stats.getHitCount())
+                        .put("misses", stats.getMissCount())
+                        .put("hitRatio", stats.getHitRatio())
+                        .put("loadSuccesses", stats.getLoadSuccessCount())
+                        .put("loadFailures", stats.getLoadFailureCount())
+                        .put("inFlightLoads", stats.getInFlightLoadCount())
+                        .put("loadTimeMillis", loadTimes)
+                        .put("evictions", evictions)
+                        .put("lockTimeouts", stats.getLockTimeoutCount());
+            }
+            json.put(entry.getKey(), cacheJson);
+        }
+        return json;
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
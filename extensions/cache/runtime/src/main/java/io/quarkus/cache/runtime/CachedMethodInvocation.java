@@ -0,0 +1,91 @@
+package io.quarkus.cache.runtime;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.InvocationContext;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * A new invocation of a cached method, used to refresh a cache entry in the background once the invocation which loaded the
+ * cache value has completed.
+ * <p>
+ * The interceptor chain of the invocation which loaded the cache value proceeds again from the cache interceptor, so the
+ * interceptors which follow the cache interceptor in the chain are invoked again while the cache interceptor is not. Arc
+ * supports proceeding with an invocation context after the initial invocation completed, possibly on another thread. Only the
+ * invocations of the beans which live as long as the application, i.e. {@link ApplicationScoped} and {@link Singleton} beans,
+ * can proceed again: the contextual instance of the other beans may have been destroyed when the entry is refreshed.
+ */
+final class CachedMethodInvocation {
+
+    private final InvocationContext invocationContext;
+    private final Object[] parameters;
+
+    private CachedMethodInvocation(InvocationContext invocationContext, Object[] parameters) {
+        this.invocationContext = invocationContext;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Returns {@code true} if the invocations of the methods of the given bean can proceed again.
+     */
+    static boolean isSupported(InjectableBean<?> bean) {
+        if (bean == null) {
+            // The interception is not managed by Arc.
+            return false;
+        }
+        Class<?> scope = bean.getScope();
+        return scope == ApplicationScoped.class || scope == Singleton.class;
+    }
+
+    /**
+     * Creates a new invocation of the intercepted method with a copy of the given parameters. The intercepted bean must be
+     * {@linkplain #isSupported(InjectableBean) supported}.
+     */
+    static CachedMethodInvocation of(InvocationContext invocationContext, Object[] parameters) {
+        return new CachedMethodInvocation(invocationContext, parameters == null ? null : parameters.clone());
+    }
+
+    /**
+     * Returns a copy of this invocation with a different parameter value at the given position.
+     */
+    CachedMethodInvocation withParameter(int position, Object value) {
+        Object[] newParameters = parameters.clone();
+        newParameters[position] = value;
+        return new CachedMethodInvocation(invocationContext, newParameters);
+    }
+
+    /**
+     * Proceeds with the invocation, within a request context which is activated if it isn't already active.
+     */
+    Object invoke() throws Exception {
+        ArcContainer container = Arc.container();
+        if (container == null || !container.isRunning()) {
+            throw new IllegalStateException("The cached method can not be invoked, the container is not running");
+        }
+        ManagedContext requestContext = container.requestContext();
+        if (requestContext.isActive()) {
+            return proceed();
+        }
+        requestContext.activate();
+        try {
+            return proceed();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    private Object proceed() throws Exception {
+        // The parameters of the invocation context are not guarded: the invocations sharing it proceed one at a time.
+        synchronized (invocationContext) {
+            if (parameters != null) {
+                invocationContext.setParameters(parameters);
+            }
+            return invocationContext.proceed();
+        }
+    }
+
+}
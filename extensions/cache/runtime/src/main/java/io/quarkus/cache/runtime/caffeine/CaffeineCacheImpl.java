@@ -1,13 +1,23 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -15,17 +25,25 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheStatsCollector;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.runtime.ExecutorRecorder;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.tuples.Functions;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -40,16 +58,42 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final CacheStatsCollector statsCollector;
+    /*
+     * When refresh-after-write is enabled, this map holds the function used to reload each cache entry in the background.
+     * It is populated when a value is loaded and cleaned up when the entry is evicted or invalidated. It is null otherwise.
+     */
+    private final ConcurrentMap<Object, ValueReloader> reloaders;
+    private final LongAdder refreshSuccessCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
+        this(cacheInfo, recordStats, null);
+    }
+
+    public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats, CacheWeigher weigher) {
         this.cacheInfo = cacheInfo;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
         }
+        if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+            throw new IllegalStateException("The maximum-size and maximum-weight configuration values cannot be combined " +
+                    "[cache=" + cacheInfo.name + "]");
+        }
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            CacheWeigher cacheWeigher = weigher == null ? new DefaultCacheWeigher() : weigher;
+            builder.maximumWeight(cacheInfo.maximumWeight);
+            builder.weigher(new Weigher<Object, Object>() {
+                @Override
+                public int weigh(Object key, Object value) {
+                    return cacheWeigher.weigh(key, NullValueConverter.fromCacheValue(value));
+                }
+            });
+        }
         if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
         }
@@ -70,7 +114,26 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
-        cache = builder.buildAsync();
+        statsCollector = cacheInfo.statsEnabled ? new CacheStatsCollector() : CacheStatsCollector.DISABLED;
+        reloaders = cacheInfo.refreshAfterWrite == null ? null : new ConcurrentHashMap<>();
+        if (reloaders != null || statsCollector.isEnabled()) {
+            builder.evictionListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    // This listener is invoked atomically with the eviction.
+                    if (reloaders != null) {
+                        reloaders.remove(key);
+                    }
+                    statsCollector.recordEviction(cause.name().toLowerCase(Locale.ROOT));
+                }
+            });
+        }
+        if (reloaders != null) {
+            builder.refreshAfterWrite(cacheInfo.refreshAfterWrite);
+            cache = builder.buildAsync(new RefreshingCacheLoader());
+        } else {
+            cache = builder.buildAsync();
+        }
     }
 
     @Override
@@ -80,6 +143,11 @@ public String getName() {
 
     @Override
     public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return get(key, valueLoader, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader, Function<K, V> refreshFunction) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         return Uni.createFrom().completionStage(
                 /*
@@ -89,7 +157,7 @@ public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
                 new Supplier<CompletionStage<V>>() {
                     @Override
                     public CompletionStage<V> get() {
-                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader);
+                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader, refreshFunction);
                         return cast(caffeineValue);
                     }
                 });
@@ -97,22 +165,40 @@ public CompletionStage<V> get() {
 
     @Override
     public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, valueLoader, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader, Function<K, Uni<V>> refreshFunction) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         return Uni.createFrom()
                 .completionStage(new Supplier<CompletionStage<V>>() {
                     @Override
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
-                        StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
+                        StatsRecorder recorder = recordStats || statsCollector.isEnabled() ? new OperationalStatsRecorder()
+                                : NoopStatsRecorder.INSTANCE;
                         @SuppressWarnings("unchecked")
                         CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
                                 new Function<Object, CompletableFuture<Object>>() {
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
-                                        return valueLoader.apply((K) key)
-                                                .map(TO_CACHE_VALUE)
-                                                .subscribeAsCompletionStage();
+                                        Uni<Object> value = timed(valueLoader, (K) key).map(TO_CACHE_VALUE);
+                                        if (reloaders != null && refreshFunction != null) {
+                                            ValueReloader reloader = new AsyncValueReloader<>(refreshFunction);
+                                            reloaders.put(key, reloader);
+                                            // Caffeine removes the failed entry so its reloader is no longer needed.
+                                            value = value.onFailure().invoke(new Runnable() {
+                                                @Override
+                                                public void run() {
+                                                    reloaders.remove(key, reloader);
+                                                }
+                                            });
+                                        } else if (reloaders != null) {
+                                            reloaders.remove(key);
+                                        }
+                                        return value.subscribeAsCompletionStage();
                                     }
                                 });
                         recorder.doRecord(key);
@@ -121,6 +207,59 @@ public CompletableFuture<Object> apply(Object key) {
                 }).map(fromCacheValue());
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        return getAll(keys, valueLoader, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader,
+            Function<Set<K>, Uni<Map<K, V>>> refreshFunction) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom()
+                .completionStage(new Supplier<CompletionStage<Map<Object, Object>>>() {
+                    @Override
+                    public CompletionStage<Map<Object, Object>> get() {
+                        /*
+                         * Caffeine invokes the mapping function only once with all the missing keys. Until the returned future
+                         * is completed, concurrent loads of any of these keys wait for it instead of invoking the value loader.
+                         */
+                        int[] missingKeyCount = new int[1];
+                        CompletableFuture<Map<Object, Object>> values = cache.getAll(keys,
+                                new BiFunction<Set<? extends Object>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                                    @SuppressWarnings("unchecked")
+                                    @Override
+                                    public CompletableFuture<Map<Object, Object>> apply(Set<? extends Object> missingKeys,
+                                            Executor executor) {
+                                        LOGGER.tracef("Loading %s missing keys in cache [%s]", missingKeys.size(),
+                                                cacheInfo.name);
+                                        missingKeyCount[0] = missingKeys.size();
+                                        if (reloaders != null && refreshFunction != null) {
+                                            ValueReloader reloader = new BulkValueReloader<>(refreshFunction);
+                                            for (Object key : missingKeys) {
+                                                reloaders.put(key, reloader);
+                                            }
+                                        } else if (reloaders != null) {
+                                            reloaders.keySet().removeAll(missingKeys);
+                                        }
+                                        return timed(valueLoader, (Set<K>) missingKeys)
+                                                .map(TO_CACHE_VALUES)
+                                                .subscribeAsCompletionStage();
+                                    }
+                                });
+                        if (statsCollector.isEnabled()) {
+                            // The mapping function is invoked synchronously, before Caffeine returns the future.
+                            int keyCount = keys instanceof Set ? keys.size() : new HashSet<>(keys).size();
+                            statsCollector.recordMisses(missingKeyCount[0]);
+                            statsCollector.recordHits(keyCount - missingKeyCount[0]);
+                        }
+                        return values;
+                    }
+                }).map(fromCacheValues());
+    }
+
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -129,10 +268,12 @@ public <V> CompletableFuture<V> getIfPresent(Object key) {
         // record metrics, if not null apply casting
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
+            statsCollector.recordMisses(1);
             return null;
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            statsCollector.recordHits(1);
 
             // cast, but still throw the CacheException in case it fails
             return unwrapCacheValueOrThrowable(existingCacheValue)
@@ -158,48 +299,79 @@ public V apply(Object value) {
      *
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @param refreshFunction function used to recompute the cache value when the entry is refreshed, may be {@code null}
      * @return a {@link CompletableFuture} holding the cache value
      * @throws CacheException if an exception is thrown during the cache value computation
      */
-    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
+    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader,
+            Function<K, V> refreshFunction) {
         CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
+            statsCollector.recordMisses(1);
+            if (reloaders != null) {
+                if (refreshFunction != null) {
+                    reloaders.put(key, new SyncValueReloader<>(refreshFunction));
+                } else {
+                    reloaders.remove(key);
+                }
+            }
+            long loadStart = statsCollector.recordLoadStart();
             try {
                 Object value = valueLoader.apply(key);
+                statsCollector.recordLoadSuccess(loadStart);
                 newCacheValue.complete(NullValueConverter.toCacheValue(value));
             } catch (Throwable t) {
+                statsCollector.recordLoadFailure(loadStart);
                 cache.asMap().remove(key, newCacheValue);
+                if (reloaders != null) {
+                    reloaders.remove(key);
+                }
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
             }
             return unwrapCacheValueOrThrowable(newCacheValue);
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            statsCollector.recordHits(1);
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
-    private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
-        return cacheValue.thenApply(new Function<>() {
+    /**
+     * Invokes the given asynchronous value loader and records the time it takes to emit the value, if the stats are enabled.
+     */
+    private <T, R> Uni<R> timed(Function<T, Uni<R>> valueLoader, T key) {
+        if (!statsCollector.isEnabled()) {
+            return valueLoader.apply(key);
+        }
+        long loadStart = statsCollector.recordLoadStart();
+        Uni<R> value;
+        try {
+            value = valueLoader.apply(key);
+        } catch (Throwable t) {
+            statsCollector.recordLoadFailure(loadStart);
+            throw t;
+        }
+        return value.onTermination().invoke(new Functions.TriConsumer<R, Throwable, Boolean>() {
             @Override
-            public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
-                    }
+            public void accept(R item, Throwable failure, Boolean cancelled) {
+                if (cancelled) {
+                    statsCollector.recordLoadCancellation();
+                } else if (failure == null) {
+                    statsCollector.recordLoadSuccess(loadStart);
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    statsCollector.recordLoadFailure(loadStart);
                 }
             }
         });
     }
 
+    private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
+        return cacheValue.thenApply(UNWRAP_CACHE_VALUE_OR_THROWABLE);
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -207,6 +379,9 @@ public Uni<Void> invalidate(Object key) {
             @Override
             public Void get() {
                 cache.synchronous().invalidate(key);
+                if (reloaders != null) {
+                    reloaders.remove(key);
+                }
                 return null;
             }
         });
@@ -218,6 +393,9 @@ public Uni<Void> invalidateAll() {
             @Override
             public Void get() {
                 cache.synchronous().invalidateAll();
+                if (reloaders != null) {
+                    reloaders.clear();
+                }
                 return null;
             }
         });
@@ -229,6 +407,9 @@ public Uni<Void> invalidateIf(Predicate<Object> predicate) {
             @Override
             public Void get() {
                 cache.asMap().keySet().removeIf(predicate);
+                if (reloaders != null) {
+                    reloaders.keySet().removeIf(predicate);
+                }
                 return null;
             }
         });
@@ -272,7 +453,10 @@ public void setExpireAfterAccess(Duration duration) {
     @Override
     public void setMaximumSize(long maximumSize) {
         Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
-        if (eviction.isPresent()) {
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            throw new IllegalStateException("The maximum size cannot be changed if the cache was constructed with a " +
+                    "maximum-weight configuration value");
+        } else if (eviction.isPresent()) {
             eviction.get().setMaximum(maximumSize);
             cacheInfo.maximumSize = maximumSize;
         } else {
@@ -290,6 +474,24 @@ public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    @Override
+    public CacheStatsCollector getStatsCollector() {
+        return statsCollector;
+    }
+
+    @Override
+    public boolean isRefreshEnabled() {
+        return reloaders != null;
+    }
+
+    public long getRefreshSuccessCount() {
+        return refreshSuccessCount.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.sum();
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T cast(Object value) {
         try {
@@ -305,6 +507,135 @@ private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
     }
 
+    @SuppressWarnings("unchecked")
+    private <K, V> Function<Map<Object, Object>, Map<K, V>> fromCacheValues() {
+        return (Function<Map<Object, Object>, Map<K, V>>) (Function<?, ?>) FROM_CACHE_VALUES;
+    }
+
+    /**
+     * Loads a new value for a stale cache entry. The returned future may complete with {@code null}, in which case the entry
+     * is removed from the cache.
+     */
+    private interface ValueReloader {
+
+        CompletableFuture<Object> reload(Object key, Executor executor);
+
+    }
+
+    private static class SyncValueReloader<K, V> implements ValueReloader {
+
+        private final Function<K, V> valueLoader;
+
+        SyncValueReloader(Function<K, V> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @Override
+        public CompletableFuture<Object> reload(Object key, Executor executor) {
+            /*
+             * The value loader may be blocking so it must not be invoked on the thread which triggered the refresh. It is
+             * invoked on a Quarkus worker thread rather than on the Caffeine executor, which defaults to the common pool.
+             */
+            Executor workerExecutor = ExecutorRecorder.getCurrent();
+            return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public Object get() {
+                    return NullValueConverter.toCacheValue(valueLoader.apply((K) key));
+                }
+            }, workerExecutor != null ? workerExecutor : executor);
+        }
+
+    }
+
+    private static class AsyncValueReloader<K, V> implements ValueReloader {
+
+        private final Function<K, Uni<V>> valueLoader;
+
+        AsyncValueReloader(Function<K, Uni<V>> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public CompletableFuture<Object> reload(Object key, Executor executor) {
+            return valueLoader.apply((K) key)
+                    .map(TO_CACHE_VALUE)
+                    .subscribeAsCompletionStage();
+        }
+
+    }
+
+    private static class BulkValueReloader<K, V> implements ValueReloader {
+
+        private final Function<Set<K>, Uni<Map<K, V>>> valueLoader;
+
+        BulkValueReloader(Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public CompletableFuture<Object> reload(Object key, Executor executor) {
+            return valueLoader.apply(Collections.singleton((K) key))
+                    .map(new Function<Map<K, V>, Object>() {
+                        @Override
+                        public Object apply(Map<K, V> values) {
+                            // A missing value results in a null item which removes the entry from the cache.
+                            return values.containsKey(key) ? NullValueConverter.toCacheValue(values.get(key)) : null;
+                        }
+                    })
+                    .subscribeAsCompletionStage();
+        }
+
+    }
+
+    /**
+     * This loader is only used by Caffeine to refresh the stale entries. The initial loading is always done with a value
+     * loader provided by the caller.
+     */
+    private class RefreshingCacheLoader implements AsyncCacheLoader<Object, Object> {
+
+        @Override
+        public CompletableFuture<? extends Object> asyncLoad(Object key, Executor executor) {
+            // Only invoked if the entry was removed before Caffeine#refresh is called.
+            return asyncReload(key, null, executor);
+        }
+
+        @Override
+        public CompletableFuture<? extends Object> asyncReload(Object key, Object oldValue, Executor executor) {
+            ValueReloader reloader = reloaders.get(key);
+            if (reloader == null) {
+                /*
+                 * The entry was not loaded by this cache (e.g. CaffeineCache#put was used), so it can't be refreshed.
+                 * Completing with null removes the entry and the next read will load a fresh value.
+                 */
+                LOGGER.tracef("Key [%s] cannot be refreshed in cache [%s], removing the entry", key, cacheInfo.name);
+                return CompletableFuture.completedFuture(null);
+            }
+            LOGGER.tracef("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+            CompletableFuture<Object> newValue;
+            try {
+                newValue = reloader.reload(key, executor);
+            } catch (Throwable t) {
+                newValue = CompletableFuture.failedFuture(t);
+            }
+            // If the refresh fails, Caffeine keeps the stale value in the cache.
+            return newValue.whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object value, Throwable failure) {
+                    if (failure == null) {
+                        refreshSuccessCount.increment();
+                    } else {
+                        refreshFailureCount.increment();
+                        LOGGER.debugf(failure, "Unable to refresh entry with key [%s] in cache [%s]", key, cacheInfo.name);
+                    }
+                }
+            });
+        }
+
+    }
+
     private interface StatsRecorder {
 
         void onValueAbsent();
@@ -342,9 +673,11 @@ public void onValueAbsent() {
         public <K> void doRecord(K key) {
             if (valueAbsent) {
                 statsCounter.recordMisses(1);
+                statsCollector.recordMisses(1);
             } else {
                 LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
                 statsCounter.recordHits(1);
+                statsCollector.recordHits(1);
             }
         }
 
@@ -366,4 +699,46 @@ public Object apply(Object value) {
         }
     };
 
+    private static final Function<Object, Object> UNWRAP_CACHE_VALUE_OR_THROWABLE = new Function<Object, Object>() {
+
+        @Override
+        public Object apply(Object value) {
+            // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+            if (value instanceof CaffeineComputationThrowable) {
+                Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else {
+                    throw new CacheException(cause);
+                }
+            } else {
+                return NullValueConverter.fromCacheValue(value);
+            }
+        }
+    };
+
+    private static final Function<Map<?, ?>, Map<Object, Object>> TO_CACHE_VALUES = new Function<Map<?, ?>, Map<Object, Object>>() {
+
+        @Override
+        public Map<Object, Object> apply(Map<?, ?> values) {
+            Map<Object, Object> result = new LinkedHashMap<>(values.size() * 4 / 3 + 1);
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                result.put(entry.getKey(), NullValueConverter.toCacheValue(entry.getValue()));
+            }
+            return result;
+        }
+    };
+
+    private static final Function<Map<Object, Object>, Map<Object, Object>> FROM_CACHE_VALUES = new Function<Map<Object, Object>, Map<Object, Object>>() {
+
+        @Override
+        public Map<Object, Object> apply(Map<Object, Object> values) {
+            Map<Object, Object> result = new LinkedHashMap<>(values.size() * 4 / 3 + 1);
+            for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                result.put(entry.getKey(), UNWRAP_CACHE_VALUE_OR_THROWABLE.apply(entry.getValue()));
+            }
+            return result;
+        }
+    };
+
 }
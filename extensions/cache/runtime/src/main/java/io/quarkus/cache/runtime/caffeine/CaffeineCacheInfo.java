@@ -11,12 +11,20 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    public String weigher;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
     public boolean metricsEnabled;
 
+    public boolean statsEnabled;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
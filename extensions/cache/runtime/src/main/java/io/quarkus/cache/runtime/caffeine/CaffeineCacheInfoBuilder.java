@@ -30,10 +30,23 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.initialCapacity = defaultConfig.initialCapacity.getAsInt();
                 }
 
-                if (namedCacheConfig != null && namedCacheConfig.maximumSize.isPresent()) {
-                    cacheInfo.maximumSize = namedCacheConfig.maximumSize.getAsLong();
-                } else if (defaultConfig.maximumSize.isPresent()) {
-                    cacheInfo.maximumSize = defaultConfig.maximumSize.getAsLong();
+                // The size and weight bounds are mutually exclusive, so a named cache bound overrides both default bounds.
+                CaffeineCacheConfig boundConfig = defaultConfig;
+                if (namedCacheConfig != null
+                        && (namedCacheConfig.maximumSize.isPresent() || namedCacheConfig.maximumWeight.isPresent())) {
+                    boundConfig = namedCacheConfig;
+                }
+                if (boundConfig.maximumSize.isPresent()) {
+                    cacheInfo.maximumSize = boundConfig.maximumSize.getAsLong();
+                }
+                if (boundConfig.maximumWeight.isPresent()) {
+                    cacheInfo.maximumWeight = boundConfig.maximumWeight.get().asLongValue();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.weigher.isPresent()) {
+                    cacheInfo.weigher = namedCacheConfig.weigher.get();
+                } else if (defaultConfig.weigher.isPresent()) {
+                    cacheInfo.weigher = defaultConfig.weigher.get();
                 }
 
                 if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite.isPresent()) {
@@ -48,12 +61,24 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess.get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite.isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite.get();
+                } else if (defaultConfig.refreshAfterWrite.isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite.get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled.isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled.get();
                 } else if (defaultConfig.metricsEnabled.isPresent()) {
                     cacheInfo.metricsEnabled = defaultConfig.metricsEnabled.get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.statsEnabled.isPresent()) {
+                    cacheInfo.statsEnabled = namedCacheConfig.statsEnabled.get();
+                } else if (defaultConfig.statsEnabled.isPresent()) {
+                    cacheInfo.statsEnabled = defaultConfig.statsEnabled.get();
+                }
+
                 cacheInfos.add(cacheInfo);
             }
             return cacheInfos;
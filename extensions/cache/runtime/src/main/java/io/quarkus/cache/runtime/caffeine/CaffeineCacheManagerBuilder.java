@@ -8,8 +8,11 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheWeigher;
 import io.quarkus.cache.runtime.CacheConfig;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
@@ -42,10 +45,13 @@ public CacheManager get() {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
-                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [maximumWeight=%s], "
+                                            + "[weigher=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], "
+                                            + "[refreshAfterWrite=%s], [metricsEnabled=%s] and [statsEnabled=%s]",
+                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
+                                    cacheInfo.weigher, cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess,
+                                    cacheInfo.refreshAfterWrite,
+                                    cacheInfo.metricsEnabled, cacheInfo.statsEnabled);
                         }
                         /*
                          * Metrics will be recorded for the current cache if:
@@ -53,9 +59,13 @@ public CacheManager get() {
                          * - the metrics are enabled for this cache from the Quarkus configuration
                          */
                         boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.metricsEnabled;
-                        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
+                        CacheWeigher weigher = cacheInfo.maximumWeight == null ? null : getWeigher(cacheInfo);
+                        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics, weigher);
                         if (recordMetrics) {
                             metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
+                            if (cache.isRefreshEnabled()) {
+                                metricsInitializer.recordRefreshMetrics(cache, cacheInfo.name);
+                            }
                         } else if (cacheInfo.metricsEnabled) {
                             LOGGER.warnf(
                                     "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
@@ -70,4 +80,33 @@ public CacheManager get() {
             }
         };
     }
+
+    private static CacheWeigher getWeigher(CaffeineCacheInfo cacheInfo) {
+        if (cacheInfo.weigher == null) {
+            return null;
+        }
+        Class<?> weigherClass;
+        try {
+            weigherClass = Class.forName(cacheInfo.weigher, true, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cache weigher class not found [cache=" + cacheInfo.name + ", class="
+                    + cacheInfo.weigher + "]", e);
+        }
+        if (!CacheWeigher.class.isAssignableFrom(weigherClass)) {
+            throw new IllegalStateException("The cache weigher class must implement " + CacheWeigher.class.getName()
+                    + " [cache=" + cacheInfo.name + ", class=" + cacheInfo.weigher + "]");
+        }
+        InstanceHandle<?> weigherBean = Arc.container().instance(weigherClass);
+        if (weigherBean.isAvailable()) {
+            LOGGER.tracef("Using cache weigher bean from Arc [cache=%s, class=%s]", cacheInfo.name, cacheInfo.weigher);
+            return (CacheWeigher) weigherBean.get();
+        }
+        try {
+            LOGGER.tracef("Creating a new cache weigher instance [cache=%s, class=%s]", cacheInfo.name, cacheInfo.weigher);
+            return (CacheWeigher) weigherClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cache weigher instantiation failed [cache=" + cacheInfo.name + ", class="
+                    + cacheInfo.weigher + "]", e);
+        }
+    }
 }
@@ -0,0 +1,215 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheWeigher;
+
+/**
+ * This {@link CacheWeigher} estimates the heap size in bytes of a cache entry key and value. The estimation assumes a 64-bit
+ * JVM with compressed object pointers and supports the most common value types: {@link String}, arrays, boxed primitives,
+ * {@link Collection}, {@link Map}, {@link Optional} and records. The size of any other object is its shallow size.
+ * <p>
+ * Strings are always counted with two bytes per character, so the estimation may exceed the actual heap size but should never
+ * be significantly lower for the supported types.
+ * <p>
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application.
+ */
+public class DefaultCacheWeigher implements CacheWeigher {
+
+    private static final Logger LOGGER = Logger.getLogger(DefaultCacheWeigher.class);
+
+    static final int OBJECT_HEADER = 12;
+    static final int ARRAY_HEADER = 16;
+    static final int REFERENCE = 4;
+    // Estimated size of an entry from the internal structure of a linked or hashed collection or map.
+    static final int NODE = 32;
+    // Nested objects beyond this depth are ignored to protect the estimation from cyclic object graphs.
+    static final int MAX_DEPTH = 16;
+
+    private static final long STRING_SHALLOW_SIZE = align(OBJECT_HEADER + REFERENCE + 4 + 1 + 1);
+    private static final long BOXED_SIZE = align(OBJECT_HEADER + 8);
+
+    /*
+     * Records are supported through reflection because the cache extension must still run on Java 11. The accessors of the
+     * record components are resolved once per record class.
+     */
+    private static final ClassValue<Method[]> RECORD_ACCESSORS = new ClassValue<Method[]>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            return recordAccessors(type);
+        }
+    };
+
+    private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return shallowSize(type);
+        }
+    };
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = sizeOf(key, 0) + sizeOf(value, 0);
+        return weight > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) weight;
+    }
+
+    static long sizeOf(Object object, int depth) {
+        if (object == null || depth > MAX_DEPTH) {
+            return 0L;
+        }
+        if (object instanceof String) {
+            return STRING_SHALLOW_SIZE + align(ARRAY_HEADER + 2L * ((String) object).length());
+        }
+        if (object instanceof Enum || object instanceof Class) {
+            // These instances are shared by all the cache entries.
+            return 0L;
+        }
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+            if (object instanceof BigInteger) {
+                return align(OBJECT_HEADER + 5 * 4) + align(ARRAY_HEADER + ((BigInteger) object).bitLength() / 8 + 1);
+            }
+            if (object instanceof BigDecimal) {
+                BigInteger unscaledValue = ((BigDecimal) object).unscaledValue();
+                return align(OBJECT_HEADER + REFERENCE + 4 + 4 + 8 + REFERENCE) + sizeOf(unscaledValue, depth + 1);
+            }
+            return BOXED_SIZE;
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return arraySizeOf(object, type.getComponentType(), depth);
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            long size = align(OBJECT_HEADER + 4 * REFERENCE) + align(ARRAY_HEADER + (long) REFERENCE * collection.size());
+            if (!(object instanceof List)) {
+                size += (long) NODE * collection.size();
+            }
+            for (Object element : collection) {
+                size += sizeOf(element, depth + 1);
+            }
+            return size;
+        }
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            long size = align(OBJECT_HEADER + 4 * REFERENCE) + align(ARRAY_HEADER + (long) REFERENCE * map.size())
+                    + (long) NODE * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += sizeOf(entry.getKey(), depth + 1) + sizeOf(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (object instanceof Optional) {
+            return align(OBJECT_HEADER + REFERENCE) + sizeOf(((Optional<?>) object).orElse(null), depth + 1);
+        }
+        long size = SHALLOW_SIZES.get(type);
+        Method[] accessors = RECORD_ACCESSORS.get(type);
+        if (accessors != null) {
+            for (Method accessor : accessors) {
+                if (!accessor.getReturnType().isPrimitive()) {
+                    try {
+                        size += sizeOf(accessor.invoke(object), depth + 1);
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        LOGGER.tracef(e, "Unable to read a record component [class=%s, accessor=%s]", type.getName(),
+                                accessor.getName());
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    private static long arraySizeOf(Object array, Class<?> componentType, int depth) {
+        if (componentType == byte.class) {
+            return align(ARRAY_HEADER + (long) ((byte[]) array).length);
+        }
+        if (componentType == char.class) {
+            return align(ARRAY_HEADER + 2L * ((char[]) array).length);
+        }
+        if (componentType == int.class) {
+            return align(ARRAY_HEADER + 4L * ((int[]) array).length);
+        }
+        if (componentType == long.class) {
+            return align(ARRAY_HEADER + 8L * ((long[]) array).length);
+        }
+        if (componentType == double.class) {
+            return align(ARRAY_HEADER + 8L * ((double[]) array).length);
+        }
+        if (componentType == float.class) {
+            return align(ARRAY_HEADER + 4L * ((float[]) array).length);
+        }
+        if (componentType == short.class) {
+            return align(ARRAY_HEADER + 2L * ((short[]) array).length);
+        }
+        if (componentType == boolean.class) {
+            return align(ARRAY_HEADER + (long) ((boolean[]) array).length);
+        }
+        Object[] elements = (Object[]) array;
+        long size = align(ARRAY_HEADER + (long) REFERENCE * elements.length);
+        for (Object element : elements) {
+            size += sizeOf(element, depth + 1);
+        }
+        return size;
+    }
+
+    private static long shallowSize(Class<?> type) {
+        long size = OBJECT_HEADER;
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += fieldSize(field.getType());
+                }
+            }
+        }
+        return align(size);
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static Method[] recordAccessors(Class<?> type) {
+        Class<?> superclass = type.getSuperclass();
+        if (superclass == null || !"java.lang.Record".equals(superclass.getName())) {
+            return null;
+        }
+        try {
+            Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+            Method[] accessors = new Method[components.length];
+            for (int i = 0; i < components.length; i++) {
+                accessors[i] = (Method) components[i].getClass().getMethod("getAccessor").invoke(components[i]);
+                accessors[i].setAccessible(true);
+            }
+            return accessors;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to resolve the record components, only the shallow size will be estimated [class=%s]",
+                    type.getName());
+            return null;
+        }
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
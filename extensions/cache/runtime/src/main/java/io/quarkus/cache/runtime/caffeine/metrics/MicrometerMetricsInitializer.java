@@ -4,8 +4,10 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application depends on a
@@ -26,4 +28,19 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordRefreshMetrics(CaffeineCacheImpl cache, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer refresh metrics for cache [%s]", cacheName);
+        FunctionCounter.builder("cache.refreshes", cache, CaffeineCacheImpl::getRefreshSuccessCount)
+                .tag("cache", cacheName)
+                .tag("result", "success")
+                .description("The number of times a cache entry has been successfully refreshed")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.refreshes", cache, CaffeineCacheImpl::getRefreshFailureCount)
+                .tag("cache", cacheName)
+                .tag("result", "failure")
+                .description("The number of times a cache entry refresh has failed")
+                .register(Metrics.globalRegistry);
+    }
 }
@@ -1,6 +1,5 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Map;
 
@@ -8,6 +7,7 @@
 import org.apache.kafka.common.serialization.Serializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
@@ -15,7 +15,7 @@
 public class ObjectMapperSerializer<T> implements Serializer<T> {
     public static final String NULL_AS_NULL_CONFIG = "json.serialize.null-as-null";
 
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
 
     private boolean nullAsNull = false;
 
@@ -24,7 +24,8 @@ public ObjectMapperSerializer() {
     }
 
     public ObjectMapperSerializer(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        // The writer is immutable and can be shared by all the records
+        this.objectWriter = objectMapper.writer();
     }
 
     @Override
@@ -40,9 +41,9 @@ public byte[] serialize(String topic, T data) {
             return null;
         }
 
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            return output.toByteArray();
+        try {
+            // Writes into a recycled Jackson buffer instead of a growing ByteArrayOutputStream
+            return objectWriter.writeValueAsBytes(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
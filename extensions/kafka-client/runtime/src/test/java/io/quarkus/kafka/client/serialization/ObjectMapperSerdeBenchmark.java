@@ -0,0 +1,91 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the {@link ObjectMapperSerializer} and {@link ObjectMapperDeserializer} with the stream based implementation
+ * they replaced. The bytes allocated per record are reported by the GC profiler as {@code gc.alloc.rate.norm}. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=io.quarkus.kafka.client.serialization.ObjectMapperSerdeBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapperSerdeBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<MyEntity> entities;
+    private byte[] data;
+    private ObjectMapperSerializer<List<MyEntity>> serializer;
+    private ObjectMapperDeserializer<MyEntity[]> deserializer;
+
+    @Setup
+    public void setup() {
+        entities = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entities.add(new MyEntity(i, "entity" + i));
+        }
+        serializer = new ObjectMapperSerializer<>(objectMapper);
+        deserializer = new ObjectMapperDeserializer<>(MyEntity[].class, objectMapper);
+        data = serializer.serialize("topic", entities);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize("topic", entities);
+    }
+
+    @Benchmark
+    public byte[] streamSerialize() throws IOException {
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            objectMapper.writeValue(output, entities);
+            return output.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public MyEntity[] deserialize() {
+        return deserializer.deserialize("topic", data);
+    }
+
+    @Benchmark
+    public MyEntity[] streamDeserialize() throws IOException {
+        try (InputStream is = new ByteArrayInputStream(data)) {
+            return objectMapper.readValue(is, MyEntity[].class);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ObjectMapperSerdeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+}
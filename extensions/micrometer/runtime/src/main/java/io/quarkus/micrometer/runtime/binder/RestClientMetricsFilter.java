@@ -7,6 +7,7 @@
 import jakarta.ws.rs.client.ClientResponseFilter;
 import jakarta.ws.rs.ext.Provider;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
@@ -23,6 +24,9 @@
 public class RestClientMetricsFilter implements ClientRequestFilter, ClientResponseFilter {
 
     private final static String REQUEST_METRIC_PROPERTY = "restClientMetrics";
+    // set by the response cache of the Reactive REST Client
+    private final static String RESPONSE_CACHE_STATUS_PROPERTY = "ResponseCacheStatus";
+    private final static String HTTP_CLIENT_CACHE_NAME = "http.client.cache";
     private final MeterRegistry registry = Metrics.globalRegistry;
 
     private final HttpBinderConfiguration httpMetricsConfig;
@@ -78,6 +82,19 @@ public void filter(final ClientRequestContext requestContext, final ClientRespon
                                 clientName(requestContext)));
 
                 sample.stop(builder.register(registry));
+
+                String cacheStatus = (String) requestContext.getProperty(RESPONSE_CACHE_STATUS_PROPERTY);
+                if (cacheStatus != null) {
+                    Counter.builder(HTTP_CLIENT_CACHE_NAME)
+                            .description("The number of cacheable requests by lookup result (hit, revalidated, miss)")
+                            .tags(Tags.of(
+                                    HttpCommonTags.method(requestContext.getMethod()),
+                                    HttpCommonTags.uri(requestPath, statusCode),
+                                    Tag.of("result", cacheStatus),
+                                    clientName(requestContext)))
+                            .register(registry)
+                            .increment();
+                }
             }
         }
     }
@@ -1201,6 +1201,15 @@ public static Token fromAudience(String... audience) {
         @ConfigItem(defaultValue = "10M")
         public Duration forcedJwkRefreshInterval = Duration.ofMinutes(10);
 
+        /**
+         * Maximum number of the JWT bearer tokens verified with the local JWK keys whose verification results are kept
+         * in memory, so that the tokens sent with several requests are not verified again until they expire.
+         * All the cached verification results are removed when the JWK set is refreshed.
+         * The cache is disabled if this property is set to '0' which is the default value.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int verifiedTokenCacheSize;
+
         /**
          * Custom HTTP header that contains a bearer token.
          * This option is valid only when the application is of type {@link ApplicationType#SERVICE}}.
@@ -1315,6 +1324,14 @@ public void setForcedJwkRefreshInterval(Duration forcedJwkRefreshInterval) {
             this.forcedJwkRefreshInterval = forcedJwkRefreshInterval;
         }
 
+        public int getVerifiedTokenCacheSize() {
+            return verifiedTokenCacheSize;
+        }
+
+        public void setVerifiedTokenCacheSize(int verifiedTokenCacheSize) {
+            this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+        }
+
         public Optional<String> getTokenType() {
             return tokenType;
         }
@@ -59,6 +59,7 @@ public class OidcProvider implements Closeable {
     final String[] audience;
     final Map<String, String> requiredClaims;
     final Key tokenDecryptionKey;
+    final VerifiedTokenCache verifiedTokenCache;
 
     public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks, Key tokenDecryptionKey) {
         this.client = client;
@@ -70,6 +71,7 @@ public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, Json
         this.audience = checkAudienceProp();
         this.requiredClaims = checkRequiredClaimsProp();
         this.tokenDecryptionKey = tokenDecryptionKey;
+        this.verifiedTokenCache = createVerifiedTokenCache();
     }
 
     public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig, Key tokenDecryptionKey) {
@@ -80,6 +82,7 @@ public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig, Key tokenD
         this.audience = checkAudienceProp();
         this.requiredClaims = checkRequiredClaimsProp();
         this.tokenDecryptionKey = tokenDecryptionKey;
+        this.verifiedTokenCache = createVerifiedTokenCache();
     }
 
     private String checkIssuerProp() {
@@ -102,12 +105,32 @@ private Map<String, String> checkRequiredClaimsProp() {
         return oidcConfig != null ? oidcConfig.token.requiredClaims : null;
     }
 
+    private VerifiedTokenCache createVerifiedTokenCache() {
+        if (oidcConfig == null || oidcConfig.token.verifiedTokenCacheSize <= 0) {
+            return null;
+        }
+        return new VerifiedTokenCache(oidcConfig.token.verifiedTokenCacheSize,
+                oidcConfig.token.lifespanGrace.orElse(0));
+    }
+
     public TokenVerificationResult verifySelfSignedJwtToken(String token) throws InvalidJwtException {
         return verifyJwtTokenInternal(token, SYMMETRIC_ALGORITHM_CONSTRAINTS, new SymmetricKeyResolver(), true);
     }
 
     public TokenVerificationResult verifyJwtToken(String token) throws InvalidJwtException {
-        return verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver, true);
+        if (verifiedTokenCache == null) {
+            return verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver, true);
+        }
+        TokenVerificationResult result = verifiedTokenCache.get(token);
+        if (result != null) {
+            // the signature and the other claims have already been verified, the token age must still be checked
+            verifyTokenAge(result.localVerificationResult.getLong(Claims.iat.name()));
+            return result;
+        }
+        long generation = verifiedTokenCache.getGeneration();
+        result = verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver, true);
+        verifiedTokenCache.put(token, result, generation);
+        return result;
     }
 
     public TokenVerificationResult verifyLogoutJwtToken(String token) throws InvalidJwtException {
@@ -359,6 +382,10 @@ public Uni<Void> refresh() {
                     @Override
                     public Uni<? extends Void> apply(JsonWebKeySet t) {
                         jwks = t;
+                        if (verifiedTokenCache != null) {
+                            // the tokens may have been verified with the keys which are no longer available
+                            verifiedTokenCache.clear();
+                        }
                         return Uni.createFrom().voidItem();
                     }
 
@@ -8,6 +8,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -16,6 +17,7 @@
 import org.jose4j.jwk.PublicJsonWebKey;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
 import io.quarkus.oidc.OIDCException;
 import io.quarkus.oidc.OidcConfigurationMetadata;
 import io.quarkus.oidc.OidcTenantConfig;
@@ -29,6 +31,7 @@
 import io.quarkus.runtime.TlsConfig;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.jwt.algorithm.KeyEncryptionAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
@@ -251,6 +254,49 @@ public void setSecurityEventObserved(boolean isSecurityEventObserved) {
         bean.setSecurityEventObserved(isSecurityEventObserved);
     }
 
+    public Consumer<MetricsFactory> registerVerifiedTokenCacheMetrics(OidcConfig config) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (config.defaultTenant.token.verifiedTokenCacheSize > 0) {
+                    VerifiedTokenCache.registerMetrics(metricsFactory,
+                            config.defaultTenant.getTenantId().orElse(OidcUtils.DEFAULT_TENANT_ID),
+                            new Supplier<VerifiedTokenCache>() {
+                                @Override
+                                public VerifiedTokenCache get() {
+                                    TenantConfigBean tenants = getTenantConfigBean();
+                                    return tenants != null ? getVerifiedTokenCache(tenants.getDefaultTenant()) : null;
+                                }
+                            });
+                }
+                for (Map.Entry<String, OidcTenantConfig> tenant : config.namedTenants.entrySet()) {
+                    if (tenant.getValue().token.verifiedTokenCacheSize > 0) {
+                        final String tenantId = tenant.getKey();
+                        VerifiedTokenCache.registerMetrics(metricsFactory, tenantId, new Supplier<VerifiedTokenCache>() {
+                            @Override
+                            public VerifiedTokenCache get() {
+                                TenantConfigBean tenants = getTenantConfigBean();
+                                return tenants != null
+                                        ? getVerifiedTokenCache(tenants.getStaticTenantsConfig().get(tenantId))
+                                        : null;
+                            }
+                        });
+                    }
+                }
+            }
+        };
+    }
+
+    private static TenantConfigBean getTenantConfigBean() {
+        // the container is not available once the application has stopped
+        ArcContainer container = Arc.container();
+        return container != null ? container.instance(TenantConfigBean.class).get() : null;
+    }
+
+    private static VerifiedTokenCache getVerifiedTokenCache(TenantConfigContext context) {
+        return context != null && context.provider != null ? context.provider.verifiedTokenCache : null;
+    }
+
     public static Optional<ProxyOptions> toProxyOptions(OidcCommonConfig.Proxy proxyConfig) {
         return OidcCommonUtils.toProxyOptions(proxyConfig);
     }
@@ -0,0 +1,179 @@
+package io.quarkus.oidc.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.jwt.Claims;
+
+import io.quarkus.oidc.OIDCException;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Cache of the JWT tokens which have been successfully verified with the local keys.
+ * <p>
+ * Bearer tokens are usually sent with many requests until they expire, so keeping their verification results avoids
+ * verifying the same signature again for every request. Entries are keyed by the SHA-256 digest of the token, the
+ * tokens themselves are not kept. An entry is removed once the token has expired and all the entries are removed when
+ * the JWK set is refreshed, since the key which was used to verify a token may have been revoked.
+ * <p>
+ * The cache is bounded: when it is full, the least recently used entry is removed to make room for a new token.
+ */
+final class VerifiedTokenCache {
+
+    static final String HITS_METRIC = "oidc.verified-token-cache.hits";
+    static final String MISSES_METRIC = "oidc.verified-token-cache.misses";
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final int lifespanGrace;
+    private final Map<String, CacheEntry> cacheMap;
+    // incremented every time the cache is cleared, guarded by cacheMap
+    private long generation;
+
+    VerifiedTokenCache(int maxSize, int lifespanGrace) {
+        this.lifespanGrace = lifespanGrace;
+        this.cacheMap = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the verification result of the token, or {@code null} if the token has not been verified yet or has expired
+     */
+    TokenVerificationResult get(String token) {
+        String key = digest(token);
+        CacheEntry entry;
+        synchronized (cacheMap) {
+            entry = cacheMap.get(key);
+            if (entry != null && isExpired(entry, now())) {
+                cacheMap.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.result;
+    }
+
+    /**
+     * @return the current generation, which must be passed to {@link #put(String, TokenVerificationResult, long)}
+     */
+    long getGeneration() {
+        synchronized (cacheMap) {
+            return generation;
+        }
+    }
+
+    /**
+     * @param token
+     * @param result
+     * @param generation the generation returned by {@link #getGeneration()} before the token was verified; the result is
+     *        not cached if the cache has been cleared since then, since the token may have been verified with a key which
+     *        is no longer available
+     */
+    void put(String token, TokenVerificationResult result, long generation) {
+        Long exp = result.localVerificationResult.getLong(Claims.exp.name());
+        if (exp == null) {
+            // only the tokens which expire can be cached
+            return;
+        }
+        String key = digest(token);
+        synchronized (cacheMap) {
+            if (generation == this.generation) {
+                cacheMap.put(key, new CacheEntry(result, exp));
+            }
+        }
+    }
+
+    void clear() {
+        synchronized (cacheMap) {
+            generation++;
+            cacheMap.clear();
+        }
+    }
+
+    int getCacheSize() {
+        synchronized (cacheMap) {
+            return cacheMap.size();
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Registers the hits and misses counters of a tenant.
+     *
+     * @param metricsFactory
+     * @param tenantId the tenant id, used to tag the counters
+     * @param cache the supplier of the tenant cache, which may return {@code null} if the tenant is not initialized
+     */
+    static void registerMetrics(MetricsFactory metricsFactory, String tenantId, Supplier<VerifiedTokenCache> cache) {
+        metricsFactory.builder(HITS_METRIC)
+                .description("Number of the bearer tokens whose verification result was found in the cache")
+                .tag("tenant", tenantId)
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        VerifiedTokenCache c = cache.get();
+                        return c != null ? c.getHits() : 0L;
+                    }
+                });
+        metricsFactory.builder(MISSES_METRIC)
+                .description("Number of the bearer tokens which had to be verified with the local keys")
+                .tag("tenant", tenantId)
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        VerifiedTokenCache c = cache.get();
+                        return c != null ? c.getMisses() : 0L;
+                    }
+                });
+    }
+
+    private boolean isExpired(CacheEntry entry, long now) {
+        return now > entry.exp + lifespanGrace;
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new OIDCException(ex);
+        }
+    }
+
+    private static class CacheEntry {
+        final TokenVerificationResult result;
+        final long exp;
+
+        CacheEntry(TokenVerificationResult result, long exp) {
+            this.result = result;
+            this.exp = exp;
+        }
+    }
+}
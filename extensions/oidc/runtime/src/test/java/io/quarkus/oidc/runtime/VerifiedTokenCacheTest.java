@@ -0,0 +1,121 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.KeyPair;
+import java.util.Base64;
+
+import org.jose4j.jwt.consumer.InvalidJwtException;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.OidcTenantConfig;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.util.KeyUtils;
+import io.vertx.core.json.JsonObject;
+
+public class VerifiedTokenCacheTest {
+
+    @Test
+    public void testVerifiedTokenIsCached() throws Exception {
+        KeyPair keyPair = KeyUtils.generateKeyPair(2048);
+        OidcTenantConfig config = new OidcTenantConfig();
+        config.token.setVerifiedTokenCacheSize(10);
+        OidcProvider provider = new OidcProvider(
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()), config, null);
+
+        String token = Jwt.subject("alice").issuedAt(now()).expiresAt(now() + 60).sign(keyPair.getPrivate());
+        TokenVerificationResult result = provider.verifyJwtToken(token);
+        assertEquals("alice", result.localVerificationResult.getString("sub"));
+        assertEquals(1, provider.verifiedTokenCache.getCacheSize());
+        assertEquals(0, provider.verifiedTokenCache.getHits());
+        assertEquals(1, provider.verifiedTokenCache.getMisses());
+
+        assertSame(result, provider.verifyJwtToken(token));
+        assertEquals(1, provider.verifiedTokenCache.getHits());
+        assertEquals(1, provider.verifiedTokenCache.getMisses());
+
+        // tokens which fail the verification are not cached
+        String expired = Jwt.subject("alice").issuedAt(now() - 120).expiresAt(now() - 60).sign(keyPair.getPrivate());
+        assertThrows(InvalidJwtException.class, () -> provider.verifyJwtToken(expired));
+        assertEquals(1, provider.verifiedTokenCache.getCacheSize());
+    }
+
+    @Test
+    public void testCacheIsDisabledByDefault() throws Exception {
+        KeyPair keyPair = KeyUtils.generateKeyPair(2048);
+        OidcProvider provider = new OidcProvider(
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()), new OidcTenantConfig(), null);
+        assertNull(provider.verifiedTokenCache);
+
+        String token = Jwt.subject("alice").issuedAt(now()).expiresAt(now() + 60).sign(keyPair.getPrivate());
+        assertEquals("alice", provider.verifyJwtToken(token).localVerificationResult.getString("sub"));
+    }
+
+    @Test
+    public void testExpiredEntriesAreRemoved() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 0);
+        cache.put("expired", result(now() - 1), cache.getGeneration());
+        cache.put("valid", result(now() + 60), cache.getGeneration());
+        assertEquals(2, cache.getCacheSize());
+
+        assertNull(cache.get("expired"));
+        assertNotNull(cache.get("valid"));
+        assertEquals(1, cache.getCacheSize());
+
+        cache.clear();
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsRemovedWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 0);
+        cache.put("first", result(now() + 60), cache.getGeneration());
+        cache.put("second", result(now() + 60), cache.getGeneration());
+        assertNotNull(cache.get("first"));
+        cache.put("third", result(now() + 60), cache.getGeneration());
+
+        assertEquals(2, cache.getCacheSize());
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+        assertNotNull(cache.get("third"));
+    }
+
+    @Test
+    public void testResultVerifiedBeforeClearIsNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 0);
+        long generation = cache.getGeneration();
+        // the JWK set is refreshed while the token is verified
+        cache.clear();
+        cache.put("token", result(now() + 60), generation);
+
+        assertEquals(0, cache.getCacheSize());
+        cache.put("token", result(now() + 60), cache.getGeneration());
+        assertEquals(1, cache.getCacheSize());
+    }
+
+    @Test
+    public void testMetricsAreCountedPerCache() {
+        VerifiedTokenCache first = new VerifiedTokenCache(2, 0);
+        VerifiedTokenCache second = new VerifiedTokenCache(2, 0);
+        first.put("token", result(now() + 60), first.getGeneration());
+
+        assertNotNull(first.get("token"));
+        assertNull(second.get("token"));
+        assertEquals(1, first.getHits());
+        assertEquals(0, first.getMisses());
+        assertEquals(0, second.getHits());
+        assertEquals(1, second.getMisses());
+    }
+
+    private static TokenVerificationResult result(long exp) {
+        return new TokenVerificationResult(new JsonObject().put("exp", exp), null);
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -21,6 +21,7 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmEnabled;
 import io.quarkus.hibernate.orm.deployment.JpaModelBuildItem;
@@ -44,6 +45,17 @@ void lookupNamedQueries(CombinedIndexBuildItem index,
         }
     }
 
+    @BuildStep
+    void registerModelForKeysetPagination(JpaModelBuildItem jpaModel,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        // the key of the next keyset page is read from the getters or the fields of the last result, see KeysetPageSupport
+        Set<String> modelClasses = jpaModel.getAllModelClassNames();
+        if (!modelClasses.isEmpty()) {
+            reflectiveClass.produce(ReflectiveClassBuildItem.builder(modelClasses.toArray(new String[0]))
+                    .fields(true).methods(true).build());
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     void buildNamedQueryMap(List<PanacheNamedQueryEntityClassBuildStep> namedQueryEntityClasses,
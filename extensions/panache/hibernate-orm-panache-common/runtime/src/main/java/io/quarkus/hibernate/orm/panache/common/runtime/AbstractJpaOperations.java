@@ -2,7 +2,9 @@
 
 import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
 
+import java.sql.Connection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -16,6 +18,10 @@
 import jakarta.transaction.TransactionManager;
 
 import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Work;
+import org.jboss.logging.Logger;
 
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.agroal.DataSource;
@@ -29,6 +35,8 @@
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
+    private static final Logger LOG = Logger.getLogger(AbstractJpaOperations.class);
+
     private static volatile Map<String, String> entityToPersistenceUnit = Collections.emptyMap();
 
     public static void setEntityToPersistenceUnit(Map<String, String> map) {
@@ -119,6 +127,109 @@ public void persist(Stream<?> entities) {
         entities.forEach(entity -> persist(entity));
     }
 
+    public void persistInBatches(Iterable<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    public void persistInBatches(Stream<?> entities, int batchSize) {
+        try (entities) {
+            persistInBatches(entities.iterator(), batchSize);
+        }
+    }
+
+    private void persistInBatches(Iterator<?> entities, int batchSize) {
+        checkBatchSize(batchSize);
+        if (!entities.hasNext()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long count = 0;
+        Object entity = entities.next();
+        Session session = getEntityManager(entity.getClass()).unwrap(Session.class);
+        Integer previousJdbcBatchSize = session.getJdbcBatchSize();
+        // group the insert statements of each flush in JDBC batches
+        session.setJdbcBatchSize(batchSize);
+        try {
+            while (true) {
+                persist(session, entity);
+                if (++count % batchSize == 0) {
+                    // keep the persistence context, and thus the memory, bounded
+                    session.flush();
+                    session.clear();
+                }
+                if (!entities.hasNext()) {
+                    break;
+                }
+                entity = entities.next();
+            }
+            if (count % batchSize != 0) {
+                session.flush();
+                session.clear();
+            }
+        } finally {
+            session.setJdbcBatchSize(previousJdbcBatchSize);
+        }
+        logBatches("Persisted", count, batchSize, start);
+    }
+
+    public void insertInBatches(Iterable<?> entities, int batchSize) {
+        insertInBatches(entities.iterator(), batchSize);
+    }
+
+    public void insertInBatches(Stream<?> entities, int batchSize) {
+        try (entities) {
+            insertInBatches(entities.iterator(), batchSize);
+        }
+    }
+
+    private void insertInBatches(Iterator<?> entities, int batchSize) {
+        checkBatchSize(batchSize);
+        if (!entities.hasNext()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Object first = entities.next();
+        Session session = getEntityManager(first.getClass()).unwrap(Session.class);
+        // the pending changes of the current session must reach the database before the inserts they may depend on
+        session.flush();
+        long[] count = new long[1];
+        // share the connection, and thus the transaction, of the current session while it is lent to the work
+        session.doWork(new Work() {
+            @Override
+            public void execute(Connection connection) {
+                try (StatelessSession statelessSession = session.getSessionFactory().openStatelessSession(connection)) {
+                    statelessSession.setJdbcBatchSize(batchSize);
+                    Object entity = first;
+                    while (true) {
+                        statelessSession.insert(entity);
+                        count[0]++;
+                        if (!entities.hasNext()) {
+                            break;
+                        }
+                        entity = entities.next();
+                    }
+                    // a stateless session has no flush, send the last batch before closing it
+                    ((SharedSessionContractImplementor) statelessSession).getJdbcCoordinator().executeBatch();
+                }
+            }
+        });
+        logBatches("Inserted", count[0], batchSize, start);
+    }
+
+    private static void checkBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be > 0 : " + batchSize);
+        }
+    }
+
+    private static void logBatches(String operation, long count, int batchSize, long start) {
+        if (LOG.isDebugEnabled()) {
+            long elapsed = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            LOG.debugf("%s %d entities in batches of %d in %d ms (%d entities/s)", operation, count, batchSize, elapsed,
+                    count * 1000 / elapsed);
+        }
+    }
+
     public void delete(Object entity) {
         EntityManager em = getEntityManager(entity.getClass());
         em.remove(em.contains(entity) ? entity : em.unwrap(Session.class).getReference(entity));
@@ -2,6 +2,7 @@
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -19,9 +20,12 @@
 import org.hibernate.Session;
 
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.KeysetPageSupport;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public class CommonPanacheQueryImpl<Entity> {
@@ -48,6 +52,10 @@ public void close() {
 
     private Range range;
 
+    private KeysetPage keysetPage;
+    private KeysetPage nextKeysetPage;
+    private boolean keysetPageRead;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -69,6 +77,7 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keysetPage = previousQuery.keysetPage;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -153,6 +162,7 @@ public void filter(String filterName, Map<String, Object> parameters) {
     public void page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keysetPage = null;
     }
 
     public void page(int pageIndex, int pageSize) {
@@ -217,6 +227,31 @@ public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keysetPage = null;
+    }
+
+    public void keysetPage(KeysetPage keysetPage) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Unable to perform keyset pagination on a named query");
+        }
+        this.keysetPage = keysetPage;
+        this.nextKeysetPage = null;
+        this.keysetPageRead = false;
+        // reset the page and the range to be able to switch to keyset pagination
+        this.page = null;
+        this.range = null;
+    }
+
+    public KeysetPage nextKeysetPage() {
+        if (keysetPage == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset page related method, " +
+                    "call keysetPage(KeysetPage) to initiate keyset pagination first");
+        }
+        if (!keysetPageRead) {
+            throw new UnsupportedOperationException("Cannot compute the next keyset page, " +
+                    "call list() to read the current keyset page first");
+        }
+        return nextKeysetPage;
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -263,12 +298,41 @@ private String countQuery(String selectQuery) {
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
+        if (keysetPage != null) {
+            return keysetList();
+        }
         Query jpaQuery = createQuery();
         try (NonThrowingCloseable c = applyFilters()) {
             return jpaQuery.getResultList();
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> List<T> keysetList() {
+        // read one more result to know if there is a next page, without a count query
+        Query jpaQuery = createQuery(keysetPage.size + 1);
+        List<T> list;
+        try (NonThrowingCloseable c = applyFilters()) {
+            list = jpaQuery.getResultList();
+        }
+        if (list.size() > keysetPage.size) {
+            list = new ArrayList<>(list.subList(0, keysetPage.size));
+            nextKeysetPage = KeysetPageSupport.next(keysetPage, list.get(list.size() - 1), keysetProperties());
+        } else {
+            nextKeysetPage = null;
+        }
+        keysetPageRead = true;
+        return list;
+    }
+
+    private List<String> keysetProperties() {
+        List<String> properties = new ArrayList<>(keysetPage.sort.getColumns().size());
+        for (Sort.Column column : keysetPage.sort.getColumns()) {
+            properties.add(column.getName());
+        }
+        return properties;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
         Query jpaQuery = createQuery();
@@ -321,6 +385,8 @@ private Query createQuery() {
         } else if (page != null) {
             jpaQuery.setFirstResult(page.index * page.size);
             jpaQuery.setMaxResults(page.size);
+        } else if (keysetPage != null) {
+            jpaQuery.setMaxResults(keysetPage.size);
         } else {
             //no-op
         }
@@ -346,17 +412,22 @@ private Query createQuery(int maxResults) {
     @SuppressWarnings("unchecked")
     private Query createBaseQuery() {
         Query jpaQuery;
+        Object params = paramsArrayOrMap;
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
+        } else if (keysetPage != null) {
+            // the sort of the keyset page replaces the order of the query
+            jpaQuery = em.createQuery(PanacheJpaUtil.createKeysetQuery(query, keysetPage, paramsArrayOrMap));
+            params = PanacheJpaUtil.createKeysetParameters(paramsArrayOrMap, keysetPage);
         } else {
             jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
         }
 
-        if (paramsArrayOrMap instanceof Map) {
-            AbstractJpaOperations.bindParameters(jpaQuery, (Map<String, Object>) paramsArrayOrMap);
+        if (params instanceof Map) {
+            AbstractJpaOperations.bindParameters(jpaQuery, (Map<String, Object>) params);
         } else {
-            AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
+            AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) params);
         }
 
         if (this.lockModeType != null) {
@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache.kotlin
 
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import jakarta.persistence.LockModeType
@@ -131,6 +132,29 @@ fun page(): Page
      */
     fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity>
 
+    /**
+     * Switch the query to use keyset (seek) pagination instead of a page or a range. The results are restricted to those
+     * that follow the key of the given page and ordered by its sort, which replaces the order of this query. Unlike
+     * [PanacheQuery.page], the previous results are not skipped by the database and no count query is needed to paginate.
+     *
+     * @param keysetPage the keyset page
+     * @return this query, modified
+     * @throws io.quarkus.panache.common.exception.PanacheQueryException if this query is a named query
+     * @see [PanacheQuery.nextKeysetPage]
+     */
+    fun keysetPage(keysetPage: KeysetPage): PanacheQuery<Entity>
+
+    /**
+     * Returns the keyset page that follows the results returned by the last call to [PanacheQuery.list], or null if
+     * there are no more results. Its continuation token can be used to request the next page later on.
+     *
+     * @return the next keyset page, or null if there are no more results
+     * @throws UnsupportedOperationException if a keyset page hasn't been set or if [PanacheQuery.list] hasn't been called
+     * @see [PanacheQuery.keysetPage]
+     * @see [KeysetPage.getContinuationToken]
+     */
+    fun nextKeysetPage(): KeysetPage?
+
     /**
      * Define the locking strategy used for this query.
      *
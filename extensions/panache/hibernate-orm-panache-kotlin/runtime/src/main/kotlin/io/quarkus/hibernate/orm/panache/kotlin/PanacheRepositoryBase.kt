@@ -544,6 +544,61 @@ fun persist(firstEntity: Entity, vararg entities: Entity) {
         INSTANCE.persist(firstEntity, *entities)
     }
 
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every [batchSize] entities so that the
+     * memory used by large imports stays bounded. The insert statements of each flush are sent to the database in JDBC
+     * batches of [batchSize] statements.
+     *
+     * Clearing the persistence context detaches all the entities it contains, including the given entities and the
+     * entities loaded before this call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist between each flush and clear
+     */
+    fun persistInBatches(entities: Iterable<Entity>, batchSize: Int) {
+        INSTANCE.persistInBatches(entities, batchSize)
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every [batchSize] entities so that the
+     * memory used by large imports stays bounded. The insert statements of each flush are sent to the database in JDBC
+     * batches of [batchSize] statements. The stream is closed once consumed.
+     *
+     * Clearing the persistence context detaches all the entities it contains, including the given entities and the
+     * entities loaded before this call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist between each flush and clear
+     */
+    fun persistInBatches(entities: Stream<Entity>, batchSize: Int) {
+        INSTANCE.persistInBatches(entities, batchSize)
+    }
+
+    /**
+     * Insert all given entities with a [org.hibernate.StatelessSession] that shares the JDBC connection of the current
+     * session, sending the insert statements in batches of [batchSize] statements. The entities are not kept in a
+     * persistence context, and cascades, lifecycle callbacks and the second-level cache are bypassed.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the JDBC batch size
+     */
+    fun insertInBatches(entities: Iterable<Entity>, batchSize: Int) {
+        INSTANCE.insertInBatches(entities, batchSize)
+    }
+
+    /**
+     * Insert all given entities with a [org.hibernate.StatelessSession] that shares the JDBC connection of the current
+     * session, sending the insert statements in batches of [batchSize] statements. The entities are not kept in a
+     * persistence context, and cascades, lifecycle callbacks and the second-level cache are bypassed. The stream is
+     * closed once consumed.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the JDBC batch size
+     */
+    fun insertInBatches(entities: Stream<Entity>, batchSize: Int) {
+        INSTANCE.insertInBatches(entities, batchSize)
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
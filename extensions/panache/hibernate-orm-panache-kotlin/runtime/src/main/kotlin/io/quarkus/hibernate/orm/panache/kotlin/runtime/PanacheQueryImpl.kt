@@ -2,6 +2,7 @@
 
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl
 import io.quarkus.hibernate.orm.panache.kotlin.PanacheQuery
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import jakarta.persistence.EntityManager
@@ -75,6 +76,15 @@ override fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity> {
         return this
     }
 
+    override fun keysetPage(keysetPage: KeysetPage): PanacheQuery<Entity> {
+        delegate.keysetPage(keysetPage)
+        return this
+    }
+
+    override fun nextKeysetPage(): KeysetPage? {
+        return delegate.nextKeysetPage()
+    }
+
     override fun withLock(lockModeType: LockModeType): PanacheQuery<Entity> {
         delegate.withLock(lockModeType)
         return this
@@ -0,0 +1,85 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkPersistTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class));
+
+    @Test
+    @Transactional
+    public void testPersistInBatches() {
+        MyEntity.deleteAll();
+        MyEntity loaded = new MyEntity();
+        loaded.name = "loaded";
+        loaded.persist();
+
+        List<MyEntity> entities = entities("iterable", 25);
+        MyEntity.persistInBatches(entities, 10);
+        assertEquals(26, MyEntity.count());
+        for (MyEntity entity : entities) {
+            assertNotNull(entity.id);
+        }
+        // the persistence context has been cleared
+        assertFalse(entities.get(0).isPersistent());
+        assertFalse(loaded.isPersistent());
+
+        AtomicBoolean closed = new AtomicBoolean();
+        MyEntity.persistInBatches(entities("stream", 20).stream().onClose(() -> closed.set(true)), 10);
+        assertTrue(closed.get());
+        assertEquals(20, MyEntity.count("name like 'stream%'"));
+
+        assertThrows(IllegalArgumentException.class, () -> MyEntity.persistInBatches(entities("invalid", 1), 0));
+    }
+
+    @Test
+    @Transactional
+    public void testInsertInBatches() {
+        MyEntity.deleteAll();
+        // a pending change of the current session is flushed before the inserts
+        MyEntity pending = new MyEntity();
+        pending.name = "pending";
+        pending.persist();
+
+        List<MyEntity> entities = entities("stateless", 15);
+        MyEntity.insertInBatches(entities, 10);
+        assertTrue(MyEntity.getEntityManager().contains(pending));
+        assertEquals(16, MyEntity.count());
+        assertNotNull(entities.get(14).id);
+        assertFalse(entities.get(14).isPersistent());
+
+        MyEntity.insertInBatches(entities("stateless-stream", 5).stream(), 2);
+        assertEquals(21, MyEntity.count());
+    }
+
+    private static List<MyEntity> entities(String prefix, int count) {
+        List<MyEntity> entities = new ArrayList<>(count);
+        IntStream.range(0, count).forEach(i -> {
+            MyEntity entity = new MyEntity();
+            entity.name = prefix + i;
+            entities.add(entity);
+        });
+        return entities;
+    }
+
+}
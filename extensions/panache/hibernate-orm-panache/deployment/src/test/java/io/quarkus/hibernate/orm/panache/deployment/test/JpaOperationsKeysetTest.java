@@ -0,0 +1,69 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+
+public class JpaOperationsKeysetTest {
+
+    private static final Sort SORT = Sort.by("name").and("id", Sort.Direction.Descending);
+
+    @Test
+    public void testFirstPage() {
+        assertEquals("FROM Person ORDER BY name , id DESC",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", KeysetPage.of(SORT, 10), new Object[0]));
+    }
+
+    @Test
+    public void testPositionalParameters() {
+        KeysetPage page = KeysetPage.of(SORT, 10).after("foo", 42L);
+        assertEquals("FROM Person WHERE (status = ?1) AND ((name > ?2) OR (name = ?2 AND id < ?3)) ORDER BY name , id DESC",
+                PanacheJpaUtil.createKeysetQuery("FROM Person WHERE status = ?1", page, new Object[] { "alive" }));
+        assertArrayEquals(new Object[] { "alive", "foo", 42L },
+                (Object[]) PanacheJpaUtil.createKeysetParameters(new Object[] { "alive" }, page));
+        assertEquals("FROM Person WHERE (name > ?1) OR (name = ?1 AND id < ?2) ORDER BY name , id DESC",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", page, null));
+    }
+
+    @Test
+    public void testNamedParameters() {
+        KeysetPage page = KeysetPage.of(Sort.by("name"), 10).after("foo");
+        assertEquals("FROM Person WHERE (status = :status) AND ((name > :panacheKeyset0)) ORDER BY name",
+                PanacheJpaUtil.createKeysetQuery("FROM Person WHERE status = :status", page, Map.of("status", "alive")));
+        assertEquals(Map.of("status", "alive", "panacheKeyset0", "foo"),
+                PanacheJpaUtil.createKeysetParameters(Map.of("status", "alive"), page));
+    }
+
+    @Test
+    public void testOrderByNotSupported() {
+        assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person ORDER BY name", KeysetPage.of(SORT, 10), null));
+    }
+
+    @Test
+    public void testContinuationToken() {
+        UUID uuid = UUID.randomUUID();
+        KeysetPage page = KeysetPage.of(Sort.by("a").and("b").and("c").and("d"), 5)
+                .after("žába", 42L, LocalDate.of(2023, 3, 1), uuid);
+        String token = page.getContinuationToken();
+        assertEquals(List.of("žába", 42L, LocalDate.of(2023, 3, 1), uuid),
+                KeysetPage.of(page.sort, 5, token).getKey());
+        assertEquals(List.of(), KeysetPage.of(page.sort, 5, null).getKey());
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.of(page.sort, 5, "foo"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.of(Sort.by("a"), 5).after(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.of(Sort.by("a"), 5).after((Object) null));
+    }
+
+}
@@ -0,0 +1,74 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class KeysetPaginationTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class));
+
+    @Test
+    @Transactional
+    public void testKeysetPagination() {
+        for (String name : new String[] { "d", "b", "a", "c", "b", "e", "x" }) {
+            MyEntity entity = new MyEntity();
+            entity.name = name;
+            entity.persist();
+        }
+        Sort sort = Sort.by("name").and("id");
+        List<String> names = new ArrayList<>();
+        PanacheQuery<MyEntity> query = MyEntity.find("name <> ?1", "x").keysetPage(KeysetPage.of(sort, 2));
+        assertThrows(UnsupportedOperationException.class, query::nextKeysetPage);
+        KeysetPage next;
+        do {
+            List<MyEntity> list = query.list();
+            list.forEach(e -> names.add(e.name));
+            next = query.nextKeysetPage();
+            if (next != null) {
+                assertEquals(2, list.size());
+                // the continuation token can be exchanged with a client
+                query = MyEntity.find("name <> ?1", "x")
+                        .keysetPage(KeysetPage.of(sort, 2, next.getContinuationToken()));
+            }
+        } while (next != null);
+        assertEquals(List.of("a", "b", "b", "c", "d", "e"), names);
+
+        // descending order with named parameters
+        PanacheQuery<MyEntity> descQuery = MyEntity.find("name <> :name", Parameters.with("name", "x"))
+                .keysetPage(KeysetPage.of(Sort.descending("name", "id"), 4));
+        assertEquals(List.of("e", "d", "c", "b"), names(descQuery.list()));
+        assertEquals(List.of("b", "a"), names(descQuery.keysetPage(descQuery.nextKeysetPage()).list()));
+        assertNull(descQuery.nextKeysetPage());
+
+        // an exact multiple of the page size
+        PanacheQuery<MyEntity> allQuery = MyEntity.findAll().keysetPage(KeysetPage.of(sort, 7));
+        assertEquals(7, allQuery.list().size());
+        assertNull(allQuery.nextKeysetPage());
+    }
+
+    private static List<String> names(List<MyEntity> entities) {
+        List<String> names = new ArrayList<>();
+        entities.forEach(e -> names.add(e.name));
+        return names;
+    }
+
+}
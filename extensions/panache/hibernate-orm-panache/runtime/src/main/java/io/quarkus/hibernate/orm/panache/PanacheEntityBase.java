@@ -756,6 +756,75 @@ public static void persist(Object firstEntity, Object... entities) {
         JpaOperations.INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every {@code batchSize} entities so
+     * that the memory used by large imports stays bounded. The insert statements of each flush are sent to the database
+     * in JDBC batches of {@code batchSize} statements.
+     * <p>
+     * Clearing the persistence context detaches all the entities it contains, including the given entities and the
+     * entities loaded before this call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist between each flush and clear
+     * @see #persist(Iterable)
+     * @see #persistInBatches(Stream, int)
+     * @see #insertInBatches(Iterable, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void persistInBatches(Iterable<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every {@code batchSize} entities so
+     * that the memory used by large imports stays bounded. The insert statements of each flush are sent to the database
+     * in JDBC batches of {@code batchSize} statements. The stream is closed once consumed.
+     * <p>
+     * Clearing the persistence context detaches all the entities it contains, including the given entities and the
+     * entities loaded before this call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist between each flush and clear
+     * @see #persist(Stream)
+     * @see #persistInBatches(Iterable, int)
+     * @see #insertInBatches(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Insert all given entities with a {@link org.hibernate.StatelessSession} that shares the JDBC connection of the
+     * current session, sending the insert statements in batches of {@code batchSize} statements. The entities are not
+     * kept in a persistence context, and cascades, lifecycle callbacks and the second-level cache are bypassed.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the JDBC batch size
+     * @see #persistInBatches(Iterable, int)
+     * @see #insertInBatches(Stream, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void insertInBatches(Iterable<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.insertInBatches(entities, batchSize);
+    }
+
+    /**
+     * Insert all given entities with a {@link org.hibernate.StatelessSession} that shares the JDBC connection of the
+     * current session, sending the insert statements in batches of {@code batchSize} statements. The entities are not
+     * kept in a persistence context, and cascades, lifecycle callbacks and the second-level cache are bypassed. The
+     * stream is closed once consumed.
+     *
+     * @param entities the entities to insert
+     * @param batchSize the JDBC batch size
+     * @see #persistInBatches(Stream, int)
+     * @see #insertInBatches(Iterable, int)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void insertInBatches(Stream<?> entities, int batchSize) {
+        JpaOperations.INSTANCE.insertInBatches(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
@@ -12,6 +12,7 @@
 import org.hibernate.Session;
 import org.hibernate.annotations.FilterDef;
 
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 
@@ -147,6 +148,29 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to use keyset (seek) pagination instead of a page or a range. The results are restricted to those
+     * that follow the key of the given page and ordered by its sort, which replaces the order of this query. Unlike
+     * {@link #page(Page)}, the previous results are not skipped by the database and no count query is needed to paginate.
+     *
+     * @param keysetPage the keyset page
+     * @return this query, modified
+     * @throws io.quarkus.panache.common.exception.PanacheQueryException if this query is a named query
+     * @see #nextKeysetPage()
+     */
+    public <T extends Entity> PanacheQuery<T> keysetPage(KeysetPage keysetPage);
+
+    /**
+     * Returns the keyset page that follows the results returned by the last call to {@link #list()}, or {@code null} if
+     * there are no more results. Its continuation token can be used to request the next page later on.
+     *
+     * @return the next keyset page, or {@code null} if there are no more results
+     * @throws UnsupportedOperationException if a keyset page hasn't been set or if {@link #list()} hasn't been called
+     * @see #keysetPage(KeysetPage)
+     * @see KeysetPage#getContinuationToken()
+     */
+    public KeysetPage nextKeysetPage();
+
     /**
      * Define the locking strategy used for this query.
      *
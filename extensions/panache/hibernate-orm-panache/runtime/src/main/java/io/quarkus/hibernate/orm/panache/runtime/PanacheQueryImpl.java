@@ -11,6 +11,7 @@
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 
@@ -102,6 +103,18 @@ public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex) {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> keysetPage(KeysetPage keysetPage) {
+        delegate.keysetPage(keysetPage);
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public KeysetPage nextKeysetPage() {
+        return delegate.nextKeysetPage();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
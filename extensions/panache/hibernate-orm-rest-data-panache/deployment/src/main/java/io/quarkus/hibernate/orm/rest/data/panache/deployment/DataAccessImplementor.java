@@ -60,6 +60,18 @@ public interface DataAccessImplementor {
     ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHandle sort, ResultHandle query,
             ResultHandle queryParams);
 
+    /**
+     * Find the entities of a keyset page.
+     *
+     * @param creator Bytecode creator that should be used for implementation.
+     * @param keysetPage KeysetPage instance that should be used in a query.
+     * @param query HQL query to list entities.
+     * @param queryParams Map of parameters to use by the HQL query.
+     * @return KeysetPageResult with the entities and the next keyset page
+     */
+    ResultHandle findKeysetPage(BytecodeCreator creator, ResultHandle keysetPage, ResultHandle query,
+            ResultHandle queryParams);
+
     /**
      * Persist a new entity.
      *
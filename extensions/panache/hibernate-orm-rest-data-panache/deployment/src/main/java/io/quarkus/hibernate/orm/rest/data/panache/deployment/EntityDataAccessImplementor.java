@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.rest.data.panache.deployment;
 
+import static io.quarkus.gizmo.MethodDescriptor.ofConstructor;
 import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
 
 import java.util.List;
@@ -11,8 +12,10 @@
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.rest.data.panache.runtime.KeysetPageResult;
 
 /**
  * Implement data access using active record.
@@ -83,6 +86,18 @@ public ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHa
         return creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "list", List.class), panacheQuery);
     }
 
+    /**
+     * Implements <code>query = Entity.find(query, params).keysetPage(keysetPage);
+     * new KeysetPageResult(query.list(), query.nextKeysetPage())</code>
+     */
+    @Override
+    public ResultHandle findKeysetPage(BytecodeCreator creator, ResultHandle keysetPage, ResultHandle query,
+            ResultHandle queryParams) {
+        ResultHandle panacheQuery = creator.invokeStaticMethod(
+                ofMethod(entityClassName, "find", PanacheQuery.class, String.class, Map.class), query, queryParams);
+        return keysetPageResult(creator, panacheQuery, keysetPage);
+    }
+
     /**
      * Implements <code>entity.persist()</code>
      */
@@ -129,4 +144,14 @@ public ResultHandle pageCount(BytecodeCreator creator, ResultHandle page) {
     public ResultHandle count(BytecodeCreator creator) {
         return creator.invokeStaticMethod(ofMethod(entityClassName, "count", long.class));
     }
+
+    static ResultHandle keysetPageResult(BytecodeCreator creator, ResultHandle panacheQuery, ResultHandle keysetPage) {
+        creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "keysetPage", PanacheQuery.class, KeysetPage.class),
+                panacheQuery, keysetPage);
+        ResultHandle entities = creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "list", List.class),
+                panacheQuery);
+        ResultHandle next = creator.invokeInterfaceMethod(
+                ofMethod(PanacheQuery.class, "nextKeysetPage", KeysetPage.class), panacheQuery);
+        return creator.newInstance(ofConstructor(KeysetPageResult.class, List.class, KeysetPage.class), entities, next);
+    }
 }
@@ -104,7 +104,7 @@ void findEntityResources(CombinedIndexBuildItem index,
 
             restDataResourceProducer.produce(new RestDataResourceBuildItem(
                     new ResourceMetadata(resourceClass, resourceInterface, entityType, idType,
-                            getEntityFields(index.getIndex(), entityType))));
+                            getEntityFields(index.getIndex(), entityType), true)));
         }
     }
 
@@ -141,7 +141,7 @@ void findRepositoryResources(CombinedIndexBuildItem index,
 
             restDataResourceProducer.produce(new RestDataResourceBuildItem(
                     new ResourceMetadata(resourceClass, resourceInterface, entityType, idType,
-                            getEntityFields(index.getIndex(), entityType))));
+                            getEntityFields(index.getIndex(), entityType), true)));
         }
     }
 
@@ -87,6 +87,19 @@ public ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHa
         return creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "list", List.class), panacheQuery);
     }
 
+    /**
+     * Implements <code>query = repository.find(query, params).keysetPage(keysetPage);
+     * new KeysetPageResult(query.list(), query.nextKeysetPage())</code>
+     */
+    @Override
+    public ResultHandle findKeysetPage(BytecodeCreator creator, ResultHandle keysetPage, ResultHandle query,
+            ResultHandle queryParams) {
+        ResultHandle panacheQuery = creator.invokeInterfaceMethod(
+                ofMethod(PanacheRepositoryBase.class, "find", PanacheQuery.class, String.class, Map.class),
+                getRepositoryInstance(creator), query, queryParams);
+        return EntityDataAccessImplementor.keysetPageResult(creator, panacheQuery, keysetPage);
+    }
+
     /**
      * Implements <code>repository.persist(entity)</code>
      */
@@ -21,10 +21,12 @@
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.rest.data.panache.deployment.Constants;
 import io.quarkus.rest.data.panache.deployment.ResourceMethodListenerImplementor;
+import io.quarkus.rest.data.panache.runtime.KeysetPageResult;
 import io.quarkus.runtime.util.HashUtil;
 
 /**
@@ -67,6 +69,7 @@ String implement(ClassOutput classOutput, DataAccessImplementor dataAccessImplem
 
         implementList(classCreator, dataAccessImplementor);
         implementListWithQuery(classCreator, dataAccessImplementor);
+        implementListKeysetPage(classCreator, dataAccessImplementor);
         implementListPageCount(classCreator, dataAccessImplementor);
         implementCount(classCreator, dataAccessImplementor);
         implementGet(classCreator, dataAccessImplementor);
@@ -112,6 +115,20 @@ private void implementListWithQuery(ClassCreator classCreator, DataAccessImpleme
         methodCreator.close();
     }
 
+    /**
+     * Generate keyset page list method.
+     * This method is used by the list operation when a continuation token is set and is not exposed to a user.
+     */
+    private void implementListKeysetPage(ClassCreator classCreator, DataAccessImplementor dataAccessImplementor) {
+        MethodCreator methodCreator = classCreator.getMethodCreator("list", KeysetPageResult.class, KeysetPage.class,
+                String.class, Map.class);
+        ResultHandle keysetPage = methodCreator.getMethodParam(0);
+        ResultHandle query = methodCreator.getMethodParam(1);
+        ResultHandle queryParams = methodCreator.getMethodParam(2);
+        methodCreator.returnValue(dataAccessImplementor.findKeysetPage(methodCreator, keysetPage, query, queryParams));
+        methodCreator.close();
+    }
+
     /**
      * Generate list page count method.
      * This method is used when building page URLs for list operation response and is not exposed to a user.
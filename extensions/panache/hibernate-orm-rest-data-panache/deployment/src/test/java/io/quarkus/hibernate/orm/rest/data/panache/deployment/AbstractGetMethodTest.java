@@ -202,6 +202,69 @@ void shouldNotListHalWithInvalidSortParam() {
                 .and().body(is(equalTo("Invalid sort parameter '1name'")));
     }
 
+    @Test
+    void shouldGetKeysetPages() {
+        Response response = given().accept("application/json")
+                .and().queryParam("keyset", "")
+                .and().queryParam("size", 1)
+                .and().queryParam("sort", "name,id")
+                .when().get("/items")
+                .thenReturn();
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.body().jsonPath().getList("id")).containsOnly(1);
+        assertThat(response.body().jsonPath().getList("name")).containsOnly("first");
+
+        List<Link> links = new LinkedList<>();
+        for (Header header : response.getHeaders().getList("Link")) {
+            links.add(Link.valueOf(header.getValue()));
+        }
+        assertThat(links).hasSize(2);
+        assertThat(links).anySatisfy(link -> {
+            assertThat(link.getUri().getQuery()).contains("keyset=&");
+            assertThat(link.getRel()).isEqualTo("first");
+        });
+        Link next = links.stream().filter(link -> link.getRel().equals("next")).findFirst().orElseThrow();
+        assertThat(next.getUri().getQuery()).contains("size=1").contains("sort=name,id");
+
+        response = given().accept("application/json")
+                .when().get(next.getUri())
+                .thenReturn();
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.body().jsonPath().getList("id")).containsOnly(2);
+        assertThat(response.body().jsonPath().getList("name")).containsOnly("second");
+        // this is the last page
+        assertThat(response.getHeaders().getList("Link")).hasSize(1);
+    }
+
+    @Test
+    void shouldGetKeysetPageWithFilter() {
+        given().accept("application/json")
+                .and().queryParam("keyset", "")
+                .and().queryParam("sort", "id")
+                .and().queryParam("name", "second")
+                .when().get("/items")
+                .then().statusCode(200)
+                .and().body("id", contains(2))
+                .and().body("name", contains("second"));
+    }
+
+    @Test
+    void shouldNotGetKeysetPageWithoutSort() {
+        given().accept("application/json")
+                .and().queryParam("keyset", "")
+                .when().get("/items")
+                .then().statusCode(400);
+    }
+
+    @Test
+    void shouldNotGetKeysetPageWithInvalidToken() {
+        given().accept("application/json")
+                .and().queryParam("keyset", "invalid")
+                .and().queryParam("sort", "id")
+                .when().get("/items")
+                .then().statusCode(400);
+    }
+
     @Test
     void shouldListComplexObjects() {
         given().accept("application/json")
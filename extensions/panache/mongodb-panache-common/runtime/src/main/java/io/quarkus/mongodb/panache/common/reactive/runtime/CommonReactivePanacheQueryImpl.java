@@ -1,5 +1,6 @@
 package io.quarkus.mongodb.panache.common.reactive.runtime;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -13,11 +14,14 @@
 import com.mongodb.client.model.CountOptions;
 
 import io.quarkus.mongodb.FindOptions;
+import io.quarkus.mongodb.panache.common.runtime.MongoKeysetUtil;
 import io.quarkus.mongodb.panache.common.runtime.MongoPropertyUtil;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.KeysetPageSupport;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -32,6 +36,10 @@
 
     private Range range;
 
+    private KeysetPage keysetPage;
+    private volatile KeysetPage nextKeysetPage;
+    private volatile boolean keysetPageRead;
+
     private Collation collation;
 
     private OptionalInt batchSize = OptionalInt.empty();
@@ -50,6 +58,7 @@ private CommonReactivePanacheQueryImpl(CommonReactivePanacheQueryImpl previousQu
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keysetPage = previousQuery.keysetPage;
         this.collation = previousQuery.collation;
     }
 
@@ -72,6 +81,7 @@ public <T> CommonReactivePanacheQueryImpl<T> project(Class<T> type) {
     public <T extends Entity> CommonReactivePanacheQueryImpl<T> page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keysetPage = null;
         return (CommonReactivePanacheQueryImpl<T>) this;
     }
 
@@ -140,9 +150,33 @@ public <T extends Entity> CommonReactivePanacheQueryImpl<T> range(int startIndex
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keysetPage = null;
+        return (CommonReactivePanacheQueryImpl<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonReactivePanacheQueryImpl<T> keysetPage(KeysetPage keysetPage) {
+        this.keysetPage = keysetPage;
+        this.nextKeysetPage = null;
+        this.keysetPageRead = false;
+        // reset the page and the range to be able to switch to keyset pagination
+        this.page = null;
+        this.range = null;
         return (CommonReactivePanacheQueryImpl<T>) this;
     }
 
+    public KeysetPage nextKeysetPage() {
+        if (keysetPage == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset page related method, " +
+                    "call keysetPage(KeysetPage) to initiate keyset pagination first");
+        }
+        if (!keysetPageRead) {
+            throw new UnsupportedOperationException("Cannot compute the next keyset page, " +
+                    "call list() to read the current keyset page first");
+        }
+        return nextKeysetPage;
+    }
+
     public <T extends Entity> CommonReactivePanacheQueryImpl<T> withCollation(Collation collation) {
         this.collation = collation;
         return (CommonReactivePanacheQueryImpl<T>) this;
@@ -177,14 +211,40 @@ public Uni<Long> count() {
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<List<T>> list() {
+        if (keysetPage != null) {
+            return keysetList();
+        }
         Multi<T> results = stream();
         return results.collect().asList();
     }
 
-    @SuppressWarnings("unchecked")
+    private <T extends Entity> Uni<List<T>> keysetList() {
+        KeysetPage currentPage = keysetPage;
+        Class<?> documentClass = collection.getDocumentClass();
+        // read one more result to know if there is a next page, without a count query
+        Multi<T> results = find(buildOptions(currentPage.size + 1));
+        return results.collect().asList().map(list -> {
+            KeysetPage next = null;
+            if (list.size() > currentPage.size) {
+                list = new ArrayList<>(list.subList(0, currentPage.size));
+                next = KeysetPageSupport.next(currentPage, list.get(list.size() - 1),
+                        MongoKeysetUtil.properties(documentClass, currentPage));
+            }
+            nextKeysetPage = next;
+            keysetPageRead = true;
+            return list;
+        });
+    }
+
     public <T extends Entity> Multi<T> stream() {
         FindOptions options = buildOptions();
-        return mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        return find(options);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> Multi<T> find(FindOptions options) {
+        Bson query = keysetPage != null ? MongoKeysetUtil.filter(mongoQuery, keysetPage) : mongoQuery;
+        return query == null ? collection.find(options) : collection.find(query, options);
     }
 
     public <T extends Entity> Uni<T> firstResult() {
@@ -194,14 +254,14 @@ public <T extends Entity> Uni<T> firstResult() {
 
     public <T extends Entity> Uni<Optional<T>> firstResultOptional() {
         FindOptions options = buildOptions(1);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Multi<T> results = find(options);
         return results.collect().first().map(o -> Optional.ofNullable(o));
     }
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<T> singleResult() {
         FindOptions options = buildOptions(2);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Multi<T> results = find(options);
         return results.collect().asList().map(list -> {
             if (list.size() != 1) {
                 throw new PanacheQueryException("There should be only one result");
@@ -213,7 +273,7 @@ public <T extends Entity> Uni<T> singleResult() {
 
     public <T extends Entity> Uni<Optional<T>> singleResultOptional() {
         FindOptions options = buildOptions(2);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Multi<T> results = find(options);
         return results.collect().asList().map(list -> {
             if (list.size() == 2) {
                 throw new PanacheQueryException("There should be no more than one result");
@@ -224,12 +284,15 @@ public <T extends Entity> Uni<Optional<T>> singleResultOptional() {
 
     private FindOptions buildOptions() {
         FindOptions options = new FindOptions();
-        options.sort(sort);
+        // the sort of the keyset page replaces the sort of the query
+        options.sort(keysetPage != null ? MongoKeysetUtil.sort(keysetPage) : sort);
         if (range != null) {
             // range is 0 based, so we add 1 to the limit
             options.skip(range.getStartIndex()).limit(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
             options.skip(page.index * page.size).limit(page.size);
+        } else if (keysetPage != null) {
+            options.limit(keysetPage.size);
         }
         if (projections != null) {
             options.projection(this.projections);
@@ -243,7 +306,8 @@ private FindOptions buildOptions() {
 
     private FindOptions buildOptions(int maxResults) {
         FindOptions options = new FindOptions();
-        options.sort(sort);
+        // the sort of the keyset page replaces the sort of the query
+        options.sort(keysetPage != null ? MongoKeysetUtil.sort(keysetPage) : sort);
         if (range != null) {
             // range is 0 based, so we add 1 to the limit
             options.skip(range.getStartIndex());
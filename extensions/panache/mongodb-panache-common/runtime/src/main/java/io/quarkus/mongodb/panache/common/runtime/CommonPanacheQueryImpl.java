@@ -19,9 +19,11 @@
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.CountOptions;
 
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.impl.KeysetPageSupport;
 
 public class CommonPanacheQueryImpl<Entity> {
     private MongoCollection collection;
@@ -35,6 +37,10 @@
 
     private Range range;
 
+    private KeysetPage keysetPage;
+    private KeysetPage nextKeysetPage;
+    private boolean keysetPageRead;
+
     private Collation collation;
 
     private OptionalInt batchSize = OptionalInt.empty();
@@ -56,6 +62,7 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, Bson pro
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keysetPage = previousQuery.keysetPage;
         this.collation = previousQuery.collation;
     }
 
@@ -76,6 +83,7 @@ public <T> CommonPanacheQueryImpl<T> project(Class<T> type) {
     public <T extends Entity> CommonPanacheQueryImpl<T> page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        this.keysetPage = null;
         return (CommonPanacheQueryImpl<T>) this;
     }
 
@@ -142,9 +150,33 @@ public <T extends Entity> CommonPanacheQueryImpl<T> range(int startIndex, int la
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        this.keysetPage = null;
         return (CommonPanacheQueryImpl<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonPanacheQueryImpl<T> keysetPage(KeysetPage keysetPage) {
+        this.keysetPage = keysetPage;
+        this.nextKeysetPage = null;
+        this.keysetPageRead = false;
+        // reset the page and the range to be able to switch to keyset pagination
+        this.page = null;
+        this.range = null;
+        return (CommonPanacheQueryImpl<T>) this;
+    }
+
+    public KeysetPage nextKeysetPage() {
+        if (keysetPage == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset page related method, " +
+                    "call keysetPage(KeysetPage) to initiate keyset pagination first");
+        }
+        if (!keysetPageRead) {
+            throw new UnsupportedOperationException("Cannot compute the next keyset page, " +
+                    "call list() to read the current keyset page first");
+        }
+        return nextKeysetPage;
+    }
+
     public <T extends Entity> CommonPanacheQueryImpl<T> withCollation(Collation collation) {
         this.collation = collation;
         return (CommonPanacheQueryImpl<T>) this;
@@ -179,13 +211,30 @@ public long count() {
     }
 
     public <T extends Entity> List<T> list() {
+        if (keysetPage != null) {
+            return keysetList();
+        }
         return list(null);
     }
 
+    private <T extends Entity> List<T> keysetList() {
+        // read one more result to know if there is a next page, without a count query
+        List<T> list = list(keysetPage.size + 1);
+        if (list.size() > keysetPage.size) {
+            list = new ArrayList<>(list.subList(0, keysetPage.size));
+            nextKeysetPage = KeysetPageSupport.next(keysetPage, list.get(list.size() - 1),
+                    MongoKeysetUtil.properties(collection.getDocumentClass(), keysetPage));
+        } else {
+            nextKeysetPage = null;
+        }
+        keysetPageRead = true;
+        return list;
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Entity> List<T> list(Integer limit) {
         List<T> list = new ArrayList<>();
-        Bson query = getQuery();
+        Bson query = getFindQuery();
         FindIterable<T> find = clientSession == null ? collection.find(query) : collection.find(clientSession, query);
         if (this.projections != null) {
             find.projection(projections);
@@ -196,7 +245,8 @@ private <T extends Entity> List<T> list(Integer limit) {
         batchSize.ifPresent(batchSize -> find.batchSize(batchSize));
         manageOffsets(find, limit);
 
-        try (MongoCursor<T> cursor = find.sort(sort).iterator()) {
+        // the sort of the keyset page replaces the sort of the query
+        try (MongoCursor<T> cursor = find.sort(keysetPage != null ? MongoKeysetUtil.sort(keysetPage) : sort).iterator()) {
             while (cursor.hasNext()) {
                 T entity = cursor.next();
                 list.add(entity);
@@ -249,6 +299,8 @@ private void manageOffsets(FindIterable find, Integer limit) {
             if (limit == null) {
                 find.limit(page.size);
             }
+        } else if (keysetPage != null && limit == null) {
+            find.limit(keysetPage.size);
         }
         if (limit != null) {
             find.limit(limit);
@@ -258,4 +310,11 @@ private void manageOffsets(FindIterable find, Integer limit) {
     private Bson getQuery() {
         return mongoQuery == null ? new BsonDocument() : mongoQuery;
     }
+
+    private Bson getFindQuery() {
+        if (keysetPage == null || keysetPage.isFirst()) {
+            return getQuery();
+        }
+        return MongoKeysetUtil.filter(mongoQuery, keysetPage);
+    }
 }
@@ -0,0 +1,83 @@
+package io.quarkus.mongodb.panache.common.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.Sort;
+
+/**
+ * Translates a {@link KeysetPage} to MongoDB filters and sorts.
+ */
+public final class MongoKeysetUtil {
+
+    private static final String ID = "_id";
+
+    private MongoKeysetUtil() {
+        //prevent initialization
+    }
+
+    /**
+     * @param mongoQuery the query, may be {@code null}
+     * @param keysetPage the keyset page
+     * @return the query restricted to the documents that follow the key of the page
+     */
+    public static Bson filter(Bson mongoQuery, KeysetPage keysetPage) {
+        if (keysetPage.isFirst()) {
+            return mongoQuery;
+        }
+        // {$or: [{c0: {$gt: k0}}, {c0: k0, c1: {$gt: k1}}, ...]}
+        List<Sort.Column> columns = keysetPage.sort.getColumns();
+        List<Object> key = keysetPage.getKey();
+        List<Document> or = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            Document condition = new Document();
+            for (int j = 0; j < i; j++) {
+                condition.append(columns.get(j).getName(), key.get(j));
+            }
+            Sort.Column column = columns.get(i);
+            condition.append(column.getName(),
+                    new Document(column.getDirection() == Sort.Direction.Ascending ? "$gt" : "$lt", key.get(i)));
+            or.add(condition);
+        }
+        Document keysetFilter = or.size() == 1 ? or.get(0) : new Document("$or", or);
+        return mongoQuery == null ? keysetFilter : new Document("$and", List.of(mongoQuery, keysetFilter));
+    }
+
+    /**
+     * @param keysetPage the keyset page
+     * @return the sort of the keyset page
+     */
+    public static Document sort(KeysetPage keysetPage) {
+        Document sortDoc = new Document();
+        for (Sort.Column col : keysetPage.sort.getColumns()) {
+            sortDoc.append(col.getName(), col.getDirection() == Sort.Direction.Ascending ? 1 : -1);
+        }
+        return sortDoc;
+    }
+
+    /**
+     * @param documentClass the class of the query results
+     * @param keysetPage the keyset page
+     * @return the names of the properties that hold the values of the sort columns
+     */
+    public static List<String> properties(Class<?> documentClass, KeysetPage keysetPage) {
+        Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(documentClass);
+        List<String> properties = new ArrayList<>(keysetPage.sort.getColumns().size());
+        for (Sort.Column column : keysetPage.sort.getColumns()) {
+            String property = column.getName();
+            for (Map.Entry<String, String> entry : replacementMap.entrySet()) {
+                if (entry.getValue().equals(property)) {
+                    property = entry.getKey();
+                    break;
+                }
+            }
+            properties.add(ID.equals(property) ? "id" : property);
+        }
+        return properties;
+    }
+}
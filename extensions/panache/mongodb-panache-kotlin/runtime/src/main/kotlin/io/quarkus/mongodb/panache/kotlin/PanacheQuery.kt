@@ -2,6 +2,7 @@
 
 import com.mongodb.ReadPreference
 import com.mongodb.client.model.Collation
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.exception.PanacheQueryException
 import java.util.stream.Stream
@@ -125,6 +126,28 @@ fun page(): Page
      */
     fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity>
 
+    /**
+     * Switch the query to use keyset (seek) pagination instead of a page or a range. The results are restricted to those
+     * that follow the key of the given page and sorted by its sort, which replaces the sort of this query. Unlike
+     * [PanacheQuery.page], the previous results are not skipped by the database and no count query is needed to paginate.
+     *
+     * @param keysetPage the keyset page
+     * @return this query, modified
+     * @see [PanacheQuery.nextKeysetPage]
+     */
+    fun keysetPage(keysetPage: KeysetPage): PanacheQuery<Entity>
+
+    /**
+     * Returns the keyset page that follows the results returned by [PanacheQuery.list], or null if there are no more
+     * results. Its continuation token can be used to request the next page later on.
+     *
+     * @return the next keyset page, or null if there are no more results
+     * @throws UnsupportedOperationException if a keyset page hasn't been set or if the results haven't been listed
+     * @see [PanacheQuery.keysetPage]
+     * @see [KeysetPage.getContinuationToken]
+     */
+    fun nextKeysetPage(): KeysetPage?
+
     /**
      * Define the collation used for this query.
      *
@@ -5,6 +5,7 @@
 import io.quarkus.mongodb.panache.common.reactive.runtime.CommonReactivePanacheQueryImpl
 import io.quarkus.mongodb.panache.kotlin.reactive.ReactivePanacheQuery
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import io.smallrye.mutiny.Multi
 import io.smallrye.mutiny.Uni
@@ -75,6 +76,15 @@ override fun range(startIndex: Int, lastIndex: Int): ReactivePanacheQuery<Entity
         return this
     }
 
+    override fun keysetPage(keysetPage: KeysetPage): ReactivePanacheQuery<Entity> {
+        delegate.keysetPage<Entity>(keysetPage)
+        return this
+    }
+
+    override fun nextKeysetPage(): KeysetPage? {
+        return delegate.nextKeysetPage()
+    }
+
     override fun withCollation(collation: Collation): ReactivePanacheQuery<Entity> {
         delegate.withCollation<Entity>(collation)
         return this
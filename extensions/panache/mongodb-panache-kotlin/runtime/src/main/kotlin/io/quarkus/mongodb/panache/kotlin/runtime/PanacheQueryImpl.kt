@@ -6,6 +6,7 @@
 import com.mongodb.client.model.Collation
 import io.quarkus.mongodb.panache.common.runtime.CommonPanacheQueryImpl
 import io.quarkus.mongodb.panache.kotlin.PanacheQuery
+import io.quarkus.panache.common.KeysetPage
 import io.quarkus.panache.common.Page
 import org.bson.conversions.Bson
 import java.util.stream.Stream
@@ -75,6 +76,15 @@ override fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity> {
         return this
     }
 
+    override fun keysetPage(keysetPage: KeysetPage): PanacheQuery<Entity> {
+        delegate.keysetPage<Entity>(keysetPage)
+        return this
+    }
+
+    override fun nextKeysetPage(): KeysetPage? {
+        return delegate.nextKeysetPage()
+    }
+
     override fun withCollation(collation: Collation): PanacheQuery<Entity> {
         delegate.withCollation<Entity>(collation)
         return this
@@ -7,6 +7,7 @@
 import com.mongodb.ReadPreference;
 import com.mongodb.client.model.Collation;
 
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 
 /**
@@ -137,6 +138,28 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to use keyset (seek) pagination instead of a page or a range. The results are restricted to those
+     * that follow the key of the given page and sorted by its sort, which replaces the sort of this query. Unlike
+     * {@link #page(Page)}, the previous results are not skipped by the database and no count query is needed to paginate.
+     *
+     * @param keysetPage the keyset page
+     * @return this query, modified
+     * @see #nextKeysetPage()
+     */
+    public <T extends Entity> PanacheQuery<T> keysetPage(KeysetPage keysetPage);
+
+    /**
+     * Returns the keyset page that follows the results returned by the last call to {@link #list()}, or {@code null} if
+     * there are no more results. Its continuation token can be used to request the next page later on.
+     *
+     * @return the next keyset page, or {@code null} if there are no more results
+     * @throws UnsupportedOperationException if a keyset page hasn't been set or if the results haven't been listed
+     * @see #keysetPage(KeysetPage)
+     * @see KeysetPage#getContinuationToken()
+     */
+    public KeysetPage nextKeysetPage();
+
     /**
      * Define the collation used for this query.
      *
@@ -11,6 +11,7 @@
 import io.quarkus.mongodb.panache.common.reactive.runtime.CommonReactivePanacheQueryImpl;
 import io.quarkus.mongodb.panache.reactive.ReactivePanacheQuery;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -94,6 +95,17 @@ public <T extends Entity> ReactivePanacheQuery<T> range(int startIndex, int last
         return (ReactivePanacheQuery<T>) this;
     }
 
+    @Override
+    public <T extends Entity> ReactivePanacheQuery<T> keysetPage(KeysetPage keysetPage) {
+        delegate.keysetPage(keysetPage);
+        return (ReactivePanacheQuery<T>) this;
+    }
+
+    @Override
+    public KeysetPage nextKeysetPage() {
+        return delegate.nextKeysetPage();
+    }
+
     @Override
     public <T extends Entity> ReactivePanacheQuery<T> withCollation(Collation collation) {
         delegate.withCollation(collation);
@@ -13,6 +13,7 @@
 
 import io.quarkus.mongodb.panache.PanacheQuery;
 import io.quarkus.mongodb.panache.common.runtime.CommonPanacheQueryImpl;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
@@ -94,6 +95,17 @@ public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex) {
         return (PanacheQuery<T>) this;
     }
 
+    @Override
+    public <T extends Entity> PanacheQuery<T> keysetPage(KeysetPage keysetPage) {
+        delegate.keysetPage(keysetPage);
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public KeysetPage nextKeysetPage() {
+        return delegate.nextKeysetPage();
+    }
+
     @Override
     public <T extends Entity> PanacheQuery<T> withCollation(Collation collation) {
         delegate.withCollation(collation);
@@ -1,5 +1,6 @@
 package io.quarkus.mongodb.rest.data.panache.deployment;
 
+import static io.quarkus.gizmo.MethodDescriptor.ofConstructor;
 import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
 
 import java.util.List;
@@ -9,8 +10,10 @@
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.mongodb.panache.PanacheMongoEntityBase;
 import io.quarkus.mongodb.panache.PanacheQuery;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.rest.data.panache.runtime.KeysetPageResult;
 
 final class EntityDataAccessImplementor implements DataAccessImplementor {
 
@@ -71,6 +74,28 @@ public ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHa
         return creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "list", List.class), panacheQuery);
     }
 
+    /**
+     * Implements <code>query = Entity.findAll().keysetPage(keysetPage);
+     * new KeysetPageResult(query.list(), query.nextKeysetPage())</code>
+     */
+    @Override
+    public ResultHandle findKeysetPage(BytecodeCreator creator, ResultHandle keysetPage) {
+        ResultHandle panacheQuery = creator.invokeStaticMethod(ofMethod(entityClassName, "findAll", PanacheQuery.class));
+        return keysetPageResult(creator, panacheQuery, keysetPage);
+    }
+
+    /**
+     * Implements <code>query = Entity.find(query, params).keysetPage(keysetPage);
+     * new KeysetPageResult(query.list(), query.nextKeysetPage())</code>
+     */
+    @Override
+    public ResultHandle findKeysetPage(BytecodeCreator creator, ResultHandle keysetPage, ResultHandle query,
+            ResultHandle queryParams) {
+        ResultHandle panacheQuery = creator.invokeStaticMethod(
+                ofMethod(entityClassName, "find", PanacheQuery.class, String.class, Map.class), query, queryParams);
+        return keysetPageResult(creator, panacheQuery, keysetPage);
+    }
+
     @Override
     public ResultHandle persist(BytecodeCreator creator, ResultHandle entity) {
         creator.invokeVirtualMethod(ofMethod(entityClassName, "persist", void.class), entity);
@@ -95,4 +120,14 @@ public ResultHandle pageCount(BytecodeCreator creator, ResultHandle page) {
                 page);
         return creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "pageCount", int.class), query);
     }
+
+    static ResultHandle keysetPageResult(BytecodeCreator creator, ResultHandle panacheQuery, ResultHandle keysetPage) {
+        creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "keysetPage", PanacheQuery.class, KeysetPage.class),
+                panacheQuery, keysetPage);
+        ResultHandle entities = creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "list", List.class),
+                panacheQuery);
+        ResultHandle next = creator.invokeInterfaceMethod(
+                ofMethod(PanacheQuery.class, "nextKeysetPage", KeysetPage.class), panacheQuery);
+        return creator.newInstance(ofConstructor(KeysetPageResult.class, List.class, KeysetPage.class), entities, next);
+    }
 }
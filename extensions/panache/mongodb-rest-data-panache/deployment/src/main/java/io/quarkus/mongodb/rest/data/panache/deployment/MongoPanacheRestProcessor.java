@@ -91,7 +91,7 @@ void findEntityResources(CombinedIndexBuildItem index, Capabilities capabilities
 
             restDataResourceProducer.produce(new RestDataResourceBuildItem(
                     new ResourceMetadata(resourceClass, resourceInterface, entityType, idType,
-                            getEntityFields(index.getIndex(), entityType))));
+                            getEntityFields(index.getIndex(), entityType), true)));
             if (capabilities.isPresent(Capability.RESTEASY)) {
                 bytecodeTransformersProducer.produce(
                         getEntityIdAnnotationTransformer(entityType, entityClassHelper.getIdField(entityType).name()));
@@ -127,7 +127,7 @@ void findRepositoryResources(CombinedIndexBuildItem index, Capabilities capabili
 
             restDataResourceProducer.produce(new RestDataResourceBuildItem(
                     new ResourceMetadata(resourceClass, resourceInterface, entityType, idType,
-                            getEntityFields(index.getIndex(), entityType))));
+                            getEntityFields(index.getIndex(), entityType), true)));
             if (capabilities.isPresent(Capability.RESTEASY)) {
                 bytecodeTransformersProducer.produce(
                         getEntityIdAnnotationTransformer(entityType, entityClassHelper.getIdField(entityType).name()));
@@ -76,6 +76,23 @@ public ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHa
         return creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "list", List.class), panacheQuery);
     }
 
+    @Override
+    public ResultHandle findKeysetPage(BytecodeCreator creator, ResultHandle keysetPage) {
+        ResultHandle panacheQuery = creator.invokeInterfaceMethod(
+                ofMethod(PanacheMongoRepositoryBase.class, "findAll", PanacheQuery.class),
+                getRepositoryInstance(creator));
+        return EntityDataAccessImplementor.keysetPageResult(creator, panacheQuery, keysetPage);
+    }
+
+    @Override
+    public ResultHandle findKeysetPage(BytecodeCreator creator, ResultHandle keysetPage, ResultHandle query,
+            ResultHandle queryParams) {
+        ResultHandle panacheQuery = creator.invokeInterfaceMethod(
+                ofMethod(PanacheMongoRepositoryBase.class, "find", PanacheQuery.class, String.class, Map.class),
+                getRepositoryInstance(creator), query, queryParams);
+        return EntityDataAccessImplementor.keysetPageResult(creator, panacheQuery, keysetPage);
+    }
+
     @Override
     public ResultHandle persist(BytecodeCreator creator, ResultHandle entity) {
         creator.invokeInterfaceMethod(ofMethod(PanacheMongoRepositoryBase.class, "persist", void.class, Object.class),
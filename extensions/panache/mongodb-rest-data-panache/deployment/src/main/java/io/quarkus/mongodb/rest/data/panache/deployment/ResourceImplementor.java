@@ -17,9 +17,11 @@
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.rest.data.panache.deployment.Constants;
+import io.quarkus.rest.data.panache.runtime.KeysetPageResult;
 import io.quarkus.runtime.util.HashUtil;
 
 /**
@@ -49,6 +51,7 @@ String implement(ClassOutput classOutput, DataAccessImplementor dataAccessImplem
 
         classCreator.addAnnotation(ApplicationScoped.class);
         implementList(classCreator, dataAccessImplementor);
+        implementListKeysetPage(classCreator, dataAccessImplementor);
         implementListPageCount(classCreator, dataAccessImplementor);
         implementGet(classCreator, dataAccessImplementor);
         implementAdd(classCreator, dataAccessImplementor);
@@ -97,6 +100,21 @@ private void implementListWithQuery(BytecodeCreator body, ResultHandle page, Res
                 query, queryParams));
     }
 
+    private void implementListKeysetPage(ClassCreator classCreator, DataAccessImplementor dataAccessImplementor) {
+        MethodCreator methodCreator = classCreator.getMethodCreator("list", KeysetPageResult.class, KeysetPage.class,
+                String.class, Map.class);
+        ResultHandle keysetPage = methodCreator.getMethodParam(0);
+        ResultHandle query = methodCreator.getMethodParam(1);
+        ResultHandle queryParams = methodCreator.getMethodParam(2);
+        ResultHandle hasQuery = methodCreator.invokeVirtualMethod(ofMethod(String.class, "isEmpty", boolean.class), query);
+        BranchResult hasQueryBranch = methodCreator.ifTrue(hasQuery);
+        hasQueryBranch.trueBranch().returnValue(
+                dataAccessImplementor.findKeysetPage(hasQueryBranch.trueBranch(), keysetPage));
+        hasQueryBranch.falseBranch().returnValue(
+                dataAccessImplementor.findKeysetPage(hasQueryBranch.falseBranch(), keysetPage, query, queryParams));
+        methodCreator.close();
+    }
+
     private void implementListPageCount(ClassCreator classCreator, DataAccessImplementor dataAccessImplementor) {
         MethodCreator methodCreator = classCreator.getMethodCreator(Constants.PAGE_COUNT_METHOD_PREFIX + "list", int.class,
                 Page.class);
@@ -159,9 +159,7 @@ protected void generateMethod(MethodInfo method, AnnotationValue targetReturnTyp
         }
         if (callSuperMethod != null && callSuperMethod.asBoolean()) {
             // delegate to super method
-            for (int i = 0; i < parameters.size(); i++) {
-                mv.visitIntInsn(Opcodes.ALOAD, i);
-            }
+            loadParameters(mv, parameters);
             invokeOperations(mv, method, true);
         } else {
             loadOperations(mv);
@@ -180,8 +178,18 @@ private void loadOperations(MethodVisitor mv) {
     private void loadArguments(MethodVisitor mv, List<org.jboss.jandex.Type> parameters) {
         // inject Class
         injectModel(mv);
-        for (int i = 0; i < parameters.size(); i++) {
-            mv.visitIntInsn(Opcodes.ALOAD, i);
+        loadParameters(mv, parameters);
+    }
+
+    private static void loadParameters(MethodVisitor mv, List<org.jboss.jandex.Type> parameters) {
+        int slot = 0;
+        for (org.jboss.jandex.Type parameter : parameters) {
+            // primitives such as a batch size need their own load instruction, and long/double take two slots
+            Type type = parameter.kind() == org.jboss.jandex.Type.Kind.PRIMITIVE
+                    ? Type.getType(getDescriptor(parameter, name -> null))
+                    : OBJECT.type();
+            mv.visitVarInsn(type.getOpcode(Opcodes.ILOAD), slot);
+            slot += type.getSize();
         }
     }
 
@@ -244,6 +252,8 @@ private String mapType(org.jboss.jandex.Type parameter) {
         String descriptor;
         switch (parameter.kind()) {
             case PRIMITIVE:
+                descriptor = getDescriptor(parameter, name -> null);
+                break;
             case TYPE_VARIABLE:
                 descriptor = OBJECT.descriptor();
                 break;
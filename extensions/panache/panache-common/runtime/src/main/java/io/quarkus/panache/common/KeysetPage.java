@@ -0,0 +1,303 @@
+package io.quarkus.panache.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * <p>
+ * Utility class to represent keyset (seek) paging information. KeysetPage instances are immutable.
+ * </p>
+ *
+ * <p>
+ * Unlike {@link Page}, a keyset page does not skip the results of the previous pages: it selects the results that
+ * follow the key of the last result of the previous page, in the order defined by its {@link Sort}. The sort columns
+ * must therefore identify a result uniquely, e.g. by ending with the identifier of the entity. The key of the last
+ * result can be exchanged as an opaque continuation token.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <code><pre>
+ * KeysetPage page = KeysetPage.of(Sort.by("name").and("id"), 25);
+ * String token = page.after("Stef", 42L).getContinuationToken();
+ * KeysetPage secondPage = KeysetPage.of(Sort.by("name").and("id"), 25, token);
+ * </pre></code>
+ */
+public class KeysetPage {
+
+    private static final byte VERSION = 1;
+    private static final String OBJECT_ID = "org.bson.types.ObjectId";
+
+    /**
+     * The sort columns that define the key.
+     */
+    public final Sort sort;
+
+    /**
+     * The current page size.
+     */
+    public final int size;
+
+    private final Object[] key;
+
+    private KeysetPage(Sort sort, int size, Object[] key) {
+        if (sort == null || sort.getColumns().isEmpty())
+            throw new IllegalArgumentException("Keyset page sort must define at least one column");
+        if (size <= 0)
+            throw new IllegalArgumentException("Page size must be > 0 : " + size);
+        for (Sort.Column column : sort.getColumns()) {
+            if (column.getNullPrecedence() != null)
+                throw new IllegalArgumentException("Keyset page sort cannot define a null precedence: " + column.getName());
+        }
+        if (key != null) {
+            if (key.length != sort.getColumns().size())
+                throw new IllegalArgumentException("Keyset page key must have a value for each sort column: expected "
+                        + sort.getColumns().size() + " but was " + key.length);
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] == null)
+                    throw new IllegalArgumentException(
+                            "Keyset page key cannot contain a null value: " + sort.getColumns().get(i).getName());
+            }
+        }
+        this.sort = sort;
+        this.size = size;
+        this.key = key;
+    }
+
+    /**
+     * Builds the first keyset page of the given sort and size.
+     *
+     * @param sort the sort columns that define the key
+     * @param size the page size
+     * @throws IllegalArgumentException if the sort has no column or defines a null precedence
+     * @throws IllegalArgumentException if the page size is less than or equal to 0
+     */
+    public static KeysetPage of(Sort sort, int size) {
+        return new KeysetPage(sort, size, null);
+    }
+
+    /**
+     * Builds the keyset page of the given sort and size that follows the key encoded in the given continuation token.
+     *
+     * @param sort the sort columns that define the key
+     * @param size the page size
+     * @param continuationToken the token obtained from {@link #getContinuationToken()}, or {@code null} for the first page
+     * @throws IllegalArgumentException if the sort has no column or defines a null precedence
+     * @throws IllegalArgumentException if the page size is less than or equal to 0
+     * @throws IllegalArgumentException if the continuation token is invalid
+     */
+    public static KeysetPage of(Sort sort, int size, String continuationToken) {
+        return new KeysetPage(sort, size, continuationToken == null ? null : decode(continuationToken));
+    }
+
+    /**
+     * Returns a new page with the same sort and size that follows the given key.
+     *
+     * @param key the values of the sort columns of the last result of the previous page
+     * @return a new page with the same sort and size that follows the given key
+     * @throws IllegalArgumentException if the key does not have a non-null value for each sort column
+     */
+    public KeysetPage after(Object... key) {
+        return new KeysetPage(sort, size, key.clone());
+    }
+
+    /**
+     * Returns a new page with the first page and the same sort and size, or this page if it is the first page.
+     *
+     * @return a new page with the first page and the same sort and size, or this page if it is the first page.
+     */
+    public KeysetPage first() {
+        return key != null ? new KeysetPage(sort, size, null) : this;
+    }
+
+    /**
+     * @return true if this is the first page
+     */
+    public boolean isFirst() {
+        return key == null;
+    }
+
+    /**
+     * @return the values of the sort columns that this page follows, or an empty list for the first page
+     */
+    public List<Object> getKey() {
+        return key == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(key));
+    }
+
+    /**
+     * Returns an opaque URL-safe token that encodes the key of this page, or {@code null} for the first page.
+     *
+     * @return the continuation token, or {@code null} for the first page
+     * @throws IllegalArgumentException if a key value has an unsupported type
+     * @see #of(Sort, int, String)
+     */
+    public String getContinuationToken() {
+        return key == null ? null : encode(key);
+    }
+
+    private static String encode(Object[] key) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(key.length);
+            for (Object value : key) {
+                out.writeByte(tag(value));
+                out.writeUTF(value instanceof Date ? Long.toString(((Date) value).getTime()) : value.toString());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private static Object[] decode(String token) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalStateException("Unsupported version");
+            }
+            Object[] key = new Object[in.readByte()];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = value(in.readByte(), in.readUTF());
+            }
+            if (in.available() > 0) {
+                throw new IllegalStateException("Unexpected trailing data");
+            }
+            return key;
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid keyset page continuation token: " + token, e);
+        }
+    }
+
+    private static char tag(Object value) {
+        if (value instanceof String)
+            return 's';
+        if (value instanceof Integer)
+            return 'i';
+        if (value instanceof Long)
+            return 'l';
+        if (value instanceof Short)
+            return 'h';
+        if (value instanceof Byte)
+            return 'b';
+        if (value instanceof Double)
+            return 'd';
+        if (value instanceof Float)
+            return 'f';
+        if (value instanceof Boolean)
+            return 'z';
+        if (value instanceof Character)
+            return 'c';
+        if (value instanceof BigDecimal)
+            return 'D';
+        if (value instanceof BigInteger)
+            return 'I';
+        if (value instanceof UUID)
+            return 'u';
+        if (value instanceof LocalDate)
+            return 'L';
+        if (value instanceof LocalDateTime)
+            return 'T';
+        if (value instanceof LocalTime)
+            return 't';
+        if (value instanceof Instant)
+            return 'n';
+        if (value instanceof OffsetDateTime)
+            return 'o';
+        if (value instanceof ZonedDateTime)
+            return 'Z';
+        if (value.getClass() == Date.class)
+            return 'a';
+        if (value.getClass().getName().equals(OBJECT_ID))
+            return 'O';
+        throw new IllegalArgumentException("Unsupported keyset page key type: " + value.getClass().getName());
+    }
+
+    private static Object value(byte tag, String value) {
+        switch (tag) {
+            case 's':
+                return value;
+            case 'i':
+                return Integer.valueOf(value);
+            case 'l':
+                return Long.valueOf(value);
+            case 'h':
+                return Short.valueOf(value);
+            case 'b':
+                return Byte.valueOf(value);
+            case 'd':
+                return Double.valueOf(value);
+            case 'f':
+                return Float.valueOf(value);
+            case 'z':
+                return Boolean.valueOf(value);
+            case 'c':
+                return value.charAt(0);
+            case 'D':
+                return new BigDecimal(value);
+            case 'I':
+                return new BigInteger(value);
+            case 'u':
+                return UUID.fromString(value);
+            case 'L':
+                return LocalDate.parse(value);
+            case 'T':
+                return LocalDateTime.parse(value);
+            case 't':
+                return LocalTime.parse(value);
+            case 'n':
+                return Instant.parse(value);
+            case 'o':
+                return OffsetDateTime.parse(value);
+            case 'Z':
+                return ZonedDateTime.parse(value);
+            case 'a':
+                return new Date(Long.parseLong(value));
+            case 'O':
+                return objectId(value);
+            default:
+                throw new IllegalArgumentException("Unsupported keyset page key type: " + (char) tag);
+        }
+    }
+
+    private static Object objectId(String value) {
+        // MongoDB identifiers, the class is only available if the MongoDB client is present
+        try {
+            return Class.forName(OBJECT_ID, false, Thread.currentThread().getContextClassLoader())
+                    .getConstructor(String.class).newInstance(value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to decode a MongoDB identifier: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder columns = new StringBuilder();
+        for (Sort.Column column : sort.getColumns()) {
+            if (columns.length() > 0)
+                columns.append(", ");
+            columns.append(column.getName());
+            if (column.getDirection() == Sort.Direction.Descending)
+                columns.append(" desc");
+        }
+        return "KeysetPage [sort=" + columns + ", size=" + size + ", key=" + getKey() + "]";
+    }
+}
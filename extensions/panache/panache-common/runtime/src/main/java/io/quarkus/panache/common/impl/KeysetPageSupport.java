@@ -0,0 +1,82 @@
+package io.quarkus.panache.common.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+/**
+ * Reads the key of a {@link KeysetPage} from a query result. Not part of the public API.
+ */
+public final class KeysetPageSupport {
+
+    private KeysetPageSupport() {
+    }
+
+    /**
+     * Returns the page that follows the given result.
+     *
+     * @param page the current page
+     * @param last the last result of the current page
+     * @param properties the names of the properties that hold the values of the sort columns, e.g. {@code name} or
+     *        {@code owner.name}
+     * @return the next page
+     * @throws PanacheQueryException if a property cannot be read or if its value is {@code null}
+     */
+    public static KeysetPage next(KeysetPage page, Object last, List<String> properties) {
+        Object[] key = new Object[properties.size()];
+        for (int i = 0; i < key.length; i++) {
+            String property = properties.get(i);
+            Object value = last;
+            for (String part : property.split("\\.")) {
+                if (value == null) {
+                    break;
+                }
+                value = read(value, part);
+            }
+            if (value == null) {
+                throw new PanacheQueryException(
+                        "Keyset pagination does not support null values, the property " + property + " of " + last
+                                + " is null");
+            }
+            key[i] = value;
+        }
+        return page.after(key);
+    }
+
+    private static Object read(Object object, String property) {
+        Class<?> clazz = object.getClass();
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        try {
+            for (String prefix : new String[] { "get", "is" }) {
+                try {
+                    Method getter = clazz.getMethod(prefix + capitalized);
+                    if (!Modifier.isStatic(getter.getModifiers()) && getter.getParameterCount() == 0) {
+                        return getter.invoke(object);
+                    }
+                } catch (NoSuchMethodException e) {
+                    // try the next option
+                }
+            }
+            for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                try {
+                    Field field = c.getDeclaredField(property);
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        return field.get(object);
+                    }
+                } catch (NoSuchFieldException e) {
+                    // try the superclass
+                }
+            }
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            throw new PanacheQueryException("Unable to read the property " + property + " of " + object + ": " + e);
+        }
+        throw new PanacheQueryException("Unable to read the property " + property + " of " + object
+                + ": no getter or field found, the sort columns of a keyset page must be properties of the results");
+    }
+}
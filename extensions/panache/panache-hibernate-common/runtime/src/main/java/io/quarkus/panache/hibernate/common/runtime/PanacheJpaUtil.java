@@ -1,13 +1,20 @@
 package io.quarkus.panache.hibernate.common.runtime;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 
 public class PanacheJpaUtil {
 
+    static final String KEYSET_PARAMETER_PREFIX = "panacheKeyset";
+
     // match SELECT DISTINCT? id (AS id)? (, id (AS id)?)*
     static final Pattern SELECT_PATTERN = Pattern.compile(
             "^\\s*SELECT\\s+((?:DISTINCT\\s+)?\\w+(?:\\.\\w+)*)(?:\\s+AS\\s+\\w+)?(\\s*,\\s*\\w+(?:\\.\\w+)*(?:\\s+AS\\s+\\w+)?)*\\s+(.*)",
@@ -191,4 +198,85 @@ public static String toOrderBy(Sort sort) {
         }
         return sb.toString();
     }
+
+    /**
+     * Restricts the given find query to the results that follow the key of the given keyset page and orders them by
+     * its sort columns.
+     *
+     * @param query the find query, without any ORDER BY clause
+     * @param page the keyset page
+     * @param paramsArrayOrMap the parameters of the query, used to pick the parameter style of the key values
+     * @return the keyset query
+     * @see #createKeysetParameters(Object, KeysetPage)
+     */
+    public static String createKeysetQuery(String query, KeysetPage page, Object paramsArrayOrMap) {
+        String lcQuery = query.replace('\n', ' ').replace('\r', ' ').toLowerCase();
+        if (lcQuery.contains(" order by ") || lcQuery.contains(" group by ")) {
+            throw new PanacheQueryException("Keyset pagination is not supported for a query with an ORDER BY or a GROUP BY"
+                    + " clause, the order is defined by the sort of the keyset page: " + query);
+        }
+        StringBuilder keysetQuery = new StringBuilder();
+        if (page.isFirst()) {
+            keysetQuery.append(query);
+        } else {
+            int positionalOffset = paramsArrayOrMap instanceof Map ? -1
+                    : paramsArrayOrMap == null ? 0 : ((Object[]) paramsArrayOrMap).length;
+            // (c0 > ?0) OR (c0 = ?0 AND c1 > ?1) OR ...
+            List<Sort.Column> columns = page.sort.getColumns();
+            StringBuilder predicate = new StringBuilder();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    predicate.append(" OR ");
+                }
+                predicate.append("(");
+                for (int j = 0; j < i; j++) {
+                    predicate.append(columns.get(j).getName()).append(" = ")
+                            .append(keysetParameter(j, positionalOffset)).append(" AND ");
+                }
+                Sort.Column column = columns.get(i);
+                predicate.append(column.getName())
+                        .append(column.getDirection() == Sort.Direction.Ascending ? " > " : " < ")
+                        .append(keysetParameter(i, positionalOffset)).append(")");
+            }
+            int whereIndex = lcQuery.indexOf(" where ");
+            if (whereIndex == -1) {
+                keysetQuery.append(query).append(" WHERE ").append(predicate);
+            } else {
+                keysetQuery.append(query, 0, whereIndex).append(" WHERE (").append(query.substring(whereIndex + 7))
+                        .append(") AND (").append(predicate).append(")");
+            }
+        }
+        return keysetQuery.append(toOrderBy(page.sort)).toString();
+    }
+
+    private static String keysetParameter(int index, int positionalOffset) {
+        return positionalOffset == -1 ? ":" + KEYSET_PARAMETER_PREFIX + index : "?" + (positionalOffset + index + 1);
+    }
+
+    /**
+     * @param paramsArrayOrMap the parameters of the query
+     * @param page the keyset page
+     * @return the parameters of the query followed by the key values of the page
+     * @see #createKeysetQuery(String, KeysetPage, Object)
+     */
+    public static Object createKeysetParameters(Object paramsArrayOrMap, KeysetPage page) {
+        List<Object> key = page.getKey();
+        if (key.isEmpty()) {
+            return paramsArrayOrMap;
+        }
+        if (paramsArrayOrMap instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> params = new HashMap<>((Map<String, Object>) paramsArrayOrMap);
+            for (int i = 0; i < key.size(); i++) {
+                params.put(KEYSET_PARAMETER_PREFIX + i, key.get(i));
+            }
+            return params;
+        }
+        Object[] params = paramsArrayOrMap == null ? new Object[0] : (Object[]) paramsArrayOrMap;
+        Object[] keysetParams = Arrays.copyOf(params, params.length + key.size());
+        for (int i = 0; i < key.size(); i++) {
+            keysetParams[params.length + i] = key.get(i);
+        }
+        return keysetParams;
+    }
 }
@@ -36,19 +36,35 @@ public class ResourceMetadata {
      */
     private final Map<String, Type> fields;
 
+    /**
+     * Whether the generated resource class implements the keyset page list method.
+     */
+    private final boolean keysetPagination;
+
     public ResourceMetadata(String resourceClass, String resourceInterface, String entityType, String idType,
             Map<String, Type> fields) {
         this(resourceClass, resourceInterface, resourceInterface, entityType, idType, fields);
     }
 
+    public ResourceMetadata(String resourceClass, String resourceInterface, String entityType, String idType,
+            Map<String, Type> fields, boolean keysetPagination) {
+        this(resourceClass, resourceInterface, resourceInterface, entityType, idType, fields, keysetPagination);
+    }
+
     public ResourceMetadata(String resourceClass, String resourceName, String resourceInterface, String entityType,
             String idType, Map<String, Type> fields) {
+        this(resourceClass, resourceName, resourceInterface, entityType, idType, fields, false);
+    }
+
+    public ResourceMetadata(String resourceClass, String resourceName, String resourceInterface, String entityType,
+            String idType, Map<String, Type> fields, boolean keysetPagination) {
         this.resourceClass = resourceClass;
         this.resourceName = resourceName;
         this.resourceInterface = resourceInterface;
         this.entityType = entityType;
         this.idType = idType;
         this.fields = fields;
+        this.keysetPagination = keysetPagination;
     }
 
     public String getResourceClass() {
@@ -74,4 +90,8 @@ public String getIdType() {
     public Map<String, Type> getFields() {
         return fields;
     }
+
+    public boolean isKeysetPagination() {
+        return keysetPagination;
+    }
 }
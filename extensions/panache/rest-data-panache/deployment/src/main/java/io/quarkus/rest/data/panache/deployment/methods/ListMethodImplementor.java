@@ -28,6 +28,7 @@
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
@@ -43,6 +44,7 @@
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import io.quarkus.panache.common.KeysetPage;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.rest.data.panache.RestDataResource;
@@ -53,6 +55,7 @@
 import io.quarkus.rest.data.panache.deployment.utils.SignatureMethodCreator;
 import io.quarkus.rest.data.panache.deployment.utils.SortImplementor;
 import io.quarkus.rest.data.panache.deployment.utils.UniImplementor;
+import io.quarkus.rest.data.panache.runtime.KeysetPageResult;
 import io.smallrye.mutiny.Uni;
 
 public class ListMethodImplementor extends StandardMethodImplementor {
@@ -107,6 +110,10 @@ public ListMethodImplementor(Capabilities capabilities) {
      * }
      * </pre>
      *
+     * If the data store supports keyset pagination, a {@code keyset} query parameter is added as well. When it is set, the
+     * entities of the keyset page that follows its continuation token are listed instead, with the links to the first and
+     * to the next keyset pages.
+     *
      * The RESTEasy Reactive version exposes {@link io.quarkus.rest.data.panache.ReactiveRestDataResource#list(Page, Sort)}
      * and the generated code looks more or less like this:
      *
@@ -184,6 +191,10 @@ private void implementPaged(ClassCreator classCreator, ResourceMetadata resource
         parameters.add(param("size", int.class, intType()));
         parameters.add(param("uriInfo", UriInfo.class));
         parameters.add(param("namedQuery", String.class));
+        boolean keysetPagination = resourceMetadata.isKeysetPagination();
+        if (keysetPagination) {
+            parameters.add(param("keyset", String.class));
+        }
         parameters.addAll(compatibleFieldsForQuery);
         MethodCreator methodCreator = SignatureMethodCreator.getMethodCreator(getMethodName(), classCreator,
                 isNotReactivePanache() ? responseType() : uniType(resourceMetadata.getEntityType()),
@@ -205,8 +216,11 @@ private void implementPaged(ClassCreator classCreator, ResourceMetadata resource
         addDefaultValueAnnotation(methodCreator.getParameterAnnotations(2), Integer.toString(DEFAULT_PAGE_SIZE));
         addContextAnnotation(methodCreator.getParameterAnnotations(3));
         addQueryParamAnnotation(methodCreator.getParameterAnnotations(4), "namedQuery");
+        if (keysetPagination) {
+            addQueryParamAnnotation(methodCreator.getParameterAnnotations(5), KeysetPageResult.QUERY_PARAM);
+        }
         Map<String, ResultHandle> fieldValues = new HashMap<>();
-        int index = 5;
+        int index = keysetPagination ? 6 : 5;
         for (SignatureMethodCreator.Parameter param : compatibleFieldsForQuery) {
             addQueryParamAnnotation(methodCreator.getParameterAnnotations(index), param.getName());
             fieldValues.put(param.getName(), methodCreator.getMethodParam(index));
@@ -222,6 +236,11 @@ private void implementPaged(ClassCreator classCreator, ResourceMetadata resource
         ResultHandle uriInfo = methodCreator.getMethodParam(3);
         ResultHandle namedQuery = methodCreator.getMethodParam(4);
 
+        if (keysetPagination) {
+            implementKeysetPage(methodCreator, resourceMetadata, resourceProperties, resource, sort, page, uriInfo,
+                    namedQuery, methodCreator.getMethodParam(5), fieldValues);
+        }
+
         if (isNotReactivePanache()) {
             TryBlock tryBlock = implementTryBlock(methodCreator, EXCEPTION_MESSAGE);
 
@@ -256,6 +275,36 @@ private void implementPaged(ClassCreator classCreator, ResourceMetadata resource
         methodCreator.close();
     }
 
+    /**
+     * Lists the entities of the keyset page selected by the continuation token, if the token is set. The response has
+     * the links to the first and the next pages instead of the page count based links.
+     */
+    private void implementKeysetPage(MethodCreator methodCreator, ResourceMetadata resourceMetadata,
+            ResourceProperties resourceProperties, ResultHandle resource, ResultHandle sort, ResultHandle page,
+            ResultHandle uriInfo, ResultHandle namedQuery, ResultHandle continuationToken,
+            Map<String, ResultHandle> fieldValues) {
+        BytecodeCreator keysetCreator = methodCreator.ifNotNull(continuationToken).trueBranch();
+        ResultHandle pageSize = keysetCreator.readInstanceField(FieldDescriptor.of(Page.class, "size", int.class), page);
+        // an invalid token is rejected before the try block so that it is reported as a bad request
+        ResultHandle keysetPage = keysetCreator.invokeStaticMethod(
+                ofMethod(KeysetPageResult.class, "page", KeysetPage.class, Sort.class, int.class, String.class),
+                sort, pageSize, continuationToken);
+
+        TryBlock tryBlock = implementTryBlock(keysetCreator, EXCEPTION_MESSAGE);
+        ResultHandle dataParams = tryBlock.newInstance(ofConstructor(HashMap.class));
+        ResultHandle query = getQuery(tryBlock, namedQuery, fieldValues, dataParams);
+        ResultHandle result = tryBlock.invokeVirtualMethod(
+                ofMethod(resourceMetadata.getResourceClass(), RESOURCE_METHOD_NAME, KeysetPageResult.class,
+                        KeysetPage.class, String.class, Map.class),
+                resource, keysetPage, query, dataParams);
+        ResultHandle entities = tryBlock.invokeVirtualMethod(
+                ofMethod(KeysetPageResult.class, "getEntities", List.class), result);
+        ResultHandle links = tryBlock.invokeVirtualMethod(
+                ofMethod(KeysetPageResult.class, "getLinks", Link[].class, UriInfo.class), result, uriInfo);
+        returnValueWithLinks(tryBlock, resourceMetadata, resourceProperties, entities, links);
+        tryBlock.close();
+    }
+
     private Collection<SignatureMethodCreator.Parameter> getFieldsToQuery(ResourceMetadata resourceMetadata) {
         return resourceMetadata.getFields().entrySet()
                 .stream()
@@ -316,8 +365,20 @@ private void implementNotPaged(ClassCreator classCreator, ResourceMetadata resou
 
     public ResultHandle list(BytecodeCreator creator, ResourceMetadata resourceMetadata, ResultHandle resource,
             ResultHandle page, ResultHandle sort, ResultHandle namedQuery, Map<String, ResultHandle> fieldValues) {
-
         ResultHandle dataParams = creator.newInstance(ofConstructor(HashMap.class));
+        ResultHandle query = getQuery(creator, namedQuery, fieldValues, dataParams);
+        return creator.invokeVirtualMethod(
+                ofMethod(resourceMetadata.getResourceClass(), "list", isNotReactivePanache() ? List.class : Uni.class,
+                        Page.class, Sort.class, String.class, Map.class),
+                resource, page == null ? creator.loadNull() : page, sort, query, dataParams);
+    }
+
+    /**
+     * Build the query of the named query or of the fields set in the query parameters, and put the values of these
+     * fields in the data parameters.
+     */
+    private ResultHandle getQuery(BytecodeCreator creator, ResultHandle namedQuery, Map<String, ResultHandle> fieldValues,
+            ResultHandle dataParams) {
         ResultHandle queryList = creator.newInstance(ofConstructor(ArrayList.class));
         for (Map.Entry<String, ResultHandle> field : fieldValues.entrySet()) {
             String fieldName = field.getKey();
@@ -348,11 +409,7 @@ public ResultHandle list(BytecodeCreator creator, ResourceMetadata resourceMetad
         whenNamedQueryIsNull.assign(query, whenNamedQueryIsNull.invokeStaticMethod(
                 ofMethod(String.class, "join", String.class, CharSequence.class, Iterable.class),
                 creator.load(" AND "), queryList));
-
-        return creator.invokeVirtualMethod(
-                ofMethod(resourceMetadata.getResourceClass(), "list", isNotReactivePanache() ? List.class : Uni.class,
-                        Page.class, Sort.class, String.class, Map.class),
-                resource, page == null ? creator.loadNull() : page, sort, query, dataParams);
+        return query;
     }
 
     private boolean isFieldTypeCompatibleForQueryParam(Type fieldType) {
@@ -0,0 +1,82 @@
+package io.quarkus.rest.data.panache.runtime;
+
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
+
+import java.util.List;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+
+import io.quarkus.panache.common.KeysetPage;
+import io.quarkus.panache.common.Sort;
+
+/**
+ * The entities of a keyset page listed by a generated resource and the keyset page that follows them.
+ * Not part of the public API.
+ */
+public final class KeysetPageResult {
+
+    /**
+     * The query parameter holding the continuation token of the requested page, empty for the first page.
+     */
+    public static final String QUERY_PARAM = "keyset";
+
+    private final List<?> entities;
+
+    private final KeysetPage next;
+
+    public KeysetPageResult(List<?> entities, KeysetPage next) {
+        this.entities = entities;
+        this.next = next;
+    }
+
+    /**
+     * Returns the keyset page requested with the {@value #QUERY_PARAM} query parameter.
+     *
+     * @param sort the sort columns that define the key
+     * @param size the page size
+     * @param continuationToken the continuation token of the page, or an empty string for the first page
+     * @return the keyset page
+     * @throws BadRequestException if the sort has no column or if the continuation token is invalid
+     */
+    public static KeysetPage page(Sort sort, int size, String continuationToken) {
+        if (sort.getColumns().isEmpty()) {
+            throw badRequest("Keyset pagination requires a sort query parameter");
+        }
+        try {
+            return KeysetPage.of(sort, size, continuationToken.isEmpty() ? null : continuationToken);
+        } catch (IllegalArgumentException e) {
+            throw badRequest(e.getMessage());
+        }
+    }
+
+    public List<?> getEntities() {
+        return entities;
+    }
+
+    public KeysetPage getNext() {
+        return next;
+    }
+
+    /**
+     * Return the links to the first page and, unless this is the last page, to the next page. The links keep the query
+     * parameters of the request and only replace the continuation token.
+     */
+    public Link[] getLinks(UriInfo uriInfo) {
+        Link first = Link.fromUri(uriInfo.getRequestUriBuilder().replaceQueryParam(QUERY_PARAM, "").build())
+                .rel("first").build();
+        if (next == null) {
+            return new Link[] { first };
+        }
+        Link nextLink = Link.fromUri(uriInfo.getRequestUriBuilder()
+                .replaceQueryParam(QUERY_PARAM, next.getContinuationToken()).build())
+                .rel("next").build();
+        return new Link[] { first, nextLink };
+    }
+
+    private static BadRequestException badRequest(String message) {
+        return new BadRequestException(Response.status(BAD_REQUEST).entity(message).build());
+    }
+}
@@ -15,6 +15,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -83,6 +84,7 @@
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
+import io.quarkus.scheduler.common.runtime.util.VirtualThreads;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
@@ -92,6 +94,7 @@
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
 
 /**
  * Although this class is not part of the public API it must not be renamed in order to preserve backward compatibility. The
@@ -207,7 +210,7 @@ public QuartzSchedulerImpl(SchedulerContext context, QuartzSupport quartzSupport
                         if (identity.isEmpty()) {
                             identity = ++nameSequence + "_" + method.getInvokerClassName();
                         }
-                        ScheduledInvoker invoker = SimpleScheduler.initInvoker(
+                        ScheduledInvoker invoker = SimpleScheduler.initInvoker(identity,
                                 context.createInvoker(method.getInvokerClassName()),
                                 skippedExecutionEvent, successExecutionEvent, failedExecutionEvent,
                                 scheduled.concurrentExecution(),
@@ -766,6 +769,9 @@ public Trigger schedule() {
             if (task == null && asyncTask == null) {
                 throw new IllegalStateException("Either sync or async task must be set");
             }
+            if (asyncTask != null && runOnVirtualThread) {
+                throw new IllegalStateException("An async task cannot be run on a virtual thread");
+            }
             scheduled = true;
             ScheduledInvoker invoker;
             if (task != null) {
@@ -780,6 +786,11 @@ public CompletionStage<Void> invokeBean(ScheduledExecution execution) {
                             return CompletableFuture.failedStage(e);
                         }
                     }
+
+                    @Override
+                    public boolean isRunningOnVirtualThread() {
+                        return runOnVirtualThread;
+                    }
                 };
             } else {
                 invoker = new DefaultInvoker() {
@@ -825,7 +836,7 @@ public org.quartz.Trigger apply(TriggerKey triggerKey) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
 
-                invoker = SimpleScheduler.initInvoker(invoker, skippedExecutionEvent, successExecutionEvent,
+                invoker = SimpleScheduler.initInvoker(identity, invoker, skippedExecutionEvent, successExecutionEvent,
                         failedExecutionEvent, concurrentExecution, skipPredicate);
                 try {
                     scheduler.scheduleJob(jobDetail, trigger);
@@ -856,7 +867,29 @@ static class InvokerJob implements Job {
         @Override
         public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
             if (trigger != null && trigger.invoker != null) { // could be null from previous runs
-                if (trigger.invoker.isBlocking()) {
+                ExecutorService virtualThreadExecutor = trigger.invoker.isRunningOnVirtualThread()
+                        ? VirtualThreads.getExecutor()
+                        : null;
+                if (virtualThreadExecutor != null) {
+                    Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+                    VertxContextSafetyToggle.setContextSafe(context, true);
+                    virtualThreadExecutor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            // The duplicated context is the current context of the virtual thread during the invocation
+                            ((ContextInternal) context).dispatch(new Handler<Void>() {
+                                @Override
+                                public void handle(Void event) {
+                                    try {
+                                        trigger.invoker.invoke(new QuartzScheduledExecution(trigger, jobExecutionContext));
+                                    } catch (Exception e) {
+                                        // already logged by the StatusEmitterInvoker
+                                    }
+                                }
+                            });
+                        }
+                    });
+                } else if (trigger.invoker.isBlocking()) {
                     if (trigger.runBlockingMethodOnQuartzThread) {
                         try {
                             trigger.invoker.invoke(new QuartzScheduledExecution(trigger, jobExecutionContext));
@@ -0,0 +1,644 @@
+package io.quarkus.qute.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType.Primitive;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.WhileLoop;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.deployment.QuteProcessor.FixedLookupConfig;
+import io.quarkus.qute.deployment.QuteProcessor.LookupConfig;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Generates a {@link CompiledTemplate} for a type-safe template.
+ * <p>
+ * Only a subset of the template syntax is supported. If a template contains an unsupported construct then no class is
+ * generated and the template is interpreted at runtime.
+ */
+class CompiledTemplateGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    static final String SUFFIX = "_CompiledTemplate";
+
+    private static final Set<String> ITERATION_METADATA_KEYS = Set.of("count", "index", "indexParity", "hasNext", "odd",
+            "isOdd", "even", "isEven", "isLast", "isFirst");
+    private static final Set<DotName> ITERABLE_TYPES = Set.of(Names.ITERABLE, Names.COLLECTION,
+            DotName.createSimple(List.class.getName()), DotName.createSimple(Set.class.getName()));
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final Type OBJECT_TYPE = Type.create(OBJECT, Type.Kind.CLASS);
+
+    private static final MethodDescriptor MAP_GET = MethodDescriptor.ofMethod(Map.class, "get", Object.class, Object.class);
+    private static final MethodDescriptor MAP_CONTAINS_KEY = MethodDescriptor.ofMethod(Map.class, "containsKey",
+            boolean.class, Object.class);
+    private static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator",
+            Iterator.class);
+    private static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext",
+            boolean.class);
+    private static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next", Object.class);
+    private static final MethodDescriptor IS_FALSY = MethodDescriptor.ofMethod(Booleans.class, "isFalsy", boolean.class,
+            Object.class);
+    private static final MethodDescriptor ITERATION_METADATA = MethodDescriptor.ofMethod(CompiledTemplate.class,
+            "iterationMetadata", Object.class, String.class, int.class, boolean.class);
+    private static final MethodDescriptor OUTPUT_TEXT = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "text",
+            void.class, int.class);
+    private static final MethodDescriptor OUTPUT_VALUE = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "value",
+            void.class, Object.class, int.class);
+    private static final MethodDescriptor OUTPUT_NOT_FOUND = MethodDescriptor.ofMethod(CompiledTemplate.Output.class,
+            "notFound", TemplateException.class, String.class, int.class);
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final String iterationMetadataPrefix;
+    private final List<TemplateExtensionMethodBuildItem> extensionMethods;
+    private final Set<DotName> templateDataClasses;
+    private final Set<String> entityClasses;
+    private final LookupConfig lookupConfig;
+
+    CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, String iterationMetadataPrefix,
+            List<TemplateExtensionMethodBuildItem> extensionMethods, Set<DotName> templateDataClasses,
+            Set<String> entityClasses) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.iterationMetadataPrefix = iterationMetadataPrefix;
+        this.extensionMethods = extensionMethods;
+        this.templateDataClasses = templateDataClasses;
+        this.entityClasses = entityClasses;
+        Predicate<AnnotationTarget> filter = QuteProcessor::defaultFilter;
+        this.lookupConfig = new FixedLookupConfig(index, filter.and(CompiledTemplateGenerator::isProperty), false);
+    }
+
+    /**
+     *
+     * @param templateId the id used to load the template at runtime
+     * @param template the template parsed during the build
+     * @param method the checked template method
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    String generate(String templateId, Template template, MethodInfo method) {
+        String className = method.declaringClass().name().toString().replace('$', '_') + "_" + method.name() + "_"
+                + HashUtil.sha1(templateId) + SUFFIX;
+        ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput).className(className)
+                .superClass(CompiledTemplate.class).build();
+        Generation generation = new Generation(template, method);
+        MethodCreator render = classCreator.getMethodCreator("render", boolean.class, Map.class,
+                CompiledTemplate.Output.class).setModifiers(Modifier.PROTECTED);
+        // The data are checked before anything is written to the output
+        BytecodeCreator check = render.createScope();
+        BytecodeCreator body = render.createScope();
+        Scope root = new Scope(generation, render, check, render.getMethodParam(0));
+        try {
+            generation.nodes(body, template.getNodes(), root, render.getMethodParam(1));
+        } catch (UnsupportedTemplateException e) {
+            LOGGER.debugf("Type-safe template %s is not compiled: %s", templateId, e.getMessage());
+            return null;
+        }
+        render.returnBoolean(true);
+
+        MethodCreator constructor = classCreator.getMethodCreator(MethodDescriptor.INIT, void.class);
+        constructor.invokeSpecialMethod(
+                MethodDescriptor.ofConstructor(CompiledTemplate.class, String.class, String[].class, String[].class),
+                constructor.getThis(), constructor.load(templateId), strings(constructor, generation.expressions()),
+                strings(constructor, generation.texts));
+        constructor.returnValue(null);
+        classCreator.close();
+        LOGGER.debugf("Type-safe template %s compiled: %s", templateId, className);
+        return className;
+    }
+
+    private static ResultHandle strings(BytecodeCreator bc, List<String> values) {
+        ResultHandle array = bc.newArray(String.class, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            bc.writeArrayValue(array, i, bc.load(values.get(i)));
+        }
+        return array;
+    }
+
+    private static boolean isProperty(AnnotationTarget target) {
+        if (target.kind() == AnnotationTarget.Kind.METHOD) {
+            MethodInfo method = target.asMethod();
+            return !Modifier.isStatic(method.flags()) && method.parametersCount() == 0;
+        }
+        return !Modifier.isStatic(target.asField().flags());
+    }
+
+    private class Generation {
+
+        final Template template;
+        final MethodInfo method;
+        final Map<Expression, Integer> expressionIndexes;
+        final List<String> texts;
+
+        Generation(Template template, MethodInfo method) {
+            this.template = template;
+            this.method = method;
+            this.expressionIndexes = new IdentityHashMap<>();
+            List<Expression> expressions = template.getExpressions();
+            for (int i = 0; i < expressions.size(); i++) {
+                expressionIndexes.put(expressions.get(i), i);
+            }
+            this.texts = new ArrayList<>();
+        }
+
+        List<String> expressions() {
+            List<String> expressions = new ArrayList<>();
+            for (Expression expression : template.getExpressions()) {
+                expressions.add(expression.toOriginalString());
+            }
+            return expressions;
+        }
+
+        void nodes(BytecodeCreator bc, List<TemplateNode> nodes, Scope scope, ResultHandle output) {
+            StringBuilder text = new StringBuilder();
+            for (TemplateNode node : nodes) {
+                if (node.isText()) {
+                    text.append(node.asText().getValue());
+                    continue;
+                }
+                text(bc, text, output);
+                if (node.isExpression()) {
+                    Expression expression = node.asExpression().getExpression();
+                    Value value = evaluate(bc, expression, scope, output);
+                    if (!isOutputSafe(value)) {
+                        throw new UnsupportedTemplateException("unsupported output type " + value.type, expression);
+                    }
+                    bc.invokeVirtualMethod(OUTPUT_VALUE, output, box(bc, value), bc.load(indexOf(expression)));
+                } else if (node.isSection()) {
+                    SectionNode section = node.asSection();
+                    if (section.getHelper().getClass().equals(LoopSectionHelper.class)) {
+                        loop(bc, section, scope, output);
+                    } else if (section.getHelper().getClass().equals(IfSectionHelper.class)) {
+                        condition(bc, section, scope, output);
+                    } else {
+                        throw new UnsupportedTemplateException("unsupported section {#" + section.getName() + "}");
+                    }
+                } else {
+                    throw new UnsupportedTemplateException("unsupported node " + node);
+                }
+            }
+            text(bc, text, output);
+        }
+
+        void text(BytecodeCreator bc, StringBuilder text, ResultHandle output) {
+            if (text.length() > 0) {
+                texts.add(text.toString());
+                bc.invokeVirtualMethod(OUTPUT_TEXT, output, bc.load(texts.size() - 1));
+                text.setLength(0);
+            }
+        }
+
+        void loop(BytecodeCreator bc, SectionNode section, Scope scope, ResultHandle output) {
+            LoopSectionHelper helper = (LoopSectionHelper) section.getHelper();
+            List<SectionBlock> blocks = section.getBlocks();
+            if (blocks.size() > 2) {
+                throw new UnsupportedTemplateException("multiple {#else} blocks");
+            }
+            Expression iterable = helper.getIterable();
+            Value value = evaluate(bc, iterable, scope, output);
+            Type elementType = null;
+            if (value.type.kind() == Type.Kind.PARAMETERIZED_TYPE && ITERABLE_TYPES.contains(value.type.name())) {
+                Type argument = value.type.asParameterizedType().arguments().get(0);
+                if (argument.kind() == Type.Kind.CLASS || argument.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                    elementType = argument;
+                }
+            }
+            if (elementType == null) {
+                throw new UnsupportedTemplateException("unsupported iterable type " + value.type, iterable);
+            }
+            // Null is a no-op
+            BytecodeCreator notNull = bc.ifNull(value.handle).falseBranch();
+            ResultHandle iterator = notNull.invokeInterfaceMethod(ITERABLE_ITERATOR, value.handle);
+            AssignableResultHandle index = notNull.createVariable(int.class);
+            notNull.assign(index, notNull.load(0));
+            WhileLoop loop = notNull.whileLoop(c -> c.ifTrue(c.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator)));
+            BytecodeCreator block = loop.block();
+            ResultHandle element = block.checkCast(block.invokeInterfaceMethod(ITERATOR_NEXT, iterator),
+                    elementType.name().toString());
+            ResultHandle hasNext = block.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator);
+            Scope loopScope = new Scope(scope, helper.getAlias(), metadataPrefix(helper.getAlias()),
+                    new Value(element, elementType, false), index, hasNext);
+            nodes(block, blocks.get(0).getNodes(), loopScope, output);
+            block.assign(index, block.increment(index));
+            if (blocks.size() > 1) {
+                // Execute the {#else} block if there are no elements
+                nodes(notNull.ifIntegerEqual(index, notNull.load(0)).trueBranch(), blocks.get(1).getNodes(), scope,
+                        output);
+            }
+        }
+
+        void condition(BytecodeCreator bc, SectionNode section, Scope scope, ResultHandle output) {
+            List<SectionBlock> blocks = section.getBlocks();
+            for (Iterator<SectionBlock> it = blocks.iterator(); it.hasNext();) {
+                SectionBlock block = it.next();
+                List<String> params = new ArrayList<>(block.parameters.values());
+                if (!SectionHelperFactory.MAIN_BLOCK_NAME.equals(block.label)) {
+                    if (params.isEmpty()) {
+                        // {#else}
+                        if (it.hasNext()) {
+                            throw new UnsupportedTemplateException("{#else} is not the last block");
+                        }
+                        nodes(bc, block.getNodes(), scope, output);
+                        return;
+                    }
+                    // {#else if}
+                    params.remove(0);
+                }
+                if (params.size() != 1 || block.expressions.size() != 1) {
+                    throw new UnsupportedTemplateException("{#if} with multiple operands");
+                }
+                String param = params.get(0);
+                Expression expression = block.expressions.values().iterator().next();
+                boolean complement = param.startsWith("!");
+                if (!expression.toOriginalString().equals(complement ? param.substring(1) : param)) {
+                    throw new UnsupportedTemplateException("unsupported {#if} operand " + param);
+                }
+                Value value = evaluate(bc, expression, scope, output);
+                ResultHandle falsy = bc.invokeStaticMethod(IS_FALSY, box(bc, value));
+                BranchResult branch = complement ? bc.ifTrue(falsy) : bc.ifFalse(falsy);
+                nodes(branch.trueBranch(), block.getNodes(), scope, output);
+                bc = branch.falseBranch();
+            }
+        }
+
+        Value evaluate(BytecodeCreator bc, Expression expression, Scope scope, ResultHandle output) {
+            if (expression.isLiteral() || expression.hasNamespace()) {
+                throw new UnsupportedTemplateException("literals and namespaces are not supported", expression);
+            }
+            int expressionIndex = indexOf(expression);
+            List<Part> parts = expression.getParts();
+            Value value = scope.resolve(bc, parts.get(0).getName());
+            if (value == null) {
+                throw new UnsupportedTemplateException("not a parameter or an iteration variable", expression);
+            }
+            for (Part part : parts.subList(1, parts.size())) {
+                if (part.isVirtualMethod()) {
+                    throw new UnsupportedTemplateException("virtual methods are not supported", expression);
+                }
+                value = property(bc, value, part.getName(), expression, expressionIndex, output);
+            }
+            return value;
+        }
+
+        Value property(BytecodeCreator bc, Value base, String name, Expression expression, int expressionIndex,
+                ResultHandle output) {
+            if (base.type.kind() != Type.Kind.CLASS && base.type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                throw new UnsupportedTemplateException("unsupported base type " + base.type, expression);
+            }
+            ClassInfo clazz = index.getClassByName(base.type.name());
+            if (clazz == null || !Modifier.isPublic(clazz.flags()) || clazz.name().toString().startsWith("java.")
+                    || templateDataClasses.contains(clazz.name())) {
+                throw new UnsupportedTemplateException("unsupported base class " + base.type, expression);
+            }
+            Set<DotName> closure = typeClosure(clazz);
+            for (TemplateExtensionMethodBuildItem extensionMethod : extensionMethods) {
+                if (!extensionMethod.hasNamespace() && extensionMethod.matchesName(name)
+                        && closure.contains(extensionMethod.getMatchType().name())) {
+                    throw new UnsupportedTemplateException("template extension method matches " + name, expression);
+                }
+            }
+            AnnotationTarget member = QuteProcessor.findProperty(name, clazz, lookupConfig);
+            if (member == null) {
+                throw new UnsupportedTemplateException("property not found: " + name, expression);
+            }
+            Type type = member.kind() == AnnotationTarget.Kind.METHOD ? member.asMethod().returnType()
+                    : member.asField().type();
+            if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE
+                    && type.kind() != Type.Kind.PRIMITIVE && type.kind() != Type.Kind.ARRAY) {
+                throw new UnsupportedTemplateException("unsupported type of " + name + ": " + type, expression);
+            }
+            // The base object must not be null
+            BytecodeCreator isNull = bc.ifNull(base.handle).trueBranch();
+            isNull.throwException(isNull.invokeVirtualMethod(OUTPUT_NOT_FOUND, output, isNull.load(name),
+                    isNull.load(expressionIndex)));
+            String owner = clazz.name().toString();
+            ResultHandle handle;
+            if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                MethodDescriptor descriptor = MethodDescriptor.ofMethod(owner, member.asMethod().name(),
+                        DescriptorUtils.typeToString(type));
+                handle = Modifier.isInterface(clazz.flags()) ? bc.invokeInterfaceMethod(descriptor, base.handle)
+                        : bc.invokeVirtualMethod(descriptor, base.handle);
+            } else if (entityClasses.contains(owner)) {
+                // Panache entities - fields are accessed via generated getters
+                handle = bc.invokeVirtualMethod(MethodDescriptor.ofMethod(owner,
+                        getterName(member.asField()), DescriptorUtils.typeToString(type)), base.handle);
+            } else {
+                handle = bc.readInstanceField(FieldDescriptor.of(owner, member.asField().name(),
+                        DescriptorUtils.typeToString(type)), base.handle);
+            }
+            return new Value(handle, type, false);
+        }
+
+        boolean isOutputSafe(Value value) {
+            // The interpreted template would wait for the result of an async value
+            return value.metadata || (!value.type.name().equals(OBJECT) && !isAsync(value.type));
+        }
+
+        boolean isAsync(Type type) {
+            if (type.kind() == Type.Kind.PRIMITIVE) {
+                return false;
+            }
+            if (type.name().toString().startsWith("io.smallrye.mutiny.")) {
+                return true;
+            }
+            return ValueResolverGenerator.hasCompletionStageInTypeClosure(index.getClassByName(type.name()), index)
+                    || type.name().equals(Names.COMPLETION_STAGE);
+        }
+
+        int indexOf(Expression expression) {
+            Integer idx = expressionIndexes.get(expression);
+            if (idx == null) {
+                throw new UnsupportedTemplateException("expression not found", expression);
+            }
+            return idx;
+        }
+
+        private String getterName(FieldInfo field) {
+            String prefix = field.type().kind() == Type.Kind.PRIMITIVE
+                    && field.type().asPrimitiveType().primitive() == Primitive.BOOLEAN ? ValueResolverGenerator.IS_PREFIX
+                            : ValueResolverGenerator.GET_PREFIX;
+            return prefix + ValueResolverGenerator.capitalize(field.name());
+        }
+
+        private Set<DotName> typeClosure(ClassInfo clazz) {
+            Set<DotName> closure = new HashSet<>();
+            closure.add(OBJECT);
+            addToClosure(clazz, closure);
+            return closure;
+        }
+
+        private void addToClosure(ClassInfo clazz, Set<DotName> closure) {
+            if (clazz == null || !closure.add(clazz.name())) {
+                return;
+            }
+            for (DotName interfaceName : clazz.interfaceNames()) {
+                closure.add(interfaceName);
+                addToClosure(index.getClassByName(interfaceName), closure);
+            }
+            if (clazz.superName() != null) {
+                closure.add(clazz.superName());
+                addToClosure(index.getClassByName(clazz.superName()), closure);
+            }
+        }
+    }
+
+    private String metadataPrefix(String alias) {
+        if (iterationMetadataPrefix == null || iterationMetadataPrefix.isBlank()
+                || LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_NONE.equals(iterationMetadataPrefix)) {
+            return null;
+        } else if (LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE.equals(iterationMetadataPrefix)) {
+            return alias + "_";
+        } else if (LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_QM.equals(iterationMetadataPrefix)) {
+            return alias + "?";
+        }
+        return iterationMetadataPrefix;
+    }
+
+    static final class Value {
+
+        final ResultHandle handle;
+        final Type type;
+        // Iteration metadata
+        final boolean metadata;
+
+        Value(ResultHandle handle, Type type, boolean metadata) {
+            this.handle = handle;
+            this.type = type;
+            this.metadata = metadata;
+        }
+
+    }
+
+    private static ResultHandle box(BytecodeCreator bc, Value value) {
+        if (value.type.kind() != Type.Kind.PRIMITIVE) {
+            return value.handle;
+        }
+        Class<?> primitive;
+        Class<?> wrapper;
+        switch (value.type.asPrimitiveType().primitive()) {
+            case BOOLEAN:
+                primitive = boolean.class;
+                wrapper = Boolean.class;
+                break;
+            case BYTE:
+                primitive = byte.class;
+                wrapper = Byte.class;
+                break;
+            case CHAR:
+                primitive = char.class;
+                wrapper = Character.class;
+                break;
+            case DOUBLE:
+                primitive = double.class;
+                wrapper = Double.class;
+                break;
+            case FLOAT:
+                primitive = float.class;
+                wrapper = Float.class;
+                break;
+            case INT:
+                primitive = int.class;
+                wrapper = Integer.class;
+                break;
+            case LONG:
+                primitive = long.class;
+                wrapper = Long.class;
+                break;
+            case SHORT:
+                primitive = short.class;
+                wrapper = Short.class;
+                break;
+            default:
+                throw new IllegalArgumentException();
+        }
+        return bc.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, primitive), value.handle);
+    }
+
+    /**
+     * Resolves the first part of an expression, i.e. a parameter of the checked template method or an iteration variable.
+     */
+    private class Scope {
+
+        private final Scope parent;
+        // Root scope
+        private final Generation generation;
+        private final MethodCreator method;
+        private final BytecodeCreator check;
+        private final ResultHandle data;
+        private final Map<String, Value> params;
+        // Loop scope
+        private final String alias;
+        private final String metadataPrefix;
+        private final Value element;
+        private final ResultHandle index;
+        private final ResultHandle hasNext;
+
+        Scope(Generation generation, MethodCreator method, BytecodeCreator check, ResultHandle data) {
+            this.parent = null;
+            this.generation = generation;
+            this.method = method;
+            this.check = check;
+            this.data = data;
+            this.params = new HashMap<>();
+            this.alias = null;
+            this.metadataPrefix = null;
+            this.element = null;
+            this.index = null;
+            this.hasNext = null;
+        }
+
+        Scope(Scope parent, String alias, String metadataPrefix, Value element, ResultHandle index,
+                ResultHandle hasNext) {
+            this.parent = parent;
+            this.generation = parent.generation;
+            this.method = null;
+            this.check = null;
+            this.data = null;
+            this.params = null;
+            this.alias = alias;
+            this.metadataPrefix = metadataPrefix;
+            this.element = element;
+            this.index = index;
+            this.hasNext = hasNext;
+        }
+
+        Value resolve(BytecodeCreator bc, String name) {
+            if (parent == null) {
+                return param(name);
+            }
+            // See LoopSectionHelper.IterationElement
+            if (alias.equals(name)) {
+                return element;
+            }
+            String key = name;
+            if (metadataPrefix != null) {
+                key = name.startsWith(metadataPrefix) ? name.substring(metadataPrefix.length()) : null;
+            }
+            if (key != null && ITERATION_METADATA_KEYS.contains(key)) {
+                return new Value(bc.invokeStaticMethod(ITERATION_METADATA, bc.load(key), index, hasNext), OBJECT_TYPE,
+                        true);
+            }
+            return parent.resolve(bc, name);
+        }
+
+        private Value param(String name) {
+            Value value = params.get(name);
+            if (value != null) {
+                return value;
+            }
+            MethodInfo templateMethod = generation.method;
+            int position = -1;
+            for (int i = 0; i < templateMethod.parametersCount(); i++) {
+                if (name.equals(templateMethod.parameterName(i))) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position == -1) {
+                return null;
+            }
+            Type type = templateMethod.parameterType(position);
+            String className;
+            if (type.kind() == Type.Kind.PRIMITIVE) {
+                className = box(type.asPrimitiveType().primitive());
+                type = Type.create(DotName.createSimple(className), Type.Kind.CLASS);
+            } else if (type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                className = type.name().toString();
+            } else {
+                return null;
+            }
+            // Fall back to the interpreted template if the param is missing or has an unexpected type
+            ResultHandle key = check.load(name);
+            ResultHandle val = check.invokeInterfaceMethod(MAP_GET, data, key);
+            BranchResult isNull = check.ifNull(val);
+            BytecodeCreator nullBranch = isNull.trueBranch();
+            nullBranch.ifFalse(nullBranch.invokeInterfaceMethod(MAP_CONTAINS_KEY, data, key)).trueBranch()
+                    .returnBoolean(false);
+            BytecodeCreator notNullBranch = isNull.falseBranch();
+            notNullBranch.ifFalse(notNullBranch.instanceOf(val, className)).trueBranch().returnBoolean(false);
+            // The variable is declared by the method so that it can be used in the body scope
+            AssignableResultHandle param = method.createVariable(DescriptorUtils.objectToDescriptor(className));
+            check.assign(param, check.checkCast(val, className));
+            value = new Value(param, type, false);
+            params.put(name, value);
+            return value;
+        }
+
+        private String box(Primitive primitive) {
+            switch (primitive) {
+                case BOOLEAN:
+                    return Boolean.class.getName();
+                case BYTE:
+                    return Byte.class.getName();
+                case CHAR:
+                    return Character.class.getName();
+                case DOUBLE:
+                    return Double.class.getName();
+                case FLOAT:
+                    return Float.class.getName();
+                case INT:
+                    return Integer.class.getName();
+                case LONG:
+                    return Long.class.getName();
+                case SHORT:
+                    return Short.class.getName();
+                default:
+                    throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    static final class UnsupportedTemplateException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedTemplateException(String message) {
+            super(message, null, false, false);
+        }
+
+        UnsupportedTemplateException(String message, Expression expression) {
+            this(message + " in expression {" + expression.toOriginalString() + "}");
+        }
+
+    }
+
+}
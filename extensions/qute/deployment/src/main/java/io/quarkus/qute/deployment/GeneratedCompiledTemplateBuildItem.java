@@ -0,0 +1,20 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Represents a {@link io.quarkus.qute.CompiledTemplate} generated for a type-safe template.
+ */
+public final class GeneratedCompiledTemplateBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public GeneratedCompiledTemplateBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
@@ -83,6 +83,7 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
@@ -145,6 +146,7 @@
 import io.quarkus.qute.runtime.extensions.OrOperatorTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.StringTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.TimeTemplateExtensions;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.StringUtil;
 
 public class QuteProcessor {
@@ -645,7 +647,7 @@ public void beforeParsing(ParserHelper parserHelper) {
                 }
 
                 analysis.add(new TemplateAnalysis(null, template.getGeneratedId(), template.getExpressions(),
-                        parameterDeclarations, path.getPath()));
+                        parameterDeclarations, path.getPath(), template));
             }
         }
 
@@ -1705,6 +1707,51 @@ public Function<FieldInfo, String> apply(ClassInfo clazz) {
         }
     }
 
+    @BuildStep
+    void generateCompiledTemplates(QuteConfig config, LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            // Type-safe expressions must be validated first
+            List<TemplateExpressionMatchesBuildItem> expressionMatches,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<PanacheEntityClassesBuildItem> panacheEntityClasses,
+            List<TemplateDataBuildItem> templateData,
+            BuildProducer<GeneratedCompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (!config.compileTypeSafeTemplates || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT
+                || checkedTemplates.isEmpty()) {
+            return;
+        }
+        Set<String> entityClasses = new HashSet<>();
+        for (PanacheEntityClassesBuildItem panacheEntityClassesItem : panacheEntityClasses) {
+            entityClasses.addAll(panacheEntityClassesItem.getEntityClasses());
+        }
+        Set<DotName> templateDataClasses = new HashSet<>();
+        for (TemplateDataBuildItem data : templateData) {
+            templateDataClasses.add(data.getTargetClass().name());
+        }
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(beanArchiveIndex.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), config.iterationMetadataPrefix,
+                templateExtensionMethods, templateDataClasses, entityClasses);
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.template == null) {
+                continue;
+            }
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, analysis, checkedTemplates);
+            if (checkedTemplate == null) {
+                continue;
+            }
+            String generatedType = generator.generate(analysis.path, analysis.template, checkedTemplate.method);
+            if (generatedType != null) {
+                compiledTemplates.produce(new GeneratedCompiledTemplateBuildItem(generatedType));
+                reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, generatedType));
+            }
+        }
+    }
+
     @BuildStep
     void collectTemplates(ApplicationArchivesBuildItem applicationArchives,
             CurateOutcomeBuildItem curateOutcome,
@@ -2045,7 +2092,8 @@ public boolean test(TypeCheck check) {
     void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
             Optional<TemplateVariantsBuildItem> templateVariants,
-            List<GeneratedTemplateInitializerBuildItem> templateInitializers) {
+            List<GeneratedTemplateInitializerBuildItem> templateInitializers,
+            List<GeneratedCompiledTemplateBuildItem> compiledTemplates) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -2069,7 +2117,9 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
                 .supplier(recorder.createContext(generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
                         tags, variants, templateInitializers.stream()
-                                .map(GeneratedTemplateInitializerBuildItem::getClassName).collect(Collectors.toList())))
+                                .map(GeneratedTemplateInitializerBuildItem::getClassName).collect(Collectors.toList()),
+                        compiledTemplates.stream()
+                                .map(GeneratedCompiledTemplateBuildItem::getClassName).collect(Collectors.toList())))
                 .done());
     }
 
@@ -2544,7 +2594,7 @@ private static TemplateExtensionMethodBuildItem findTemplateExtensionMethod(Info
         return null;
     }
 
-    private static AnnotationTarget findProperty(String name, ClassInfo clazz, LookupConfig config) {
+    static AnnotationTarget findProperty(String name, ClassInfo clazz, LookupConfig config) {
         // Attempts to find a property with the specified name
         // i.e. a public non-static non-synthetic field with the given name or a public non-static non-synthetic method with no params and the given name
         Set<DotName> interfaceNames = config.declaredMembersOnly() ? null : new HashSet<>();
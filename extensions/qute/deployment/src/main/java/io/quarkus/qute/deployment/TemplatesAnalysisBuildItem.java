@@ -6,6 +6,7 @@
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.ParameterDeclaration;
+import io.quarkus.qute.Template;
 
 /**
  * Represents the result of analysis of all templates.
@@ -40,13 +41,22 @@ public static final class TemplateAnalysis {
         // File path, e.g. hello.html or ItemResource/items.html
         public final String path;
 
+        // The template parsed during the build; may be null
+        public final Template template;
+
         public TemplateAnalysis(String id, String generatedId, List<Expression> expressions,
                 List<ParameterDeclaration> parameterDeclarations, String path) {
+            this(id, generatedId, expressions, parameterDeclarations, path, null);
+        }
+
+        public TemplateAnalysis(String id, String generatedId, List<Expression> expressions,
+                List<ParameterDeclaration> parameterDeclarations, String path, Template template) {
             this.id = id;
             this.generatedId = generatedId;
             this.expressions = expressions;
             this.parameterDeclarations = parameterDeclarations;
             this.path = path;
+            this.template = template;
         }
 
         Expression findExpression(int id) {
@@ -0,0 +1,88 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class)
+                    .addAsResource(new StringAsset("{#for item in items}"
+                            + "{item_count}. {item.name}"
+                            + "{#if item.active} (active){#else if !item.name} (unnamed){#else} (inactive){/if}"
+                            + "{#if item_hasNext}, {/if}"
+                            + "{#else}"
+                            + "No items"
+                            + "{/for}"), "templates/CompiledTemplateTest/items.html"))
+            .overrideConfigKey("quarkus.qute.compile-type-safe-templates", "true");
+
+    @Inject
+    Engine engine;
+
+    @Test
+    public void testCompiledTemplate() {
+        Item.compiled = false;
+        assertEquals("1. Foo (active), 2. &lt;b&gt; (inactive), 3.  (unnamed)",
+                Templates.items(List.of(new Item("Foo", true), new Item("<b>", false), new Item(null, false))).render());
+        assertTrue(Item.compiled);
+        assertEquals("No items", Templates.items(List.of()).render());
+    }
+
+    @Test
+    public void testInterpretedTemplate() {
+        // The data object is not supported by compiled templates
+        Item.compiled = true;
+        assertEquals("1. Foo (active)", engine.getTemplate("CompiledTemplateTest/items")
+                .render(Map.of("items", List.of(new Item("Foo", true)))));
+        assertFalse(Item.compiled);
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance items(List<Item> items);
+
+    }
+
+    public static class Item {
+
+        static volatile boolean compiled;
+
+        private final String name;
+        private final boolean active;
+
+        public Item(String name, boolean active) {
+            this.name = name;
+            this.active = active;
+        }
+
+        public String getName() {
+            compiled = StackWalker.getInstance().walk(frames -> frames
+                    .anyMatch(f -> f.getClassName().endsWith("_CompiledTemplate")));
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+    }
+
+}
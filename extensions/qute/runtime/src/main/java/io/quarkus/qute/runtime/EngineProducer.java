@@ -33,6 +33,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -210,6 +211,15 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             builder.addTemplateInstanceInitializer(createInitializer(initializerClass));
         }
 
+        // Add compiled type-safe templates
+        // Note that the templates were compiled from the content with standalone lines removed
+        if (runtimeConfig.removeStandaloneLines) {
+            for (String compiledTemplateClass : context.getCompiledTemplateClasses()) {
+                builder.addCompiledTemplate(createCompiledTemplate(compiledTemplateClass));
+                LOGGER.debugf("Added compiled template: %s", compiledTemplateClass);
+            }
+        }
+
         // Add a special initializer for templates that contain an inject/cdi namespace expressions
         Map<String, Boolean> discoveredInjectTemplates = new HashMap<>();
         builder.addTemplateInstanceInitializer(new Initializer() {
@@ -336,6 +346,20 @@ private TemplateInstance.Initializer createInitializer(String initializerClassNa
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClazz);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private Optional<TemplateLocation> locate(String path) {
         URL resource = null;
         String templatePath = basePath + path;
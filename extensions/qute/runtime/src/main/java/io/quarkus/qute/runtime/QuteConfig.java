@@ -88,4 +88,16 @@ public class QuteConfig {
     @ConfigItem(defaultValue = "UTF-8")
     public Charset defaultCharset;
 
+    /**
+     * If set to {@code true} then the type-safe templates, i.e. templates backed by a {@link io.quarkus.qute.CheckedTemplate}
+     * method, are compiled into Java classes during the build. A compiled template accesses the data with direct method calls
+     * and it's rendered synchronously.
+     * <p>
+     * Only a subset of the template syntax is supported: static text, output expressions that consist of properties only, the
+     * loop sections and the if sections with a single operand. Templates that use other features are interpreted as usual.
+     * The compiled templates are not used in the development mode.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compileTypeSafeTemplates;
+
 }
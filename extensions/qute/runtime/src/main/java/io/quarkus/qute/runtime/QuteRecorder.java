@@ -11,7 +11,7 @@ public class QuteRecorder {
 
     public Supplier<Object> createContext(List<String> resolverClasses,
             List<String> templatePaths, List<String> tags, Map<String, List<String>> variants,
-            List<String> templateInstanceInitializerClasses) {
+            List<String> templateInstanceInitializerClasses, List<String> compiledTemplateClasses) {
         return new Supplier<Object>() {
 
             @Override
@@ -43,6 +43,11 @@ public List<String> getTemplateInstanceInitializerClasses() {
                         return templateInstanceInitializerClasses;
                     }
 
+                    @Override
+                    public List<String> getCompiledTemplateClasses() {
+                        return compiledTemplateClasses;
+                    }
+
                 };
             }
         };
@@ -60,6 +65,8 @@ public interface QuteContext {
 
         List<String> getTemplateInstanceInitializerClasses();
 
+        List<String> getCompiledTemplateClasses();
+
     }
 
 }
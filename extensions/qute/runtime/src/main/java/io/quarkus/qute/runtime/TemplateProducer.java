@@ -29,6 +29,7 @@
 import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.TemplateInstanceBase;
+import io.quarkus.qute.TemplateNode;
 import io.quarkus.qute.Variant;
 import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
 import io.smallrye.mutiny.Multi;
@@ -152,6 +153,14 @@ public List<ParameterDeclaration> getParameterDeclarations() {
             throw ambiguousTemplates("getParameterDeclarations()");
         }
 
+        @Override
+        public List<TemplateNode> getNodes() {
+            if (unambiguousTemplate != null) {
+                return unambiguousTemplate.get().getNodes();
+            }
+            throw ambiguousTemplates("getNodes()");
+        }
+
         @Override
         public String getGeneratedId() {
             if (unambiguousTemplate != null) {
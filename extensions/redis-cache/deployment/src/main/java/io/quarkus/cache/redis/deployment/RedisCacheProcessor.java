@@ -0,0 +1,130 @@
+package io.quarkus.cache.redis.deployment;
+
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
+import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkus.cache.deployment.CacheManagerInfoBuildItem;
+import io.quarkus.cache.redis.runtime.RedisCacheBuildRecorder;
+import io.quarkus.cache.redis.runtime.RedisCachesBuildTimeConfig;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.redis.client.deployment.RequestedRedisClientBuildItem;
+import io.quarkus.redis.runtime.client.config.RedisConfig;
+
+public class RedisCacheProcessor {
+
+    private static final String FEATURE = "redis-cache";
+    private static final DotName COMPLETABLE_FUTURE = DotName.createSimple(CompletableFuture.class.getName());
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FEATURE);
+    }
+
+    @BuildStep
+    RequestedRedisClientBuildItem requestedRedisClient(RedisCachesBuildTimeConfig buildTimeConfig) {
+        return new RequestedRedisClientBuildItem(buildTimeConfig.clientName.orElse(RedisConfig.DEFAULT_CLIENT_NAME));
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, CombinedIndexBuildItem combinedIndex) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerInfo(getValueTypes(combinedIndex)));
+    }
+
+    /*
+     * Collects the value types of each cache from the return types of its @CacheResult and @BulkCacheResult methods. The
+     * types which don't correspond to a class, e.g. parameterized types, are collected as they are: they can't be used to
+     * decode the values and the value type or codec of the cache will have to be configured.
+     */
+    private static Map<String, List<String>> getValueTypes(CombinedIndexBuildItem combinedIndex) {
+        Map<String, List<String>> valueTypes = new HashMap<>();
+        for (DotName bindingName : List.of(CACHE_RESULT, BULK_CACHE_RESULT)) {
+            for (AnnotationInstance binding : combinedIndex.getIndex().getAnnotations(bindingName)) {
+                if (binding.target().kind() != METHOD) {
+                    // The interceptor bindings placed on the cache interceptors.
+                    continue;
+                }
+                Type valueType = unwrapAsync(binding.target().asMethod().returnType());
+                if (BULK_CACHE_RESULT.equals(bindingName)) {
+                    if (!MAP.equals(valueType.name()) || valueType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                        // The raw Map type, the validation of the cache extension fails for the other types.
+                        continue;
+                    }
+                    valueType = valueType.asParameterizedType().arguments().get(1);
+                }
+                List<String> types = valueTypes.computeIfAbsent(binding.value(CACHE_NAME_PARAM).asString(),
+                        k -> new ArrayList<>());
+                String typeName = toTypeName(valueType);
+                if (!types.contains(typeName)) {
+                    types.add(typeName);
+                }
+            }
+        }
+        return valueTypes;
+    }
+
+    private static Type unwrapAsync(Type type) {
+        if (UNI.equals(type.name()) || COMPLETION_STAGE.equals(type.name()) || COMPLETABLE_FUTURE.equals(type.name())) {
+            return type.kind() == Type.Kind.PARAMETERIZED_TYPE ? type.asParameterizedType().arguments().get(0)
+                    : ClassType.OBJECT_TYPE;
+        }
+        return type;
+    }
+
+    // Returns a name which can be loaded with Class.forName, or the type itself if it doesn't correspond to a class.
+    private static String toTypeName(Type type) {
+        switch (type.kind()) {
+            case CLASS:
+            case ARRAY:
+                return type.name().toString();
+            case PRIMITIVE:
+                return box(type.asPrimitiveType().primitive()).getName();
+            default:
+                return type.toString();
+        }
+    }
+
+    private static Class<?> box(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return Boolean.class;
+            case BYTE:
+                return Byte.class;
+            case CHAR:
+                return Character.class;
+            case DOUBLE:
+                return Double.class;
+            case FLOAT:
+                return Float.class;
+            case INT:
+                return Integer.class;
+            case LONG:
+                return Long.class;
+            case SHORT:
+                return Short.class;
+            default:
+                throw new IllegalArgumentException("Unexpected primitive type: " + primitive);
+        }
+    }
+}
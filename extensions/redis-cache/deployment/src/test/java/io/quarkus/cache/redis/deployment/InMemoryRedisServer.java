@@ -0,0 +1,311 @@
+package io.quarkus.cache.redis.deployment;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal in-process stand-in for a Redis server. It speaks RESP2 and only supports the commands used by the Redis cache:
+ * {@code PING}, {@code GET}, {@code SET} (with {@code PX} or {@code EX}), {@code MGET}, {@code DEL}, {@code PTTL},
+ * {@code KEYS}, {@code SCAN}, {@code PUBLISH} and {@code SUBSCRIBE}.
+ */
+public class InMemoryRedisServer {
+
+    private static final String URL_PROPERTY = "in-memory-redis.url";
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+
+    private InMemoryRedisServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "in-memory-redis-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Starts the server unless it is already running in the current JVM. The test classes are loaded by several class loaders,
+     * so the server URL is shared through a system property.
+     *
+     * @return the server URL
+     */
+    public static synchronized String start() {
+        String url = System.getProperty(URL_PROPERTY);
+        if (url == null) {
+            try {
+                url = "redis://localhost:" + new InMemoryRedisServer().serverSocket.getLocalPort();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            System.setProperty(URL_PROPERTY, url);
+        }
+        return url;
+    }
+
+    private Entry getEntry(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt != 0L && entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                Thread thread = new Thread(connection, "in-memory-redis-connection");
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                // The server socket was closed.
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        final byte[] value;
+        final long expiresAt;
+
+        Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final class Connection implements Runnable {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            in = new BufferedInputStream(socket.getInputStream());
+            out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<byte[]> command;
+                while ((command = readCommand()) != null) {
+                    handle(command);
+                }
+            } catch (IOException e) {
+                // The connection was closed by the client.
+            } finally {
+                for (Set<Connection> connections : subscribers.values()) {
+                    connections.remove(this);
+                }
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Ignored.
+                }
+            }
+        }
+
+        private void handle(List<byte[]> command) throws IOException {
+            String name = string(command.get(0)).toUpperCase(Locale.ROOT);
+            switch (name) {
+                case "PING":
+                    write("+PONG\r\n");
+                    break;
+                case "GET": {
+                    Entry entry = getEntry(string(command.get(1)));
+                    writeBulk(entry == null ? null : entry.value);
+                    break;
+                }
+                case "SET": {
+                    long expiresAt = 0L;
+                    for (int i = 3; i < command.size() - 1; i++) {
+                        String option = string(command.get(i)).toUpperCase(Locale.ROOT);
+                        if (option.equals("PX")) {
+                            expiresAt = System.currentTimeMillis() + Long.parseLong(string(command.get(i + 1)));
+                        } else if (option.equals("EX")) {
+                            expiresAt = System.currentTimeMillis() + 1000L * Long.parseLong(string(command.get(i + 1)));
+                        }
+                    }
+                    entries.put(string(command.get(1)), new Entry(command.get(2), expiresAt));
+                    write("+OK\r\n");
+                    break;
+                }
+                case "MGET": {
+                    List<byte[]> values = new ArrayList<>();
+                    for (int i = 1; i < command.size(); i++) {
+                        Entry entry = getEntry(string(command.get(i)));
+                        values.add(entry == null ? null : entry.value);
+                    }
+                    writeArray(values);
+                    break;
+                }
+                case "DEL":
+                case "UNLINK": {
+                    int deleted = 0;
+                    for (int i = 1; i < command.size(); i++) {
+                        if (entries.remove(string(command.get(i))) != null) {
+                            deleted++;
+                        }
+                    }
+                    write(":" + deleted + "\r\n");
+                    break;
+                }
+                case "PTTL": {
+                    Entry entry = getEntry(string(command.get(1)));
+                    write(":"
+                            + (entry == null ? -2L : entry.expiresAt == 0L ? -1L : entry.expiresAt - System.currentTimeMillis())
+                            + "\r\n");
+                    break;
+                }
+                case "KEYS":
+                    writeArray(keys(globToRegex(string(command.get(1)))));
+                    break;
+                case "SCAN": {
+                    Pattern pattern = null;
+                    for (int i = 2; i < command.size() - 1; i++) {
+                        if (string(command.get(i)).equalsIgnoreCase("MATCH")) {
+                            pattern = globToRegex(string(command.get(i + 1)));
+                        }
+                    }
+                    // The whole key space is returned at once, so the cursor is always 0.
+                    synchronized (this) {
+                        write("*2\r\n");
+                        writeBulk("0".getBytes(StandardCharsets.UTF_8));
+                        writeArray(keys(pattern));
+                    }
+                    break;
+                }
+                case "PUBLISH": {
+                    Set<Connection> connections = subscribers.getOrDefault(string(command.get(1)), Set.of());
+                    for (Connection connection : connections) {
+                        connection.writeArray(List.of("message".getBytes(StandardCharsets.UTF_8), command.get(1),
+                                command.get(2)));
+                    }
+                    write(":" + connections.size() + "\r\n");
+                    break;
+                }
+                case "SUBSCRIBE": {
+                    for (int i = 1; i < command.size(); i++) {
+                        subscribers.computeIfAbsent(string(command.get(i)), c -> new CopyOnWriteArraySet<>()).add(this);
+                        synchronized (this) {
+                            write("*3\r\n");
+                            writeBulk("subscribe".getBytes(StandardCharsets.UTF_8));
+                            writeBulk(command.get(i));
+                            write(":" + i + "\r\n");
+                        }
+                    }
+                    break;
+                }
+                default:
+                    write("-ERR unknown command '" + name + "'\r\n");
+            }
+        }
+
+        private List<byte[]> keys(Pattern pattern) {
+            List<byte[]> keys = new ArrayList<>();
+            for (String key : entries.keySet()) {
+                if (getEntry(key) != null && (pattern == null || pattern.matcher(key).matches())) {
+                    keys.add(key.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return keys;
+        }
+
+        private List<byte[]> readCommand() throws IOException {
+            int type = in.read();
+            if (type == -1) {
+                return null;
+            }
+            if (type != '*') {
+                throw new IOException("Inline commands are not supported");
+            }
+            int size = Integer.parseInt(readLine());
+            List<byte[]> command = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (in.read() != '$') {
+                    throw new IOException("Bulk string expected");
+                }
+                byte[] argument = in.readNBytes(Integer.parseInt(readLine()));
+                in.readNBytes(2);
+                command.add(argument);
+            }
+            return command;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) != '\r') {
+                if (c == -1) {
+                    throw new IOException("Unexpected end of stream");
+                }
+                line.append((char) c);
+            }
+            in.read();
+            return line.toString();
+        }
+
+        private synchronized void write(String reply) throws IOException {
+            out.write(reply.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        private synchronized void writeBulk(byte[] value) throws IOException {
+            if (value == null) {
+                out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+            } else {
+                out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+                out.write(value);
+                out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+            }
+            out.flush();
+        }
+
+        private synchronized void writeArray(List<byte[]> values) throws IOException {
+            out.write(("*" + values.size() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            for (byte[] value : values) {
+                writeBulk(value);
+            }
+            out.flush();
+        }
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '\\' && i + 1 < glob.length()) {
+                regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+            } else if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
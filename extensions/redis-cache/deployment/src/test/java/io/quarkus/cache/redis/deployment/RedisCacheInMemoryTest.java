@@ -0,0 +1,170 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+
+/**
+ * Tests the {@code redis} cache type against an in-process Redis stand-in, so that it runs without a container.
+ */
+public class RedisCacheInMemoryTest {
+
+    private static final String FORECAST_CACHE = "forecast-cache";
+    private static final String NEAR_CACHE = "near-cache";
+
+    private static final String REDIS_URL = InMemoryRedisServer.start();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, Forecast.class, InMemoryRedisServer.class))
+            .overrideConfigKey("quarkus.redis.hosts", REDIS_URL)
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.cache.type", "redis")
+            .overrideConfigKey("quarkus.cache.redis.\"" + FORECAST_CACHE + "\".expire-after-write", "1H")
+            .overrideConfigKey("quarkus.cache.redis.\"" + NEAR_CACHE + "\".near-cache-enabled", "true");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    RedisDataSource dataSource;
+
+    @Inject
+    Vertx vertx;
+
+    @CacheName(FORECAST_CACHE)
+    Cache forecastCache;
+
+    @CacheName(NEAR_CACHE)
+    Cache nearCache;
+
+    @BeforeEach
+    void clear() {
+        forecastCache.invalidateAll().await().indefinitely();
+        nearCache.invalidateAll().await().indefinitely();
+    }
+
+    @Test
+    void testValueTypeDerivedFromTheReturnType() {
+        Forecast forecast = cachedService.forecast("paris");
+        int invocations = cachedService.getInvocations();
+
+        // The cache has no near cache: the value is decoded from Redis with the type of the cached method.
+        assertEquals(forecast, cachedService.forecast("paris"));
+        assertEquals(invocations, cachedService.getInvocations());
+        assertTrue(dataSource.key().pttl("cache:" + FORECAST_CACHE + ":s:paris") > 0L);
+    }
+
+    @Test
+    void testNullValuesAreCached() {
+        assertNull(cachedService.forecast("nowhere"));
+        int invocations = cachedService.getInvocations();
+
+        assertNull(cachedService.forecast("nowhere"));
+        assertEquals(invocations, cachedService.getInvocations());
+        assertArrayEquals(new byte[0], dataSource.value(byte[].class).get("cache:" + FORECAST_CACHE + ":s:nowhere"));
+    }
+
+    @Test
+    void testNearCacheEntriesExpireWithTheRedisEntries() {
+        dataSource.value(String.class).set("cache:" + NEAR_CACHE + ":s:foo", "stored", new SetArgs().px(Duration.ofSeconds(1)));
+
+        assertEquals("stored", nearCache.get("foo", k -> "loaded").await().indefinitely());
+        assertEquals(1L, ((RedisCacheImpl) nearCache).getNearCacheSize());
+
+        // The near cache entry is not kept once the Redis entry expired, although the cache has no expire-after-write.
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> "loaded".equals(nearCache.get("foo", k -> "loaded").await().indefinitely()));
+    }
+
+    @Test
+    void testSynchronousMethodOnTheEventLoop() throws Exception {
+        CompletableFuture<Forecast> result = new CompletableFuture<>();
+        vertx.runOnContext(ignored -> {
+            try {
+                result.complete(cachedService.forecast("lyon"));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        assertEquals(new Forecast("lyon", 20), result.get(5, TimeUnit.SECONDS));
+
+        // The value is stored asynchronously.
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> dataSource.value(byte[].class).get("cache:" + FORECAST_CACHE + ":s:lyon") != null);
+        int invocations = cachedService.getInvocations();
+        assertEquals(new Forecast("lyon", 20), cachedService.forecast("lyon"));
+        assertEquals(invocations, cachedService.getInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = FORECAST_CACHE)
+        public Forecast forecast(String city) {
+            invocations.incrementAndGet();
+            return city.equals("nowhere") ? null : new Forecast(city, 20);
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+
+    public static class Forecast {
+
+        public String city;
+        public int temperature;
+
+        public Forecast() {
+        }
+
+        public Forecast(String city, int temperature) {
+            this.city = city;
+            this.temperature = temperature;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Forecast)) {
+                return false;
+            }
+            Forecast other = (Forecast) o;
+            return temperature == other.temperature && Objects.equals(city, other.city);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(city, temperature);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code redis} cache type against the Redis server started by Dev Services.
+ */
+public class RedisCacheTest {
+
+    private static final String REMOTE_CACHE = "remote-cache";
+    private static final String NEAR_CACHE = "near-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class))
+            .overrideConfigKey("quarkus.cache.type", "redis")
+            .overrideConfigKey("quarkus.cache.redis.expire-after-write", "1H")
+            .overrideConfigKey("quarkus.cache.redis.\"" + REMOTE_CACHE + "\".value-type", Integer.class.getName())
+            .overrideConfigKey("quarkus.cache.redis.\"" + NEAR_CACHE + "\".near-cache-enabled", "true");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    ReactiveRedisDataSource dataSource;
+
+    @Inject
+    RedisDataSource blockingDataSource;
+
+    @CacheName(REMOTE_CACHE)
+    Cache remoteCache;
+
+    @CacheName(NEAR_CACHE)
+    Cache nearCache;
+
+    @BeforeEach
+    void clear() {
+        remoteCache.invalidateAll().await().indefinitely();
+        nearCache.invalidateAll().await().indefinitely();
+    }
+
+    @Test
+    void testCacheResultAndInvalidation() {
+        assertEquals(CachedService.class.getName().length(), cachedService.length("foo"));
+        int invocations = cachedService.getInvocations();
+        assertEquals(cachedService.length("foo"), cachedService.length("foo"));
+        assertEquals(invocations, cachedService.getInvocations());
+
+        assertArrayEquals(Codecs.IntegerCodec.INSTANCE.encode(CachedService.class.getName().length()),
+                redisValue("cache:" + REMOTE_CACHE + ":s:foo"));
+        long ttl = blockingDataSource.key().pttl("cache:" + REMOTE_CACHE + ":s:foo");
+        assertTrue(ttl > 0L && ttl <= 3600_000L);
+
+        cachedService.invalidate("foo");
+        assertNull(redisValue("cache:" + REMOTE_CACHE + ":s:foo"));
+        cachedService.length("foo");
+        assertEquals(invocations + 1, cachedService.getInvocations());
+
+        cachedService.length("bar");
+        cachedService.invalidateAll();
+        assertTrue(blockingDataSource.key().keys("cache:" + REMOTE_CACHE + ":*").isEmpty());
+    }
+
+    @Test
+    void testUniAndBulkLoads() {
+        assertEquals("FOO", cachedService.upperCase("foo").await().indefinitely());
+        assertArrayEquals("FOO".getBytes(StandardCharsets.UTF_8), redisValue("cache:" + NEAR_CACHE + ":s:foo"));
+
+        AtomicInteger loads = new AtomicInteger();
+        Map<String, Integer> values = remoteCache.<String, Integer> getAll(Arrays.asList("a", "bb", "ccc"), keys -> {
+            loads.incrementAndGet();
+            Map<String, Integer> loaded = new HashMap<>();
+            for (String key : keys) {
+                loaded.put(key, key.length());
+            }
+            return Uni.createFrom().item(loaded);
+        }).await().indefinitely();
+        assertEquals(List.of("a", "bb", "ccc"), List.copyOf(values.keySet()));
+        assertEquals(List.of(1, 2, 3), List.copyOf(values.values()));
+        assertEquals(1, loads.get());
+
+        remoteCache.invalidate("bb").await().indefinitely();
+        values = remoteCache.<String, Integer> getAll(Arrays.asList("a", "bb"), keys -> {
+            assertEquals(List.of("bb"), List.copyOf(keys));
+            return Uni.createFrom().item(Map.of("bb", 20));
+        }).await().indefinitely();
+        assertEquals(Map.of("a", 1, "bb", 20), values);
+    }
+
+    @Test
+    void testInvalidateIfReceivesTheOriginalKeys() {
+        remoteCache.get("42", k -> 1).await().indefinitely();
+        remoteCache.get(42, k -> 2).await().indefinitely();
+        remoteCache.get(new CompositeCacheKey("foo", 42), k -> 3).await().indefinitely();
+        assertEquals(3, blockingDataSource.key().keys("cache:" + REMOTE_CACHE + ":*").size());
+
+        List<Object> testedKeys = new CopyOnWriteArrayList<>();
+        remoteCache.invalidateIf(key -> {
+            testedKeys.add(key);
+            return key instanceof Integer || key instanceof CompositeCacheKey;
+        }).await().indefinitely();
+
+        assertEquals(Set.of("42", 42, new CompositeCacheKey("foo", 42)), Set.copyOf(testedKeys));
+        assertEquals(List.of("cache:" + REMOTE_CACHE + ":s:42"), blockingDataSource.key().keys("cache:" + REMOTE_CACHE + ":*"));
+        assertEquals(1, remoteCache.get("42", k -> 10).await().indefinitely());
+        assertEquals(20, remoteCache.get(42, k -> 20).await().indefinitely());
+    }
+
+    @Test
+    void testNearCacheInvalidationFromAnotherInstance() {
+        RedisCacheImpl cache = (RedisCacheImpl) nearCache;
+        @SuppressWarnings("unchecked")
+        Codec<Object> codec = (Codec<Object>) (Codec<?>) Codecs.StringCodec.INSTANCE;
+        // This cache shares the Redis entries of the injected cache, as if it belonged to another application instance.
+        RedisCacheImpl replica = new RedisCacheImpl(cache.getCacheInfo(), dataSource, codec);
+        // Waits for the replica subscription to the invalidations channel.
+        replica.get("probe", k -> "probe").await().indefinitely();
+        await().until(() -> {
+            cache.invalidate("probe").await().indefinitely();
+            return replica.getNearCacheSize() == 0L;
+        });
+
+        assertEquals("FOO", cachedService.upperCase("foo").await().indefinitely());
+        assertEquals("FOO", replica.get("foo", k -> "unexpected").await().indefinitely());
+        assertEquals(1L, replica.getNearCacheSize());
+
+        // The near cache serves the value even if Redis is not called.
+        blockingDataSource.key().del("cache:" + NEAR_CACHE + ":s:foo");
+        assertEquals("FOO", replica.get("foo", k -> "unexpected").await().indefinitely());
+
+        nearCache.invalidate("foo").await().indefinitely();
+        await().until(() -> replica.getNearCacheSize() == 0L);
+        assertEquals("reloaded", replica.get("foo", k -> "reloaded").await().indefinitely());
+
+        nearCache.invalidateAll().await().indefinitely();
+        await().until(() -> replica.getNearCacheSize() == 0L);
+    }
+
+    private byte[] redisValue(String key) {
+        return blockingDataSource.value(byte[].class).get(key);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = REMOTE_CACHE)
+        public Integer length(String key) {
+            invocations.incrementAndGet();
+            return CachedService.class.getName().length();
+        }
+
+        @CacheInvalidate(cacheName = REMOTE_CACHE)
+        public void invalidate(String key) {
+        }
+
+        @CacheInvalidateAll(cacheName = REMOTE_CACHE)
+        public void invalidateAll() {
+        }
+
+        @CacheResult(cacheName = NEAR_CACHE)
+        public Uni<String> upperCase(String key) {
+            return Uni.createFrom().item(key.toUpperCase());
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheManagerInfo;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.runtime.client.config.RedisConfig;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class RedisCacheBuildRecorder {
+
+    public static final String REDIS_CACHE_TYPE = "redis";
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheBuildRecorder.class);
+
+    private final RedisCachesBuildTimeConfig buildTimeConfig;
+    private final RedisCachesConfig cachesConfig;
+
+    public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildTimeConfig, RedisCachesConfig cachesConfig) {
+        this.buildTimeConfig = buildTimeConfig;
+        this.cachesConfig = cachesConfig;
+    }
+
+    /**
+     * @param valueTypes the return types of the cached methods of each cache
+     */
+    public CacheManagerInfo getCacheManagerInfo(Map<String, List<String>> valueTypes) {
+        return new CacheManagerInfo() {
+            @Override
+            public boolean supports(Context context) {
+                return context.cacheEnabled() && REDIS_CACHE_TYPE.equals(context.cacheType());
+            }
+
+            @Override
+            public Supplier<CacheManager> get(Context context) {
+                return build(context.cacheNames(), valueTypes);
+            }
+        };
+    }
+
+    private Supplier<CacheManager> build(Set<String> cacheNames, Map<String, List<String>> valueTypes) {
+        Set<RedisCacheInfo> cacheInfos = RedisCacheInfoBuilder.build(cacheNames, cachesConfig, valueTypes);
+        String clientName = buildTimeConfig.clientName.orElse(null);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    ReactiveRedisDataSource dataSource = getDataSource(clientName);
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    for (RedisCacheInfo cacheInfo : cacheInfos) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debugf(
+                                    "Building Redis cache [%s] with [prefix=%s], [expireAfterWrite=%s], [valueType=%s], "
+                                            + "[valueCodec=%s], [nearCacheEnabled=%s] and [nearCacheMaximumSize=%s]",
+                                    cacheInfo.name, cacheInfo.prefix, cacheInfo.expireAfterWrite, cacheInfo.valueType,
+                                    cacheInfo.valueCodec, cacheInfo.nearCacheEnabled, cacheInfo.nearCacheMaximumSize);
+                        }
+                        caches.put(cacheInfo.name, new RedisCacheImpl(cacheInfo, dataSource, getCodec(cacheInfo)));
+                    }
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+
+    private static ReactiveRedisDataSource getDataSource(String clientName) {
+        InstanceHandle<ReactiveRedisDataSource> dataSource;
+        if (clientName == null || RedisConfig.isDefaultClient(clientName)) {
+            dataSource = Arc.container().instance(ReactiveRedisDataSource.class);
+        } else {
+            dataSource = Arc.container().instance(ReactiveRedisDataSource.class, RedisClientName.Literal.of(clientName));
+        }
+        if (!dataSource.isAvailable()) {
+            throw new DeploymentException("Unable to find the Redis data source used by the Redis caches [clientName="
+                    + (clientName == null ? RedisConfig.DEFAULT_CLIENT_NAME : clientName) + "]");
+        }
+        return dataSource.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<Object> getCodec(RedisCacheInfo cacheInfo) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (cacheInfo.valueCodec != null) {
+            try {
+                Class<?> codecClass = Class.forName(cacheInfo.valueCodec, false, classLoader);
+                InstanceHandle<?> codec = Arc.container().instance(codecClass);
+                if (codec.isAvailable()) {
+                    return (Codec<Object>) codec.get();
+                }
+                return (Codec<Object>) codecClass.getConstructor().newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new DeploymentException("Unable to create the value codec of the Redis cache [cacheName="
+                        + cacheInfo.name + ", valueCodec=" + cacheInfo.valueCodec + "]", e);
+            }
+        }
+        try {
+            Class<?> valueType = Class.forName(cacheInfo.valueType, false, classLoader);
+            return (Codec<Object>) Codecs.getDefaultCodecFor(valueType);
+        } catch (ClassNotFoundException e) {
+            throw new DeploymentException("Unable to load the value type of the Redis cache [cacheName=" + cacheInfo.name
+                    + ", valueType=" + cacheInfo.valueType + "]", e);
+        }
+    }
+}
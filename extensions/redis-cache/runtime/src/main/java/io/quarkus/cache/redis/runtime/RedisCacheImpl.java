@@ -0,0 +1,592 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.keys.KeyScanArgs;
+import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
+import io.quarkus.redis.datasource.keys.RedisKeyNotFoundException;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands.ReactiveRedisSubscriber;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The values are stored as encoded by the codec, except:
+ * <ul>
+ * <li>{@code null} is stored as an empty value</li>
+ * <li>a value whose encoded form is empty or starts with {@link #ESCAPE} is stored with an additional {@link #ESCAPE}
+ * prefix</li>
+ * </ul>
+ */
+public class RedisCacheImpl extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheImpl.class);
+
+    // This message invalidates all the near cache entries. It can't be confused with a Redis key which always has a prefix.
+    static final String INVALIDATE_ALL_MESSAGE = "*";
+    private static final int SCAN_BATCH_SIZE = 100;
+    static final byte ESCAPE = 0;
+    private static final byte[] NULL_VALUE = new byte[0];
+    // The PTTL replies for a key without expiration and a missing key.
+    private static final long NO_EXPIRATION = -1L;
+    private static final long MISSING_KEY = -2L;
+
+    private final RedisCacheInfo cacheInfo;
+    private final ReactiveValueCommands<String, byte[]> values;
+    private final ReactiveKeyCommands<String> keys;
+    private final ReactivePubSubCommands<String> pubsub;
+    private final Codec<Object> codec;
+    // This is null if the entries never expire.
+    private final SetArgs setArgs;
+    // This is null if the near cache is disabled.
+    private final com.github.benmanes.caffeine.cache.Cache<String, NearCacheEntry> nearCache;
+    private final String invalidationChannel;
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, ReactiveRedisDataSource dataSource, Codec<Object> codec) {
+        this.cacheInfo = cacheInfo;
+        this.codec = codec;
+        values = dataSource.value(String.class, byte[].class);
+        keys = dataSource.key(String.class);
+        pubsub = dataSource.pubsub(String.class);
+        setArgs = cacheInfo.expireAfterWrite == null ? null : new SetArgs().px(cacheInfo.expireAfterWrite);
+        invalidationChannel = cacheInfo.prefix + "invalidations";
+        if (cacheInfo.nearCacheEnabled) {
+            // A near cache entry must never outlive the Redis entry it was read from, so each entry has its own expiration.
+            nearCache = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize)
+                    .expireAfter(new Expiry<String, NearCacheEntry>() {
+                        @Override
+                        public long expireAfterCreate(String key, NearCacheEntry entry, long currentTime) {
+                            return entry.ttlNanos;
+                        }
+
+                        @Override
+                        public long expireAfterUpdate(String key, NearCacheEntry entry, long currentTime,
+                                long currentDuration) {
+                            return entry.ttlNanos;
+                        }
+
+                        @Override
+                        public long expireAfterRead(String key, NearCacheEntry entry, long currentTime,
+                                long currentDuration) {
+                            return currentDuration;
+                        }
+                    }).build();
+            subscribeToInvalidations();
+        } else {
+            nearCache = null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = encodeKey(key);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Uni<? extends V> get() {
+                if (!BlockingOperationControl.isBlockingAllowed()) {
+                    /*
+                     * The current thread can't wait for Redis, and the caller may expect the value right away, e.g. a
+                     * synchronous @CacheResult method invoked on the event loop. Only the near cache is used, the value is
+                     * loaded by the current thread and stored asynchronously.
+                     */
+                    NearCacheEntry nearEntry = nearCache == null ? null : nearCache.getIfPresent(redisKey);
+                    if (nearEntry != null) {
+                        return Uni.createFrom().item((V) NullValueConverter.fromCacheValue(nearEntry.value));
+                    }
+                    V value = valueLoader.apply(key);
+                    store(redisKey, value).subscribe().with(new Consumer<Void>() {
+                        @Override
+                        public void accept(Void ignored) {
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable failure) {
+                            LOGGER.warnf(failure, "Unable to store the entry with key [%s] in cache [%s]", redisKey,
+                                    cacheInfo.name);
+                        }
+                    });
+                    return Uni.createFrom().item(value);
+                }
+                /*
+                 * The value loader may be blocking and may depend on the context of the current thread, so it is invoked
+                 * from the current thread which waits for the Redis responses.
+                 */
+                return Uni.createFrom().item(new Supplier<V>() {
+                    @Override
+                    public V get() {
+                        Object cachedValue = fetch(redisKey).await().indefinitely();
+                        if (cachedValue != null) {
+                            return (V) NullValueConverter.fromCacheValue(cachedValue);
+                        }
+                        V value = valueLoader.apply(key);
+                        store(redisKey, value).await().indefinitely();
+                        return value;
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = encodeKey(key);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Uni<? extends V> get() {
+                Uni<Object> value = fetch(redisKey).onItem().ifNull().switchTo(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return valueLoader.apply(key).call(new Function<V, Uni<?>>() {
+                            @Override
+                            public Uni<?> apply(V value) {
+                                return store(redisKey, value);
+                            }
+                        }).map(new Function<V, Object>() {
+                            @Override
+                            public Object apply(V value) {
+                                return NullValueConverter.toCacheValue(value);
+                            }
+                        });
+                    }
+                });
+                return (Uni<V>) value.map(new Function<Object, Object>() {
+                    @Override
+                    public Object apply(Object cachedValue) {
+                        return NullValueConverter.fromCacheValue(cachedValue);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                BulkLoad<K, V> bulkLoad = new BulkLoad<>(keys, valueLoader);
+                if (BlockingOperationControl.isBlockingAllowed()) {
+                    // See the comment in the get method.
+                    return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                        @Override
+                        public Map<K, V> get() {
+                            return bulkLoad.loadBlocking();
+                        }
+                    });
+                }
+                return bulkLoad.load();
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = encodeKey(key);
+        return keys.del(redisKey).chain(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                return invalidateNearCaches(redisKey);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return invalidateMatchingKeys(null).chain(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                return invalidateNearCaches(INVALIDATE_ALL_MESSAGE);
+            }
+        });
+    }
+
+    /**
+     * The Redis keys are decoded back to the original cache keys before the predicate is tested. The keys which can't be
+     * decoded, for example because their type is not available in the current application, are not invalidated.
+     */
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return invalidateMatchingKeys(predicate);
+    }
+
+    public RedisCacheInfo getCacheInfo() {
+        return cacheInfo;
+    }
+
+    // For testing purposes only.
+    public long getNearCacheSize() {
+        if (nearCache == null) {
+            return 0L;
+        }
+        nearCache.cleanUp();
+        return nearCache.estimatedSize();
+    }
+
+    String encodeKey(Object key) {
+        return cacheInfo.prefix + RedisCacheKeyCodec.encode(key);
+    }
+
+    private boolean matches(String redisKey, Predicate<Object> predicate) {
+        Object key;
+        try {
+            key = RedisCacheKeyCodec.decode(redisKey.substring(cacheInfo.prefix.length()));
+        } catch (IllegalArgumentException e) {
+            LOGGER.debugf(e, "Unable to decode the Redis key [%s] of cache [%s], the entry is not invalidated", redisKey,
+                    cacheInfo.name);
+            return false;
+        }
+        return predicate.test(key);
+    }
+
+    /*
+     * Emits null if the entry is missing, or the value converted with NullValueConverter.toCacheValue otherwise.
+     */
+    private Uni<Object> fetch(String redisKey) {
+        if (nearCache == null) {
+            return values.get(redisKey).map(new Function<byte[], Object>() {
+                @Override
+                public Object apply(byte[] storedValue) {
+                    return decode(storedValue);
+                }
+            });
+        }
+        NearCacheEntry nearEntry = nearCache.getIfPresent(redisKey);
+        if (nearEntry != null) {
+            return Uni.createFrom().item(nearEntry.value);
+        }
+        // The remaining time to live of the entry is read along with its value, the near cache entry expires with it.
+        return Uni.combine().all().unis(values.get(redisKey), remainingTtl(redisKey))
+                .combinedWith(new BiFunction<byte[], Long, Object>() {
+                    @Override
+                    public Object apply(byte[] storedValue, Long ttl) {
+                        Object value = decode(storedValue);
+                        keep(redisKey, value, ttl);
+                        return value;
+                    }
+                });
+    }
+
+    private Uni<Long> remainingTtl(String redisKey) {
+        return keys.pttl(redisKey).onFailure(RedisKeyNotFoundException.class).recoverWithItem(MISSING_KEY);
+    }
+
+    private void keep(String redisKey, Object value, long ttl) {
+        if (value != null && ttl != MISSING_KEY) {
+            nearCache.put(redisKey, new NearCacheEntry(value,
+                    ttl == NO_EXPIRATION ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(ttl)));
+        }
+    }
+
+    private Object decode(byte[] storedValue) {
+        if (storedValue == null) {
+            return null;
+        }
+        if (storedValue.length == 0) {
+            return NullValueConverter.toCacheValue(null);
+        }
+        if (storedValue[0] == ESCAPE) {
+            return NullValueConverter.toCacheValue(codec.decode(Arrays.copyOfRange(storedValue, 1, storedValue.length)));
+        }
+        return NullValueConverter.toCacheValue(codec.decode(storedValue));
+    }
+
+    private byte[] encode(Object value) {
+        if (value == null) {
+            return NULL_VALUE;
+        }
+        byte[] encodedValue = codec.encode(value);
+        if (encodedValue.length > 0 && encodedValue[0] != ESCAPE) {
+            return encodedValue;
+        }
+        // An empty value or a value starting with the escape byte would be confused with another value.
+        byte[] escapedValue = new byte[encodedValue.length + 1];
+        escapedValue[0] = ESCAPE;
+        System.arraycopy(encodedValue, 0, escapedValue, 1, encodedValue.length);
+        return escapedValue;
+    }
+
+    private Uni<Void> store(String redisKey, Object value) {
+        byte[] storedValue = encode(value);
+        Uni<Void> set = setArgs == null ? values.set(redisKey, storedValue) : values.set(redisKey, storedValue, setArgs);
+        if (nearCache == null) {
+            return set;
+        }
+        return set.invoke(new Runnable() {
+            @Override
+            public void run() {
+                nearCache.put(redisKey, new NearCacheEntry(NullValueConverter.toCacheValue(value),
+                        cacheInfo.expireAfterWrite == null ? Long.MAX_VALUE : cacheInfo.expireAfterWrite.toNanos()));
+            }
+        });
+    }
+
+    private Uni<Void> invalidateMatchingKeys(Predicate<Object> predicate) {
+        KeyScanArgs scanArgs = new KeyScanArgs().match(escapeGlob(cacheInfo.prefix) + "*").count(SCAN_BATCH_SIZE);
+        return keys.scan(scanArgs).toMulti()
+                .select().where(new Predicate<String>() {
+                    @Override
+                    public boolean test(String redisKey) {
+                        return predicate == null || matches(redisKey, predicate);
+                    }
+                })
+                .group().intoLists().of(SCAN_BATCH_SIZE)
+                .onItem().transformToUniAndConcatenate(new Function<List<String>, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(List<String> redisKeys) {
+                        Uni<Integer> deleted = keys.del(redisKeys.toArray(new String[0]));
+                        if (predicate == null) {
+                            // The near caches are invalidated all at once by the caller.
+                            return deleted;
+                        }
+                        return deleted.chain(new Supplier<Uni<?>>() {
+                            @Override
+                            public Uni<?> get() {
+                                List<Uni<Void>> invalidations = new ArrayList<>(redisKeys.size());
+                                for (String redisKey : redisKeys) {
+                                    invalidations.add(invalidateNearCaches(redisKey));
+                                }
+                                return Uni.join().all(invalidations).andFailFast();
+                            }
+                        });
+                    }
+                })
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> invalidateNearCaches(String message) {
+        if (nearCache == null) {
+            return Uni.createFrom().voidItem();
+        }
+        // The local near cache is invalidated right away, the other ones will be invalidated when the message is received.
+        invalidateNearCache(message);
+        return pubsub.publish(invalidationChannel, message);
+    }
+
+    private void invalidateNearCache(String message) {
+        if (INVALIDATE_ALL_MESSAGE.equals(message)) {
+            nearCache.invalidateAll();
+        } else {
+            nearCache.invalidate(message);
+        }
+    }
+
+    private void subscribeToInvalidations() {
+        pubsub.subscribe(invalidationChannel, new Consumer<String>() {
+            @Override
+            public void accept(String message) {
+                LOGGER.tracef("Invalidating near cache entry [%s] from cache [%s]", message, cacheInfo.name);
+                invalidateNearCache(message);
+            }
+        }).subscribe().with(new Consumer<ReactiveRedisSubscriber>() {
+            @Override
+            public void accept(ReactiveRedisSubscriber subscriber) {
+                LOGGER.debugf("Subscribed to the near cache invalidations channel [%s] of cache [%s]", invalidationChannel,
+                        cacheInfo.name);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                LOGGER.warnf(failure, "Unable to subscribe to the near cache invalidations channel [%s] of cache [%s], the "
+                        + "near cache entries may not be invalidated when they are modified by another application instance",
+                        invalidationChannel, cacheInfo.name);
+            }
+        });
+    }
+
+    private static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /*
+     * Loads the values of several keys with a single MGET command. The missing values are loaded with a single invocation of
+     * the value loader and stored in Redis afterwards.
+     */
+    private class BulkLoad<K, V> {
+
+        private final Collection<K> requestedKeys;
+        private final Function<Set<K>, Uni<Map<K, V>>> valueLoader;
+        // The values are converted with NullValueConverter.toCacheValue.
+        private final Map<K, Object> cachedValues = new HashMap<>();
+        private final Map<String, K> remoteKeys = new LinkedHashMap<>();
+
+        BulkLoad(Collection<K> requestedKeys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+            this.requestedKeys = requestedKeys;
+            this.valueLoader = valueLoader;
+            for (K key : requestedKeys) {
+                String redisKey = encodeKey(key);
+                NearCacheEntry nearEntry = nearCache == null ? null : nearCache.getIfPresent(redisKey);
+                if (nearEntry != null) {
+                    cachedValues.put(key, nearEntry.value);
+                } else {
+                    remoteKeys.put(redisKey, key);
+                }
+            }
+        }
+
+        Uni<Map<K, V>> load() {
+            return fetch().chain(new Function<Map<String, Object>, Uni<? extends Map<K, V>>>() {
+                @Override
+                public Uni<? extends Map<K, V>> apply(Map<String, Object> fetchedValues) {
+                    Set<K> missingKeys = collect(fetchedValues);
+                    if (missingKeys.isEmpty()) {
+                        return Uni.createFrom().item(result(Collections.emptyMap()));
+                    }
+                    return valueLoader.apply(missingKeys).chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                        @Override
+                        public Uni<? extends Map<K, V>> apply(Map<K, V> loadedValues) {
+                            return storeAll(loadedValues);
+                        }
+                    });
+                }
+            });
+        }
+
+        Map<K, V> loadBlocking() {
+            Set<K> missingKeys = collect(fetch().await().indefinitely());
+            if (missingKeys.isEmpty()) {
+                return result(Collections.emptyMap());
+            }
+            Map<K, V> loadedValues = valueLoader.apply(missingKeys).await().indefinitely();
+            return storeAll(loadedValues).await().indefinitely();
+        }
+
+        // Emits the decoded values of the entries found in Redis.
+        private Uni<Map<String, Object>> fetch() {
+            if (remoteKeys.isEmpty()) {
+                return Uni.createFrom().item(Collections.emptyMap());
+            }
+            return values.mget(remoteKeys.keySet().toArray(new String[0]))
+                    .chain(new Function<Map<String, byte[]>, Uni<? extends Map<String, Object>>>() {
+                        @Override
+                        public Uni<? extends Map<String, Object>> apply(Map<String, byte[]> storedValues) {
+                            Map<String, Object> fetchedValues = new HashMap<>();
+                            for (String redisKey : remoteKeys.keySet()) {
+                                Object value = decode(storedValues.get(redisKey));
+                                if (value != null) {
+                                    fetchedValues.put(redisKey, value);
+                                }
+                            }
+                            if (nearCache == null || fetchedValues.isEmpty()) {
+                                return Uni.createFrom().item(fetchedValues);
+                            }
+                            // See the comment in the fetch method of the cache.
+                            List<Uni<Void>> keeps = new ArrayList<>(fetchedValues.size());
+                            for (Map.Entry<String, Object> fetchedValue : fetchedValues.entrySet()) {
+                                keeps.add(remainingTtl(fetchedValue.getKey()).invoke(new Consumer<Long>() {
+                                    @Override
+                                    public void accept(Long ttl) {
+                                        keep(fetchedValue.getKey(), fetchedValue.getValue(), ttl);
+                                    }
+                                }).replaceWithVoid());
+                            }
+                            return Uni.join().all(keeps).andFailFast().replaceWith(fetchedValues);
+                        }
+                    });
+        }
+
+        private Set<K> collect(Map<String, Object> fetchedValues) {
+            Set<K> missingKeys = new LinkedHashSet<>();
+            for (Map.Entry<String, K> remoteKey : remoteKeys.entrySet()) {
+                Object value = fetchedValues.get(remoteKey.getKey());
+                if (value != null) {
+                    cachedValues.put(remoteKey.getValue(), value);
+                } else {
+                    missingKeys.add(remoteKey.getValue());
+                }
+            }
+            return missingKeys;
+        }
+
+        private Uni<Map<K, V>> storeAll(Map<K, V> loadedValues) {
+            Map<K, V> values = loadedValues == null ? Collections.emptyMap() : loadedValues;
+            List<Uni<Void>> stores = new ArrayList<>(values.size());
+            for (Map.Entry<K, V> value : values.entrySet()) {
+                // A null value is cached, a key missing from the map is not.
+                if (value.getKey() != null) {
+                    stores.add(store(encodeKey(value.getKey()), value.getValue()));
+                }
+            }
+            if (stores.isEmpty()) {
+                return Uni.createFrom().item(result(values));
+            }
+            return Uni.join().all(stores).andFailFast().replaceWith(result(values));
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<K, V> result(Map<K, V> loadedValues) {
+            Map<K, V> result = new LinkedHashMap<>();
+            for (K key : requestedKeys) {
+                if (cachedValues.containsKey(key)) {
+                    result.put(key, (V) NullValueConverter.fromCacheValue(cachedValues.get(key)));
+                } else if (loadedValues.containsKey(key)) {
+                    result.put(key, loadedValues.get(key));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class NearCacheEntry {
+
+        // Converted with NullValueConverter.toCacheValue.
+        final Object value;
+        final long ttlNanos;
+
+        NearCacheEntry(Object value, long ttlNanos) {
+            this.value = value;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class RedisCacheInfo {
+
+    public static final long DEFAULT_NEAR_CACHE_MAXIMUM_SIZE = 1000L;
+
+    public String name;
+
+    public Duration expireAfterWrite;
+
+    public String prefix;
+
+    public String valueType = String.class.getName();
+
+    public String valueCodec;
+
+    public boolean nearCacheEnabled;
+
+    public long nearCacheMaximumSize = DEFAULT_NEAR_CACHE_MAXIMUM_SIZE;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof RedisCacheInfo) {
+            RedisCacheInfo other = (RedisCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
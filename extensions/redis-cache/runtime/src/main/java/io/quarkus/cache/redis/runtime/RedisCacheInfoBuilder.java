@@ -0,0 +1,95 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import io.quarkus.runtime.configuration.HashSetFactory;
+
+public class RedisCacheInfoBuilder {
+
+    /**
+     * @param valueTypes the return types of the cached methods of each cache
+     */
+    public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesConfig cachesConfig,
+            Map<String, List<String>> valueTypes) {
+        if (cacheNames.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            RedisCacheRuntimeConfig defaultConfig = cachesConfig.defaultConfig;
+
+            Set<RedisCacheInfo> cacheInfos = HashSetFactory.<RedisCacheInfo> getInstance().apply(cacheNames.size());
+            for (String cacheName : cacheNames) {
+
+                RedisCacheInfo cacheInfo = new RedisCacheInfo();
+                cacheInfo.name = cacheName;
+
+                RedisCacheRuntimeConfig namedCacheConfig = cachesConfig.cachesConfig.get(cacheInfo.name);
+
+                if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite.isPresent()) {
+                    cacheInfo.expireAfterWrite = namedCacheConfig.expireAfterWrite.get();
+                } else if (defaultConfig.expireAfterWrite.isPresent()) {
+                    cacheInfo.expireAfterWrite = defaultConfig.expireAfterWrite.get();
+                }
+
+                // The default prefix can't be shared by all the caches, so it is only inherited from a named cache config.
+                if (namedCacheConfig != null && namedCacheConfig.prefix.isPresent()) {
+                    cacheInfo.prefix = namedCacheConfig.prefix.get();
+                } else {
+                    cacheInfo.prefix = "cache:" + cacheName + ":";
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.valueCodec.isPresent()) {
+                    cacheInfo.valueCodec = namedCacheConfig.valueCodec.get();
+                } else if (defaultConfig.valueCodec.isPresent()) {
+                    cacheInfo.valueCodec = defaultConfig.valueCodec.get();
+                }
+
+                List<String> methodValueTypes = valueTypes.getOrDefault(cacheName, Collections.emptyList());
+                if (namedCacheConfig != null && namedCacheConfig.valueType.isPresent()) {
+                    cacheInfo.valueType = namedCacheConfig.valueType.get();
+                } else if (methodValueTypes.size() == 1 && isDecodable(methodValueTypes.get(0))) {
+                    cacheInfo.valueType = methodValueTypes.get(0);
+                } else if (defaultConfig.valueType.isPresent()) {
+                    cacheInfo.valueType = defaultConfig.valueType.get();
+                } else if (!methodValueTypes.isEmpty() && cacheInfo.valueCodec == null) {
+                    throw new DeploymentException("The value type of the Redis cache [" + cacheName
+                            + "] can't be derived from the return types " + methodValueTypes
+                            + " of its cached methods, set quarkus.cache.redis.\"" + cacheName
+                            + "\".value-type or quarkus.cache.redis.\"" + cacheName + "\".value-codec");
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.nearCacheEnabled.isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedCacheConfig.nearCacheEnabled.get();
+                } else if (defaultConfig.nearCacheEnabled.isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultConfig.nearCacheEnabled.get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.nearCacheMaximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedCacheConfig.nearCacheMaximumSize.getAsLong();
+                } else if (defaultConfig.nearCacheMaximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultConfig.nearCacheMaximumSize.getAsLong();
+                }
+
+                cacheInfos.add(cacheInfo);
+            }
+            return cacheInfos;
+        }
+    }
+
+    // The values are decoded with the default codec of their class, a parameterized type or Object can't be decoded.
+    private static boolean isDecodable(String valueType) {
+        if (Object.class.getName().equals(valueType)) {
+            return false;
+        }
+        try {
+            Class.forName(valueType, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.UUID;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.DefaultCacheKey;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.Json;
+
+/**
+ * Encodes the cache keys into the {@link String} suffixes of the Redis keys, and decodes them back.
+ * <p>
+ * Each encoded key starts with a tag which identifies the key type, so that two keys are encoded the same way only if they
+ * are equal: the {@code toString()} representation of a key is never used. The common key types have a compact encoding, the
+ * other types are encoded as JSON along with their class name. Examples:
+ * <ul>
+ * <li>{@code "foo"} is encoded as {@code s:foo}</li>
+ * <li>{@code 42L} is encoded as {@code l:42}</li>
+ * <li>{@code new CompositeCacheKey("foo", 42)} is encoded as {@code k:2:5:s:foo:4:i:42}</li>
+ * <li>{@code new Point(1, 2)} is encoded as {@code j:org.acme.Point:{"x":1,"y":2}}</li>
+ * </ul>
+ */
+final class RedisCacheKeyCodec {
+
+    private static final char SEPARATOR = ':';
+    private static final String NULL = "n";
+    private static final char STRING = 's';
+    private static final char INTEGER = 'i';
+    private static final char LONG = 'l';
+    private static final char SHORT = 'h';
+    private static final char BYTE = 'y';
+    private static final char DOUBLE = 'd';
+    private static final char FLOAT = 'f';
+    private static final char BOOLEAN = 'b';
+    private static final char CHARACTER = 'c';
+    private static final char UUID_TAG = 'u';
+    private static final char ENUM = 'e';
+    private static final char DEFAULT_KEY = 'D';
+    private static final char COMPOSITE_KEY = 'k';
+    private static final char JSON = 'j';
+
+    private RedisCacheKeyCodec() {
+    }
+
+    /**
+     * @throws CacheException if the key can't be encoded
+     */
+    static String encode(Object key) {
+        StringBuilder encoded = new StringBuilder();
+        encode(key, encoded);
+        return encoded.toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the encoded key is malformed or if its type can't be loaded
+     */
+    static Object decode(String encoded) {
+        return new Decoder(encoded).decode(0, encoded.length());
+    }
+
+    private static void encode(Object key, StringBuilder encoded) {
+        if (key == null) {
+            // Only the elements of a composite key can be null.
+            encoded.append(NULL);
+        } else if (key instanceof String) {
+            append(STRING, (String) key, encoded);
+        } else if (key instanceof Integer) {
+            append(INTEGER, key.toString(), encoded);
+        } else if (key instanceof Long) {
+            append(LONG, key.toString(), encoded);
+        } else if (key instanceof Short) {
+            append(SHORT, key.toString(), encoded);
+        } else if (key instanceof Byte) {
+            append(BYTE, key.toString(), encoded);
+        } else if (key instanceof Double) {
+            append(DOUBLE, key.toString(), encoded);
+        } else if (key instanceof Float) {
+            append(FLOAT, key.toString(), encoded);
+        } else if (key instanceof Boolean) {
+            append(BOOLEAN, key.toString(), encoded);
+        } else if (key instanceof Character) {
+            append(CHARACTER, key.toString(), encoded);
+        } else if (key instanceof UUID) {
+            append(UUID_TAG, key.toString(), encoded);
+        } else if (key instanceof Enum) {
+            Enum<?> constant = (Enum<?>) key;
+            append(ENUM, constant.getDeclaringClass().getName(), encoded);
+            encoded.append(SEPARATOR).append(constant.name());
+        } else if (key instanceof DefaultCacheKey) {
+            append(DEFAULT_KEY, ((DefaultCacheKey) key).getCacheName(), encoded);
+        } else if (key instanceof CompositeCacheKey) {
+            // Each element is prefixed with the length of its encoded form, so that the elements can't be confused.
+            Object[] elements = ((CompositeCacheKey) key).getKeyElements();
+            append(COMPOSITE_KEY, Integer.toString(elements.length), encoded);
+            for (Object element : elements) {
+                String encodedElement = encode(element);
+                encoded.append(SEPARATOR).append(encodedElement.length()).append(SEPARATOR).append(encodedElement);
+            }
+        } else {
+            String json;
+            try {
+                json = Json.encode(key);
+            } catch (EncodeException e) {
+                throw new CacheException("Unable to encode a cache key of type [" + key.getClass().getName()
+                        + "] as JSON. The keys of a Redis cache must be strings, primitive wrappers, UUIDs, enums, composite "
+                        + "cache keys or objects which can be serialized to JSON", e);
+            }
+            append(JSON, key.getClass().getName(), encoded);
+            encoded.append(SEPARATOR).append(json);
+        }
+    }
+
+    private static void append(char tag, String value, StringBuilder encoded) {
+        encoded.append(tag).append(SEPARATOR).append(value);
+    }
+
+    private static final class Decoder {
+
+        private final String encoded;
+
+        Decoder(String encoded) {
+            this.encoded = encoded;
+        }
+
+        // Decodes the key encoded between the start (inclusive) and end (exclusive) indexes.
+        Object decode(int start, int end) {
+            if (end - start == NULL.length() && encoded.startsWith(NULL, start)) {
+                return null;
+            }
+            if (end - start < 2 || encoded.charAt(start + 1) != SEPARATOR) {
+                throw malformed();
+            }
+            String value = encoded.substring(start + 2, end);
+            try {
+                switch (encoded.charAt(start)) {
+                    case STRING:
+                        return value;
+                    case INTEGER:
+                        return Integer.valueOf(value);
+                    case LONG:
+                        return Long.valueOf(value);
+                    case SHORT:
+                        return Short.valueOf(value);
+                    case BYTE:
+                        return Byte.valueOf(value);
+                    case DOUBLE:
+                        return Double.valueOf(value);
+                    case FLOAT:
+                        return Float.valueOf(value);
+                    case BOOLEAN:
+                        return Boolean.valueOf(value);
+                    case CHARACTER:
+                        if (value.length() != 1) {
+                            throw malformed();
+                        }
+                        return value.charAt(0);
+                    case UUID_TAG:
+                        return UUID.fromString(value);
+                    case ENUM:
+                        return decodeEnum(value);
+                    case DEFAULT_KEY:
+                        return new DefaultCacheKey(value);
+                    case COMPOSITE_KEY:
+                        return decodeCompositeKey(start + 2, end);
+                    case JSON:
+                        return decodeJson(value);
+                    default:
+                        throw malformed();
+                }
+            } catch (NumberFormatException | DecodeException e) {
+                throw new IllegalArgumentException("Malformed cache key [" + encoded + "]", e);
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Object decodeEnum(String value) {
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw malformed();
+            }
+            Class enumClass = loadClass(value.substring(0, separator));
+            if (!enumClass.isEnum()) {
+                throw malformed();
+            }
+            return Enum.valueOf(enumClass, value.substring(separator + 1));
+        }
+
+        private CompositeCacheKey decodeCompositeKey(int start, int end) {
+            int position = start;
+            int separator = indexOfSeparator(position, end);
+            Object[] elements = new Object[Integer.parseInt(encoded.substring(position, separator))];
+            position = separator;
+            for (int i = 0; i < elements.length; i++) {
+                // Each element is encoded as :<length>:<encoded element>
+                if (position >= end || encoded.charAt(position) != SEPARATOR) {
+                    throw malformed();
+                }
+                separator = indexOfSeparator(position + 1, end);
+                int length = Integer.parseInt(encoded.substring(position + 1, separator));
+                int elementEnd = separator + 1 + length;
+                if (length < 0 || elementEnd > end) {
+                    throw malformed();
+                }
+                elements[i] = decode(separator + 1, elementEnd);
+                position = elementEnd;
+            }
+            if (position != end || elements.length == 0) {
+                throw malformed();
+            }
+            return new CompositeCacheKey(elements);
+        }
+
+        private Object decodeJson(String value) {
+            // Class names can't contain the separator, the JSON document can.
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw malformed();
+            }
+            return Json.decodeValue(value.substring(separator + 1), loadClass(value.substring(0, separator)));
+        }
+
+        private int indexOfSeparator(int from, int end) {
+            int separator = encoded.indexOf(SEPARATOR, from);
+            if (separator < 0 || separator >= end) {
+                throw malformed();
+            }
+            return separator;
+        }
+
+        private Class<?> loadClass(String className) {
+            try {
+                return Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("Unable to load the type of cache key [" + encoded + "]", e);
+            }
+        }
+
+        private IllegalArgumentException malformed() {
+            return new IllegalArgumentException("Malformed cache key [" + encoded + "]");
+        }
+    }
+}
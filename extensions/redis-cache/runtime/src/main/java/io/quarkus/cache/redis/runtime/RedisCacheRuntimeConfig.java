@@ -0,0 +1,55 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RedisCacheRuntimeConfig {
+
+    /**
+     * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after the
+     * entry's creation, or the most recent replacement of its value. If not set, the entries never expire.
+     */
+    @ConfigItem
+    public Optional<Duration> expireAfterWrite;
+
+    /**
+     * The prefix of the Redis keys which hold the cache entries. Defaults to {@code cache:<cache-name>:}.
+     */
+    @ConfigItem
+    public Optional<String> prefix;
+
+    /**
+     * Fully qualified name of the type of the cached values. The values are encoded with the default Redis client codec for
+     * this type, which is JSON for any type other than {@link String}, {@link Integer}, {@link Double} and {@code byte[]}.
+     * Defaults to the return type of the cached methods of the cache, or to {@link String} if the cache is only used
+     * programmatically.
+     */
+    @ConfigItem
+    public Optional<String> valueType;
+
+    /**
+     * Fully qualified name of the {@link io.quarkus.redis.datasource.codecs.Codec} implementation used to encode and
+     * decode the cached values. The implementation is injected as a CDI bean if possible or is instantiated using the
+     * default constructor otherwise. If set, {@code value-type} is ignored.
+     */
+    @ConfigItem
+    public Optional<String> valueCodec;
+
+    /**
+     * Whether or not the entries read from Redis are also kept in a local near cache. The near cache entries of all the
+     * application instances are invalidated through a Redis pub/sub channel when an entry is invalidated.
+     */
+    @ConfigItem
+    public Optional<Boolean> nearCacheEnabled;
+
+    /**
+     * Maximum number of entries the near cache may contain. Defaults to {@code 1000}.
+     */
+    @ConfigItem
+    public OptionalLong nearCacheMaximumSize;
+}
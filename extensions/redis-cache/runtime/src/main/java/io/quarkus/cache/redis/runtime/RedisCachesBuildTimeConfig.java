@@ -0,0 +1,18 @@
+package io.quarkus.cache.redis.runtime;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_AND_RUN_TIME_FIXED;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(phase = BUILD_AND_RUN_TIME_FIXED, name = "cache.redis")
+public class RedisCachesBuildTimeConfig {
+
+    /**
+     * The name of the Redis client used by the caches. If not set, the default Redis client is used.
+     */
+    @ConfigItem
+    public Optional<String> clientName;
+}
@@ -0,0 +1,99 @@
+package io.quarkus.cache.redis.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.DefaultCacheKey;
+
+public class RedisCacheKeyCodecTest {
+
+    @Test
+    public void testRoundTrip() {
+        assertRoundTrip("foo", "s:foo");
+        assertRoundTrip("", "s:");
+        assertRoundTrip("a:b:c", "s:a:b:c");
+        assertRoundTrip(42, "i:42");
+        assertRoundTrip(42L, "l:42");
+        assertRoundTrip((short) 42, "h:42");
+        assertRoundTrip((byte) 42, "y:42");
+        assertRoundTrip(4.2D, "d:4.2");
+        assertRoundTrip(4.2F, "f:4.2");
+        assertRoundTrip(true, "b:true");
+        assertRoundTrip(':', "c::");
+        UUID uuid = UUID.randomUUID();
+        assertRoundTrip(uuid, "u:" + uuid);
+        assertRoundTrip(Color.RED, "e:" + Color.class.getName() + ":RED");
+        assertRoundTrip(new DefaultCacheKey("my-cache"), "D:my-cache");
+        assertRoundTrip(new CompositeCacheKey("foo", 42, null), "k:3:5:s:foo:4:i:42:1:n");
+        assertRoundTrip(new CompositeCacheKey(new CompositeCacheKey("a:b", 1L), "c"), "k:2:17:k:2:5:s:a:b:3:l:1:3:s:c");
+        assertRoundTrip(new Point(1, 2), "j:" + Point.class.getName() + ":{\"x\":1,\"y\":2}");
+    }
+
+    @Test
+    public void testKeysWithTheSameStringRepresentation() {
+        assertNotEquals(RedisCacheKeyCodec.encode("42"), RedisCacheKeyCodec.encode(42));
+        assertNotEquals(RedisCacheKeyCodec.encode(42), RedisCacheKeyCodec.encode(42L));
+        assertNotEquals(RedisCacheKeyCodec.encode(new CompositeCacheKey("a,b")),
+                RedisCacheKeyCodec.encode(new CompositeCacheKey("a", "b")));
+    }
+
+    @Test
+    public void testKeyWhichCantBeEncoded() {
+        assertThrows(CacheException.class, () -> RedisCacheKeyCodec.encode(new Object()));
+    }
+
+    @Test
+    public void testMalformedKeys() {
+        assertThrows(IllegalArgumentException.class, () -> RedisCacheKeyCodec.decode("foo"));
+        assertThrows(IllegalArgumentException.class, () -> RedisCacheKeyCodec.decode("i:foo"));
+        assertThrows(IllegalArgumentException.class, () -> RedisCacheKeyCodec.decode("k:2:5:s:foo"));
+        assertThrows(IllegalArgumentException.class, () -> RedisCacheKeyCodec.decode("j:org.acme.Missing:{}"));
+    }
+
+    private static void assertRoundTrip(Object key, String expectedEncodedKey) {
+        String encodedKey = RedisCacheKeyCodec.encode(key);
+        assertEquals(expectedEncodedKey, encodedKey);
+        assertEquals(key, RedisCacheKeyCodec.decode(encodedKey));
+    }
+
+    public enum Color {
+        RED,
+        GREEN
+    }
+
+    public static class Point {
+
+        public int x;
+        public int y;
+
+        public Point() {
+        }
+
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x, y);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Point) {
+                Point other = (Point) obj;
+                return x == other.x && y == other.y;
+            }
+            return false;
+        }
+    }
+}
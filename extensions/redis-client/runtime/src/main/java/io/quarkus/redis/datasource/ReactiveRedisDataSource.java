@@ -6,6 +6,7 @@
 import io.quarkus.redis.datasource.autosuggest.ReactiveAutoSuggestCommands;
 import io.quarkus.redis.datasource.bitmap.ReactiveBitMapCommands;
 import io.quarkus.redis.datasource.bloom.ReactiveBloomCommands;
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.countmin.ReactiveCountMinCommands;
 import io.quarkus.redis.datasource.cuckoo.ReactiveCuckooCommands;
 import io.quarkus.redis.datasource.geo.ReactiveGeoCommands;
@@ -127,6 +128,43 @@ <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<Reactive
             BiFunction<I, ReactiveTransactionalRedisDataSource, Uni<Void>> tx,
             String... watchedKeys);
 
+    /**
+     * Retrieves a {@link ReactiveTransactionalRedisDataSource} collecting commands in a batch.
+     * Unlike a transaction, the commands are not executed atomically: they are sent together in a single pipeline,
+     * without {@code MULTI}/{@code EXEC}, when the passed block emits the {@code null} item. It avoids a round trip per
+     * command when many independent commands are executed.
+     * <p>
+     * The results of the commands are retrieved using the produced {@link TransactionResult}, in the order in which the
+     * commands were added. If one of the commands fails, the produced {@code Uni} fails.
+     * <p>
+     * The user can discard a batch using the {@link ReactiveTransactionalRedisDataSource#discard()} method.
+     * In this case, no command is sent and the produced {@link TransactionResult} will be empty.
+     *
+     * @param batch the function receiving the data source collecting the commands. The collected commands are only
+     *        executed at the end of the block.
+     */
+    Uni<TransactionResult> withBatch(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> batch);
+
+    /**
+     * Retrieves a data source using the given codec to encode and decode the values of the given type, instead of the
+     * default codec (JSON for the objects).
+     * The returned data source shares the connections of this data source. The command groups created from it use the
+     * codec, for example:
+     *
+     * <pre>
+     * {@code
+     * Codec<Person> codec = new Codecs.CompressingCodec<>(new Codecs.JacksonCodec<>(Person.class), 1024);
+     * ReactiveHashCommands<String, String, Person> hash = ds.withCodec(Person.class, codec)
+     *         .hash(String.class, String.class, Person.class);
+     * }
+     * </pre>
+     *
+     * @param type the type encoded by the codec
+     * @param codec the codec
+     * @return the data source using the codec
+     */
+    <T> ReactiveRedisDataSource withCodec(Class<T> type, Codec<T> codec);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
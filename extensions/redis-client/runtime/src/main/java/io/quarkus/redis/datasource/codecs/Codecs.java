@@ -1,9 +1,25 @@
 package io.quarkus.redis.datasource.codecs;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.jackson.DatabindCodec;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
 
 public class Codecs {
 
@@ -48,6 +64,200 @@ public T decode(byte[] payload) {
         }
     }
 
+    /**
+     * Codec using Jackson with a reader and a writer created once for the type, writing and reading the payloads without
+     * intermediate {@link Buffer}.
+     * <p>
+     * The format depends on the {@link ObjectMapper}: JSON by default, or a compact binary format such as CBOR or Smile
+     * when created with the mapper of the corresponding Jackson data format.
+     */
+    public static class JacksonCodec<T> implements Codec<T> {
+
+        private final ObjectReader reader;
+        private final ObjectWriter writer;
+
+        public JacksonCodec(Class<T> clazz) {
+            this(DatabindCodec.mapper(), clazz);
+        }
+
+        public JacksonCodec(ObjectMapper mapper, Class<T> clazz) {
+            this.reader = mapper.readerFor(clazz);
+            this.writer = mapper.writerFor(clazz);
+        }
+
+        @Override
+        public byte[] encode(T item) {
+            try {
+                return writer.writeValueAsBytes(item);
+            } catch (IOException e) {
+                throw new EncodeException("Failed to encode: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public T decode(byte[] payload) {
+            try {
+                return reader.readValue(payload);
+            } catch (IOException e) {
+                throw new DecodeException("Failed to decode: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * The compression algorithms of the {@link CompressingCodec}.
+     */
+    public enum Compression {
+        /**
+         * Deflate, provided by the JDK.
+         */
+        DEFLATE,
+        /**
+         * LZ4, faster but compressing less than deflate. It requires {@code org.lz4:lz4-java}.
+         */
+        LZ4
+    }
+
+    /**
+     * Codec compressing the payloads produced by another codec when they are larger than a threshold.
+     * <p>
+     * The payloads start with a byte indicating whether they are compressed: {@code 0x00} if not, {@code 0x01} or
+     * {@code 0x02} for deflate and LZ4. Text payloads stored before the compression was enabled, e.g. JSON or strings,
+     * never start with these control characters and are decoded as they are. Binary payloads stored before the compression
+     * was enabled, e.g. CBOR or raw bytes, can start with any byte and must be rewritten instead.
+     */
+    public static class CompressingCodec<T> implements Codec<T> {
+
+        private static final byte UNCOMPRESSED = 0;
+        private static final byte DEFLATE = 1;
+        private static final byte LZ4 = 2;
+
+        private final Codec<T> codec;
+        private final int threshold;
+        private final Compression compression;
+
+        /**
+         * Creates a codec compressing with {@link Compression#DEFLATE}.
+         *
+         * @param codec the codec producing the payloads
+         * @param threshold the size in bytes from which the payloads are compressed
+         */
+        public CompressingCodec(Codec<T> codec, int threshold) {
+            this(codec, threshold, Compression.DEFLATE);
+        }
+
+        /**
+         * @param codec the codec producing the payloads
+         * @param threshold the size in bytes from which the payloads are compressed
+         * @param compression the compression algorithm
+         */
+        public CompressingCodec(Codec<T> codec, int threshold, Compression compression) {
+            this.codec = codec;
+            this.threshold = threshold;
+            this.compression = compression;
+        }
+
+        @Override
+        public byte[] encode(T item) {
+            byte[] payload = codec.encode(item);
+            if (payload == null) {
+                return null;
+            }
+            if (payload.length < threshold) {
+                byte[] result = new byte[payload.length + 1];
+                result[0] = UNCOMPRESSED;
+                System.arraycopy(payload, 0, result, 1, payload.length);
+                return result;
+            }
+            if (compression == Compression.LZ4) {
+                return Lz4.compress(payload);
+            }
+            return deflate(payload);
+        }
+
+        @Override
+        public T decode(byte[] item) {
+            if (item == null || item.length == 0) {
+                return codec.decode(item);
+            }
+            switch (item[0]) {
+                case UNCOMPRESSED:
+                    byte[] payload = new byte[item.length - 1];
+                    System.arraycopy(item, 1, payload, 0, payload.length);
+                    return codec.decode(payload);
+                case DEFLATE:
+                    return codec.decode(inflate(item));
+                case LZ4:
+                    return codec.decode(Lz4.decompress(item));
+                default:
+                    // text stored before the compression was enabled
+                    return codec.decode(item);
+            }
+        }
+
+        private static byte[] deflate(byte[] payload) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(payload);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 16);
+                out.write(DEFLATE);
+                byte[] chunk = new byte[Math.min(payload.length, 8192)];
+                while (!deflater.finished()) {
+                    out.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        private static byte[] inflate(byte[] item) {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(item, 1, item.length - 1);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(item.length * 2);
+                byte[] chunk = new byte[8192];
+                while (!inflater.finished()) {
+                    int length = inflater.inflate(chunk);
+                    if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalArgumentException("Truncated compressed payload");
+                    }
+                    out.write(chunk, 0, length);
+                }
+                return out.toByteArray();
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("Invalid compressed payload", e);
+            } finally {
+                inflater.end();
+            }
+        }
+
+        // only loaded when LZ4 is used, as lz4-java is optional
+        private static final class Lz4 {
+
+            private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestJavaInstance().fastCompressor();
+            private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestJavaInstance().fastDecompressor();
+
+            static byte[] compress(byte[] payload) {
+                // header, original length, compressed payload
+                byte[] result = new byte[5 + COMPRESSOR.maxCompressedLength(payload.length)];
+                ByteBuffer.wrap(result).put(LZ4).putInt(payload.length);
+                int length = COMPRESSOR.compress(payload, 0, payload.length, result, 5);
+                byte[] compressed = new byte[5 + length];
+                System.arraycopy(result, 0, compressed, 0, compressed.length);
+                return compressed;
+            }
+
+            static byte[] decompress(byte[] item) {
+                int length = ByteBuffer.wrap(item, 1, 4).getInt();
+                byte[] payload = new byte[length];
+                DECOMPRESSOR.decompress(item, 5, payload, 0, length);
+                return payload;
+            }
+        }
+    }
+
     public static class StringCodec implements Codec<String> {
 
         public static StringCodec INSTANCE = new StringCodec();
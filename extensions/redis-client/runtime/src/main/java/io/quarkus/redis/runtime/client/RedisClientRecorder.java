@@ -146,7 +146,8 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    boolean autoPipelining = getConfigForName(config, name).map(c -> c.autoPipelining).orElse(false);
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, autoPipelining);
                 });
             }
         };
@@ -140,6 +140,16 @@ public class RedisClientConfig {
     @ConfigItem(defaultValue = "true")
     public boolean protocolNegotiation;
 
+    /**
+     * Whether the commands executed by the data source during the same event loop iteration are coalesced and sent
+     * together over a single connection (auto-pipelining).
+     * <p>
+     * It reduces the number of round trips and connections used when many commands are executed concurrently, but
+     * slightly increases the latency of the individual commands.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean autoPipelining;
+
     /**
      * TCP config.
      */
@@ -174,6 +184,7 @@ public String toString() {
                 ", reconnectAttempts=" + reconnectAttempts +
                 ", reconnectInterval=" + reconnectInterval +
                 ", protocolNegotiation=" + protocolNegotiation +
+                ", autoPipelining=" + autoPipelining +
                 ", tcp=" + tcp +
                 ", tls=" + tls +
                 '}';
@@ -11,6 +11,8 @@ public class AbstractRedisCommands {
     public AbstractRedisCommands(RedisCommandExecutor redis, Marshaller marshaller) {
         this.redis = redis;
         this.marshaller = marshaller;
+        // the codecs configured on the data source replace the default ones
+        marshaller.codecs.putAll(redis.getCodecs());
     }
 
     public Uni<Response> execute(RedisCommand cmd) {
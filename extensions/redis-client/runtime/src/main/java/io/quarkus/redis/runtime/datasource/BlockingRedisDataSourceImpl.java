@@ -12,6 +12,7 @@
 import io.quarkus.redis.datasource.autosuggest.AutoSuggestCommands;
 import io.quarkus.redis.datasource.bitmap.BitMapCommands;
 import io.quarkus.redis.datasource.bloom.BloomCommands;
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.countmin.CountMinCommands;
 import io.quarkus.redis.datasource.cuckoo.CuckooCommands;
 import io.quarkus.redis.datasource.geo.GeoCommands;
@@ -63,8 +64,7 @@ public BlockingRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
 
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
-        ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+        ReactiveRedisDataSourceImpl dataSource = reactive.onConnection(connection);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -86,8 +86,7 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
     @Override
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> ds, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
-        ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+        ReactiveRedisDataSourceImpl dataSource = reactive.onConnection(connection);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -114,12 +113,18 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
         }
     }
 
+    @Override
+    public TransactionResult withBatch(Consumer<TransactionalRedisDataSource> ds) {
+        ReactiveBatchRedisDataSourceImpl batch = new ReactiveBatchRedisDataSourceImpl(reactive, new TransactionHolder());
+        ds.accept(new BlockingTransactionalRedisDataSourceImpl(batch, timeout));
+        return batch.send().await().atMost(timeout);
+    }
+
     @Override
     public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisDataSource, I> preTxBlock,
             BiConsumer<I, TransactionalRedisDataSource> tx, String... watchedKeys) {
         RedisConnection connection = reactive.redis.connect().await().atMost(timeout);
-        ReactiveRedisDataSourceImpl dataSource = new ReactiveRedisDataSourceImpl(reactive.getVertx(), reactive.redis,
-                connection);
+        ReactiveRedisDataSourceImpl dataSource = reactive.onConnection(connection);
         TransactionHolder th = new TransactionHolder();
         BlockingTransactionalRedisDataSourceImpl source = new BlockingTransactionalRedisDataSourceImpl(
                 new ReactiveTransactionalRedisDataSourceImpl(dataSource, th), timeout);
@@ -132,7 +137,7 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
             connection.send(cmd).await().atMost(timeout);
 
             I input = preTxBlock
-                    .apply(new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, connection, timeout));
+                    .apply(new BlockingRedisDataSourceImpl(reactive.onConnection(connection), timeout));
 
             connection.send(Request.cmd(Command.MULTI)).await().atMost(timeout);
 
@@ -150,6 +155,11 @@ public <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisD
         }
     }
 
+    @Override
+    public <T> RedisDataSource withCodec(Class<T> type, Codec<T> codec) {
+        return new BlockingRedisDataSourceImpl((ReactiveRedisDataSourceImpl) reactive.withCodec(type, codec), timeout);
+    }
+
     @Override
     public void withConnection(Consumer<RedisDataSource> consumer) {
         if (connection != null) {
@@ -159,7 +169,7 @@ public void withConnection(Consumer<RedisDataSource> consumer) {
         }
 
         BlockingRedisDataSourceImpl source = reactive.redis.connect()
-                .map(rc -> new BlockingRedisDataSourceImpl(reactive.getVertx(), reactive.redis, rc, timeout))
+                .map(rc -> new BlockingRedisDataSourceImpl(reactive.onConnection(rc), timeout))
                 .await().atMost(timeout);
 
         try {
@@ -0,0 +1,95 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.impl.types.SimpleStringType;
+
+/**
+ * A {@link io.quarkus.redis.datasource.transactions.ReactiveTransactionalRedisDataSource} collecting the commands of a
+ * batch. Unlike a transaction, the commands are not sent when they are added: they are sent together in a single
+ * pipeline, without {@code MULTI}/{@code EXEC}, once the batch is complete.
+ */
+public class ReactiveBatchRedisDataSourceImpl extends ReactiveTransactionalRedisDataSourceImpl {
+
+    private final Collector collector;
+    private final TransactionHolder holder;
+
+    public ReactiveBatchRedisDataSourceImpl(ReactiveRedisDataSourceImpl source, TransactionHolder th) {
+        this(new Collector(source), th);
+    }
+
+    private ReactiveBatchRedisDataSourceImpl(Collector collector, TransactionHolder th) {
+        super(collector, th);
+        this.collector = collector;
+        this.holder = th;
+    }
+
+    @Override
+    public Uni<Void> discard() {
+        return Uni.createFrom().item(() -> {
+            collector.clear();
+            holder.discard();
+            return null;
+        });
+    }
+
+    /**
+     * Sends the collected commands.
+     *
+     * @return the results of the commands, empty if the batch has been discarded
+     */
+    public Uni<TransactionResult> send() {
+        if (holder.discarded()) {
+            return Uni.createFrom().item(TransactionResultImpl.DISCARDED);
+        }
+        return collector.send()
+                .map(responses -> new TransactionResultImpl(false, holder.map(responses)));
+    }
+
+    private static class Collector extends ReactiveRedisDataSourceImpl {
+
+        // the commands are not sent, the command groups expect them to be queued
+        private static final Response QUEUED = Response.newInstance(SimpleStringType.create("QUEUED"));
+
+        // guarded by this
+        private final List<Request> requests = new ArrayList<>();
+
+        Collector(ReactiveRedisDataSourceImpl source) {
+            super(source);
+        }
+
+        @Override
+        public Uni<Response> execute(Request request) {
+            return Uni.createFrom().item(() -> {
+                synchronized (this) {
+                    requests.add(request);
+                }
+                return QUEUED;
+            });
+        }
+
+        synchronized void clear() {
+            requests.clear();
+        }
+
+        Uni<List<Response>> send() {
+            List<Request> batch;
+            synchronized (this) {
+                batch = new ArrayList<>(requests);
+                requests.clear();
+            }
+            if (batch.isEmpty()) {
+                return Uni.createFrom().item(List.of());
+            }
+            if (connection != null) {
+                return connection.batch(batch);
+            }
+            return redis.batch(batch);
+        }
+    }
+}
@@ -5,7 +5,10 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -13,6 +16,7 @@
 import io.quarkus.redis.datasource.autosuggest.ReactiveAutoSuggestCommands;
 import io.quarkus.redis.datasource.bitmap.ReactiveBitMapCommands;
 import io.quarkus.redis.datasource.bloom.ReactiveBloomCommands;
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.countmin.ReactiveCountMinCommands;
 import io.quarkus.redis.datasource.cuckoo.ReactiveCuckooCommands;
 import io.quarkus.redis.datasource.geo.ReactiveGeoCommands;
@@ -48,14 +52,22 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
     final Redis redis;
     final RedisConnection connection;
     private final Vertx vertx;
+    private final RedisCommandPipeline pipeline;
+    private final Map<Class<?>, Codec<?>> codecs;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, false);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, boolean autoPipelining) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.pipeline = autoPipelining ? new RedisCommandPipeline(vertx, redis) : null;
+        this.codecs = Collections.emptyMap();
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -65,6 +77,42 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeline = null;
+        this.codecs = Collections.emptyMap();
+    }
+
+    ReactiveRedisDataSourceImpl(ReactiveRedisDataSourceImpl source) {
+        this(source, source.connection, source.codecs);
+    }
+
+    private ReactiveRedisDataSourceImpl(ReactiveRedisDataSourceImpl source, RedisConnection connection,
+            Map<Class<?>, Codec<?>> codecs) {
+        this.vertx = source.vertx;
+        this.redis = source.redis;
+        this.connection = connection;
+        this.pipeline = connection == null ? source.pipeline : null;
+        this.codecs = codecs;
+    }
+
+    /**
+     * @return a data source using the given connection and the codecs of this data source
+     */
+    ReactiveRedisDataSourceImpl onConnection(RedisConnection connection) {
+        return new ReactiveRedisDataSourceImpl(this, connection, codecs);
+    }
+
+    @Override
+    public <T> ReactiveRedisDataSource withCodec(Class<T> type, Codec<T> codec) {
+        nonNull(type, "type");
+        nonNull(codec, "codec");
+        Map<Class<?>, Codec<?>> withCodec = new HashMap<>(codecs);
+        withCodec.put(type, codec);
+        return new ReactiveRedisDataSourceImpl(this, connection, Collections.unmodifiableMap(withCodec));
+    }
+
+    @Override
+    public Map<Class<?>, Codec<?>> getCodecs() {
+        return codecs;
     }
 
     @Override
@@ -72,6 +120,9 @@ public Uni<Response> execute(Request request) {
         if (connection != null) {
             return connection.send(request);
         }
+        if (pipeline != null) {
+            return pipeline.send(request);
+        }
         return redis.send(request);
     }
 
@@ -80,7 +131,7 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
         nonNull(function, "function");
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = onConnection(connection);
                     TransactionHolder th = new TransactionHolder();
                     return connection.send(Request.cmd(Command.MULTI))
                             .chain(x -> function.apply(new ReactiveTransactionalRedisDataSourceImpl(singleConnectionDS, th)))
@@ -104,7 +155,7 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
         doesNotContainNull(keys, "keys");
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = onConnection(connection);
                     List<String> watched = List.of(keys);
                     TransactionHolder th = new TransactionHolder();
                     return watch(connection, keys) // WATCH keys
@@ -126,6 +177,14 @@ public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedi
                 });
     }
 
+    @Override
+    public Uni<TransactionResult> withBatch(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> function) {
+        nonNull(function, "function");
+        ReactiveBatchRedisDataSourceImpl batch = new ReactiveBatchRedisDataSourceImpl(this, new TransactionHolder());
+        return function.apply(batch)
+                .chain(ignored -> batch.send());
+    }
+
     private Uni<Void> watch(RedisConnection connection, String... keys) {
         List<String> watched = List.of(keys);
         Request request = Request.cmd(Command.WATCH);
@@ -146,10 +205,10 @@ public <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<R
 
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = onConnection(connection);
                     TransactionHolder th = new TransactionHolder();
                     return watch(connection, watchedKeys) // WATCH keys
-                            .chain(x -> preTxBlock.apply(new ReactiveRedisDataSourceImpl(vertx, redis, connection)))// Execute the pre-tx-block
+                            .chain(x -> preTxBlock.apply(onConnection(connection)))// Execute the pre-tx-block
                             .chain(input -> connection.send(Request.cmd(Command.MULTI))
                                     .chain(x -> tx
                                             .apply(input, new ReactiveTransactionalRedisDataSourceImpl(singleConnectionDS, th)))
@@ -220,7 +279,7 @@ public Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> fun
         }
         return redis.connect()
                 .onItem().transformToUni(connection -> {
-                    ReactiveRedisDataSourceImpl singleConnectionDS = new ReactiveRedisDataSourceImpl(vertx, redis, connection);
+                    ReactiveRedisDataSourceImpl singleConnectionDS = onConnection(connection);
                     return function.apply(singleConnectionDS)
                             .onTermination().call(connection::close);
                 });
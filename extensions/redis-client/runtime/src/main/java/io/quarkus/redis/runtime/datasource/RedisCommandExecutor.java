@@ -1,5 +1,9 @@
 package io.quarkus.redis.runtime.datasource;
 
+import java.util.Collections;
+import java.util.Map;
+
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
@@ -12,4 +16,11 @@ default Uni<Response> execute(RedisCommand cmd) {
 
     Uni<Response> execute(Request toRequest);
 
+    /**
+     * @return the codecs to use instead of the default codecs, indexed by the encoded type
+     */
+    default Map<Class<?>, Codec<?>> getCodecs() {
+        return Collections.emptyMap();
+    }
+
 }
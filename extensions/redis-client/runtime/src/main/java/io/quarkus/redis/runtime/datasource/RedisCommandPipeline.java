@@ -0,0 +1,126 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.Command;
+
+/**
+ * Coalesces the commands executed during the same event loop iteration and sends them over a single connection, without
+ * waiting for the response of a command before sending the next one (auto-pipelining).
+ * <p>
+ * Unlike a batch, each command gets its own response: a failing command does not fail the other commands of the
+ * pipeline.
+ * <p>
+ * The commands which may block the connection, such as {@code BLPOP}, {@code XREAD} or {@code WAIT}, are not pipelined:
+ * the commands queued behind them on the same connection would wait until they return.
+ */
+class RedisCommandPipeline {
+
+    // stay below the default number of handlers a connection accepts to queue
+    static final int MAX_PIPELINE_SIZE = 1024;
+
+    // XREAD and XREADGROUP only block with the BLOCK option, they are never pipelined to keep the check cheap
+    private static final Set<Command> BLOCKING_COMMANDS = Set.of(Command.BLPOP, Command.BRPOP, Command.BRPOPLPUSH,
+            Command.BLMOVE, Command.BLMPOP, Command.BZPOPMIN, Command.BZPOPMAX, Command.BZMPOP, Command.XREAD,
+            Command.XREADGROUP, Command.WAIT);
+
+    private final Vertx vertx;
+    private final Redis redis;
+
+    // guarded by this
+    private List<PendingCommand> pending = new ArrayList<>();
+
+    RedisCommandPipeline(Vertx vertx, Redis redis) {
+        this.vertx = vertx;
+        this.redis = redis;
+    }
+
+    Uni<Response> send(Request request) {
+        if (BLOCKING_COMMANDS.contains(request.command().getDelegate())) {
+            return redis.send(request);
+        }
+        return Uni.createFrom().emitter(emitter -> enqueue(new PendingCommand(request, emitter)));
+    }
+
+    private void enqueue(PendingCommand command) {
+        boolean first;
+        synchronized (this) {
+            first = pending.isEmpty();
+            pending.add(command);
+        }
+        if (first) {
+            Context context = io.vertx.core.Vertx.currentContext();
+            if (context != null && Context.isOnEventLoopThread()) {
+                // the commands executed until the end of the current iteration join the pipeline
+                context.runOnContext(ignored -> flush());
+            } else {
+                // do not schedule the flush on the context of a blocked worker thread
+                vertx.getDelegate().nettyEventLoopGroup().execute(this::flush);
+            }
+        }
+    }
+
+    private void flush() {
+        List<PendingCommand> commands;
+        synchronized (this) {
+            commands = pending;
+            pending = new ArrayList<>();
+        }
+        if (commands.size() == 1) {
+            // no need to hold a connection
+            PendingCommand command = commands.get(0);
+            redis.send(command.request).subscribe().with(command.emitter::complete, command.emitter::fail);
+            return;
+        }
+        for (int i = 0; i < commands.size(); i += MAX_PIPELINE_SIZE) {
+            send(commands.subList(i, Math.min(i + MAX_PIPELINE_SIZE, commands.size())));
+        }
+    }
+
+    private void send(List<PendingCommand> commands) {
+        redis.connect().subscribe().with(connection -> {
+            AtomicInteger remaining = new AtomicInteger(commands.size());
+            for (PendingCommand command : commands) {
+                connection.send(command.request).subscribe().with(response -> {
+                    release(connection, remaining);
+                    command.emitter.complete(response);
+                }, failure -> {
+                    release(connection, remaining);
+                    command.emitter.fail(failure);
+                });
+            }
+        }, failure -> {
+            for (PendingCommand command : commands) {
+                command.emitter.fail(failure);
+            }
+        });
+    }
+
+    private static void release(RedisConnection connection, AtomicInteger remaining) {
+        if (remaining.decrementAndGet() == 0) {
+            connection.closeAndForget();
+        }
+    }
+
+    private static final class PendingCommand {
+
+        final Request request;
+        final UniEmitter<? super Response> emitter;
+
+        PendingCommand(Request request, UniEmitter<? super Response> emitter) {
+            this.request = request;
+            this.emitter = emitter;
+        }
+    }
+}
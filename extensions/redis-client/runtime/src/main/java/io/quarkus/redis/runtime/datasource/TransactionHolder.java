@@ -23,6 +23,14 @@ public List<Object> map(Response response) {
         return results;
     }
 
+    public List<Object> map(List<Response> responses) {
+        List<Object> results = new ArrayList<>();
+        for (int i = 0; i < mappers.size(); i++) {
+            results.add(mappers.get(i).apply(responses.get(i)));
+        }
+        return results;
+    }
+
     public void discard() {
         discarded = true;
     }
@@ -0,0 +1,140 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.datasource.value.TransactionalValueCommands;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisOptions;
+
+/**
+ * Compares the batches and the auto-pipelining with commands executed one by one, against an in-process Redis stand-in
+ * answering every read after a simulated network latency. It does not need a Redis container.
+ */
+public class BatchAndPipeliningBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchAndPipeliningBenchmarkTest.class);
+    private static final int COMMANDS = 500;
+    private static final long LATENCY_MS = 1;
+
+    static Vertx vertx;
+    static InProcessRedisServer server;
+    static Redis redis;
+    static RedisAPI api;
+
+    @BeforeAll
+    static void init() {
+        vertx = Vertx.vertx();
+        server = new InProcessRedisServer(vertx.getDelegate(), LATENCY_MS);
+        int port = server.start();
+        redis = Redis.createClient(vertx, new RedisOptions()
+                .setConnectionString("redis://localhost:" + port)
+                .setProtocolNegotiation(false)
+                .setMaxPoolWaiting(COMMANDS));
+        api = RedisAPI.api(redis);
+    }
+
+    @AfterAll
+    static void cleanup() {
+        redis.close();
+        server.stop();
+        vertx.closeAndAwait();
+    }
+
+    @BeforeEach
+    void reset() {
+        server.reset();
+    }
+
+    @Test
+    void batchIsSentAsASinglePipeline() {
+        RedisDataSource ds = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(10));
+        TransactionResult result = ds.withBatch(batch -> {
+            TransactionalValueCommands<String, Integer> values = batch.value(Integer.class);
+            for (int i = 0; i < COMMANDS; i++) {
+                values.set("key-" + i, i);
+            }
+            values.incr("counter");
+        });
+
+        assertThat(result.size()).isEqualTo(COMMANDS + 1);
+        assertThat(server.commands()).isEqualTo(COMMANDS + 1);
+        assertThat(server.maxCommandsPerRead()).isGreaterThan(1);
+    }
+
+    @Test
+    void commandsIssuedOnTheSameEventLoopIterationShareAConnection() {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, redis, api, true);
+        ReactiveValueCommands<String, Integer> values = ds.value(Integer.class);
+        List<Uni<Void>> sets = new ArrayList<>();
+        for (int i = 0; i < COMMANDS; i++) {
+            sets.add(values.set("key-" + i, i));
+        }
+        onEventLoop(Uni.join().all(sets).andFailFast()).join();
+
+        assertThat(server.commands()).isEqualTo(COMMANDS);
+        assertThat(server.connections()).isLessThanOrEqualTo(1);
+        assertThat(server.maxCommandsPerRead()).isGreaterThan(1);
+    }
+
+    @Test
+    void benchmark() {
+        RedisDataSource sequential = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(30));
+        ReactiveRedisDataSource pipelined = new ReactiveRedisDataSourceImpl(vertx, redis, api, true);
+
+        long start = System.nanoTime();
+        ValueCommands<String, Integer> values = sequential.value(Integer.class);
+        for (int i = 0; i < COMMANDS; i++) {
+            values.get("key-" + i);
+        }
+        long sequentialNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        sequential.withBatch(batch -> {
+            TransactionalValueCommands<String, Integer> batched = batch.value(Integer.class);
+            for (int i = 0; i < COMMANDS; i++) {
+                batched.get("key-" + i);
+            }
+        });
+        long batchNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<Uni<Integer>> gets = new ArrayList<>();
+        ReactiveValueCommands<String, Integer> reactiveValues = pipelined.value(Integer.class);
+        for (int i = 0; i < COMMANDS; i++) {
+            gets.add(reactiveValues.get("key-" + i));
+        }
+        onEventLoop(Uni.join().all(gets).andFailFast()).join();
+        long pipelinedNanos = System.nanoTime() - start;
+
+        LOGGER.infof("%d GET with a latency of %d ms: sequential %d ms, batch %d ms, auto-pipelining %d ms", COMMANDS,
+                LATENCY_MS, sequentialNanos / 1_000_000, batchNanos / 1_000_000, pipelinedNanos / 1_000_000);
+        // every sequential command waits for the simulated latency
+        assertThat(batchNanos).isLessThan(sequentialNanos);
+        assertThat(pipelinedNanos).isLessThan(sequentialNanos);
+    }
+
+    private static <T> CompletableFuture<T> onEventLoop(Uni<T> uni) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        vertx.runOnContext(() -> uni.subscribe().with(result::complete, result::completeExceptionally));
+        return result;
+    }
+}
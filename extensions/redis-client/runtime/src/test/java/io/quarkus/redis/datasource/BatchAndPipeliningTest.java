@@ -0,0 +1,151 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.list.KeyValue;
+import io.quarkus.redis.datasource.list.ReactiveListCommands;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.datasource.value.ReactiveTransactionalValueCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.datasource.value.TransactionalValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Response;
+
+public class BatchAndPipeliningTest extends DatasourceTestBase {
+
+    private static final int COMMANDS = 500;
+
+    @AfterEach
+    void clear() {
+        new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(10)).flushall();
+    }
+
+    @Test
+    void blockingBatch() {
+        RedisDataSource ds = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(10));
+        TransactionResult result = ds.withBatch(batch -> {
+            TransactionalValueCommands<String, Integer> values = batch.value(Integer.class);
+            for (int i = 0; i < COMMANDS; i++) {
+                values.set("key-" + i, i);
+            }
+            for (int i = 0; i < COMMANDS; i++) {
+                values.get("key-" + i);
+            }
+            values.incr("counter");
+            values.incr("counter");
+        });
+
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.size()).isEqualTo(2 * COMMANDS + 2);
+        for (int i = 0; i < COMMANDS; i++) {
+            assertThat(result.<Integer> get(COMMANDS + i)).isEqualTo(i);
+        }
+        assertThat(result.<Long> get(2 * COMMANDS + 1)).isEqualTo(2L);
+    }
+
+    @Test
+    void reactiveBatch() {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, redis, api);
+        TransactionResult result = ds.withBatch(batch -> {
+            ReactiveTransactionalValueCommands<String, String> values = batch.value(String.class);
+            return values.set("a", "hello")
+                    .chain(() -> values.get("a"))
+                    .chain(() -> values.get("missing"));
+        }).await().atMost(Duration.ofSeconds(10));
+
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat(result.<String> get(1)).isEqualTo("hello");
+        assertThat(result.<String> get(2)).isNull();
+    }
+
+    @Test
+    void discardedBatch() {
+        RedisDataSource ds = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(10));
+        TransactionResult result = ds.withBatch(batch -> {
+            batch.value(String.class).set("a", "hello");
+            batch.discard();
+        });
+
+        assertThat(result.discarded()).isTrue();
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(ds.value(String.class).get("a")).isNull();
+    }
+
+    @Test
+    void failingBatch() {
+        RedisDataSource ds = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(10));
+        assertThatThrownBy(() -> ds.withBatch(batch -> {
+            batch.value(String.class).set("a", "hello");
+            batch.execute("UNKNOWN");
+        })).hasMessageContaining("unknown command");
+    }
+
+    @Test
+    void autoPipelining() {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, redis, api, true);
+        ReactiveValueCommands<String, Integer> values = ds.value(Integer.class);
+        List<Uni<Void>> sets = new ArrayList<>();
+        for (int i = 0; i < COMMANDS; i++) {
+            sets.add(values.set("key-" + i, i));
+        }
+        onEventLoop(Uni.join().all(sets).andFailFast()).join();
+        List<Uni<Integer>> gets = new ArrayList<>();
+        for (int i = 0; i < COMMANDS; i++) {
+            gets.add(values.get("key-" + i));
+        }
+        List<Integer> results = onEventLoop(Uni.join().all(gets).andFailFast()).join();
+        for (int i = 0; i < COMMANDS; i++) {
+            assertThat(results.get(i)).isEqualTo(i);
+        }
+
+        // a failing command only fails itself
+        Uni<Response> unknown = ds.execute("UNKNOWN");
+        Uni<Integer> get = values.get("key-42");
+        CompletableFuture<Throwable> failure = onEventLoop(unknown.onItemOrFailure().transform((r, f) -> f));
+        CompletableFuture<Integer> value = onEventLoop(get);
+        assertThat(failure.join()).hasMessageContaining("unknown command");
+        assertThat(value.join()).isEqualTo(42);
+    }
+
+    @Test
+    void blockingCommandsAreNotPipelined() throws Exception {
+        ReactiveRedisDataSource ds = new ReactiveRedisDataSourceImpl(vertx, redis, api, true);
+        ReactiveListCommands<String, String> lists = ds.list(String.class);
+        ReactiveValueCommands<String, String> values = ds.value(String.class);
+        values.set("a", "hello").await().atMost(Duration.ofSeconds(10));
+
+        // issued during the same event loop iteration, the GET must not wait for the BLPOP
+        CompletableFuture<KeyValue<String, String>> blpop = new CompletableFuture<>();
+        CompletableFuture<String> get = new CompletableFuture<>();
+        vertx.runOnContext(() -> {
+            lists.blpop(Duration.ofSeconds(10), "queue").subscribe().with(blpop::complete, blpop::completeExceptionally);
+            values.get("a").subscribe().with(get::complete, get::completeExceptionally);
+        });
+        assertThat(get.get(5, TimeUnit.SECONDS)).isEqualTo("hello");
+        assertThat(blpop).isNotDone();
+
+        lists.lpush("queue", "item").await().atMost(Duration.ofSeconds(10));
+        KeyValue<String, String> popped = blpop.get(10, TimeUnit.SECONDS);
+        assertThat(popped.key()).isEqualTo("queue");
+        assertThat(popped.value()).isEqualTo("item");
+    }
+
+    private static <T> CompletableFuture<T> onEventLoop(Uni<T> uni) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        vertx.runOnContext(() -> uni.subscribe().with(result::complete, result::completeExceptionally));
+        return result;
+    }
+}
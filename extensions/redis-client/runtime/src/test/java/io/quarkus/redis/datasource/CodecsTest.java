@@ -0,0 +1,94 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+
+public class CodecsTest extends DatasourceTestBase {
+
+    private RedisDataSource ds;
+
+    @BeforeEach
+    void initialize() {
+        ds = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void clear() {
+        ds.flushall();
+    }
+
+    @Test
+    void jackson() {
+        Codec<Person> codec = new Codecs.JacksonCodec<>(Person.class);
+        Person person = new Person("luke", "skywalker");
+
+        byte[] payload = codec.encode(person);
+        assertThat(new String(payload, StandardCharsets.UTF_8)).contains("skywalker");
+        assertThat(codec.decode(payload)).isEqualTo(person);
+    }
+
+    @Test
+    void compression() {
+        Codec<String> codec = new Codecs.CompressingCodec<>(Codecs.StringCodec.INSTANCE, 64);
+        String small = "hello";
+        String large = "hello ".repeat(1000);
+
+        byte[] payload = codec.encode(small);
+        assertThat(payload).hasSize(small.length() + 1);
+        assertThat(codec.decode(payload)).isEqualTo(small);
+
+        payload = codec.encode(large);
+        assertThat(payload.length).isLessThan(large.length() / 10);
+        assertThat(codec.decode(payload)).isEqualTo(large);
+
+        // text stored before the compression was enabled
+        assertThat(codec.decode(small.getBytes(StandardCharsets.UTF_8))).isEqualTo(small);
+        Codec<Person> json = new Codecs.CompressingCodec<>(new Codecs.JacksonCodec<>(Person.class), 64);
+        Person person = new Person("luke", "skywalker");
+        assertThat(json.decode(new Codecs.JacksonCodec<>(Person.class).encode(person))).isEqualTo(person);
+    }
+
+    @Test
+    void lz4Compression() {
+        Codec<String> codec = new Codecs.CompressingCodec<>(Codecs.StringCodec.INSTANCE, 64, Codecs.Compression.LZ4);
+        String large = "hello ".repeat(1000);
+
+        byte[] payload = codec.encode(large);
+        assertThat(payload.length).isLessThan(large.length() / 10);
+        assertThat(codec.decode(payload)).isEqualTo(large);
+        assertThat(codec.decode(codec.encode("hello"))).isEqualTo("hello");
+    }
+
+    @Test
+    void dataSourceWithCodec() {
+        Person person = new Person("luke", "skywalker");
+
+        ValueCommands<String, Person> json = ds.value(Person.class);
+        ValueCommands<String, Person> compressed = ds
+                .withCodec(Person.class, new Codecs.CompressingCodec<>(new Codecs.JacksonCodec<>(Person.class), 16))
+                .value(Person.class);
+
+        json.set("json", person);
+        compressed.set("compressed", person);
+
+        assertThat(compressed.get("compressed")).isEqualTo(person);
+        // values stored with the default codec remain readable
+        assertThat(compressed.get("json")).isEqualTo(person);
+        assertThat(ds.value(byte[].class).get("compressed")[0]).isEqualTo((byte) 1);
+
+        // the codec is kept in the batches
+        assertThat(ds.withCodec(Person.class, new Codecs.CompressingCodec<>(new Codecs.JacksonCodec<>(Person.class), 16))
+                .withBatch(batch -> batch.value(Person.class).get("compressed")).<Person> get(0)).isEqualTo(person);
+    }
+}
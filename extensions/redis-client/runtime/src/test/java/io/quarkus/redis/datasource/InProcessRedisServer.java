@@ -0,0 +1,151 @@
+package io.quarkus.redis.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+
+/**
+ * A minimal Redis stand-in speaking RESP2 and supporting a few commands, used to test how the commands are sent without
+ * a Redis server. Each received buffer is answered after the configured latency, simulating the network round trip.
+ */
+class InProcessRedisServer {
+
+    // the values are stored as strings with a character per byte
+    private static final String BINARY = StandardCharsets.ISO_8859_1.name();
+
+    private final Vertx vertx;
+    private final long latencyMs;
+    private final Map<String, String> data = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger commands = new AtomicInteger();
+    private final AtomicInteger maxCommandsPerRead = new AtomicInteger();
+    private NetServer server;
+
+    InProcessRedisServer(Vertx vertx, long latencyMs) {
+        this.vertx = vertx;
+        this.latencyMs = latencyMs;
+    }
+
+    int start() {
+        server = vertx.createNetServer().connectHandler(this::handle);
+        return server.listen(0, "localhost").toCompletionStage().toCompletableFuture().join().actualPort();
+    }
+
+    void stop() {
+        server.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    void reset() {
+        data.clear();
+        connections.set(0);
+        commands.set(0);
+        maxCommandsPerRead.set(0);
+    }
+
+    int connections() {
+        return connections.get();
+    }
+
+    int commands() {
+        return commands.get();
+    }
+
+    int maxCommandsPerRead() {
+        return maxCommandsPerRead.get();
+    }
+
+    private void handle(NetSocket socket) {
+        connections.incrementAndGet();
+        Buffer[] received = { Buffer.buffer() };
+        socket.handler(buffer -> {
+            Buffer pending = received[0].appendBuffer(buffer);
+            Buffer responses = Buffer.buffer();
+            int position = 0;
+            int count = 0;
+            List<String> command = new ArrayList<>();
+            int next;
+            while ((next = parse(pending, position, command)) > 0) {
+                responses.appendString(execute(command), BINARY);
+                command.clear();
+                position = next;
+                count++;
+            }
+            received[0] = pending.getBuffer(position, pending.length());
+            commands.addAndGet(count);
+            maxCommandsPerRead.accumulateAndGet(count, Math::max);
+            if (latencyMs > 0) {
+                vertx.setTimer(latencyMs, ignored -> socket.write(responses));
+            } else {
+                socket.write(responses);
+            }
+        });
+    }
+
+    private String execute(List<String> command) {
+        switch (command.get(0).toUpperCase()) {
+            case "PING":
+                // sent by the client when a connection is established, not counted
+                commands.decrementAndGet();
+                return "+PONG\r\n";
+            case "SET":
+                data.put(command.get(1), command.get(2));
+                return "+OK\r\n";
+            case "GET":
+                return bulk(data.get(command.get(1)));
+            case "INCR":
+                return ":" + data.merge(command.get(1), "1", (v, one) -> Long.toString(Long.parseLong(v) + 1)) + "\r\n";
+            default:
+                return "-ERR unknown command '" + command.get(0) + "'\r\n";
+        }
+    }
+
+    private static String bulk(String value) {
+        if (value == null) {
+            return "$-1\r\n";
+        }
+        return "$" + value.length() + "\r\n" + value + "\r\n";
+    }
+
+    /**
+     * @return the position following the command, or {@code -1} if the command is not complete
+     */
+    private static int parse(Buffer buffer, int position, List<String> command) {
+        int end = lineEnd(buffer, position);
+        if (end < 0) {
+            return -1;
+        }
+        int size = Integer.parseInt(buffer.getString(position + 1, end));
+        position = end + 2;
+        for (int i = 0; i < size; i++) {
+            end = lineEnd(buffer, position);
+            if (end < 0) {
+                return -1;
+            }
+            int length = Integer.parseInt(buffer.getString(position + 1, end));
+            position = end + 2;
+            if (position + length + 2 > buffer.length()) {
+                return -1;
+            }
+            command.add(buffer.getString(position, position + length, BINARY));
+            position += length + 2;
+        }
+        return position;
+    }
+
+    private static int lineEnd(Buffer buffer, int position) {
+        for (int i = position; i < buffer.length() - 1; i++) {
+            if (buffer.getByte(i) == '\r' && buffer.getByte(i + 1) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.restclient.config;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -49,6 +50,15 @@ public class RestClientConfig {
         EMPTY.userAgent = Optional.empty();
         EMPTY.http2 = Optional.empty();
         EMPTY.alpn = Optional.empty();
+        EMPTY.responseCacheEnabled = Optional.empty();
+        EMPTY.responseCacheMaxEntries = Optional.empty();
+        EMPTY.responseCacheMaxEntrySize = Optional.empty();
+        EMPTY.responseCacheDirectory = Optional.empty();
+        EMPTY.coalesceRequests = Optional.empty();
+        EMPTY.coalesceIncludedHeaders = Optional.empty();
+        EMPTY.coalesceExcludedHeaders = Optional.empty();
+        EMPTY.hedgeRequests = Optional.empty();
+        EMPTY.hedgeDelay = Optional.empty();
     }
 
     /**
@@ -262,6 +272,88 @@ public class RestClientConfig {
     @ConfigItem
     public Optional<Boolean> alpn;
 
+    /**
+     * If set to true, the responses of the client are stored in a private HTTP cache. A stored response is served
+     * without contacting the server as long as it is fresh according to its `Cache-Control` or `Expires` headers, and
+     * is revalidated with a conditional request based on its `ETag` or `Last-Modified` headers once stale.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> responseCacheEnabled;
+
+    /**
+     * The maximum number of responses stored in the response cache, 100 by default.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Integer> responseCacheMaxEntries;
+
+    /**
+     * The maximum size in bytes of a response body stored in the response cache, 1 MiB by default. Larger responses are
+     * not stored.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Integer> responseCacheMaxEntrySize;
+
+    /**
+     * The directory where the response cache stores the response bodies. The bodies are kept in memory if not set.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<String> responseCacheDirectory;
+
+    /**
+     * Set to true to answer identical in-flight `GET`, `HEAD` and `OPTIONS` requests with a single request to the server.
+     * The requests are identical if they have the same method, URI and headers, see `coalesce-included-headers` and
+     * `coalesce-excluded-headers`.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> coalesceRequests;
+
+    /**
+     * The names of the headers that must have the same value for two requests to be coalesced when `coalesce-requests` is
+     * enabled. The other headers are ignored. All the headers are compared if not set, except the
+     * `coalesce-excluded-headers`.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<List<String>> coalesceIncludedHeaders;
+
+    /**
+     * The names of the headers that are ignored when comparing two requests when `coalesce-requests` is enabled, e.g.
+     * the tracing headers that are different for every request. Ignored if `coalesce-included-headers` is set.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<List<String>> coalesceExcludedHeaders;
+
+    /**
+     * Set to true to send a second copy of the `GET`, `HEAD` and `OPTIONS` requests whose response takes longer than
+     * usual. If Stork is used, the second request is sent to another instance of the service. The first response is used.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> hedgeRequests;
+
+    /**
+     * The delay in milliseconds after which the second copy of a request is sent when `hedge-requests` is enabled. The
+     * 95th percentile of the latency of the recent requests of the client is used if not set.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Long> hedgeDelay;
+
     public static RestClientConfig load(String configKey) {
         final RestClientConfig instance = new RestClientConfig();
 
@@ -294,6 +386,15 @@ public static RestClientConfig load(String configKey) {
         instance.name = getConfigValue(configKey, "name", String.class);
         instance.userAgent = getConfigValue(configKey, "user-agent", String.class);
         instance.http2 = getConfigValue(configKey, "http2", Boolean.class);
+        instance.responseCacheEnabled = getConfigValue(configKey, "response-cache-enabled", Boolean.class);
+        instance.responseCacheMaxEntries = getConfigValue(configKey, "response-cache-max-entries", Integer.class);
+        instance.responseCacheMaxEntrySize = getConfigValue(configKey, "response-cache-max-entry-size", Integer.class);
+        instance.responseCacheDirectory = getConfigValue(configKey, "response-cache-directory", String.class);
+        instance.coalesceRequests = getConfigValue(configKey, "coalesce-requests", Boolean.class);
+        instance.coalesceIncludedHeaders = getConfigValues(configKey, "coalesce-included-headers", String.class);
+        instance.coalesceExcludedHeaders = getConfigValues(configKey, "coalesce-excluded-headers", String.class);
+        instance.hedgeRequests = getConfigValue(configKey, "hedge-requests", Boolean.class);
+        instance.hedgeDelay = getConfigValue(configKey, "hedge-delay", Long.class);
 
         return instance;
     }
@@ -331,6 +432,15 @@ public static RestClientConfig load(Class<?> interfaceClass) {
         instance.userAgent = getConfigValue(interfaceClass, "user-agent", String.class);
         instance.http2 = getConfigValue(interfaceClass, "http2", Boolean.class);
         instance.alpn = getConfigValue(interfaceClass, "alpn", Boolean.class);
+        instance.responseCacheEnabled = getConfigValue(interfaceClass, "response-cache-enabled", Boolean.class);
+        instance.responseCacheMaxEntries = getConfigValue(interfaceClass, "response-cache-max-entries", Integer.class);
+        instance.responseCacheMaxEntrySize = getConfigValue(interfaceClass, "response-cache-max-entry-size", Integer.class);
+        instance.responseCacheDirectory = getConfigValue(interfaceClass, "response-cache-directory", String.class);
+        instance.coalesceRequests = getConfigValue(interfaceClass, "coalesce-requests", Boolean.class);
+        instance.coalesceIncludedHeaders = getConfigValues(interfaceClass, "coalesce-included-headers", String.class);
+        instance.coalesceExcludedHeaders = getConfigValues(interfaceClass, "coalesce-excluded-headers", String.class);
+        instance.hedgeRequests = getConfigValue(interfaceClass, "hedge-requests", Boolean.class);
+        instance.hedgeDelay = getConfigValue(interfaceClass, "hedge-delay", Long.class);
 
         return instance;
     }
@@ -359,6 +469,30 @@ private static <T> Optional<T> getConfigValue(Class<?> clientInterface, String f
         return optional;
     }
 
+    private static <T> Optional<List<T>> getConfigValues(String configKey, String fieldName, Class<T> type) {
+        final Config config = ConfigProvider.getConfig();
+        Optional<List<T>> optional = config.getOptionalValues(composePropertyKey(configKey, fieldName), type);
+        if (optional.isEmpty()) { // try to find property with quoted configKey
+            optional = config.getOptionalValues(composePropertyKey('"' + configKey + '"', fieldName), type);
+        }
+        return optional;
+    }
+
+    private static <T> Optional<List<T>> getConfigValues(Class<?> clientInterface, String fieldName, Class<T> type) {
+        final Config config = ConfigProvider.getConfig();
+        // first try interface full name
+        Optional<List<T>> optional = config.getOptionalValues(
+                composePropertyKey('"' + clientInterface.getName() + '"', fieldName), type);
+        if (optional.isEmpty()) { // then interface simple name
+            optional = config.getOptionalValues(composePropertyKey(clientInterface.getSimpleName(), fieldName), type);
+        }
+        if (optional.isEmpty()) { // lastly quoted interface simple name
+            optional = config.getOptionalValues(composePropertyKey('"' + clientInterface.getSimpleName() + '"', fieldName),
+                    type);
+        }
+        return optional;
+    }
+
     private static <K, V> Map<K, V> getConfigValues(String configKey, String fieldName, Class<K> keyType, Class<V> valueType) {
         final SmallRyeConfig config = (SmallRyeConfig) ConfigProvider.getConfig();
         Optional<Map<K, V>> optional = config.getOptionalValues(composePropertyKey(configKey, fieldName), keyType, valueType);
@@ -0,0 +1,20 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.jackson.optimization")
+public class JacksonOptimizationConfig {
+
+    /**
+     * If enabled, a Jackson serializer is generated at build time for the types returned by the JSON endpoints, and for
+     * the types of their properties.
+     * <p>
+     * The generated serializers access the properties directly instead of using reflection. They are registered on the
+     * default {@code ObjectMapper} and are only used for the types whose serialization is not customized, with Jackson
+     * annotations, mix-ins or a naming strategy for instance. The other types keep using the regular Jackson
+     * serialization.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enableReflectionFreeSerializers;
+}
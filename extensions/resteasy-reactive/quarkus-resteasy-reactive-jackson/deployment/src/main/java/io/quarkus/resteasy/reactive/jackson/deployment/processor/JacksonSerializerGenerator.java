@@ -0,0 +1,368 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.RecordComponentInfo;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.SecureField;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonSerializer;
+
+/**
+ * Generates a {@link GeneratedJacksonSerializer} for the given types and for the types of their properties.
+ * <p>
+ * Only the plain classes and records whose properties can be found without looking at annotations are supported: the
+ * properties are the fields, in declaration order and starting with the fields of the superclasses, that are either
+ * public or have a public getter. Classes declaring getters without a matching field, or using Jackson annotations,
+ * are left to Jackson. At runtime, the generated serializer is also checked against the properties Jackson found, so
+ * a wrong guess here only means that the regular bean serializer is used.
+ */
+class JacksonSerializerGenerator {
+
+    private static final String SUFFIX = "$quarkusjacksonserializer";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final DotName SECURE_FIELD = DotName.createSimple(SecureField.class.getName());
+    private static final String[] UNSUPPORTED_ANNOTATION_PREFIXES = { "com.fasterxml.jackson.", "java.beans.", "kotlin." };
+
+    private static final MethodDescriptor CONSTRUCTOR = MethodDescriptor.ofConstructor(GeneratedJacksonSerializer.class,
+            Class.class, JsonSerializer.class, String[].class, String[].class);
+    private static final MethodDescriptor WRITE_INT = MethodDescriptor.ofMethod(GeneratedJacksonSerializer.class,
+            "writeInt", void.class, JsonGenerator.class, int.class, int.class);
+    private static final MethodDescriptor WRITE_LONG = MethodDescriptor.ofMethod(GeneratedJacksonSerializer.class,
+            "writeLong", void.class, JsonGenerator.class, int.class, long.class);
+    private static final MethodDescriptor WRITE_DOUBLE = MethodDescriptor.ofMethod(GeneratedJacksonSerializer.class,
+            "writeDouble", void.class, JsonGenerator.class, int.class, double.class);
+    private static final MethodDescriptor WRITE_FLOAT = MethodDescriptor.ofMethod(GeneratedJacksonSerializer.class,
+            "writeFloat", void.class, JsonGenerator.class, int.class, float.class);
+    private static final MethodDescriptor WRITE_BOOLEAN = MethodDescriptor.ofMethod(GeneratedJacksonSerializer.class,
+            "writeBoolean", void.class, JsonGenerator.class, int.class, boolean.class);
+    private static final MethodDescriptor WRITE_STRING = MethodDescriptor.ofMethod(GeneratedJacksonSerializer.class,
+            "writeString", void.class, JsonGenerator.class, SerializerProvider.class, int.class, String.class);
+    private static final MethodDescriptor WRITE_OBJECT = MethodDescriptor.ofMethod(GeneratedJacksonSerializer.class,
+            "writeObject", void.class, JsonGenerator.class, SerializerProvider.class, int.class, Object.class);
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+
+    JacksonSerializerGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * @return the names of the generated serializers, keyed by the name of the class they serialize
+     */
+    Map<String, String> generate(Collection<Type> types) {
+        Deque<DotName> queue = new ArrayDeque<>();
+        for (Type type : types) {
+            addClassNames(type, queue);
+        }
+        Set<DotName> visited = new HashSet<>();
+        Map<String, String> result = new LinkedHashMap<>();
+        while (!queue.isEmpty()) {
+            DotName name = queue.poll();
+            if (!visited.add(name)) {
+                continue;
+            }
+            ClassInfo classInfo = index.getClassByName(name);
+            if (classInfo == null) {
+                continue;
+            }
+            List<Property> properties = findProperties(classInfo);
+            if (properties == null || properties.isEmpty()) {
+                continue;
+            }
+            result.put(name.toString(), generateSerializer(classInfo, properties));
+            for (Property property : properties) {
+                addClassNames(property.type, queue);
+            }
+        }
+        return result;
+    }
+
+    private static void addClassNames(Type type, Deque<DotName> queue) {
+        switch (type.kind()) {
+            case CLASS:
+                queue.add(type.name());
+                break;
+            case PARAMETERIZED_TYPE:
+                queue.add(type.name());
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    addClassNames(argument, queue);
+                }
+                break;
+            case ARRAY:
+                addClassNames(type.asArrayType().component(), queue);
+                break;
+            case WILDCARD_TYPE:
+                addClassNames(type.asWildcardType().extendsBound(), queue);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private List<Property> findProperties(ClassInfo classInfo) {
+        if (!isSupported(classInfo)) {
+            return null;
+        }
+        if (classInfo.isRecord()) {
+            return findRecordProperties(classInfo);
+        }
+        // the class first, then its superclasses
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo current = classInfo;
+        while (true) {
+            if (hasUnsupportedAnnotations(current)) {
+                return null;
+            }
+            hierarchy.add(current);
+            DotName superName = current.superName();
+            if (superName == null || superName.equals(OBJECT)) {
+                break;
+            }
+            current = index.getClassByName(superName);
+            if (current == null) {
+                return null;
+            }
+        }
+
+        Map<String, MethodInfo> getters = new HashMap<>();
+        for (ClassInfo c : hierarchy) {
+            for (MethodInfo method : c.methods()) {
+                if (isGetter(method)) {
+                    // the most specific override wins
+                    getters.putIfAbsent(getterPropertyName(method), method);
+                }
+            }
+        }
+        List<Property> properties = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            for (FieldInfo field : hierarchy.get(i).unsortedFields()) {
+                if (Modifier.isStatic(field.flags()) || field.isSynthetic()) {
+                    continue;
+                }
+                if (!names.add(field.name()) || Modifier.isTransient(field.flags())) {
+                    // hidden or transient fields are not handled
+                    return null;
+                }
+                MethodInfo getter = getters.remove(field.name());
+                if (getter != null) {
+                    properties.add(new Property(field.name(), getter.name(), getter.returnType(), getter, null));
+                } else if (Modifier.isPublic(field.flags())) {
+                    properties.add(new Property(field.name(), field.name(), field.type(), null, field));
+                }
+            }
+        }
+        if (!getters.isEmpty()) {
+            // Jackson would also serialize these getters, in an order that is only known at runtime
+            return null;
+        }
+        return properties;
+    }
+
+    private List<Property> findRecordProperties(ClassInfo classInfo) {
+        if (hasUnsupportedAnnotations(classInfo)) {
+            return null;
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            if (isGetter(method)) {
+                return null;
+            }
+        }
+        List<Property> properties = new ArrayList<>();
+        for (RecordComponentInfo component : classInfo.unsortedRecordComponents()) {
+            MethodInfo accessor = classInfo.method(component.name());
+            if (accessor == null || !Modifier.isPublic(accessor.flags())) {
+                return null;
+            }
+            properties.add(new Property(component.name(), accessor.name(), accessor.returnType(), accessor, null));
+        }
+        return properties;
+    }
+
+    private static boolean isSupported(ClassInfo classInfo) {
+        short flags = classInfo.flags();
+        return Modifier.isPublic(flags)
+                && !Modifier.isAbstract(flags)
+                && !classInfo.isInterface()
+                && !classInfo.isEnum()
+                && !classInfo.isAnnotation()
+                && classInfo.nestingType() != ClassInfo.NestingType.ANONYMOUS
+                && classInfo.nestingType() != ClassInfo.NestingType.LOCAL
+                && !classInfo.name().toString().startsWith("java.");
+    }
+
+    private static boolean hasUnsupportedAnnotations(ClassInfo classInfo) {
+        for (AnnotationInstance annotation : classInfo.annotations()) {
+            DotName name = annotation.name();
+            if (name.equals(SECURE_FIELD)) {
+                return true;
+            }
+            String className = name.toString();
+            for (String prefix : UNSUPPORTED_ANNOTATION_PREFIXES) {
+                if (className.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGetter(MethodInfo method) {
+        if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags()) || method.isSynthetic()
+                || method.parametersCount() != 0 || method.returnType().kind() == Type.Kind.VOID) {
+            return false;
+        }
+        String name = method.name();
+        if (name.startsWith("get")) {
+            return name.length() > 3;
+        }
+        return name.startsWith("is") && name.length() > 2 && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN;
+    }
+
+    /**
+     * Same as the default Jackson naming: the leading upper case characters of the name without its prefix are
+     * converted to lower case.
+     */
+    private static String getterPropertyName(MethodInfo method) {
+        String name = method.name();
+        int offset = name.startsWith("is") ? 2 : 3;
+        StringBuilder sb = new StringBuilder(name.length() - offset);
+        sb.append(name, offset, name.length());
+        for (int i = 0; i < sb.length(); i++) {
+            char c = sb.charAt(i);
+            char lower = Character.toLowerCase(c);
+            if (c == lower) {
+                break;
+            }
+            sb.setCharAt(i, lower);
+        }
+        return sb.toString();
+    }
+
+    private String generateSerializer(ClassInfo classInfo, List<Property> properties) {
+        String serializerName = classInfo.name().toString() + SUFFIX;
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput).className(serializerName)
+                .superClass(GeneratedJacksonSerializer.class).build()) {
+
+            MethodCreator constructor = classCreator
+                    .getMethodCreator(MethodDescriptor.ofConstructor(serializerName, JsonSerializer.class));
+            constructor.setModifiers(Modifier.PUBLIC);
+            ResultHandle names = constructor.newArray(String.class, properties.size());
+            ResultHandle accessors = constructor.newArray(String.class, properties.size());
+            for (int i = 0; i < properties.size(); i++) {
+                constructor.writeArrayValue(names, i, constructor.load(properties.get(i).name));
+                constructor.writeArrayValue(accessors, i, constructor.load(properties.get(i).accessor));
+            }
+            constructor.invokeSpecialMethod(CONSTRUCTOR, constructor.getThis(),
+                    constructor.loadClass(classInfo.name().toString()), constructor.getMethodParam(0), names, accessors);
+            constructor.returnValue(null);
+
+            MethodCreator serialize = classCreator.getMethodCreator("serializeProperties", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class);
+            serialize.setModifiers(Modifier.PROTECTED);
+            serialize.addException(IOException.class);
+            String beanClass = classInfo.name().toString();
+            ResultHandle bean = serialize.checkCast(serialize.getMethodParam(0), beanClass);
+            ResultHandle gen = serialize.getMethodParam(1);
+            ResultHandle provider = serialize.getMethodParam(2);
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                // the members are referenced through the bean class, as they may be declared in a superclass that is not
+                // accessible from the serializer
+                ResultHandle value = property.getter != null
+                        ? serialize.invokeVirtualMethod(MethodDescriptor.ofMethod(beanClass, property.getter.name(),
+                                DescriptorUtils.typeToString(property.getter.returnType())), bean)
+                        : serialize.readInstanceField(FieldDescriptor.of(beanClass, property.field.name(),
+                                DescriptorUtils.typeToString(property.field.type())), bean);
+                ResultHandle index = serialize.load(i);
+                MethodDescriptor write = writeMethod(property.type);
+                if (write == WRITE_OBJECT && property.type.kind() == Type.Kind.PRIMITIVE) {
+                    // byte, short and char are boxed and go through their Jackson serializer
+                    value = serialize.checkCast(value, Object.class);
+                }
+                // the protected helpers have to be referenced through the generated class
+                write = MethodDescriptor.ofMethod(serializerName, write.getName(), write.getReturnType(),
+                        write.getParameterTypes());
+                if (write.getParameterTypes().length == 3) {
+                    serialize.invokeVirtualMethod(write, serialize.getThis(), gen, index, value);
+                } else {
+                    serialize.invokeVirtualMethod(write, serialize.getThis(), gen, provider, index, value);
+                }
+            }
+            serialize.returnValue(null);
+        }
+        return serializerName;
+    }
+
+    private static MethodDescriptor writeMethod(Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            switch (type.asPrimitiveType().primitive()) {
+                case INT:
+                    return WRITE_INT;
+                case LONG:
+                    return WRITE_LONG;
+                case DOUBLE:
+                    return WRITE_DOUBLE;
+                case FLOAT:
+                    return WRITE_FLOAT;
+                case BOOLEAN:
+                    return WRITE_BOOLEAN;
+                default:
+                    return WRITE_OBJECT;
+            }
+        }
+        return type.name().equals(STRING) ? WRITE_STRING : WRITE_OBJECT;
+    }
+
+    private static final class Property {
+
+        final String name;
+        final String accessor;
+        final Type type;
+        final MethodInfo getter;
+        final FieldInfo field;
+
+        Property(String name, String accessor, Type type, MethodInfo getter, FieldInfo field) {
+            this.name = name;
+            this.accessor = accessor;
+            this.type = type;
+            this.getter = getter;
+            this.field = field;
+        }
+    }
+}
@@ -8,6 +8,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -34,12 +35,14 @@
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
@@ -55,6 +58,7 @@
 import io.quarkus.resteasy.reactive.jackson.runtime.security.SecurityCustomSerialization;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyWriter;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersCustomizer;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyWriter;
@@ -267,6 +271,55 @@ void handleJsonAnnotations(Optional<ResourceScanningResultBuildItem> resourceSca
         }
     }
 
+    @BuildStep
+    void generatedSerializersCustomizer(JacksonOptimizationConfig optimization,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (optimization.enableReflectionFreeSerializers) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersCustomizer.class));
+        }
+    }
+
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void generateSerializers(JacksonOptimizationConfig optimization,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClassProducer,
+            ResteasyReactiveServerJacksonRecorder recorder, ShutdownContextBuildItem shutdown) {
+        if (!optimization.enableReflectionFreeSerializers) {
+            return;
+        }
+        List<Type> returnTypes = new ArrayList<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            String[] produces = entry.getResourceMethod().getProduces();
+            // JSON is the default media type when Jackson is present
+            if (produces == null || produces.length == 0 || producesJson(produces)) {
+                returnTypes.add(entry.getMethodInfo().returnType());
+            }
+        }
+        Map<String, String> serializers = new JacksonSerializerGenerator(index.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true)).generate(returnTypes);
+        if (serializers.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : serializers.entrySet()) {
+            log.debugf("Generated serializer %s for %s", entry.getValue(), entry.getKey());
+            reflectiveClassProducer.produce(new ReflectiveClassBuildItem(true, false, false, entry.getValue()));
+            recorder.recordGeneratedSerializer(entry.getKey(), entry.getValue());
+        }
+        recorder.configureShutdown(shutdown);
+    }
+
+    private static boolean producesJson(String[] produces) {
+        for (String mediaType : produces) {
+            if (mediaType.toLowerCase(Locale.ROOT).contains("json")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @BuildStep
     public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem index,
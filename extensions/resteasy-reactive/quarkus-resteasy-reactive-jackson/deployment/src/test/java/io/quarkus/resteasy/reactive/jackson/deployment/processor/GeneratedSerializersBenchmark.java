@@ -0,0 +1,137 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.resteasy.reactive.jackson.deployment.test.generated.Address;
+import io.quarkus.resteasy.reactive.jackson.deployment.test.generated.BaseEntity;
+import io.quarkus.resteasy.reactive.jackson.deployment.test.generated.Customer;
+import io.quarkus.resteasy.reactive.jackson.deployment.test.generated.Order;
+import io.quarkus.resteasy.reactive.jackson.deployment.test.generated.OrderLine;
+import io.quarkus.resteasy.reactive.jackson.deployment.test.generated.OrderResource;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonSerializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersCustomizer;
+
+/**
+ * Compares the throughput of the serializers generated by {@link JacksonSerializerGenerator} with the bean serializers
+ * of Jackson, on a graph of orders with a customer, an address, order lines and a map of attributes.
+ * <p>
+ * The serializers are generated from a Jandex index of the classes and defined in a class loader of their own, the way
+ * the build step generates them for the types returned by the resource methods. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.quarkus.resteasy.reactive.jackson.deployment.processor.GeneratedSerializersBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedSerializersBenchmark {
+
+    @Param({ "1", "100" })
+    int orders;
+
+    private List<Order> value;
+    private ObjectMapper jackson;
+    private ObjectMapper generated;
+
+    @Setup
+    public void setup() throws Exception {
+        value = OrderResource.createOrders(orders);
+        jackson = new ObjectMapper();
+        generated = new ObjectMapper();
+
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(GeneratedSerializersBenchmark.class.getClassLoader());
+        Index index = Index.of(Order.class, BaseEntity.class, Customer.class, Address.class, OrderLine.class);
+        Map<String, String> serializers = new JacksonSerializerGenerator(index, classLoader)
+                .generate(List.of(ClassType.create(DotName.createSimple(Order.class.getName()))));
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            ResteasyReactiveServerJacksonRecorder recorder = new ResteasyReactiveServerJacksonRecorder();
+            for (Map.Entry<String, String> entry : serializers.entrySet()) {
+                recorder.recordGeneratedSerializer(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        new GeneratedSerializersCustomizer().customize(generated);
+
+        for (Class<?> type : List.of(Order.class, Customer.class, Address.class, OrderLine.class)) {
+            if (!(generated.getSerializerProviderInstance().findValueSerializer(type,
+                    null) instanceof GeneratedJacksonSerializer)) {
+                throw new IllegalStateException("The generated serializer of " + type + " is not used");
+            }
+        }
+        if (!Arrays.equals(jackson(), generated())) {
+            throw new IllegalStateException("The generated serializers do not write the same JSON as Jackson");
+        }
+    }
+
+    @Benchmark
+    public byte[] jackson() throws Exception {
+        return jackson.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] generated() throws Exception {
+        return generated.writeValueAsBytes(value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(GeneratedSerializersBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    static class GeneratedClassLoader extends ClassLoader implements ClassOutput {
+
+        private final Map<String, byte[]> classes = new HashMap<>();
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public void write(String name, byte[] data) {
+            classes.put(name.replace('/', '.'), data);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+public class Address {
+
+    public String street;
+    public String city;
+    public int zipCode;
+}
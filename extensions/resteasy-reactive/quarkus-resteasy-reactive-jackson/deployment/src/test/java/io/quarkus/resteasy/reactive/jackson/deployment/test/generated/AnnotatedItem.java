@@ -0,0 +1,17 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class AnnotatedItem {
+
+    @JsonProperty("label")
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
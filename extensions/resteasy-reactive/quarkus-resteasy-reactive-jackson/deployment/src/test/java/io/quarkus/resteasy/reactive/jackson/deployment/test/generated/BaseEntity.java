@@ -0,0 +1,14 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+public class BaseEntity {
+
+    private long id;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+}
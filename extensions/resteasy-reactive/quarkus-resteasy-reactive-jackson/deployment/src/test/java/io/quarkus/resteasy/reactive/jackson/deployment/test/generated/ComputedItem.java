@@ -0,0 +1,20 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+import java.util.Locale;
+
+public class ComputedItem {
+
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getUpperCaseName() {
+        return name.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+public class Customer extends BaseEntity {
+
+    private String name;
+    private String email;
+    private boolean vip;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public boolean isVip() {
+        return vip;
+    }
+
+    public void setVip(boolean vip) {
+        this.vip = vip;
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+import static io.restassured.RestAssured.get;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GeneratedSerializersNamingStrategyTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(OrderResource.class, BaseEntity.class, Order.class,
+                    Customer.class, Address.class, OrderLine.class, AnnotatedItem.class, ComputedItem.class))
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true")
+            .overrideConfigKey("quarkus.jackson.property-naming-strategy", "SNAKE_CASE");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testBeanSerializerIsKept() throws Exception {
+        assertFalse(objectMapper.getSerializerProviderInstance().findValueSerializer(Order.class,
+                null) instanceof GeneratedJacksonSerializer);
+        get("/orders/computed").then().statusCode(200)
+                .body(equalTo("{\"name\":\"computed\",\"upper_case_name\":\"COMPUTED\"}"));
+        get("/orders").then().statusCode(200)
+                .body("shipping_address.zip_code", equalTo(12345));
+    }
+}
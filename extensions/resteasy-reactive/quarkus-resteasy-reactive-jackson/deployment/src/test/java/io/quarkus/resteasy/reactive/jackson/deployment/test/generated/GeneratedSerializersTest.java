@@ -0,0 +1,57 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+import static io.restassured.RestAssured.get;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GeneratedSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(OrderResource.class, BaseEntity.class, Order.class,
+                    Customer.class, Address.class, OrderLine.class, AnnotatedItem.class, ComputedItem.class))
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testGeneratedSerializersAreUsed() throws Exception {
+        for (Class<?> type : List.of(Order.class, Customer.class, Address.class, OrderLine.class)) {
+            assertTrue(objectMapper.getSerializerProviderInstance().findValueSerializer(type,
+                    null) instanceof GeneratedJacksonSerializer, type.getName());
+        }
+        // customized with annotations
+        assertFalse(objectMapper.getSerializerProviderInstance().findValueSerializer(AnnotatedItem.class,
+                null) instanceof GeneratedJacksonSerializer);
+        // getter without a field
+        assertFalse(objectMapper.getSerializerProviderInstance().findValueSerializer(ComputedItem.class,
+                null) instanceof GeneratedJacksonSerializer);
+    }
+
+    @Test
+    public void testSameOutputAsJackson() throws Exception {
+        ObjectMapper jackson = new ObjectMapper();
+        get("/orders").then().statusCode(200)
+                .body(equalTo(jackson.writeValueAsString(OrderResource.createOrder(1))));
+        get("/orders/list").then().statusCode(200)
+                .body(equalTo(jackson.writeValueAsString(OrderResource.createOrders(3))));
+        get("/orders/annotated").then().statusCode(200)
+                .body(equalTo("{\"label\":\"annotated\"}"));
+        get("/orders/computed").then().statusCode(200)
+                .body(equalTo("{\"name\":\"computed\",\"upperCaseName\":\"COMPUTED\"}"));
+    }
+}
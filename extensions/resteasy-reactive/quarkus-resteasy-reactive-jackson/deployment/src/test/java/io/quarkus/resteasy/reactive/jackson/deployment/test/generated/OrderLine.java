@@ -0,0 +1,59 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+public class OrderLine {
+
+    private String product;
+    private int quantity;
+    private double price;
+    private float discount;
+    private char category;
+    private short priority;
+
+    public String getProduct() {
+        return product;
+    }
+
+    public void setProduct(String product) {
+        this.product = product;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
+
+    public float getDiscount() {
+        return discount;
+    }
+
+    public void setDiscount(float discount) {
+        this.discount = discount;
+    }
+
+    public char getCategory() {
+        return category;
+    }
+
+    public void setCategory(char category) {
+        this.category = category;
+    }
+
+    public short getPriority() {
+        return priority;
+    }
+
+    public void setPriority(short priority) {
+        this.priority = priority;
+    }
+}
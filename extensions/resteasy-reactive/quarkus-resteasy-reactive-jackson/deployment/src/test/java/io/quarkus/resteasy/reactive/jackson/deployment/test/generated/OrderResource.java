@@ -0,0 +1,89 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import io.smallrye.mutiny.Uni;
+
+@Path("/orders")
+public class OrderResource {
+
+    @GET
+    public Order order() {
+        return createOrder(1);
+    }
+
+    @GET
+    @Path("/list")
+    public Uni<List<Order>> orders() {
+        return Uni.createFrom().item(createOrders(3));
+    }
+
+    @GET
+    @Path("/annotated")
+    public AnnotatedItem annotated() {
+        AnnotatedItem item = new AnnotatedItem();
+        item.setName("annotated");
+        return item;
+    }
+
+    @GET
+    @Path("/computed")
+    public ComputedItem computed() {
+        ComputedItem item = new ComputedItem();
+        item.setName("computed");
+        return item;
+    }
+
+    public static List<Order> createOrders(int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            orders.add(createOrder(i));
+        }
+        return orders;
+    }
+
+    public static Order createOrder(int id) {
+        Customer customer = new Customer();
+        customer.setId(id * 100);
+        customer.setName("Customer \"" + id + "\"");
+        customer.setVip(id % 2 == 0);
+
+        Address address = new Address();
+        address.street = id + " Main Street";
+        address.city = "Springfield";
+        address.zipCode = 12345;
+
+        List<OrderLine> lines = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            OrderLine line = new OrderLine();
+            line.setProduct("product-" + i);
+            line.setQuantity(i + 1);
+            line.setPrice(9.99 * (i + 1));
+            line.setDiscount(0.5f);
+            line.setCategory((char) ('A' + i));
+            line.setPriority((short) i);
+            lines.add(line);
+        }
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("channel", "web");
+        attributes.put("coupon", null);
+
+        Order order = new Order();
+        order.setId(id);
+        order.setNumber("ORD-" + id);
+        order.setCustomer(customer);
+        order.setShippingAddress(address);
+        order.setLines(lines);
+        order.setAttributes(attributes);
+        order.setTotal(id % 2 == 0 ? null : 42.5);
+        order.setPaid(id % 2 == 1);
+        return order;
+    }
+}
@@ -8,6 +8,7 @@
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedJacksonSerializer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -16,6 +17,7 @@ public class ResteasyReactiveServerJacksonRecorder {
 
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
+    private static final Map<Class<?>, Class<?>> generatedSerializerMap = new HashMap<>();
 
     public void recordJsonView(String methodId, String className) {
         jsonViewMap.put(methodId, loadClass(className));
@@ -25,12 +27,17 @@ public void recordCustomSerialization(String methodId, String className) {
         customSerializationMap.put(methodId, loadClass(className));
     }
 
+    public void recordGeneratedSerializer(String className, String serializerClassName) {
+        generatedSerializerMap.put(loadClass(className), loadClass(serializerClassName));
+    }
+
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
             public void run() {
                 jsonViewMap.clear();
                 customSerializationMap.clear();
+                generatedSerializerMap.clear();
             }
         });
     }
@@ -44,6 +51,11 @@ public static Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>> cust
         return (Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>>) customSerializationMap.get(methodId);
     }
 
+    @SuppressWarnings("unchecked")
+    public static Class<? extends GeneratedJacksonSerializer> generatedSerializerForType(Class<?> type) {
+        return (Class<? extends GeneratedJacksonSerializer>) generatedSerializerMap.get(type);
+    }
+
     private Class<?> loadClass(String className) {
         try {
             return Thread.currentThread().getContextClassLoader().loadClass(className);
@@ -0,0 +1,206 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Base class of the serializers generated at build time for the types returned by JSON endpoints.
+ * <p>
+ * A generated serializer writes the properties of a bean with direct getter calls and field reads, instead of going
+ * through the reflective {@link com.fasterxml.jackson.databind.ser.BeanSerializer}. It keeps the bean serializer Jackson
+ * created for the same type, and delegates to it everything it does not handle itself: views, type ids, unwrapping
+ * and property specific configuration.
+ */
+public abstract class GeneratedJacksonSerializer extends StdSerializer<Object>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    private final JsonSerializer<Object> fallback;
+    private final SerializedString[] names;
+    private final String[] accessors;
+    // the serializers of the values, resolved from their runtime type, like the bean property writers do
+    private final PropertySerializerMap[] serializers;
+
+    protected GeneratedJacksonSerializer(Class<?> type, JsonSerializer<Object> fallback, String[] names,
+            String[] accessors) {
+        super(type, false);
+        this.fallback = fallback;
+        this.names = new SerializedString[names.length];
+        for (int i = 0; i < names.length; i++) {
+            this.names[i] = new SerializedString(names[i]);
+        }
+        this.accessors = accessors;
+        this.serializers = new PropertySerializerMap[names.length];
+        for (int i = 0; i < names.length; i++) {
+            this.serializers[i] = PropertySerializerMap.emptyForProperties();
+        }
+    }
+
+    /**
+     * Writes the properties of the given bean, in the order Jackson would write them.
+     */
+    protected abstract void serializeProperties(Object bean, JsonGenerator gen, SerializerProvider provider)
+            throws IOException;
+
+    /**
+     * @return {@code true} if the properties written by the bean serializer are the ones this serializer writes, with
+     *         the same names, accessors and order, and without any property specific serialization
+     */
+    boolean matches(Iterator<PropertyWriter> properties) {
+        int i = 0;
+        while (properties.hasNext()) {
+            PropertyWriter property = properties.next();
+            if (i == names.length || property.getClass() != BeanPropertyWriter.class) {
+                return false;
+            }
+            BeanPropertyWriter writer = (BeanPropertyWriter) property;
+            AnnotatedMember accessor = writer.getMember();
+            if (accessor == null
+                    || !names[i].getValue().equals(writer.getName())
+                    || !accessors[i].equals(accessor.getName())
+                    || writer.hasSerializer()
+                    || writer.hasNullSerializer()
+                    || writer.getTypeSerializer() != null
+                    || writer.willSuppressNulls()
+                    || writer.getViews() != null) {
+                return false;
+            }
+            i++;
+        }
+        return i == names.length;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (provider.getActiveView() != null) {
+            fallback.serialize(value, gen, provider);
+            return;
+        }
+        gen.writeStartObject(value);
+        try {
+            serializeProperties(value, gen, provider);
+        } catch (StackOverflowError e) {
+            // same message as the bean serializer, as the stack is most likely exhausted by a cycle in the graph
+            throw JsonMappingException.from(gen, "Infinite recursion (StackOverflowError)", e);
+        } catch (Exception e) {
+            wrapAndThrow(provider, e, value, (String) null);
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        fallback.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = provider.handleSecondaryContextualization(fallback, property);
+        // the bean serializer only returns a new instance if the property or the type has a specific configuration
+        return contextual == fallback ? this : contextual;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (fallback instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) fallback).resolve(provider);
+        }
+    }
+
+    @Override
+    public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return fallback.unwrappingSerializer(unwrapper);
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return fallback.usesObjectId();
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Object value) {
+        return fallback.isEmpty(provider, value);
+    }
+
+    @Override
+    public Iterator<PropertyWriter> properties() {
+        return fallback.properties();
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint) throws JsonMappingException {
+        fallback.acceptJsonFormatVisitor(visitor, typeHint);
+    }
+
+    protected final void writeInt(JsonGenerator gen, int property, int value) throws IOException {
+        gen.writeFieldName(names[property]);
+        gen.writeNumber(value);
+    }
+
+    protected final void writeLong(JsonGenerator gen, int property, long value) throws IOException {
+        gen.writeFieldName(names[property]);
+        gen.writeNumber(value);
+    }
+
+    protected final void writeDouble(JsonGenerator gen, int property, double value) throws IOException {
+        gen.writeFieldName(names[property]);
+        gen.writeNumber(value);
+    }
+
+    protected final void writeFloat(JsonGenerator gen, int property, float value) throws IOException {
+        gen.writeFieldName(names[property]);
+        gen.writeNumber(value);
+    }
+
+    protected final void writeBoolean(JsonGenerator gen, int property, boolean value) throws IOException {
+        gen.writeFieldName(names[property]);
+        gen.writeBoolean(value);
+    }
+
+    protected final void writeString(JsonGenerator gen, SerializerProvider provider, int property, String value)
+            throws IOException {
+        gen.writeFieldName(names[property]);
+        if (value == null) {
+            provider.defaultSerializeNull(gen);
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    protected final void writeObject(JsonGenerator gen, SerializerProvider provider, int property, Object value)
+            throws IOException {
+        gen.writeFieldName(names[property]);
+        if (value == null) {
+            provider.defaultSerializeNull(gen);
+        } else {
+            Class<?> type = value.getClass();
+            PropertySerializerMap map = serializers[property];
+            JsonSerializer<Object> serializer = map.serializerFor(type);
+            if (serializer == null) {
+                PropertySerializerMap.SerializerAndMapResult result = map.findAndAddPrimarySerializer(type, provider, null);
+                serializers[property] = result.map;
+                serializer = result.serializer;
+            }
+            serializer.serialize(value, gen, provider);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import jakarta.inject.Singleton;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+
+/**
+ * Registers the {@link GeneratedSerializersModifier} on the default {@link ObjectMapper}.
+ */
+@Singleton
+public class GeneratedSerializersCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        SimpleModule module = new SimpleModule("quarkus-resteasy-reactive-jackson-generated-serializers");
+        module.setSerializerModifier(new GeneratedSerializersModifier());
+        objectMapper.registerModule(module);
+    }
+
+    @Override
+    public int priority() {
+        // the modifier has to see the serializers produced by the modifiers of the other modules
+        return MINIMUM_PRIORITY;
+    }
+}
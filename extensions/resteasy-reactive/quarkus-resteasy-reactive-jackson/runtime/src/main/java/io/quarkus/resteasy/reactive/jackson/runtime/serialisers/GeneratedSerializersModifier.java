@@ -0,0 +1,71 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.lang.reflect.Constructor;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+
+/**
+ * Replaces the bean serializer of the types for which a {@link GeneratedJacksonSerializer} exists.
+ * <p>
+ * The generated serializers are built from the classes only, so they are only used when the configuration of the
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} does not change the way these classes are serialized: the bean
+ * serializer is kept whenever a mix-in, a naming strategy, an inclusion rule, default typing or any other setting makes
+ * Jackson see other properties than the ones the generated serializer writes.
+ */
+class GeneratedSerializersModifier extends BeanSerializerModifier {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+            JsonSerializer<?> serializer) {
+        if (serializer.getClass() != BeanSerializer.class) {
+            return serializer;
+        }
+        Class<?> beanClass = beanDesc.getBeanClass();
+        Class<? extends GeneratedJacksonSerializer> generatedSerializer = ResteasyReactiveServerJacksonRecorder
+                .generatedSerializerForType(beanClass);
+        if (generatedSerializer == null || !isSupported(config, beanDesc)) {
+            return serializer;
+        }
+        GeneratedJacksonSerializer result;
+        try {
+            Constructor<? extends GeneratedJacksonSerializer> constructor = generatedSerializer
+                    .getConstructor(JsonSerializer.class);
+            result = constructor.newInstance(serializer);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the generated serializer of " + beanClass, e);
+        }
+        return result.matches(serializer.properties()) ? result : serializer;
+    }
+
+    private static boolean isSupported(SerializationConfig config, BeanDescription beanDesc) {
+        if (beanDesc.findAnyGetter() != null || beanDesc.getObjectIdInfo() != null
+                || config.getAnnotationIntrospector().findFilterId(beanDesc.getClassInfo()) != null) {
+            return false;
+        }
+        if (config.getDefaultTyper(beanDesc.getType()) != null) {
+            return false;
+        }
+        JsonInclude.Value inclusion = config.getDefaultPropertyInclusion(beanDesc.getBeanClass());
+        if (!includesAll(inclusion.getValueInclusion()) || !includesAll(inclusion.getContentInclusion())) {
+            return false;
+        }
+        for (Class<?> c = beanDesc.getBeanClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+            if (config.findMixInClassFor(c) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean includesAll(JsonInclude.Include include) {
+        return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS;
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+
+public class TemplateResultBufferTest {
+
+    private static final String UNICODE = "Příliš žluťoučký kůň úpěl ďábelské ódy.";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(HelloResource.class)
+                    .addClass(Templates.class)
+                    .addAsResource("templates/toplevel.txt")
+                    .addAsResource("templates/HelloResource/hello.txt")
+                    .addAsResource("templates/HelloResource/typedTemplate.txt")
+                    .addAsResource("templates/HelloResource/typedTemplate.html")
+                    .addAsResource("templates/HelloResource/typedTemplatePrimitives.txt")
+                    .addAsResource("templates/unicode.txt", "templates/hello.txt"))
+            .overrideConfigKey("quarkus.resteasy-reactive.qute.render-to-buffers", "true")
+            // Use small buffers so that the static text is both copied and written as is
+            .overrideConfigKey("quarkus.resteasy-reactive.qute.buffer-size", "16");
+
+    @Test
+    public void test() {
+        assertEquals("Hello world! " + UNICODE, body(when().get("/hello").then().statusCode(200)
+                .contentType("text/plain;charset=UTF-8").extract().asByteArray()));
+        assertEquals("Hello Jožka! " + UNICODE, body(when().get("/hello?name=Jožka").then().statusCode(200)
+                .extract().asByteArray()));
+        when().get("/hello/no-injection?name=Joe").then().body(Matchers.is("Salut Joe!"));
+        RestAssured.given().accept(ContentType.HTML).get("/hello/native/typed-template?name=Joe").then()
+                .contentType("text/html;charset=UTF-8")
+                .body(Matchers.is("<html>Salut Joe!</html>"));
+        when().get("/hello/native/typed-template-primitives").then()
+                .body(Matchers.is("Byte: 0 Short: 1 Int: 2 Long: 3 Char: a Boolean: true Float: 4.0 Double: 5.0"));
+        assertEquals("Hello world! " + UNICODE, body(when().get("/hello/status-and-headers").then().statusCode(201)
+                .header("foo", "bar").extract().asByteArray()));
+        assertEquals("Hello world! " + UNICODE, body(when().get("/hello/rest-response").then().statusCode(202)
+                .extract().asByteArray()));
+        assertEquals("Hello world! " + UNICODE, body(when().get("/hello/response").then().statusCode(203)
+                .extract().asByteArray()));
+    }
+
+    private static String body(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
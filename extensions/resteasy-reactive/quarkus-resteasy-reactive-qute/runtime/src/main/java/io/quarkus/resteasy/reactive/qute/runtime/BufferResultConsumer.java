@@ -0,0 +1,78 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.quarkus.qute.Utf8Consumer;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Writes the rendered chunks of a template to UTF-8 encoded buffers. A buffer is flushed once its size reaches the
+ * threshold, and the flushed buffers are composed without being copied.
+ */
+final class BufferResultConsumer implements Utf8Consumer {
+
+    private final int threshold;
+    private final CompositeByteBuf result;
+    private ByteBuf current;
+
+    BufferResultConsumer(int threshold) {
+        this.threshold = threshold;
+        // never consolidate the components
+        this.result = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void accept(String chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        ByteBufUtil.writeUtf8(current(), chunk);
+        flushIfNeeded();
+    }
+
+    @Override
+    public void acceptUtf8(byte[] utf8) {
+        if (utf8.length == 0) {
+            return;
+        }
+        if (utf8.length >= threshold) {
+            // The static text is immutable and can be written as is
+            flush();
+            result.addComponent(true, Unpooled.wrappedBuffer(utf8));
+        } else {
+            current().writeBytes(utf8);
+            flushIfNeeded();
+        }
+    }
+
+    /**
+     * @return the rendered template
+     */
+    Buffer toBuffer() {
+        flush();
+        return Buffer.buffer(result);
+    }
+
+    private ByteBuf current() {
+        if (current == null) {
+            current = Unpooled.buffer(threshold);
+        }
+        return current;
+    }
+
+    private void flushIfNeeded() {
+        if (current.readableBytes() >= threshold) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (current != null) {
+            result.addComponent(true, current);
+            current = null;
+        }
+    }
+
+}
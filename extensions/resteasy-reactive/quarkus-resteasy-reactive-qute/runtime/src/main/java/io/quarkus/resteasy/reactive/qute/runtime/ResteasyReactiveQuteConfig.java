@@ -0,0 +1,29 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigRoot(name = "resteasy-reactive.qute", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public class ResteasyReactiveQuteConfig {
+
+    /**
+     * If set to {@code true} then a template instance returned from a resource method is rendered directly to UTF-8
+     * encoded buffers which are written to the response, i.e. the rendered template is never materialized as a string. The
+     * static text of the template is encoded only once, when the template is parsed.
+     * <p>
+     * This mode is only used if the charset of the response media type is not specified or is UTF-8.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean renderToBuffers;
+
+    /**
+     * The size of the buffers the rendered template is written to when {@code render-to-buffers} is enabled. A new buffer
+     * is started once this size is reached, and the static text chunks larger than this size are written to the response
+     * without being copied.
+     */
+    @ConfigItem(defaultValue = "8K")
+    public MemorySize bufferSize;
+
+}
@@ -1,6 +1,8 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.getBufferMediaType;
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.toBufferUni;
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
 
 import jakarta.inject.Inject;
@@ -23,6 +25,9 @@ public class TemplateResponseFilter {
     @Inject
     Engine engine;
 
+    @Inject
+    ResteasyReactiveQuteConfig config;
+
     @ServerResponseFilter
     public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
         Object entity = responseContext.getEntity();
@@ -40,6 +45,13 @@ public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext,
             mediaType = selectedMediaType;
         }
 
+        MediaType bufferMediaType = getBufferMediaType(config, instance, mediaType);
+        if (bufferMediaType != null) {
+            return toBufferUni(instance, engine, (int) config.bufferSize.asLongValue()).chain(r -> {
+                responseContext.setEntity(r, null, bufferMediaType);
+                return Uni.createFrom().nullItem();
+            });
+        }
         Uni<String> uni = toUni(instance, engine);
         return uni.chain(r -> {
             if (mediaType != null) {
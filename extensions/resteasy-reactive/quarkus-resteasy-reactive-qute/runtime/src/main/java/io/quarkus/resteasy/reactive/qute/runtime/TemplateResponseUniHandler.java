@@ -1,7 +1,6 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.*;
-import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
 
 import jakarta.ws.rs.core.MediaType;
 
@@ -16,6 +15,7 @@
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
     private volatile Engine engine;
+    private volatile ResteasyReactiveQuteConfig config;
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
@@ -29,6 +29,7 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         if (engine == null) {
             synchronized (this) {
                 if (engine == null) {
+                    config = Arc.container().instance(ResteasyReactiveQuteConfig.class).get();
                     engine = Arc.container().instance(Engine.class).get();
                 }
             }
@@ -36,9 +37,14 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
+        MediaType bufferMediaType = getBufferMediaType(config, result, mediaType);
+        if (bufferMediaType != null) {
+            requestContext.setResponseContentType(bufferMediaType);
+            return toBufferUni(result, engine, (int) config.bufferSize.asLongValue());
+        }
         requestContext.setResponseContentType(mediaType);
         return toUni(result, engine);
     }
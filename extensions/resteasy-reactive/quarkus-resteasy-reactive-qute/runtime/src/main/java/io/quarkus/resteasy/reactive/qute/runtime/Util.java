@@ -1,9 +1,11 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
@@ -13,6 +15,7 @@
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 final class Util {
 
@@ -20,7 +23,39 @@ private Util() {
     }
 
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    static Uni<Buffer> toBufferUni(TemplateInstance instance, Engine engine, int bufferSize) {
+        Uni<Buffer> uni = Uni.createFrom().deferred(() -> {
+            BufferResultConsumer consumer = new BufferResultConsumer(bufferSize);
+            return Uni.createFrom().completionStage(instance.consume(consumer)).map(v -> consumer.toBuffer());
+        });
+        return withTimeout(uni, instance, engine);
+    }
+
+    /**
+     * @return the media type of the response if the rendered template can be written to UTF-8 encoded buffers, or
+     *         {@code null} if the template should be rendered as a string
+     */
+    static MediaType getBufferMediaType(ResteasyReactiveQuteConfig config, TemplateInstance instance,
+            MediaType mediaType) {
+        if (!config.renderToBuffers) {
+            return null;
+        }
+        if (mediaType == null) {
+            // A buffer does not imply a media type, unlike a string
+            Optional<Variant> variant = instance.getTemplate().getVariant();
+            if (variant.isEmpty() || variant.get().getMediaType() == null) {
+                return null;
+            }
+            return MediaType.valueOf(variant.get().getMediaType());
+        }
+        String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset) ? mediaType : null;
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
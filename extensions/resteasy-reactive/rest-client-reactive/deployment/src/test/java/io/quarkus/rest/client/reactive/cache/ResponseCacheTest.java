@@ -0,0 +1,288 @@
+package io.quarkus.rest.client.reactive.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ResponseCacheTest {
+
+    static final java.nio.file.Path ORPHANS_DIRECTORY = java.nio.file.Path.of("target/rest-client-cache-orphans");
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Resource.class, Client.class, DiskClient.class, OrphansClient.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.rest-client.cached.url=http://localhost:${quarkus.http.test-port:8081}\n" +
+                                    "quarkus.rest-client.cached.response-cache-enabled=true\n" +
+                                    "quarkus.rest-client.disk.url=http://localhost:${quarkus.http.test-port:8081}\n" +
+                                    "quarkus.rest-client.disk.response-cache-enabled=true\n" +
+                                    "quarkus.rest-client.disk.response-cache-directory=target/rest-client-cache\n" +
+                                    "quarkus.rest-client.orphans.url=http://localhost:${quarkus.http.test-port:8081}\n" +
+                                    "quarkus.rest-client.orphans.response-cache-enabled=true\n" +
+                                    "quarkus.rest-client.orphans.response-cache-directory=" + ORPHANS_DIRECTORY + "\n"),
+                            "application.properties"))
+            .setBeforeAllCustomizer(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        // a file written by a previous run
+                        Files.createDirectories(ORPHANS_DIRECTORY);
+                        Files.writeString(ORPHANS_DIRECTORY.resolve("orphan"), "fresh-0");
+                        Files.setLastModifiedTime(ORPHANS_DIRECTORY.resolve("orphan"),
+                                FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+
+    @RestClient
+    Client client;
+
+    @RestClient
+    DiskClient diskClient;
+
+    @RestClient
+    OrphansClient orphansClient;
+
+    @BeforeEach
+    void reset() {
+        Resource.FRESH.set(0);
+        Resource.VALIDATED_FULL.set(0);
+        Resource.VALIDATED_NOT_MODIFIED.set(0);
+        Resource.NO_STORE.set(0);
+        Resource.AUTHENTICATED.set(0);
+    }
+
+    @Test
+    void freshResponseIsServedFromCache() {
+        assertThat(client.fresh()).isEqualTo("fresh-1");
+        assertThat(client.fresh()).isEqualTo("fresh-1");
+        assertThat(Resource.FRESH.get()).isEqualTo(1);
+
+        // unsafe methods invalidate the stored response
+        client.update();
+        assertThat(client.fresh()).isEqualTo("fresh-2");
+        assertThat(Resource.FRESH.get()).isEqualTo(2);
+    }
+
+    @Test
+    void staleResponseIsRevalidated() {
+        assertThat(client.validated()).isEqualTo("validated");
+        assertThat(client.validated()).isEqualTo("validated");
+        assertThat(client.validated()).isEqualTo("validated");
+        assertThat(Resource.VALIDATED_FULL.get()).isEqualTo(1);
+        assertThat(Resource.VALIDATED_NOT_MODIFIED.get()).isEqualTo(2);
+    }
+
+    @Test
+    void responseIsOnlyServedToTheSameCredentials() {
+        assertThat(client.authenticated("Bearer alice")).isEqualTo("Bearer alice-1");
+        assertThat(client.authenticated("Bearer bob")).isEqualTo("Bearer bob-2");
+        assertThat(client.authenticated("Bearer alice")).isEqualTo("Bearer alice-1");
+        assertThat(client.authenticated("Bearer bob")).isEqualTo("Bearer bob-2");
+        assertThat(Resource.AUTHENTICATED.get()).isEqualTo(2);
+
+        // unsafe methods invalidate the responses stored for all the credentials
+        client.updateAuthenticated("Bearer alice");
+        assertThat(client.authenticated("Bearer bob")).isEqualTo("Bearer bob-3");
+        assertThat(client.authenticated("Bearer alice")).isEqualTo("Bearer alice-4");
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() {
+        assertThat(client.noStore()).isEqualTo("no-store-1");
+        assertThat(client.noStore()).isEqualTo("no-store-2");
+    }
+
+    @Test
+    void responseIsStoredOnDisk() throws Exception {
+        java.nio.file.Path directory = java.nio.file.Path.of("target/rest-client-cache");
+        // the files of a previous run would be mistaken for the stored body
+        deleteFiles(directory);
+        assertThat(diskClient.fresh()).isEqualTo("fresh-1");
+        // the body is written asynchronously
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.isDirectory(directory) || isEmpty(directory)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        assertThat(diskClient.fresh()).isEqualTo("fresh-1");
+        assertThat(Resource.FRESH.get()).isEqualTo(1);
+
+        // a body that can't be read is fetched again
+        deleteFiles(directory);
+        assertThat(diskClient.fresh()).isEqualTo("fresh-2");
+        assertThat(Resource.FRESH.get()).isEqualTo(2);
+    }
+
+    @Test
+    void revalidatedResponseIsFetchedAgainIfTheBodyCannotBeRead() throws Exception {
+        java.nio.file.Path directory = java.nio.file.Path.of("target/rest-client-cache");
+        deleteFiles(directory);
+        assertThat(diskClient.validated()).isEqualTo("validated");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.isDirectory(directory) || isEmpty(directory)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        deleteFiles(directory);
+
+        // the server answers 304 to the conditional request, then the full response to the request without validators
+        int full = Resource.VALIDATED_FULL.get();
+        assertThat(diskClient.validated()).isEqualTo("validated");
+        assertThat(Resource.VALIDATED_NOT_MODIFIED.get()).isEqualTo(1);
+        assertThat(Resource.VALIDATED_FULL.get()).isEqualTo(full + 1);
+    }
+
+    @Test
+    void filesOfAPreviousRunAreDeleted() throws Exception {
+        // the cache is created with the client
+        assertThat(orphansClient.fresh()).startsWith("fresh-");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (Files.exists(ORPHANS_DIRECTORY.resolve("orphan"))) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private static void deleteFiles(java.nio.file.Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<java.nio.file.Path> files = Files.list(directory)) {
+            for (java.nio.file.Path file : (Iterable<java.nio.file.Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static boolean isEmpty(java.nio.file.Path directory) throws IOException {
+        try (Stream<java.nio.file.Path> files = Files.list(directory)) {
+            return files.findAny().isEmpty();
+        }
+    }
+
+    @Path("/cache")
+    @ApplicationScoped
+    public static class Resource {
+
+        static final AtomicInteger FRESH = new AtomicInteger();
+        static final AtomicInteger VALIDATED_FULL = new AtomicInteger();
+        static final AtomicInteger VALIDATED_NOT_MODIFIED = new AtomicInteger();
+        static final AtomicInteger NO_STORE = new AtomicInteger();
+        static final AtomicInteger AUTHENTICATED = new AtomicInteger();
+
+        @GET
+        @Path("/fresh")
+        public Response fresh() {
+            return Response.ok("fresh-" + FRESH.incrementAndGet()).header("Cache-Control", "max-age=60").build();
+        }
+
+        @POST
+        @Path("/fresh")
+        public void update() {
+        }
+
+        @GET
+        @Path("/validated")
+        public Response validated(@HeaderParam("If-None-Match") String ifNoneMatch) {
+            if ("\"v1\"".equals(ifNoneMatch)) {
+                VALIDATED_NOT_MODIFIED.incrementAndGet();
+                return Response.notModified().header("ETag", "\"v1\"").build();
+            }
+            VALIDATED_FULL.incrementAndGet();
+            return Response.ok("validated").header("ETag", "\"v1\"").header("Cache-Control", "no-cache").build();
+        }
+
+        @GET
+        @Path("/no-store")
+        public Response noStore() {
+            return Response.ok("no-store-" + NO_STORE.incrementAndGet()).header("Cache-Control", "no-store").build();
+        }
+
+        @GET
+        @Path("/authenticated")
+        public Response authenticated(@HeaderParam("Authorization") String authorization) {
+            return Response.ok(authorization + "-" + AUTHENTICATED.incrementAndGet()).header("Cache-Control", "max-age=60")
+                    .build();
+        }
+
+        @POST
+        @Path("/authenticated")
+        public void updateAuthenticated() {
+        }
+    }
+
+    @Path("/cache")
+    @RegisterRestClient(configKey = "cached")
+    public interface Client {
+
+        @GET
+        @Path("/fresh")
+        String fresh();
+
+        @POST
+        @Path("/fresh")
+        void update();
+
+        @GET
+        @Path("/validated")
+        String validated();
+
+        @GET
+        @Path("/no-store")
+        String noStore();
+
+        @GET
+        @Path("/authenticated")
+        String authenticated(@HeaderParam("Authorization") String authorization);
+
+        @POST
+        @Path("/authenticated")
+        void updateAuthenticated(@HeaderParam("Authorization") String authorization);
+    }
+
+    @Path("/cache")
+    @RegisterRestClient(configKey = "disk")
+    public interface DiskClient {
+
+        @GET
+        @Path("/fresh")
+        String fresh();
+
+        @GET
+        @Path("/validated")
+        String validated();
+    }
+
+    @Path("/cache")
+    @RegisterRestClient(configKey = "orphans")
+    public interface OrphansClient {
+
+        @GET
+        @Path("/fresh")
+        String fresh();
+    }
+}
@@ -0,0 +1,186 @@
+package io.quarkus.rest.client.reactive.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class RequestCoalescingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Resource.class, Client.class, HedgingClient.class, ExcludingClient.class,
+                            IncludingClient.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.rest-client.coalescing.url=http://localhost:${quarkus.http.test-port:8081}\n" +
+                                    "quarkus.rest-client.coalescing.coalesce-requests=true\n" +
+                                    "quarkus.rest-client.excluding.url=http://localhost:${quarkus.http.test-port:8081}\n" +
+                                    "quarkus.rest-client.excluding.coalesce-requests=true\n" +
+                                    "quarkus.rest-client.excluding.coalesce-excluded-headers=X-Trace\n" +
+                                    "quarkus.rest-client.including.url=http://localhost:${quarkus.http.test-port:8081}\n" +
+                                    "quarkus.rest-client.including.coalesce-requests=true\n" +
+                                    "quarkus.rest-client.including.coalesce-included-headers=X-Tenant\n" +
+                                    "quarkus.rest-client.hedging.url=http://localhost:${quarkus.http.test-port:8081}\n" +
+                                    "quarkus.rest-client.hedging.hedge-requests=true\n" +
+                                    "quarkus.rest-client.hedging.hedge-delay=200\n"),
+                            "application.properties"));
+
+    @RestClient
+    Client client;
+
+    @RestClient
+    HedgingClient hedgingClient;
+
+    @RestClient
+    ExcludingClient excludingClient;
+
+    @RestClient
+    IncludingClient includingClient;
+
+    @BeforeEach
+    void reset() {
+        Resource.SLOW.set(0);
+        Resource.HEDGED.set(0);
+    }
+
+    @Test
+    void identicalRequestsAreCoalesced() {
+        List<Uni<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            calls.add(client.slow(null, null));
+        }
+        List<String> results = Uni.join().all(calls).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(results).containsOnly("slow-1");
+        assertThat(Resource.SLOW.get()).isEqualTo(1);
+    }
+
+    @Test
+    void differentRequestsAreNotCoalesced() {
+        List<String> results = Uni.join().all(client.slow("a", null), client.slow("b", null)).andFailFast().await()
+                .atMost(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(2).doesNotHaveDuplicates();
+        assertThat(Resource.SLOW.get()).isEqualTo(2);
+    }
+
+    @Test
+    void requestsWithDifferentHeadersAreNotCoalesced() {
+        List<String> results = Uni.join().all(client.slow(null, "a"), client.slow(null, "b")).andFailFast().await()
+                .atMost(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(2).doesNotHaveDuplicates();
+        assertThat(Resource.SLOW.get()).isEqualTo(2);
+    }
+
+    @Test
+    void excludedHeadersAreIgnored() {
+        List<Uni<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            calls.add(excludingClient.slow("trace-" + i));
+        }
+        List<String> results = Uni.join().all(calls).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(results).containsOnly("slow-1");
+        assertThat(Resource.SLOW.get()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyIncludedHeadersAreCompared() {
+        List<String> results = Uni.join()
+                .all(includingClient.slow("tenant-a", "trace-1"), includingClient.slow("tenant-a", "trace-2"),
+                        includingClient.slow("tenant-b", "trace-3"))
+                .andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(results.get(0)).isEqualTo(results.get(1));
+        assertThat(results.get(2)).isNotEqualTo(results.get(0));
+        assertThat(Resource.SLOW.get()).isEqualTo(2);
+    }
+
+    @Test
+    void slowRequestIsHedged() {
+        long start = System.nanoTime();
+        // the first request takes 3 seconds, the second one is sent after 200 ms and answered immediately
+        assertThat(hedgingClient.hedged()).isEqualTo("hedged-2");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Path("/coalescing")
+    public static class Resource {
+
+        static final AtomicInteger SLOW = new AtomicInteger();
+        static final AtomicInteger HEDGED = new AtomicInteger();
+
+        @GET
+        @Path("/slow")
+        public String slow(@QueryParam("id") String id) throws InterruptedException {
+            int count = SLOW.incrementAndGet();
+            Thread.sleep(500);
+            return "slow-" + count;
+        }
+
+        @GET
+        @Path("/hedged")
+        public String hedged() throws InterruptedException {
+            int count = HEDGED.incrementAndGet();
+            if (count == 1) {
+                Thread.sleep(3000);
+            }
+            return "hedged-" + count;
+        }
+    }
+
+    @Path("/coalescing")
+    @RegisterRestClient(configKey = "coalescing")
+    public interface Client {
+
+        @GET
+        @Path("/slow")
+        Uni<String> slow(@QueryParam("id") String id, @HeaderParam("X-Trace") String trace);
+    }
+
+    @Path("/coalescing")
+    @RegisterRestClient(configKey = "excluding")
+    public interface ExcludingClient {
+
+        @GET
+        @Path("/slow")
+        Uni<String> slow(@HeaderParam("X-Trace") String trace);
+    }
+
+    @Path("/coalescing")
+    @RegisterRestClient(configKey = "including")
+    public interface IncludingClient {
+
+        @GET
+        @Path("/slow")
+        Uni<String> slow(@HeaderParam("X-Tenant") String tenant, @HeaderParam("X-Trace") String trace);
+    }
+
+    @Path("/coalescing")
+    @RegisterRestClient(configKey = "hedging")
+    public interface HedgingClient {
+
+        @GET
+        @Path("/hedged")
+        String hedged();
+    }
+}
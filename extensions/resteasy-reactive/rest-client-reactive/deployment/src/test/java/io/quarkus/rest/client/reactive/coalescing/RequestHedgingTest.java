@@ -0,0 +1,131 @@
+package io.quarkus.rest.client.reactive.coalescing;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RequestHedgingTest {
+
+    private static final String SLOW_RESPONSE = "slow instance";
+
+    private static WireMockServer slowInstance;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Resource.class, StorkClient.class, AdaptiveClient.class)
+                    .addAsResource(new StringAsset(
+                            "quarkus.stork.hedging-service.service-discovery.type=static\n" +
+                                    "quarkus.stork.hedging-service.service-discovery.address-list="
+                                    + "localhost:${quarkus.http.test-port:8081},localhost:8767\n" +
+                                    "quarkus.rest-client.stork.url=stork://hedging-service\n" +
+                                    "quarkus.rest-client.stork.hedge-requests=true\n" +
+                                    "quarkus.rest-client.stork.hedge-delay=200\n" +
+                                    "quarkus.rest-client.adaptive.url=http://localhost:${quarkus.http.test-port:8081}\n" +
+                                    "quarkus.rest-client.adaptive.hedge-requests=true\n"),
+                            "application.properties"));
+
+    @BeforeAll
+    public static void setUp() {
+        slowInstance = new WireMockServer(options().port(8767));
+        slowInstance.stubFor(WireMock.get("/hedging/stork")
+                .willReturn(aResponse().withFixedDelay(3000).withBody(SLOW_RESPONSE).withStatus(200)));
+        slowInstance.start();
+    }
+
+    @AfterAll
+    public static void shutDown() {
+        slowInstance.shutdown();
+    }
+
+    @RestClient
+    StorkClient storkClient;
+
+    @RestClient
+    AdaptiveClient adaptiveClient;
+
+    @Test
+    void requestToSlowInstanceIsHedgedToAnotherInstance() {
+        for (int i = 0; i < 4; i++) {
+            long start = System.nanoTime();
+            // the requests sent to the slow instance are answered by the other instance after 200 ms
+            assertThat(storkClient.get()).isEqualTo("fast instance");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        }
+        assertThat(slowInstance.getAllServeEvents()).isNotEmpty();
+    }
+
+    @Test
+    void requestSlowerThanThe95thPercentileIsHedged() {
+        // the 95th percentile is known once 32 responses are received
+        for (int i = 0; i < 32; i++) {
+            adaptiveClient.get();
+        }
+        Resource.SLOW_ONCE.set(true);
+        int before = Resource.ADAPTIVE.get();
+
+        long start = System.nanoTime();
+        assertThat(adaptiveClient.get()).isEqualTo("adaptive-" + (before + 2));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Path("/hedging")
+    public static class Resource {
+
+        static final AtomicInteger ADAPTIVE = new AtomicInteger();
+        static final AtomicBoolean SLOW_ONCE = new AtomicBoolean();
+
+        @GET
+        @Path("/stork")
+        public String stork() {
+            return "fast instance";
+        }
+
+        @GET
+        @Path("/adaptive")
+        public String adaptive() throws InterruptedException {
+            int count = ADAPTIVE.incrementAndGet();
+            if (SLOW_ONCE.compareAndSet(true, false)) {
+                Thread.sleep(3000);
+            }
+            return "adaptive-" + count;
+        }
+    }
+
+    @Path("/hedging")
+    @RegisterRestClient(configKey = "stork")
+    public interface StorkClient {
+
+        @GET
+        @Path("/stork")
+        String get();
+    }
+
+    @Path("/hedging")
+    @RegisterRestClient(configKey = "adaptive")
+    public interface AdaptiveClient {
+
+        @GET
+        @Path("/adaptive")
+        String get();
+    }
+}
@@ -12,6 +12,7 @@
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -73,6 +74,8 @@ void configureBuilder(RestClientBuilderImpl builder) {
         configureQueryParamStyle(builder);
         configureProxy(builder);
         configureShared(builder);
+        configureResponseCache(builder);
+        configureRequestCoalescingAndHedging(builder);
         configureCustomProperties(builder);
     }
 
@@ -198,6 +201,61 @@ private void configureShared(RestClientBuilder builder) {
         }
     }
 
+    private void configureResponseCache(RestClientBuilder builder) {
+        Optional<Boolean> enabled = oneOf(clientConfigByClassName().responseCacheEnabled,
+                clientConfigByConfigKey().responseCacheEnabled);
+        if (enabled.isPresent() && enabled.get()) {
+            builder.property(QuarkusRestClientProperties.RESPONSE_CACHE, true);
+
+            Optional<Integer> maxEntries = oneOf(clientConfigByClassName().responseCacheMaxEntries,
+                    clientConfigByConfigKey().responseCacheMaxEntries);
+            if (maxEntries.isPresent()) {
+                builder.property(QuarkusRestClientProperties.RESPONSE_CACHE_MAX_ENTRIES, maxEntries.get());
+            }
+            Optional<Integer> maxEntrySize = oneOf(clientConfigByClassName().responseCacheMaxEntrySize,
+                    clientConfigByConfigKey().responseCacheMaxEntrySize);
+            if (maxEntrySize.isPresent()) {
+                builder.property(QuarkusRestClientProperties.RESPONSE_CACHE_MAX_ENTRY_SIZE, maxEntrySize.get());
+            }
+            Optional<String> directory = oneOf(clientConfigByClassName().responseCacheDirectory,
+                    clientConfigByConfigKey().responseCacheDirectory);
+            if (directory.isPresent()) {
+                builder.property(QuarkusRestClientProperties.RESPONSE_CACHE_DIRECTORY, directory.get());
+            }
+        }
+    }
+
+    private void configureRequestCoalescingAndHedging(RestClientBuilder builder) {
+        Optional<Boolean> coalesce = oneOf(clientConfigByClassName().coalesceRequests,
+                clientConfigByConfigKey().coalesceRequests);
+        if (coalesce.isPresent() && coalesce.get()) {
+            builder.property(QuarkusRestClientProperties.COALESCE_REQUESTS, true);
+
+            Optional<List<String>> includedHeaders = oneOf(clientConfigByClassName().coalesceIncludedHeaders,
+                    clientConfigByConfigKey().coalesceIncludedHeaders);
+            if (includedHeaders.isPresent()) {
+                builder.property(QuarkusRestClientProperties.COALESCE_INCLUDED_HEADERS, includedHeaders.get());
+            }
+            Optional<List<String>> excludedHeaders = oneOf(clientConfigByClassName().coalesceExcludedHeaders,
+                    clientConfigByConfigKey().coalesceExcludedHeaders);
+            if (excludedHeaders.isPresent()) {
+                builder.property(QuarkusRestClientProperties.COALESCE_EXCLUDED_HEADERS, excludedHeaders.get());
+            }
+        }
+
+        Optional<Boolean> hedge = oneOf(clientConfigByClassName().hedgeRequests,
+                clientConfigByConfigKey().hedgeRequests);
+        if (hedge.isPresent() && hedge.get()) {
+            builder.property(QuarkusRestClientProperties.HEDGE_REQUESTS, true);
+
+            Optional<Long> delay = oneOf(clientConfigByClassName().hedgeDelay,
+                    clientConfigByConfigKey().hedgeDelay);
+            if (delay.isPresent()) {
+                builder.property(QuarkusRestClientProperties.HEDGE_DELAY, delay.get());
+            }
+        }
+    }
+
     private void configureSsl(RestClientBuilderImpl builder) {
 
         Optional<String> maybeTrustStore = oneOf(clientConfigByClassName().trustStore, clientConfigByConfigKey().trustStore,
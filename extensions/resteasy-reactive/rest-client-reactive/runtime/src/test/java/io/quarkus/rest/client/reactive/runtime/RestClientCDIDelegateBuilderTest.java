@@ -9,6 +9,7 @@
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -90,6 +91,13 @@ public void testClientSpecificConfigs() {
         Mockito.verify(restClientBuilderMock).baseUri(URI.create("http://localhost"));
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.SHARED, true);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.NAME, "my-client");
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.RESPONSE_CACHE, true);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.RESPONSE_CACHE_MAX_ENTRIES, 50);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.COALESCE_REQUESTS, true);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.COALESCE_EXCLUDED_HEADERS,
+                List.of("traceparent"));
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HEDGE_REQUESTS, true);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HEDGE_DELAY, 250L);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MULTIPART_ENCODER_MODE,
                 HttpPostRequestEncoder.EncoderMode.HTML5);
 
@@ -203,6 +211,13 @@ private static RestClientConfig createSampleClientConfig() {
         clientConfig.uri = Optional.empty();
         clientConfig.shared = Optional.of(true);
         clientConfig.name = Optional.of("my-client");
+        clientConfig.responseCacheEnabled = Optional.of(true);
+        clientConfig.responseCacheMaxEntries = Optional.of(50);
+        clientConfig.coalesceRequests = Optional.of(true);
+        clientConfig.coalesceIncludedHeaders = Optional.empty();
+        clientConfig.coalesceExcludedHeaders = Optional.of(List.of("traceparent"));
+        clientConfig.hedgeRequests = Optional.of(true);
+        clientConfig.hedgeDelay = Optional.of(250L);
 
         // properties that override configRoot counterparts
         clientConfig.proxyAddress = Optional.of("host1:123");
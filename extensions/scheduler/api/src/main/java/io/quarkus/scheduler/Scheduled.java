@@ -43,7 +43,8 @@
  * <p>
  * By default, a scheduled method is executed on the main executor for blocking tasks. However, a scheduled method that returns
  * {@code java.util.concurrent.CompletionStage<Void>} or {@code io.smallrye.mutiny.Uni<Void>}, or is annotated with
- * {@link io.smallrye.common.annotation.NonBlocking} is executed on the event loop.
+ * {@link io.smallrye.common.annotation.NonBlocking} is executed on the event loop. A blocking scheduled method annotated with
+ * {@link io.smallrye.common.annotation.RunOnVirtualThread} is executed on a new virtual thread, if supported by the JVM.
  *
  * @see ScheduledExecution
  */
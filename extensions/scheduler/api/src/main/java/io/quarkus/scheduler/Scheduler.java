@@ -177,6 +177,16 @@ interface JobDefinition {
          */
         JobDefinition setAsyncTask(Function<ScheduledExecution, Uni<Void>> asyncTask);
 
+        /**
+         * If set to {@code true} then each execution of the sync task is run on a new virtual thread, if supported by the JVM.
+         * This setting is not allowed with an async task.
+         *
+         * @param runOnVirtualThread
+         * @return self
+         * @see io.smallrye.common.annotation.RunOnVirtualThread
+         */
+        JobDefinition setRunOnVirtualThread(boolean runOnVirtualThread);
+
         /**
          * Attempts to schedule the job.
          *
@@ -23,6 +23,7 @@ public abstract class AbstractJobDefinition implements JobDefinition {
     protected Function<ScheduledExecution, Uni<Void>> asyncTask;
     protected boolean scheduled = false;
     protected String timeZone = Scheduled.DEFAULT_TIMEZONE;
+    protected boolean runOnVirtualThread = false;
 
     public AbstractJobDefinition(String identity) {
         this.identity = identity;
@@ -97,6 +98,13 @@ public JobDefinition setAsyncTask(Function<ScheduledExecution, Uni<Void>> asyncT
         return this;
     }
 
+    @Override
+    public JobDefinition setRunOnVirtualThread(boolean runOnVirtualThread) {
+        checkScheduled();
+        this.runOnVirtualThread = runOnVirtualThread;
+        return this;
+    }
+
     protected void checkScheduled() {
         if (scheduled) {
             throw new IllegalStateException("Cannot modify a job that was already scheduled");
@@ -13,4 +13,9 @@ public boolean isBlocking() {
         return delegate.isBlocking();
     }
 
+    @Override
+    public boolean isRunningOnVirtualThread() {
+        return delegate.isRunningOnVirtualThread();
+    }
+
 }
@@ -0,0 +1,67 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * An invoker wrapper that records the fire time lag and the duration of each execution of a scheduled job.
+ * <p>
+ * The lag is the time elapsed between the scheduled fire time and the start of the execution, i.e. the time a job waited for
+ * the scheduler and the executor.
+ */
+public final class MetricsInvoker extends DelegateInvoker {
+
+    public static final String LAG_METRIC = "scheduled.executions.lag";
+    public static final String DURATION_METRIC = "scheduled.executions";
+
+    // set by the recorder when the application starts and reset when it stops
+    private static volatile MetricsFactory metricsFactory;
+
+    private final TimeRecorder lag;
+    private final TimeRecorder duration;
+
+    private MetricsInvoker(ScheduledInvoker delegate, MetricsFactory metricsFactory, String id) {
+        super(delegate);
+        this.lag = metricsFactory.builder(LAG_METRIC)
+                .description("The time elapsed between the scheduled fire time and the start of an execution")
+                .tag("job", id)
+                .buildTimer();
+        this.duration = metricsFactory.builder(DURATION_METRIC)
+                .description("The duration of an execution")
+                .tag("job", id)
+                .buildTimer();
+    }
+
+    /**
+     * @param factory the factory used to register the metrics, or {@code null} if the metrics are disabled
+     */
+    public static void setMetricsFactory(MetricsFactory factory) {
+        metricsFactory = factory;
+    }
+
+    /**
+     * @param delegate
+     * @param id the identity of the job, used to tag the metrics
+     * @return the wrapped invoker if the metrics are enabled, the delegate otherwise
+     */
+    public static ScheduledInvoker wrap(ScheduledInvoker delegate, String id) {
+        MetricsFactory factory = metricsFactory;
+        return factory != null ? new MetricsInvoker(delegate, factory, id) : delegate;
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        long start = System.nanoTime();
+        long lagMillis = Instant.now().toEpochMilli() - execution.getScheduledFireTime().toEpochMilli();
+        lag.update(Math.max(lagMillis, 0), TimeUnit.MILLISECONDS);
+        return delegate.invoke(execution).whenComplete((v, t) -> {
+            duration.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        });
+    }
+
+}
@@ -27,4 +27,14 @@ default boolean isBlocking() {
         return true;
     }
 
+    /**
+     * A blocking invoker that runs on a virtual thread is executed on a new virtual thread instead of the main executor for
+     * blocking tasks.
+     *
+     * @return {@code true} if the scheduled method runs on a virtual thread, {@code false} otherwise
+     */
+    default boolean isRunningOnVirtualThread() {
+        return false;
+    }
+
 }
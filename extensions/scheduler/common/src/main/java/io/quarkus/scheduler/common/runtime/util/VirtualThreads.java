@@ -0,0 +1,42 @@
+package io.quarkus.scheduler.common.runtime.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Provides the executor used to run the scheduled methods on virtual threads.
+ */
+public final class VirtualThreads {
+
+    private static final Logger LOG = Logger.getLogger(VirtualThreads.class);
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * The executor is looked up reflectively so that the scheduler can be compiled with a JDK that does not support virtual
+     * threads.
+     *
+     * @return the virtual thread per task executor, or {@code null} if virtual threads are not supported by the current JVM
+     */
+    public static ExecutorService getExecutor() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+
+        static final ExecutorService EXECUTOR = createExecutor();
+
+        private static ExecutorService createExecutor() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+                LOG.warnf("Virtual threads are not supported by the current JVM [%s]: scheduled methods annotated with "
+                        + "@RunOnVirtualThread are executed on the worker thread pool", e);
+                return null;
+            }
+        }
+    }
+}
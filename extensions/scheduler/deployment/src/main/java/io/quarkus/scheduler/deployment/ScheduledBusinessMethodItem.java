@@ -14,6 +14,7 @@ public final class ScheduledBusinessMethodItem extends MultiBuildItem {
     private final List<AnnotationInstance> schedules;
     private final MethodInfo method;
     private final boolean nonBlocking;
+    private final boolean runOnVirtualThread;
 
     public ScheduledBusinessMethodItem(BeanInfo bean, MethodInfo method, List<AnnotationInstance> schedules) {
         this(bean, method, schedules, false);
@@ -21,11 +22,17 @@ public ScheduledBusinessMethodItem(BeanInfo bean, MethodInfo method, List<Annota
 
     public ScheduledBusinessMethodItem(BeanInfo bean, MethodInfo method, List<AnnotationInstance> schedules,
             boolean hasNonBlockingAnnotation) {
+        this(bean, method, schedules, hasNonBlockingAnnotation, false);
+    }
+
+    public ScheduledBusinessMethodItem(BeanInfo bean, MethodInfo method, List<AnnotationInstance> schedules,
+            boolean hasNonBlockingAnnotation, boolean hasRunOnVirtualThreadAnnotation) {
         this.bean = bean;
         this.method = method;
         this.schedules = schedules;
         this.nonBlocking = hasNonBlockingAnnotation || SchedulerDotNames.COMPLETION_STAGE.equals(method.returnType().name())
                 || SchedulerDotNames.UNI.equals(method.returnType().name()) || KotlinUtil.isSuspendMethod(method);
+        this.runOnVirtualThread = hasRunOnVirtualThreadAnnotation;
     }
 
     /**
@@ -48,6 +55,10 @@ public boolean isNonBlocking() {
         return nonBlocking;
     }
 
+    public boolean isRunOnVirtualThread() {
+        return runOnVirtualThread;
+    }
+
     public String getMethodDescription() {
         return method.declaringClass().name() + "#" + method.name() + "()";
     }
@@ -66,8 +66,10 @@
 import io.quarkus.deployment.builditem.AnnotationProxyBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.devconsole.spi.DevConsoleRouteBuildItem;
 import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
@@ -143,7 +145,8 @@ void collectScheduledMethods(BeanArchiveIndexBuildItem beanArchives, BeanDiscove
             MethodInfo method = annotationInstance.target().asMethod();
             if (Modifier.isStatic(method.flags()) && !KotlinUtil.isSuspendMethod(method)) {
                 scheduledBusinessMethods.produce(new ScheduledBusinessMethodItem(null, method, schedules,
-                        transformedAnnotations.hasAnnotation(method, SchedulerDotNames.NON_BLOCKING)));
+                        transformedAnnotations.hasAnnotation(method, SchedulerDotNames.NON_BLOCKING),
+                        transformedAnnotations.hasAnnotation(method, SchedulerDotNames.RUN_ON_VIRTUAL_THREAD)));
                 LOGGER.debugf("Found scheduled static method %s declared on %s", method, method.declaringClass().name());
             }
         }
@@ -183,7 +186,8 @@ private void collectScheduledMethods(IndexView index, TransformedAnnotationsBuil
             }
             if (schedules != null) {
                 scheduledBusinessMethods.produce(new ScheduledBusinessMethodItem(bean, method, schedules,
-                        transformedAnnotations.hasAnnotation(method, SchedulerDotNames.NON_BLOCKING)));
+                        transformedAnnotations.hasAnnotation(method, SchedulerDotNames.NON_BLOCKING),
+                        transformedAnnotations.hasAnnotation(method, SchedulerDotNames.RUN_ON_VIRTUAL_THREAD)));
                 LOGGER.debugf("Found scheduled business method %s declared on %s", method, bean);
             }
         }
@@ -238,6 +242,11 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                                     method, scheduledMethod.getBean())));
                 }
             }
+            if (scheduledMethod.isRunOnVirtualThread() && scheduledMethod.isNonBlocking()) {
+                errors.add(new IllegalStateException(String.format(
+                        "Non-blocking scheduled business method cannot be annotated with @RunOnVirtualThread [method: %s, bean: %s]",
+                        method, scheduledMethod.getBean())));
+            }
             // Validate cron() and every() expressions
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
@@ -380,6 +389,17 @@ public void metrics(SchedulerConfig config,
         }
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    public void executionMetrics(SchedulerConfig config, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            SchedulerRecorder recorder, ShutdownContextBuildItem shutdownContext,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumers) {
+        if (config.metricsEnabled && metricsCapability.isPresent()) {
+            metricsFactoryConsumers
+                    .produce(new MetricsFactoryConsumerBuildItem(recorder.registerExecutionMetrics(shutdownContext)));
+        }
+    }
+
     @BuildStep
     public void tracing(SchedulerConfig config,
             Capabilities capabilities, BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformer) {
@@ -530,6 +550,10 @@ private String generateInvoker(ScheduledBusinessMethodItem scheduledMethod, Clas
         if (scheduledMethod.isNonBlocking()) {
             MethodCreator isBlocking = invokerCreator.getMethodCreator("isBlocking", boolean.class);
             isBlocking.returnValue(isBlocking.load(false));
+        } else if (scheduledMethod.isRunOnVirtualThread()) {
+            MethodCreator isRunningOnVirtualThread = invokerCreator.getMethodCreator("isRunningOnVirtualThread",
+                    boolean.class);
+            isRunningOnVirtualThread.returnValue(isRunningOnVirtualThread.load(true));
         }
 
         invokerCreator.close();
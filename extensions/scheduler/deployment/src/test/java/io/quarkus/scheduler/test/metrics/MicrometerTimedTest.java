@@ -83,6 +83,18 @@ void testTimedMethod() throws InterruptedException {
             fail(e.getMessage() + "\nFound: " + registry.find("foo").meters().stream()
                     .map(Meter::getId).map(Object::toString).collect(Collectors.joining("\n\t- ")));
         }
+
+        String jobId = "1_io.quarkus.scheduler.test.metrics.MicrometerTimedTest$Jobs#everySecond";
+        Awaitility.await().pollInterval(10, TimeUnit.MILLISECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    Timer lag = registry.find("scheduled.executions.lag").tag("job", jobId).timer();
+                    Timer executions = registry.find("scheduled.executions").tag("job", jobId).timer();
+                    assertNotNull(lag, "Lag timer not found");
+                    assertNotNull(executions, "Executions timer not found");
+                    assertTrue(lag.count() > 0, "Count=" + lag.count());
+                    assertTrue(executions.count() > 0, "Count=" + executions.count());
+                });
     }
 
     static class Jobs {
@@ -0,0 +1,83 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Schedules a few hundred interval and cron jobs and verifies that every job fires several times. The interval jobs use a
+ * sub-second period. The dispatch latency is measured by {@code SimpleSchedulerBenchmark} in the runtime module.
+ */
+public class ManyProgrammaticJobsTest {
+
+    private static final int INTERVAL_JOBS = 200;
+    private static final int CRON_JOBS = 200;
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addAsResource(new StringAsset("quarkus.scheduler.start-mode=forced"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testManyJobs() {
+        AtomicIntegerArray intervalExecutions = new AtomicIntegerArray(INTERVAL_JOBS);
+        AtomicIntegerArray cronExecutions = new AtomicIntegerArray(CRON_JOBS);
+
+        for (int i = 0; i < INTERVAL_JOBS; i++) {
+            int idx = i;
+            assertNotNull(scheduler.newJob("interval" + i)
+                    .setInterval("0.2s")
+                    .setTask(ec -> intervalExecutions.incrementAndGet(idx))
+                    .schedule());
+        }
+        for (int i = 0; i < CRON_JOBS; i++) {
+            int idx = i;
+            assertNotNull(scheduler.newJob("cron" + i)
+                    .setCron("* * * * * ?")
+                    .setAsyncTask(ec -> {
+                        cronExecutions.incrementAndGet(idx);
+                        return Uni.createFrom().voidItem();
+                    })
+                    .schedule());
+        }
+
+        // A 200 ms interval job fires at least 5 times in a little more than a second
+        await().atMost(Duration.ofSeconds(10)).until(() -> min(intervalExecutions) >= 5 && min(cronExecutions) >= 2);
+
+        for (int i = 0; i < INTERVAL_JOBS; i++) {
+            assertNotNull(scheduler.unscheduleJob("interval" + i));
+        }
+        for (int i = 0; i < CRON_JOBS; i++) {
+            assertNotNull(scheduler.unscheduleJob("cron" + i));
+        }
+        assertEquals(0, scheduler.getScheduledJobs().size());
+        assertTrue(scheduler.isRunning());
+    }
+
+    private static int min(AtomicIntegerArray executions) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < executions.length(); i++) {
+            min = Math.min(min, executions.get(i));
+        }
+        return min;
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.quarkus.scheduler.test.virtualthreads;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+public class InvalidVirtualThreadScheduledMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(DeploymentException.class)
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(BeanWithInvalidScheduledMethod.class));
+
+    @Test
+    public void test() throws InterruptedException {
+    }
+
+    static class BeanWithInvalidScheduledMethod {
+
+        @NonBlocking
+        @RunOnVirtualThread
+        @Scheduled(every = "1s")
+        void wrongMethod() {
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package io.quarkus.scheduler.test.virtualthreads;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+
+public class VirtualThreadScheduledMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(Jobs.class));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testScheduledMethod() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertFalse(Jobs.ON_EVENT_LOOP.get());
+        assertEquals(isVirtualThreadSupported(), Jobs.ON_VIRTUAL_THREAD.get());
+        assertTrue(Jobs.ON_DUPLICATED_CONTEXT.get());
+        // The first execution is blocked so the next ones must be skipped
+        assertTrue(Jobs.SKIPPED_LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(1, Jobs.COUNTER.get());
+        Jobs.BLOCK.release();
+    }
+
+    @Test
+    public void testProgrammaticJob() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean onVirtualThread = new AtomicBoolean();
+        AtomicBoolean onDuplicatedContext = new AtomicBoolean();
+        scheduler.newJob("foo")
+                .setInterval("1s")
+                .setRunOnVirtualThread(true)
+                .setTask(ec -> {
+                    onVirtualThread.set(isVirtual(Thread.currentThread()));
+                    onDuplicatedContext.set(VertxContext.isOnDuplicatedContext());
+                    latch.countDown();
+                })
+                .schedule();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(isVirtualThreadSupported(), onVirtualThread.get());
+        assertTrue(onDuplicatedContext.get());
+        scheduler.unscheduleJob("foo");
+
+        assertThrows(IllegalStateException.class, () -> scheduler.newJob("bar")
+                .setInterval("1s")
+                .setRunOnVirtualThread(true)
+                .setAsyncTask(ec -> Uni.createFrom().voidItem())
+                .schedule());
+    }
+
+    static boolean isVirtualThreadSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    @Singleton
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(1);
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+        static final Semaphore BLOCK = new Semaphore(0);
+        static final AtomicInteger COUNTER = new AtomicInteger();
+        static final AtomicBoolean ON_EVENT_LOOP = new AtomicBoolean();
+        static final AtomicBoolean ON_VIRTUAL_THREAD = new AtomicBoolean();
+        static final AtomicBoolean ON_DUPLICATED_CONTEXT = new AtomicBoolean();
+
+        @RunOnVirtualThread
+        @Scheduled(identity = "virtual", every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void run() throws InterruptedException {
+            if (COUNTER.incrementAndGet() == 1) {
+                ON_EVENT_LOOP.set(Context.isOnEventLoopThread());
+                ON_VIRTUAL_THREAD.set(isVirtual(Thread.currentThread()));
+                ON_DUPLICATED_CONTEXT.set(VertxContext.isOnDuplicatedContext());
+                LATCH.countDown();
+                BLOCK.tryAcquire(10, TimeUnit.SECONDS);
+            }
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            if (event.getExecution().getTrigger().getId().equals("virtual")) {
+                SKIPPED_LATCH.countDown();
+            }
+        }
+    }
+
+}
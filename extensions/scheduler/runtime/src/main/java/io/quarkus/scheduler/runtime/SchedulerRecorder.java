@@ -2,12 +2,16 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.cronutils.model.CronType;
 
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.scheduler.common.runtime.ImmutableScheduledMethod;
+import io.quarkus.scheduler.common.runtime.MetricsInvoker;
 import io.quarkus.scheduler.common.runtime.MutableScheduledMethod;
 import io.quarkus.scheduler.common.runtime.ScheduledMethod;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
@@ -38,6 +42,22 @@ public List<ScheduledMethod> getScheduledMethods() {
         };
     }
 
+    public Consumer<MetricsFactory> registerExecutionMetrics(ShutdownContext shutdownContext) {
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                // Do not keep the factory of a stopped application, e.g. in dev mode and tests
+                MetricsInvoker.setMetricsFactory(null);
+            }
+        });
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                MetricsInvoker.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+
     private List<ScheduledMethod> immutableCopy(List<MutableScheduledMethod> scheduledMethods) {
         List<ScheduledMethod> metadata = new ArrayList<>(scheduledMethods.size());
         for (ScheduledMethod scheduledMethod : scheduledMethods) {
@@ -2,7 +2,6 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -14,7 +13,9 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -54,6 +55,7 @@
 import io.quarkus.scheduler.common.runtime.AbstractJobDefinition;
 import io.quarkus.scheduler.common.runtime.DefaultInvoker;
 import io.quarkus.scheduler.common.runtime.Events;
+import io.quarkus.scheduler.common.runtime.MetricsInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledMethod;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
@@ -62,6 +64,7 @@
 import io.quarkus.scheduler.common.runtime.StatusEmitterInvoker;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
+import io.quarkus.scheduler.common.runtime.util.VirtualThreads;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.smallrye.common.vertx.VertxContext;
@@ -69,6 +72,7 @@
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
 
 @Typed(Scheduler.class)
 @Singleton
@@ -76,12 +80,13 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
+    // nanoseconds
+    private static final long MIN_RETRY_DELAY = TimeUnit.MILLISECONDS.toNanos(1);
 
     private final ScheduledExecutorService scheduledExecutor;
     private final Vertx vertx;
     private volatile boolean running;
+    private volatile boolean started;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final boolean enabled;
     private final CronParser cronParser;
@@ -128,7 +133,8 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             return;
         }
 
-        // This executor is used to check all registered triggers every second
+        // This executor is used to dispatch the triggers - every task is scheduled at its next fire time so that the
+        // executor thread only wakes up when a trigger is due
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
             @Override
             public void run() {
@@ -152,7 +158,7 @@ public void run() {
                 Optional<SimpleTrigger> trigger = createTrigger(id, method.getMethodDescription(), cronParser, scheduled,
                         defaultOverdueGracePeriod);
                 if (trigger.isPresent()) {
-                    ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()),
+                    ScheduledInvoker invoker = initInvoker(id, context.createInvoker(method.getInvokerClassName()),
                             skippedExecutionEvent, successExecutionEvent, failedExecutionEvent,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()));
                     scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
@@ -178,6 +184,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancel();
                     return task.trigger;
                 }
             }
@@ -190,12 +197,10 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        started = true;
+        for (ScheduledTask task : scheduledTasks.values()) {
+            dispatch(task, 0);
+        }
     }
 
     @PreDestroy
@@ -209,16 +214,42 @@ void stop() {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOG.trace("Skip all triggers - scheduler paused");
+    /**
+     * Schedules the next evaluation of the trigger of the given task. Paused tasks are not dispatched, they are dispatched
+     * again
+     * when resumed.
+     *
+     * @param task
+     * @param minDelay the minimal delay in nanoseconds
+     */
+    void dispatch(ScheduledTask task, long minDelay) {
+        if (!started || !running || !task.trigger.isRunning() || scheduledTasks.get(task.trigger.id) != task) {
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
-        LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        ZonedDateTime nextEvaluation = task.trigger.getNextEvaluationTime();
+        if (nextEvaluation == null) {
+            LOG.tracef("%s will never fire again", task.trigger);
+            return;
+        }
+        long delay = Math.max(ChronoUnit.NANOS.between(now, nextEvaluation), minDelay);
+        task.schedule(scheduledExecutor, new Runnable() {
+            @Override
+            public void run() {
+                evaluate(task);
+            }
+        }, delay);
+    }
+
+    void evaluate(ScheduledTask task) {
+        if (!running) {
+            LOG.tracef("Skip %s - scheduler paused", task.trigger);
+            return;
         }
+        ZonedDateTime now = ZonedDateTime.now();
+        LOG.tracef("Evaluate %s at %s", task.trigger, now);
+        // The executor may wake up slightly before the trigger is due, in which case the evaluation is retried shortly
+        dispatch(task, task.execute(now, vertx) ? 0 : MIN_RETRY_DELAY);
     }
 
     @Override
@@ -266,6 +297,9 @@ public void resume() {
             LOG.warn("Scheduler is disabled and cannot be resumed");
         } else {
             running = true;
+            for (ScheduledTask task : scheduledTasks.values()) {
+                dispatch(task, 0);
+            }
             Events.fire(schedulerResumedEvent, SchedulerResumed.INSTANCE);
         }
     }
@@ -281,6 +315,7 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            dispatch(task, 0);
             Events.fire(scheduledJobResumedEvent, new ScheduledJobResumed(task.trigger));
         }
     }
@@ -348,10 +383,11 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, CronP
         }
     }
 
-    public static ScheduledInvoker initInvoker(ScheduledInvoker invoker, Event<SkippedExecution> skippedExecutionEvent,
-            Event<SuccessfulExecution> successExecutionEvent,
+    public static ScheduledInvoker initInvoker(String id, ScheduledInvoker invoker,
+            Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
             Event<FailedExecution> failedExecutionEvent, ConcurrentExecution concurrentExecution,
             Scheduled.SkipPredicate skipPredicate) {
+        invoker = MetricsInvoker.wrap(invoker, id);
         invoker = new StatusEmitterInvoker(invoker, successExecutionEvent, failedExecutionEvent);
         if (concurrentExecution == ConcurrentExecution.SKIP) {
             invoker = new SkipConcurrentExecutionInvoker(invoker, skippedExecutionEvent);
@@ -374,6 +410,8 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // guarded by this
+        private ScheduledFuture<?> nextEvaluation;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -381,34 +419,74 @@ static class ScheduledTask {
             this.isProgrammatic = isProgrammatic;
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
+        /**
+         * The previously scheduled evaluation is cancelled so that a task is never scheduled twice.
+         */
+        synchronized void schedule(ScheduledExecutorService executor, Runnable evaluation, long delay) {
+            if (nextEvaluation != null) {
+                nextEvaluation.cancel(false);
+            }
+            nextEvaluation = executor.schedule(evaluation, delay, TimeUnit.NANOSECONDS);
+        }
+
+        synchronized void cancel() {
+            if (nextEvaluation != null) {
+                nextEvaluation.cancel(false);
+                nextEvaluation = null;
+            }
+        }
+
+        /**
+         * @return {@code true} if the trigger was evaluated, {@code false} if it was not due yet
+         */
+        boolean execute(ZonedDateTime now, Vertx vertx) {
             if (!trigger.isRunning()) {
-                return;
+                return true;
             }
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
-                VertxContextSafetyToggle.setContextSafe(context, true);
-                if (invoker.isBlocking()) {
-                    context.executeBlocking(new Handler<Promise<Object>>() {
-                        @Override
-                        public void handle(Promise<Object> p) {
-                            try {
-                                doInvoke(now, scheduledFireTime);
-                            } finally {
-                                p.complete();
-                            }
-                        }
-                    }, false);
-                } else {
-                    context.runOnContext(new Handler<Void>() {
+            if (scheduledFireTime == null) {
+                return false;
+            }
+            Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+            VertxContextSafetyToggle.setContextSafe(context, true);
+            if (invoker.isRunningOnVirtualThread()) {
+                ExecutorService virtualThreadExecutor = VirtualThreads.getExecutor();
+                if (virtualThreadExecutor != null) {
+                    virtualThreadExecutor.execute(new Runnable() {
                         @Override
-                        public void handle(Void event) {
-                            doInvoke(now, scheduledFireTime);
+                        public void run() {
+                            // The duplicated context is the current context of the virtual thread during the invocation
+                            ((ContextInternal) context).dispatch(new Handler<Void>() {
+                                @Override
+                                public void handle(Void event) {
+                                    doInvoke(now, scheduledFireTime);
+                                }
+                            });
                         }
                     });
+                    return true;
                 }
             }
+            if (invoker.isBlocking()) {
+                context.executeBlocking(new Handler<Promise<Object>>() {
+                    @Override
+                    public void handle(Promise<Object> p) {
+                        try {
+                            doInvoke(now, scheduledFireTime);
+                        } finally {
+                            p.complete();
+                        }
+                    }
+                }, false);
+            } else {
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        doInvoke(now, scheduledFireTime);
+                    }
+                });
+            }
+            return true;
         }
 
         void doInvoke(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
@@ -442,6 +520,11 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the date-time at which the trigger should be evaluated next, {@code null} if it never fires again
+         */
+        abstract ZonedDateTime getNextEvaluationTime();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -485,19 +568,26 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now;
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                // Keep the fixed rate unless an execution was missed, e.g. because the trigger was paused
+                lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        ZonedDateTime getNextEvaluationTime() {
+            ZonedDateTime last = lastFireTime;
+            return last == null ? start : last.plus(Duration.ofMillis(interval));
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -548,6 +638,14 @@ public Instant getNextFireTime() {
             return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
         }
 
+        @Override
+        ZonedDateTime getNextEvaluationTime() {
+            ZonedDateTime last = lastFireTime;
+            Optional<ZonedDateTime> nextFireTime = executionTime
+                    .nextExecution(timeZone == null ? last : last.withZoneSameInstant(timeZone));
+            return nextFireTime.orElse(null);
+        }
+
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
@@ -625,6 +723,9 @@ public Trigger schedule() {
             if (task == null && asyncTask == null) {
                 throw new IllegalStateException("Either sync or async task must be set");
             }
+            if (asyncTask != null && runOnVirtualThread) {
+                throw new IllegalStateException("An async task cannot be run on a virtual thread");
+            }
             scheduled = true;
             ScheduledInvoker invoker;
             if (task != null) {
@@ -639,6 +740,11 @@ public CompletionStage<Void> invokeBean(ScheduledExecution execution) {
                             return CompletableFuture.failedStage(e);
                         }
                     }
+
+                    @Override
+                    public boolean isRunningOnVirtualThread() {
+                        return runOnVirtualThread;
+                    }
                 };
             } else {
                 invoker = new DefaultInvoker() {
@@ -664,13 +770,14 @@ public boolean isBlocking() {
                     defaultOverdueGracePeriod);
             if (trigger.isPresent()) {
                 SimpleTrigger simpleTrigger = trigger.get();
-                invoker = initInvoker(invoker, skippedExecutionEvent, successExecutionEvent,
+                invoker = initInvoker(simpleTrigger.id, invoker, skippedExecutionEvent, successExecutionEvent,
                         failedExecutionEvent, concurrentExecution, skipPredicate);
                 ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, true);
                 ScheduledTask existing = scheduledTasks.putIfAbsent(simpleTrigger.id, scheduledTask);
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                dispatch(scheduledTask, 0);
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,188 @@
+package io.quarkus.scheduler.runtime;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.cronutils.model.CronType;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.common.runtime.ImmutableScheduledMethod;
+import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.common.runtime.ScheduledMethod;
+import io.quarkus.scheduler.common.runtime.SchedulerContext;
+import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.vertx.core.Vertx;
+
+/**
+ * Measures how many executions per second the {@link SimpleScheduler} dispatches when many jobs are scheduled, either with
+ * an interval or with a cron expression. Every job fires once per second and all the jobs are due at the same time, so
+ * the scheduler keeps up if the throughput is close to the number of jobs. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=io.quarkus.scheduler.runtime.SimpleSchedulerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SimpleSchedulerBenchmark {
+
+    @Param({ "1000", "10000" })
+    int jobs;
+
+    @Param({ "interval", "cron" })
+    String trigger;
+
+    private Vertx vertx;
+    private SimpleScheduler scheduler;
+    private final Semaphore executions = new Semaphore(0);
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+
+        List<ScheduledMethod> methods = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            String identity = "job" + i;
+            Scheduled scheduled = "cron".equals(trigger)
+                    ? new SyntheticScheduled(identity, "* * * * * ?", "", 0, TimeUnit.MINUTES, "", "",
+                            ConcurrentExecution.PROCEED, null, Scheduled.DEFAULT_TIMEZONE)
+                    : new SyntheticScheduled(identity, "", "1s", 0, TimeUnit.MINUTES, "", "",
+                            ConcurrentExecution.PROCEED, null, Scheduled.DEFAULT_TIMEZONE);
+            methods.add(new ImmutableScheduledMethod(CountingInvoker.class.getName(), SimpleSchedulerBenchmark.class.getName(),
+                    identity, List.of(scheduled)));
+        }
+        SchedulerContext context = new SchedulerContext() {
+            @Override
+            public CronType getCronType() {
+                return CronType.QUARTZ;
+            }
+
+            @Override
+            public List<ScheduledMethod> getScheduledMethods() {
+                return methods;
+            }
+
+            @Override
+            public ScheduledInvoker createInvoker(String invokerClassName) {
+                // a plain invoker does not need the request context, i.e. a CDI container
+                return new CountingInvoker(executions);
+            }
+        };
+
+        SchedulerRuntimeConfig config = new SchedulerRuntimeConfig();
+        config.enabled = true;
+        config.overdueGracePeriod = Duration.ofSeconds(1);
+        config.startMode = Optional.of(StartMode.NORMAL);
+        scheduler = new SimpleScheduler(context, config, new NoopEvent<>(), new NoopEvent<>(), new NoopEvent<>(),
+                new NoopEvent<>(), new NoopEvent<>(), new NoopEvent<>(), new NoopEvent<>(), vertx);
+        scheduler.start(new StartupEvent());
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.stop();
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    /**
+     * Waits for the next execution of any job.
+     */
+    @Benchmark
+    public void dispatch() throws InterruptedException {
+        if (!executions.tryAcquire(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("No job was executed");
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SimpleSchedulerBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    static class CountingInvoker implements ScheduledInvoker {
+
+        private final Semaphore executions;
+
+        CountingInvoker(Semaphore executions) {
+            this.executions = executions;
+        }
+
+        @Override
+        public CompletionStage<Void> invoke(ScheduledExecution execution) {
+            executions.release();
+            return CompletableFuture.completedStage(null);
+        }
+
+        @Override
+        public boolean isBlocking() {
+            return false;
+        }
+    }
+
+    static class NoopEvent<T> implements Event<T> {
+
+        @Override
+        public void fire(T event) {
+        }
+
+        @Override
+        public <U extends T> CompletionStage<U> fireAsync(U event) {
+            return CompletableFuture.completedStage(event);
+        }
+
+        @Override
+        public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
+            return CompletableFuture.completedStage(event);
+        }
+
+        @Override
+        public Event<T> select(Annotation... qualifiers) {
+            return this;
+        }
+
+        @Override
+        public <U extends T> Event<U> select(Class<U> subtype, Annotation... qualifiers) {
+            return new NoopEvent<>();
+        }
+
+        @Override
+        public <U extends T> Event<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+            return new NoopEvent<>();
+        }
+    }
+}
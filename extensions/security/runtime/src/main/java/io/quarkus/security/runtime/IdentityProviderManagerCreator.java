@@ -6,6 +6,7 @@
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 
 import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.security.identity.IdentityProvider;
@@ -25,9 +26,18 @@ public class IdentityProviderManagerCreator {
     @Inject
     Instance<SecurityIdentityAugmentor> augmentors;
 
+    @Inject
+    SecurityRuntimeConfig config;
+
+    @Produces
+    @Singleton
+    public SecurityIdentityCache identityCache() {
+        return new SecurityIdentityCache(config.authenticationCache.maxSize, config.authenticationCache.timeToLive);
+    }
+
     @Produces
     @ApplicationScoped
-    public IdentityProviderManager ipm() {
+    public IdentityProviderManager ipm(SecurityIdentityCache identityCache) {
         boolean customAnon = false;
         QuarkusIdentityProviderManagerImpl.Builder builder = QuarkusIdentityProviderManagerImpl.builder();
         for (IdentityProvider i : identityProviders) {
@@ -42,6 +52,9 @@ public IdentityProviderManager ipm() {
         for (SecurityIdentityAugmentor i : augmentors) {
             builder.addSecurityIdentityAugmentor(i);
         }
+        if (identityCache.isEnabled()) {
+            builder.setIdentityCache(identityCache);
+        }
         builder.setBlockingExecutor(new Executor() {
             @Override
             public void execute(Runnable command) {
@@ -33,6 +33,7 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers;
     private final List<SecurityIdentityAugmentor> augmenters;
     private final Executor blockingExecutor;
+    private final SecurityIdentityCache identityCache;
 
     private final AuthenticationRequestContext blockingRequestContext = new AuthenticationRequestContext() {
         @Override
@@ -74,6 +75,7 @@ public void run() {
         this.providers = builder.providers;
         this.augmenters = builder.augmentors;
         this.blockingExecutor = builder.blockingExecutor;
+        this.identityCache = builder.identityCache;
     }
 
     /**
@@ -86,6 +88,23 @@ public void run() {
      * @return The first identity provider that was registered with this type
      */
     public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
+        final String cacheKey = identityCache == null ? null : identityCache.getKey(request);
+        if (cacheKey == null) {
+            return authenticateWithProviders(request);
+        }
+        SecurityIdentity cached = identityCache.get(cacheKey);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return authenticateWithProviders(request).invoke(new Consumer<SecurityIdentity>() {
+            @Override
+            public void accept(SecurityIdentity securityIdentity) {
+                identityCache.put(cacheKey, securityIdentity);
+            }
+        });
+    }
+
+    private Uni<SecurityIdentity> authenticateWithProviders(AuthenticationRequest request) {
         try {
             List<IdentityProvider> providers = this.providers.get(request.getClass());
             if (providers == null) {
@@ -137,7 +156,19 @@ public SecurityIdentity authenticateBlocking(AuthenticationRequest request) {
             throw new IllegalArgumentException(
                     "No IdentityProviders were registered to handle AuthenticationRequest " + request);
         }
-        return (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext).await().indefinitely();
+        final String cacheKey = identityCache == null ? null : identityCache.getKey(request);
+        if (cacheKey != null) {
+            SecurityIdentity cached = identityCache.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        SecurityIdentity identity = (SecurityIdentity) handleProvider(0, (List) providers, request, blockingRequestContext)
+                .await().indefinitely();
+        if (cacheKey != null) {
+            identityCache.put(cacheKey, identity);
+        }
+        return identity;
     }
 
     private <T extends AuthenticationRequest> Uni<SecurityIdentity> handleProvider(int pos,
@@ -200,6 +231,7 @@ public static class Builder {
         private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider>> providers = new HashMap<>();
         private final List<SecurityIdentityAugmentor> augmentors = new ArrayList<>();
         private Executor blockingExecutor;
+        private SecurityIdentityCache identityCache;
         private boolean built = false;
 
         /**
@@ -236,6 +268,15 @@ public Builder setBlockingExecutor(Executor blockingExecutor) {
             return this;
         }
 
+        /**
+         * @param identityCache The cache of the authenticated identities, may be null
+         * @return this builder
+         */
+        public Builder setIdentityCache(SecurityIdentityCache identityCache) {
+            this.identityCache = identityCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
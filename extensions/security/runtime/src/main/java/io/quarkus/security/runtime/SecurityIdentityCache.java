@@ -0,0 +1,248 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TrustedAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+
+/**
+ * Cache of the augmented {@link SecurityIdentity} instances created for the username and password and the trusted
+ * authentication requests, so that repeated requests with the same credentials are not authenticated again.
+ * <p>
+ * The entries are keyed by an HMAC of the request type, the credentials and the request attributes computed with a key
+ * generated at startup, the credentials themselves are not kept. The requests with an attribute whose value is not a
+ * string, a number, a boolean, a character or an enum constant are not cached, except for the routing context attached
+ * by the HTTP authentication mechanisms which is specific to each HTTP request. Only successful authentications are
+ * cached, and the entries expire once their time to live has elapsed. When the cache is full, the least recently used
+ * entry is removed.
+ * <p>
+ * The cache can be injected to invalidate the identities of a principal whose password or roles have changed.
+ */
+public class SecurityIdentityCache {
+
+    static final String HITS_METRIC = "security.authentication-cache.hits";
+    static final String MISSES_METRIC = "security.authentication-cache.misses";
+
+    // Same value as HttpSecurityUtils.ROUTING_CONTEXT_ATTRIBUTE, this extension does not depend on Vert.x HTTP
+    static final String ROUTING_CONTEXT_ATTRIBUTE = "quarkus.http.routing.context";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final int maxSize;
+    private final long timeToLive;
+    // access-ordered so that the least recently used entry is removed first, guarded by itself
+    private final LinkedHashMap<String, CacheEntry> cacheMap;
+    private final SecretKeySpec secretKey;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SecurityIdentityCache(int maxSize, Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive.toMillis();
+        this.cacheMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    /**
+     * @return true if the identities are cached
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Removes the cached identities of the given principal.
+     *
+     * @param principalName the principal name
+     */
+    public void invalidate(String principalName) {
+        synchronized (cacheMap) {
+            for (Iterator<CacheEntry> it = cacheMap.values().iterator(); it.hasNext();) {
+                if (principalName.equals(it.next().identity.getPrincipal().getName())) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all the cached identities.
+     */
+    public void invalidateAll() {
+        synchronized (cacheMap) {
+            cacheMap.clear();
+        }
+    }
+
+    int getCacheSize() {
+        synchronized (cacheMap) {
+            return cacheMap.size();
+        }
+    }
+
+    /**
+     * @return the cache key of the request, or {@code null} if the identities created for this request can not be cached
+     */
+    String getKey(AuthenticationRequest request) {
+        if (!isEnabled()) {
+            return null;
+        }
+        String principal;
+        char[] secret;
+        if (request instanceof UsernamePasswordAuthenticationRequest) {
+            UsernamePasswordAuthenticationRequest usernamePassword = (UsernamePasswordAuthenticationRequest) request;
+            if (usernamePassword.getUsername() == null || usernamePassword.getPassword() == null) {
+                return null;
+            }
+            principal = usernamePassword.getUsername();
+            secret = usernamePassword.getPassword().getPassword();
+        } else if (request instanceof TrustedAuthenticationRequest) {
+            principal = ((TrustedAuthenticationRequest) request).getPrincipal();
+            if (principal == null) {
+                return null;
+            }
+            secret = new char[0];
+        } else {
+            return null;
+        }
+        Map<String, String> attributes = new TreeMap<>();
+        for (Map.Entry<String, Object> attribute : request.getAttributes().entrySet()) {
+            if (ROUTING_CONTEXT_ATTRIBUTE.equals(attribute.getKey())) {
+                continue;
+            }
+            String value = attributeValue(attribute.getValue());
+            if (value == null) {
+                // the identity may depend on an attribute which can not be compared
+                return null;
+            }
+            attributes.put(attribute.getKey(), value);
+        }
+        return digest(request.getClass().getName(), principal, attributes, secret);
+    }
+
+    SecurityIdentity get(String key) {
+        synchronized (cacheMap) {
+            CacheEntry entry = cacheMap.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (isExpired(entry, System.currentTimeMillis())) {
+                cacheMap.remove(key);
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.identity;
+        }
+    }
+
+    void put(String key, SecurityIdentity identity) {
+        if (identity == null || identity.isAnonymous()) {
+            return;
+        }
+        CacheEntry entry = new CacheEntry(identity, System.currentTimeMillis() + timeToLive);
+        synchronized (cacheMap) {
+            cacheMap.put(key, entry);
+        }
+    }
+
+    private static boolean isExpired(CacheEntry entry, long now) {
+        return now > entry.expiresAt;
+    }
+
+    private static String attributeValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return value.getClass().getName() + ':' + value;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).getDeclaringClass().getName() + ':' + ((Enum<?>) value).name();
+        }
+        return null;
+    }
+
+    private String digest(String type, String principal, Map<String, String> attributes, char[] secret) {
+        ByteBuffer encodedSecret = StandardCharsets.UTF_8.encode(CharBuffer.wrap(secret));
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            // the lengths prevent the values from being split differently
+            update(mac, type);
+            update(mac, principal);
+            mac.update(ByteBuffer.allocate(4).putInt(attributes.size()).array());
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                update(mac, attribute.getKey());
+                update(mac, attribute.getValue());
+            }
+            mac.update(encodedSecret);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (encodedSecret.hasArray()) {
+                Arrays.fill(encodedSecret.array(), (byte) 0);
+            }
+        }
+    }
+
+    private static void update(Mac mac, String value) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        mac.update(ByteBuffer.allocate(4).putInt(encoded.length).array());
+        mac.update(encoded);
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder(HITS_METRIC)
+                .description("Number of the authentication requests whose identity was found in the cache")
+                .buildCounter(this::getHits);
+        metricsFactory.builder(MISSES_METRIC)
+                .description("Number of the authentication requests which had to be authenticated by the identity providers")
+                .buildCounter(this::getMisses);
+    }
+
+    private static class CacheEntry {
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        CacheEntry(SecurityIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.security.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class SecurityIdentityCacheRecorder {
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                InstanceHandle<SecurityIdentityCache> identityCache = Arc.container().instance(SecurityIdentityCache.class);
+                if (identityCache.isAvailable()) {
+                    identityCache.get().registerMetrics(metricsFactory);
+                }
+            }
+        };
+    }
+}
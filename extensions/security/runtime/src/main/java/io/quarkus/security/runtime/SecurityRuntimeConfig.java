@@ -0,0 +1,39 @@
+package io.quarkus.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "security", phase = ConfigPhase.RUN_TIME)
+public class SecurityRuntimeConfig {
+
+    /**
+     * Authentication cache configuration.
+     */
+    @ConfigItem
+    public AuthenticationCache authenticationCache;
+
+    @ConfigGroup
+    public static class AuthenticationCache {
+        /**
+         * Maximum number of the authenticated identities to keep in memory.
+         * The identities created for the username and password credentials, as well as for the trusted principals
+         * such as the ones restored from the form authentication cookie, are cached so that the identity providers
+         * and the identity augmentors are not called again for the same credentials.
+         * The cache is disabled if this property is set to '0' which is the default value.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int maxSize;
+
+        /**
+         * Maximum amount of time a cached identity is valid for.
+         * Changes of the user's password or roles are only taken into account once the cached identity expires,
+         * unless the cache is invalidated with {@link SecurityIdentityCache}.
+         */
+        @ConfigItem(defaultValue = "1M")
+        public Duration timeToLive;
+    }
+}
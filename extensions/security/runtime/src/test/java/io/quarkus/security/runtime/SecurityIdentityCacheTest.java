@@ -0,0 +1,173 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+import io.quarkus.security.identity.request.TrustedAuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+
+public class SecurityIdentityCacheTest {
+
+    private final AtomicInteger authentications = new AtomicInteger();
+    private final AtomicInteger augmentations = new AtomicInteger();
+
+    @Test
+    public void testIdentityIsCached() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(10, Duration.ofMinutes(1));
+        QuarkusIdentityProviderManagerImpl manager = manager(cache);
+
+        SecurityIdentity identity = manager.authenticate(request("alice", "alice")).await().indefinitely();
+        assertTrue(identity.hasRole("user"));
+        assertSame(identity, manager.authenticate(request("alice", "alice")).await().indefinitely());
+        assertSame(identity, manager.authenticateBlocking(request("alice", "alice")));
+        assertEquals(1, authentications.get());
+        assertEquals(1, augmentations.get());
+
+        // other credentials of the same user are authenticated again
+        assertThrows(AuthenticationFailedException.class,
+                () -> manager.authenticate(request("alice", "wrong")).await().indefinitely());
+        assertThrows(AuthenticationFailedException.class,
+                () -> manager.authenticate(request("alice", "wrong")).await().indefinitely());
+        assertEquals(3, authentications.get());
+        assertEquals(1, cache.getCacheSize());
+
+        cache.invalidate("alice");
+        assertEquals(0, cache.getCacheSize());
+        manager.authenticate(request("alice", "alice")).await().indefinitely();
+        assertEquals(4, authentications.get());
+    }
+
+    @Test
+    public void testCacheIsDisabled() {
+        QuarkusIdentityProviderManagerImpl manager = manager(new SecurityIdentityCache(0, Duration.ofMinutes(1)));
+        manager.authenticate(request("alice", "alice")).await().indefinitely();
+        manager.authenticate(request("alice", "alice")).await().indefinitely();
+        assertEquals(2, authentications.get());
+    }
+
+    @Test
+    public void testCacheKeys() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(10, Duration.ofMinutes(1));
+        String key = cache.getKey(request("alice", "alice"));
+        assertEquals(key, cache.getKey(request("alice", "alice")));
+        assertNotEquals(key, cache.getKey(request("alice", "bob")));
+        assertNotEquals(key, cache.getKey(request("alic", "ealice")));
+        assertNotEquals(cache.getKey(new TrustedAuthenticationRequest("alice")), key);
+        // the keys are not shared between the application instances
+        assertNotEquals(key, new SecurityIdentityCache(10, Duration.ofMinutes(1)).getKey(request("alice", "alice")));
+    }
+
+    @Test
+    public void testCacheKeysIncludeTheRequestTypeAndAttributes() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(10, Duration.ofMinutes(1));
+        String key = cache.getKey(request("alice", "alice"));
+        assertNotEquals(key, cache.getKey(new UsernamePasswordAuthenticationRequest("alice",
+                new PasswordCredential("alice".toCharArray())) {
+        }));
+
+        UsernamePasswordAuthenticationRequest tenantRequest = request("alice", "alice");
+        tenantRequest.setAttribute("tenant", "a");
+        String tenantKey = cache.getKey(tenantRequest);
+        assertNotEquals(key, tenantKey);
+        tenantRequest.setAttribute("tenant", "b");
+        assertNotEquals(tenantKey, cache.getKey(tenantRequest));
+
+        // the routing context is specific to each HTTP request
+        UsernamePasswordAuthenticationRequest httpRequest = request("alice", "alice");
+        httpRequest.setAttribute(SecurityIdentityCache.ROUTING_CONTEXT_ATTRIBUTE, new Object());
+        assertEquals(key, cache.getKey(httpRequest));
+
+        // the identity may depend on an attribute which can not be compared
+        UsernamePasswordAuthenticationRequest objectRequest = request("alice", "alice");
+        objectRequest.setAttribute("object", new Object());
+        assertNull(cache.getKey(objectRequest));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIdentityIsEvicted() {
+        SecurityIdentityCache cache = new SecurityIdentityCache(2, Duration.ofMinutes(1));
+        String alice = cache.getKey(request("alice", "alice"));
+        String bob = cache.getKey(request("bob", "bob"));
+        String carol = cache.getKey(request("carol", "carol"));
+        cache.put(alice, identity("alice"));
+        cache.put(bob, identity("bob"));
+        assertNotNull(cache.get(alice));
+        cache.put(carol, identity("carol"));
+
+        assertEquals(2, cache.getCacheSize());
+        assertNotNull(cache.get(alice));
+        assertNull(cache.get(bob));
+        assertNotNull(cache.get(carol));
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        // the counters are not shared between the cache instances
+        assertEquals(0, new SecurityIdentityCache(2, Duration.ofMinutes(1)).getHits());
+    }
+
+    @Test
+    public void testExpiredIdentityIsRemoved() throws Exception {
+        SecurityIdentityCache cache = new SecurityIdentityCache(1, Duration.ofMillis(1));
+        String key = cache.getKey(request("alice", "alice"));
+        cache.put(key, identity("alice"));
+        Thread.sleep(5);
+        assertNull(cache.get(key));
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    private QuarkusIdentityProviderManagerImpl manager(SecurityIdentityCache cache) {
+        return QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new AnonymousIdentityProvider())
+                .addProvider(new IdentityProvider<UsernamePasswordAuthenticationRequest>() {
+                    @Override
+                    public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+                        return UsernamePasswordAuthenticationRequest.class;
+                    }
+
+                    @Override
+                    public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                            AuthenticationRequestContext context) {
+                        authentications.incrementAndGet();
+                        if (request.getUsername().equals(new String(request.getPassword().getPassword()))) {
+                            return Uni.createFrom().item(identity(request.getUsername()));
+                        }
+                        return Uni.createFrom().nullItem();
+                    }
+                })
+                .addSecurityIdentityAugmentor(new SecurityIdentityAugmentor() {
+                    @Override
+                    public Uni<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+                        augmentations.incrementAndGet();
+                        return Uni.createFrom()
+                                .item(QuarkusSecurityIdentity.builder(identity).addRole("user").build());
+                    }
+                })
+                .setBlockingExecutor(Runnable::run)
+                .setIdentityCache(cache)
+                .build();
+    }
+
+    private static UsernamePasswordAuthenticationRequest request(String username, String password) {
+        return new UsernamePasswordAuthenticationRequest(username, new PasswordCredential(password.toCharArray()));
+    }
+
+    private static SecurityIdentity identity(String name) {
+        return QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal(name)).build();
+    }
+}
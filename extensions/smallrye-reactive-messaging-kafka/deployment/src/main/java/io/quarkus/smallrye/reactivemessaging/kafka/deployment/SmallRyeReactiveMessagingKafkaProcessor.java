@@ -30,15 +30,21 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.CheckpointStateStoreRecorder;
 import io.quarkus.smallrye.reactivemessaging.kafka.DatabindProcessingStateCodec;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.ReactiveMessagingKafkaConfig;
@@ -98,6 +104,18 @@ private static List<String> getChannelProperties(String keySuffix, Config config
         return values;
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void checkpointMetrics(CheckpointStateStoreRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, ShutdownContextBuildItem shutdownContext,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        Config config = ConfigProvider.getConfig();
+        if (metricsCapability.isPresent() && (hasStateStoreConfig(REDIS_STATE_STORE, config)
+                || hasStateStoreConfig(HIBERNATE_ORM_STATE_STORE, config))) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(shutdownContext)));
+        }
+    }
+
     @BuildStep
     public void checkpointRedis(BuildProducer<AdditionalBeanBuildItem> additionalBean,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
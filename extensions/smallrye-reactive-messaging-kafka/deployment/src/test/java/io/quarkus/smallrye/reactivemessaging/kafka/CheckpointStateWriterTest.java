@@ -0,0 +1,113 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+class CheckpointStateWriterTest {
+
+    final Vertx vertx = Vertx.vertx();
+    final List<Map<TopicPartition, ProcessingState<?>>> writes = new ArrayList<>();
+
+    @AfterEach
+    void close() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void statesAreWrittenImmediatelyWithoutWindow() {
+        CheckpointStateWriter writer = new CheckpointStateWriter(vertx, 0, "test", "channel", this::write);
+
+        writer.persist(Map.of(new TopicPartition("t", 0), new ProcessingState<>("a", 1))).await().indefinitely();
+        writer.persist(Map.of(new TopicPartition("t", 0), new ProcessingState<>("b", 2))).await().indefinitely();
+
+        assertThat(writes).hasSize(2);
+    }
+
+    @Test
+    void statesAreCoalescedWithinWindow() throws Exception {
+        CheckpointStateWriter writer = new CheckpointStateWriter(vertx, 100, "test", "channel", this::write);
+        TopicPartition tp0 = new TopicPartition("t", 0);
+        TopicPartition tp1 = new TopicPartition("t", 1);
+
+        CompletableFuture<Void> first = writer.persist(Map.of(tp0, new ProcessingState<>("a", 1)))
+                .subscribeAsCompletionStage();
+        CompletableFuture<Void> second = writer
+                .persist(Map.of(tp0, new ProcessingState<>("b", 2), tp1, new ProcessingState<>("c", 3)))
+                .subscribeAsCompletionStage();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertThat(writes).hasSize(1);
+        Map<TopicPartition, ProcessingState<?>> written = writes.get(0);
+        assertThat(written).containsOnlyKeys(tp0, tp1);
+        assertThat(written.get(tp0).getOffset()).isEqualTo(2);
+        assertThat(written.get(tp1).getOffset()).isEqualTo(3);
+    }
+
+    @Test
+    void pendingStatesAreWrittenBeforeFetching() {
+        CheckpointStateWriter writer = new CheckpointStateWriter(vertx, 60_000, "test", "channel", this::write);
+        TopicPartition tp0 = new TopicPartition("t", 0);
+
+        CompletableFuture<Void> persisted = writer.persist(Map.of(tp0, new ProcessingState<>("a", 1)))
+                .subscribeAsCompletionStage();
+        String fetched = writer.fetch(Uni.createFrom().item(() -> {
+            // the pending state is written before the fetch
+            assertThat(writes).hasSize(1);
+            return "fetched";
+        })).await().indefinitely();
+
+        assertThat(fetched).isEqualTo("fetched");
+        assertThat(persisted).isCompleted();
+        assertThat(writes.get(0)).containsOnlyKeys(tp0);
+    }
+
+    @Test
+    void pendingStatesAreWrittenOnClose() {
+        CheckpointStateWriter writer = new CheckpointStateWriter(vertx, 60_000, "test", "channel", this::write);
+        TopicPartition tp0 = new TopicPartition("t", 0);
+
+        CompletableFuture<Void> persisted = writer.persist(Map.of(tp0, new ProcessingState<>("a", 1)))
+                .subscribeAsCompletionStage();
+        writer.close();
+
+        assertThat(persisted).isCompleted();
+        assertThat(writes).hasSize(1);
+        assertThatThrownBy(() -> writer.persist(Map.of(tp0, new ProcessingState<>("b", 2))).await().indefinitely())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(writes).hasSize(1);
+    }
+
+    @Test
+    void pendingResultsFailIfTheWriteFailsOnClose() {
+        CheckpointStateWriter writer = new CheckpointStateWriter(vertx, 60_000, "test", "channel",
+                state -> Uni.createFrom().failure(new IllegalStateException("The client is closed")));
+
+        CompletableFuture<Void> persisted = writer.persist(Map.of(new TopicPartition("t", 0), new ProcessingState<>("a", 1)))
+                .subscribeAsCompletionStage();
+        writer.close();
+
+        assertThat(persisted).isCompletedExceptionally();
+    }
+
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> state) {
+        synchronized (writes) {
+            writes.add(new HashMap<>(state));
+        }
+        return Uni.createFrom().voidItem();
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+
+import org.apache.kafka.common.TopicPartition;
+import org.hibernate.SessionFactory;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+public class HibernateOrmStateStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Checkpoint.class))
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.jdbc.url", "jdbc:h2:mem:checkpoint")
+            .overrideConfigKey("quarkus.hibernate-orm.database.generation", "drop-and-create")
+            .overrideConfigKey("quarkus.kafka.devservices.enabled", "false");
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    void lateWriteWithLowerOffsetIsRejected() {
+        HibernateOrmStateStore store = new HibernateOrmStateStore("group", sessionFactory, Checkpoint.class);
+        TopicPartition tp0 = new TopicPartition("topic", 0);
+        TopicPartition tp1 = new TopicPartition("topic", 1);
+
+        onContext(() -> store.persistProcessingState(Map.of(
+                tp0, new ProcessingState<>(new Checkpoint("newer"), 10),
+                tp1, new ProcessingState<>(new Checkpoint("first"), 3))));
+        // a late write, e.g. from the consumer the partition was previously assigned to
+        onContext(() -> store.persistProcessingState(Map.of(
+                tp0, new ProcessingState<>(new Checkpoint("older"), 5),
+                tp1, new ProcessingState<>(new Checkpoint("second"), 7))));
+
+        Map<TopicPartition, ProcessingState<?>> fetched = onContext(
+                () -> store.fetchProcessingState(List.of(tp0, tp1)));
+        assertThat(fetched.get(tp0).getOffset()).isEqualTo(10);
+        assertThat(((Checkpoint) fetched.get(tp0).getState()).value).isEqualTo("newer");
+        assertThat(fetched.get(tp1).getOffset()).isEqualTo(7);
+        assertThat(((Checkpoint) fetched.get(tp1).getState()).value).isEqualTo("second");
+    }
+
+    private <T> T onContext(Supplier<Uni<T>> supplier) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(() -> supplier.get().subscribe().with(result::complete,
+                result::completeExceptionally));
+        try {
+            return result.get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Entity
+    public static class Checkpoint extends CheckpointEntity {
+
+        public String value;
+
+        public Checkpoint() {
+        }
+
+        Checkpoint(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class CheckpointStateStoreRecorder {
+
+    public Consumer<MetricsFactory> registerMetrics(ShutdownContext shutdownContext) {
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                // Do not keep the factory of a stopped application, e.g. in dev mode and tests
+                CheckpointStateWriter.setMetricsFactory(null);
+            }
+        });
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CheckpointStateWriter.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+}
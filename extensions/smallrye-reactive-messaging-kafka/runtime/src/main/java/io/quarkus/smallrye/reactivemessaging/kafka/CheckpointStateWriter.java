@@ -0,0 +1,183 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.kafka.common.TopicPartition;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Persists the processing states of a checkpoint state store and records the latency of the reads and writes.
+ * <p>
+ * If a coalescing window is configured, the states persisted within the window are merged and written at the end of the
+ * window with a single write, the latest state of each partition wins. The pending states are written right away before the
+ * processing states are fetched, i.e. when partitions are assigned after a rebalance, and when the state store is closed.
+ * Once closed, the states can't be persisted anymore.
+ */
+class CheckpointStateWriter {
+
+    private static final Logger log = Logger.getLogger(CheckpointStateWriter.class);
+
+    static final String COALESCE_WINDOW = "coalesce-window.ms";
+    static final String FETCH_METRIC = "kafka.checkpoint.fetch";
+    static final String PERSIST_METRIC = "kafka.checkpoint.persist";
+
+    private static volatile MetricsFactory metricsFactory;
+
+    private final Vertx vertx;
+    private final long windowMs;
+    private final String stateStore;
+    private final String channel;
+    private final Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer;
+    private final TimeRecorder fetchTimer;
+    private final TimeRecorder persistTimer;
+
+    // guarded by this
+    private Map<TopicPartition, ProcessingState<?>> pending;
+    private CompletableFuture<Void> pendingResult;
+    private long pendingTimer;
+    private boolean closed;
+
+    CheckpointStateWriter(Vertx vertx, long windowMs, String stateStore, String channel,
+            Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer) {
+        this.vertx = vertx;
+        this.windowMs = windowMs;
+        this.stateStore = stateStore;
+        this.channel = channel;
+        this.writer = writer;
+        MetricsFactory factory = metricsFactory;
+        if (factory != null) {
+            this.fetchTimer = factory.builder(FETCH_METRIC)
+                    .description("The time spent fetching the processing state of the partitions")
+                    .tag("state-store", stateStore)
+                    .tag("channel", channel)
+                    .buildTimer();
+            this.persistTimer = factory.builder(PERSIST_METRIC)
+                    .description("The time spent persisting the processing state of the partitions")
+                    .tag("state-store", stateStore)
+                    .tag("channel", channel)
+                    .buildTimer();
+        } else {
+            this.fetchTimer = null;
+            this.persistTimer = null;
+        }
+    }
+
+    /**
+     * @param factory the factory used to register the metrics, or {@code null} if the metrics are disabled
+     */
+    static void setMetricsFactory(MetricsFactory factory) {
+        metricsFactory = factory;
+    }
+
+    /**
+     * @return the coalescing window of the given state store configured for the channel, {@code 0} if not set
+     */
+    static long coalesceWindow(KafkaConnectorIncomingConfiguration config, String stateStore) {
+        return config.config().getOptionalValue(KafkaCommitHandler.Strategy.CHECKPOINT + "." + stateStore + "."
+                + COALESCE_WINDOW, Long.class).orElse(0L);
+    }
+
+    /**
+     * Writes the pending states, so that the fetched states are up-to-date, then fetches the states.
+     */
+    <T> Uni<T> fetch(Uni<T> fetch) {
+        return flush().chain(() -> timed(fetch, fetchTimer));
+    }
+
+    Uni<Void> persist(Map<TopicPartition, ProcessingState<?>> state) {
+        return Uni.createFrom().deferred(() -> {
+            CompletableFuture<Void> result;
+            synchronized (this) {
+                if (closed) {
+                    return Uni.createFrom().failure(new IllegalStateException("The checkpoint state store is closed"));
+                }
+                if (windowMs <= 0) {
+                    return timed(writer.apply(state), persistTimer);
+                }
+                if (pending == null) {
+                    pending = new HashMap<>(state);
+                    pendingResult = new CompletableFuture<>();
+                    pendingTimer = vertx.setTimer(windowMs, ignored -> writePending());
+                } else {
+                    pending.putAll(state);
+                }
+                result = pendingResult;
+            }
+            return Uni.createFrom().completionStage(result);
+        });
+    }
+
+    /**
+     * Writes the pending states right away.
+     *
+     * @return a {@link Uni} completed once the pending states are written
+     */
+    Uni<Void> flush() {
+        return Uni.createFrom().deferred(() -> {
+            CompletableFuture<Void> result = writePending();
+            return result != null ? Uni.createFrom().completionStage(result) : Uni.createFrom().voidItem();
+        });
+    }
+
+    /**
+     * Writes the pending states, the states persisted afterwards are rejected.
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        CompletableFuture<Void> result = writePending();
+        if (result != null) {
+            result.whenComplete((ignored, failure) -> {
+                if (failure != null) {
+                    log.warnf(failure, "Unable to persist the pending processing states of channel %s while closing the"
+                            + " %s state store", channel, stateStore);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return the result of the write of the pending states, or {@code null} if there are none
+     */
+    private CompletableFuture<Void> writePending() {
+        Map<TopicPartition, ProcessingState<?>> state;
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            if (pending == null) {
+                return null;
+            }
+            state = pending;
+            result = pendingResult;
+            pending = null;
+            pendingResult = null;
+            vertx.cancelTimer(pendingTimer);
+        }
+        // the write is not cancelled when the store is closed, the pending results fail if the write fails
+        timed(Uni.createFrom().deferred(() -> writer.apply(state)), persistTimer)
+                .subscribe().with(result::complete, result::completeExceptionally);
+        return result;
+    }
+
+    private static <T> Uni<T> timed(Uni<T> uni, TimeRecorder timer) {
+        if (timer == null) {
+            return uni;
+        }
+        return Uni.createFrom().deferred(() -> {
+            long start = System.nanoTime();
+            return uni.onTermination().invoke(() -> timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+}
@@ -33,12 +33,20 @@ public class HibernateOrmStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final CheckpointStateWriter stateWriter;
 
     public HibernateOrmStateStore(String consumerGroupId, SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
+        this(consumerGroupId, sf, stateType, null, 0, "");
+    }
+
+    HibernateOrmStateStore(String consumerGroupId, SessionFactory sf, Class<? extends CheckpointEntity> stateType,
+            Vertx vertx, long coalesceWindowMs, String channel) {
         this.consumerGroupId = consumerGroupId;
         this.sf = sf;
         this.stateType = stateType;
+        this.stateWriter = new CheckpointStateWriter(vertx, coalesceWindowMs, HIBERNATE_ORM_STATE_STORE, channel,
+                this::writeProcessingState);
     }
 
     @ApplicationScoped
@@ -62,13 +70,19 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             SessionFactory sf = persistenceUnit != null
                     ? sessionFactories.select(new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit)).get()
                     : sessionFactories.get();
-            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType, vertx,
+                    CheckpointStateWriter.coalesceWindow(config, HIBERNATE_ORM_STATE_STORE), config.getChannel());
         }
     }
 
+    @Override
+    public void close() {
+        stateWriter.close();
+    }
+
     @Override
     public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
-        return Uni.createFrom().deferred(() -> {
+        return stateWriter.fetch(Uni.createFrom().deferred(() -> {
             Object[] ids = partitions.stream()
                     .map(tp -> new CheckpointEntityId(consumerGroupId, tp))
                     .toArray(Object[]::new);
@@ -77,8 +91,8 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
                     tx = session.beginTransaction();
-                    for (Object id : ids) {
-                        CheckpointEntity entity = session.find(stateType, id);
+                    // a single query for all the partitions
+                    for (CheckpointEntity entity : loadAll(session, ids)) {
                         if (entity != null) {
                             fetched.add(entity);
                         }
@@ -98,11 +112,15 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
                 }
 
             }));
-        });
+        }));
     }
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+        return stateWriter.persist(state);
+    }
+
+    private Uni<Void> writeProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
             Object[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
@@ -113,8 +131,22 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
                     tx = session.beginTransaction();
-                    for (Object entity : entities) {
-                        session.merge(entity);
+                    session.setJdbcBatchSize(Math.max(entities.length, 1));
+                    // load the existing entities with a single query, so that merge does not select them one by one
+                    Object[] ids = new Object[entities.length];
+                    for (int i = 0; i < entities.length; i++) {
+                        ids[i] = ((CheckpointEntity) entities[i]).getId();
+                    }
+                    List<? extends CheckpointEntity> current = loadAll(session, ids);
+                    for (int i = 0; i < entities.length; i++) {
+                        CheckpointEntity entity = (CheckpointEntity) entities[i];
+                        CheckpointEntity currentEntity = current.get(i);
+                        // never go back to an older state, e.g. a late write after the partition was assigned to another
+                        // consumer which already persisted a newer state
+                        if (currentEntity == null || currentEntity.offset == null
+                                || entity.getOffset() >= currentEntity.getOffset()) {
+                            session.merge(entity);
+                        }
                     }
                     session.flush();
                     tx.commit();
@@ -129,4 +161,13 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
         });
     }
 
+    private List<? extends CheckpointEntity> loadAll(Session session, Object[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+        return session.byMultipleIds(stateType)
+                .withBatchSize(ids.length)
+                .multiLoad(ids);
+    }
+
 }
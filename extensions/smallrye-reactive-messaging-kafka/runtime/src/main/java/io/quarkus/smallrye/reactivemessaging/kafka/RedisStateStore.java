@@ -39,11 +39,19 @@ public class RedisStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final ProcessingStateCodec stateCodec;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final CheckpointStateWriter stateWriter;
 
     public RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec) {
+        this(redis, consumerGroupId, stateCodec, null, 0, "");
+    }
+
+    RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec, Vertx vertx,
+            long coalesceWindowMs, String channel) {
         this.redis = redis;
         this.consumerGroupId = consumerGroupId;
         this.stateCodec = stateCodec;
+        this.stateWriter = new CheckpointStateWriter(vertx, coalesceWindowMs, REDIS_STATE_STORE, channel,
+                this::writeProcessingState);
     }
 
     @ApplicationScoped
@@ -74,13 +82,15 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
                     return stateCodecFactory.get();
                 }
             }).create(stateType);
-            return new RedisStateStore(rds, consumerGroupId, stateCodec);
+            return new RedisStateStore(rds, consumerGroupId, stateCodec, vertx,
+                    CheckpointStateWriter.coalesceWindow(config, REDIS_STATE_STORE), config.getChannel());
         }
     }
 
     @Override
     public void close() {
         closed.set(true);
+        stateWriter.close();
     }
 
     @Override
@@ -91,11 +101,11 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
         List<Tuple2<TopicPartition, String>> tps = partitions.stream()
                 .map(tp -> Tuple2.of(tp, getKey(tp)))
                 .collect(Collectors.toList());
-        return redis.value(byte[].class).mget(tps.stream().map(Tuple2::getItem2).toArray(String[]::new))
+        return stateWriter.fetch(redis.value(byte[].class).mget(tps.stream().map(Tuple2::getItem2).toArray(String[]::new))
                 .map(response -> response.entrySet().stream()
                         .filter(e -> e.getValue() != null)
                         .collect(Collectors.toMap(e -> getTpFromKey(e.getKey()),
-                                e -> ProcessingState.getOrEmpty(stateCodec.decode(e.getValue())))));
+                                e -> ProcessingState.getOrEmpty(stateCodec.decode(e.getValue()))))));
     }
 
     private String getKey(TopicPartition partition) {
@@ -109,9 +119,14 @@ private TopicPartition getTpFromKey(String key) {
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> states) {
-        if (states.isEmpty() || closed.get()) {
+        if (states.isEmpty()) {
             return Uni.createFrom().voidItem();
         }
+        // fails once the store is closed
+        return stateWriter.persist(states);
+    }
+
+    private Uni<Void> writeProcessingState(Map<TopicPartition, ProcessingState<?>> states) {
         String[] keys = states.keySet().stream().map(this::getKey).toArray(String[]::new);
         return redis.withTransaction(r -> r.value(byte[].class).mget(keys), (current, r) -> {
             Map<String, byte[]> map = states.entrySet().stream().filter(toPersist -> {
@@ -0,0 +1,40 @@
+package io.quarkus.vertx.http.deployment.spi;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A route relative to the non-application root path, served from the management interface when it is enabled. The route
+ * is handled by a CDI bean implementing {@code io.vertx.core.Handler<io.vertx.ext.web.RoutingContext>}.
+ * <p>
+ * Unlike {@code io.quarkus.vertx.http.deployment.RouteBuildItem}, this build item can be produced by extensions which only
+ * optionally depend on the Vert.x HTTP extension. It is ignored if the application doesn't depend on it.
+ */
+public final class NonApplicationRouteBuildItem extends MultiBuildItem {
+
+    private final String path;
+    private final String handlerClass;
+    private final String description;
+
+    /**
+     * @param path the route path, relative to the non-application root path
+     * @param handlerClass the class of the bean handling the requests
+     * @param description the description displayed on the not found page, or {@code null}
+     */
+    public NonApplicationRouteBuildItem(String path, String handlerClass, String description) {
+        this.path = path;
+        this.handlerClass = handlerClass;
+        this.description = description;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getHandlerClass() {
+        return handlerClass;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
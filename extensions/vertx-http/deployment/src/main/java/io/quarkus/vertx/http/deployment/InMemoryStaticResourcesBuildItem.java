@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources served from memory, along with the classpath resources holding their compressed variants.
+ */
+public final class InMemoryStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Set<String> paths;
+    private final Map<String, Map<String, String>> compressedVariants;
+
+    public InMemoryStaticResourcesBuildItem(Set<String> paths, Map<String, Map<String, String>> compressedVariants) {
+        this.paths = paths;
+        this.compressedVariants = compressedVariants;
+    }
+
+    /**
+     * @return the paths of the static resources served from memory
+     */
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * @return the names of the classpath resources holding the compressed variants, by path and by encoding
+     */
+    public Map<String, Map<String, String>> getCompressedVariants() {
+        return compressedVariants;
+    }
+}
@@ -2,7 +2,9 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -10,10 +12,14 @@
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
@@ -24,19 +30,28 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    static final String COMPRESSED_RESOURCES = "META-INF/quarkus-compressed-resources";
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+
     @BuildStep
     void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildItem applicationArchivesBuildItem,
             List<AdditionalStaticResourceBuildItem> additionalStaticResources,
@@ -54,18 +69,74 @@ void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildI
         }
     }
 
+    @BuildStep
+    void collectInMemoryStaticResources(Optional<StaticResourcesBuildItem> staticResources,
+            HttpBuildTimeConfig httpBuildTimeConfig, LaunchModeBuildItem launchMode,
+            BuildProducer<InMemoryStaticResourcesBuildItem> inMemoryStaticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) throws IOException {
+        if (staticResources.isEmpty() || !httpBuildTimeConfig.staticResources.inMemory
+                || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // The static resources can change in dev mode
+            return;
+        }
+        Set<String> knownPaths = staticResources.get().getPaths();
+        Set<String> compressMediaTypes = httpBuildTimeConfig.compressMediaTypes.isPresent()
+                ? Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get())
+                : Set.of();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Set<String> paths = new HashSet<>();
+        Map<String, Map<String, String>> compressedVariants = new HashMap<>();
+        for (StaticResourcesBuildItem.Entry entry : staticResources.get().getEntries()) {
+            if (entry.isDirectory()) {
+                continue;
+            }
+            String path = entry.getPath();
+            paths.add(path);
+            if (!httpBuildTimeConfig.staticResources.precompress) {
+                continue;
+            }
+            Map<String, String> variants = new HashMap<>();
+            // The variants compressed by the application build are used as is
+            if (knownPaths.contains(path + ".br")) {
+                variants.put(BROTLI, StaticResourcesRecorder.META_INF_RESOURCES + path + ".br");
+            }
+            if (knownPaths.contains(path + ".gz")) {
+                variants.put(GZIP, StaticResourcesRecorder.META_INF_RESOURCES + path + ".gz");
+            } else if (isCompressed(compressMediaTypes, path)) {
+                byte[] compressed = gzip(classLoader, StaticResourcesRecorder.META_INF_RESOURCES + path);
+                if (compressed != null) {
+                    String name = COMPRESSED_RESOURCES + path + ".gz";
+                    generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+                    variants.put(GZIP, name);
+                }
+            }
+            if (!variants.isEmpty()) {
+                compressedVariants.put(path, variants);
+            }
+        }
+        inMemoryStaticResources.produce(new InMemoryStaticResourcesBuildItem(paths, compressedVariants));
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
-    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<InMemoryStaticResourcesBuildItem> inMemoryStaticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            if (inMemoryStaticResources.isPresent()) {
+                defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                        inMemoryStaticResources.get().getPaths(), inMemoryStaticResources.get().getCompressedVariants())));
+            } else {
+                defaultRoutes.produce(
+                        new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), Set.of(), Map.of())));
+            }
         }
     }
 
     @BuildStep(onlyIf = NativeOrNativeSourcesBuild.class)
     public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<InMemoryStaticResourcesBuildItem> inMemoryStaticResources,
             BuildProducer<NativeImageResourceBuildItem> producer) {
         if (staticResources.isPresent()) {
             Set<StaticResourcesBuildItem.Entry> entries = staticResources.get().getEntries();
@@ -78,10 +149,48 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
                 String metaInfResourcesPath = StaticResourcesRecorder.META_INF_RESOURCES + entry.getPath();
                 metaInfResources.add(metaInfResourcesPath);
             }
+            if (inMemoryStaticResources.isPresent()) {
+                for (Map<String, String> variants : inMemoryStaticResources.get().getCompressedVariants().values()) {
+                    for (String variant : variants.values()) {
+                        if (variant.startsWith(COMPRESSED_RESOURCES)) {
+                            metaInfResources.add(variant);
+                        }
+                    }
+                }
+            }
             producer.produce(new NativeImageResourceBuildItem(metaInfResources));
         }
     }
 
+    private static boolean isCompressed(Set<String> compressMediaTypes, String path) {
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        return contentType != null && compressMediaTypes.contains(contentType);
+    }
+
+    /**
+     * Compress the given resource with gzip.
+     *
+     * @return the compressed resource, or {@code null} if the resource does not exist or is not smaller once compressed
+     */
+    private static byte[] gzip(ClassLoader classLoader, String name) throws IOException {
+        byte[] content;
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            if (in == null) {
+                return null;
+            }
+            content = in.readAllBytes();
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(content);
+        }
+        return compressed.size() < content.length ? compressed.toByteArray() : null;
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
@@ -41,6 +41,8 @@
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
 import io.quarkus.runtime.LaunchMode;
@@ -53,6 +55,7 @@
 import io.quarkus.vertx.http.deployment.devmode.HttpRemoteDevClientProvider;
 import io.quarkus.vertx.http.deployment.devmode.NotFoundPageDisplayableEndpointBuildItem;
 import io.quarkus.vertx.http.deployment.spi.FrameworkEndpointsBuildItem;
+import io.quarkus.vertx.http.deployment.spi.NonApplicationRouteBuildItem;
 import io.quarkus.vertx.http.deployment.spi.UseManagementInterfaceBuildItem;
 import io.quarkus.vertx.http.runtime.BasicRoute;
 import io.quarkus.vertx.http.runtime.CurrentRequestProducer;
@@ -204,6 +207,26 @@ void notFoundRoutes(
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @SuppressWarnings("unchecked")
+    void nonApplicationRoutes(List<NonApplicationRouteBuildItem> nonApplicationRoutes,
+            NonApplicationRootPathBuildItem nonApplicationRootPath, VertxHttpRecorder recorder,
+            BuildProducer<RouteBuildItem> routes) throws ClassNotFoundException {
+        for (NonApplicationRouteBuildItem nonApplicationRoute : nonApplicationRoutes) {
+            Class<? extends Handler<RoutingContext>> handlerClass = (Class<? extends Handler<RoutingContext>>) Class
+                    .forName(nonApplicationRoute.getHandlerClass(), false, Thread.currentThread().getContextClassLoader());
+            NonApplicationRootPathBuildItem.Builder builder = nonApplicationRootPath.routeBuilder()
+                    .management()
+                    .route(nonApplicationRoute.getPath())
+                    .handler(recorder.beanHandler(handlerClass));
+            if (nonApplicationRoute.getDescription() != null) {
+                builder.displayOnNotFoundPage(nonApplicationRoute.getDescription());
+            }
+            routes.produce(builder.build());
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void preinitializeRouter(CoreVertxBuildItem vertx, VertxHttpRecorder recorder,
@@ -311,7 +334,8 @@ ServiceStartBuildItem finalizeRouter(
             ShutdownConfig shutdownConfig,
             LiveReloadConfig lrc,
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
-            ExecutorBuildItem executorBuildItem)
+            ExecutorBuildItem executorBuildItem,
+            ShutdownContextBuildItem shutdown)
             throws BuildException, IOException {
 
         Optional<DefaultRouteBuildItem> defaultRoute;
@@ -368,11 +392,21 @@ ServiceStartBuildItem finalizeRouter(
                 nonApplicationRootPathBuildItem.getNonApplicationRootPath(),
                 launchMode.getLaunchMode(),
                 !requireBodyHandlerBuildItems.isEmpty(), bodyHandler, gracefulShutdownFilter,
-                shutdownConfig, executorBuildItem.getExecutorProxy());
+                shutdownConfig, executorBuildItem.getExecutorProxy(), shutdown);
 
         return new ServiceStartBuildItem("vertx-http");
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void accessLogMetrics(VertxHttpRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        // the metrics are only registered if the batching access log is enabled at runtime
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerAccessLogMetrics()));
+        }
+    }
+
     @BuildStep
     void config(BuildProducer<RunTimeConfigBuilderBuildItem> runtimeConfigBuilder) {
         runtimeConfigBuilder.produce(new RunTimeConfigBuilderBuildItem(VertxConfigBuilder.class));
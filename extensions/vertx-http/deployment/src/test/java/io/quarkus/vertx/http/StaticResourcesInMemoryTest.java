@@ -0,0 +1,116 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+public class StaticResourcesInMemoryTest {
+
+    // Do not let the client add its own Accept-Encoding header
+    private static final RestAssuredConfig NO_DECODERS = RestAssuredConfig.config()
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.in-memory=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset("console.log('app');"), "META-INF/resources/app.js")
+                    .addAsResource(new StringAsset("brotli"), "META-INF/resources/app.js.br"));
+
+    @Test
+    public void shouldServePrecompressedVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "accept-encoding")
+                .header("ETag", notNullValue())
+                .header("Content-Type", "text/html;charset=UTF-8")
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeIndexPage() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeApplicationVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip, br")
+                .when().get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "br")
+                .body(equalTo("brotli"));
+    }
+
+    @Test
+    public void shouldServeIdentity() {
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "br;q=0, gzip;q=0")
+                .when().get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo("console.log('app');"));
+    }
+
+    @Test
+    public void shouldHandleConditionalRequest() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip")
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(304)
+                .body(emptyString());
+        // The identity variant has another ETag
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .when().get("/static-file.html")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void shouldHandleHeadRequest() {
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "identity")
+                .when().head("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Length", "19")
+                .body(emptyString());
+    }
+
+    @Test
+    public void shouldDelegateRangeRequest() {
+        RestAssured.given().header("Range", "bytes=0-6")
+                .when().get("/app.js")
+                .then()
+                .statusCode(206)
+                .body(equalTo("console"));
+    }
+
+}
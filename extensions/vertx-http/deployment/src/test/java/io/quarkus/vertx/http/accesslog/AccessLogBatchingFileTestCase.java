@@ -0,0 +1,107 @@
+package io.quarkus.vertx.http.accesslog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.awaitility.Awaitility;
+import org.awaitility.core.ThrowingRunnable;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests writing the access log to a file with the batching writer
+ */
+public class AccessLogBatchingFileTestCase {
+
+    @RegisterExtension
+    public static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    Path logDirectory;
+                    try {
+                        logDirectory = Files.createTempDirectory("quarkus-tests");
+                        Properties p = new Properties();
+                        p.setProperty("quarkus.http.access-log.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                        p.setProperty("quarkus.http.access-log.batching", "true");
+                        p.setProperty("quarkus.http.access-log.max-file-size", "1K");
+                        p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                        p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                        p.setProperty("quarkus.http.access-log.pattern", "%r %s");
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        p.store(out, null);
+
+                        return ShrinkWrap.create(JavaArchive.class)
+                                .add(new ByteArrayAsset(out.toByteArray()),
+                                        "application.properties");
+
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        Files.createDirectories(logDirectory);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testLogFileIsRotatedOnSize() {
+        for (int i = 0; i < 50; i++) {
+            RestAssured.get("/does-not-exist-" + i);
+        }
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(new ThrowingRunnable() {
+                    @Override
+                    public void run() throws Throwable {
+                        List<Path> files;
+                        try (Stream<Path> list = Files.list(logDirectory)) {
+                            files = list.collect(Collectors.toList());
+                        }
+                        Assertions.assertTrue(files.size() > 1, "the log file was not rotated: " + files);
+                        StringBuilder data = new StringBuilder();
+                        for (Path file : files) {
+                            Assertions.assertTrue(Files.size(file) <= 1024, file + " exceeds the maximum size");
+                            data.append(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+                        }
+                        for (int i = 0; i < 50; i++) {
+                            Assertions.assertTrue(data.indexOf("GET /does-not-exist-" + i + " HTTP/1.1 404\n") >= 0,
+                                    "request " + i + " is missing in the access log");
+                        }
+                    }
+                });
+    }
+
+}
@@ -4,6 +4,7 @@
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class AccessLogConfig {
@@ -77,4 +78,34 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * The size after which the log file is rotated, e.g. `100M`. The size is not limited if not set.
+     *
+     * Only used if `batching` is enabled.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public Optional<MemorySize> maxFileSize;
+
+    /**
+     * If the messages logged to a file are batched by a dedicated writer thread, for applications logging many requests.
+     *
+     * The messages are queued in a bounded queue and written with a single write per batch. If the queue is full the
+     * messages are dropped rather than slowing down the requests. The number of written and dropped messages are exposed
+     * as metrics if a metrics extension is present.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean batching;
+
+    /**
+     * The maximum number of messages waiting to be written when `batching` is enabled.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "65536")
+    public int batchingQueueSize;
+
 }
@@ -98,4 +98,9 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * Static resources build time configuration.
+     */
+    public StaticResourcesBuildTimeConfig staticResources;
 }
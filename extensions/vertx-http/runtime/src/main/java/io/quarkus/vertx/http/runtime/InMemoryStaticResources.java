@@ -0,0 +1,266 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Immutable set of static resources loaded in memory when the application starts, along with their compressed variants.
+ * <p>
+ * A resource is served from memory if the client accepts one of its variants, otherwise the request is passed to the next
+ * handler. The variants are sent with a strong {@code ETag}, so that a client can revalidate its copy with a conditional
+ * request instead of downloading it again.
+ */
+final class InMemoryStaticResources {
+
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+    static final String IDENTITY = "identity";
+    // The encodings supported by the variants, by order of preference.
+    private static final String[] ENCODINGS = { BROTLI, GZIP };
+
+    private final Map<String, Resource> resources;
+    private final String cacheControl;
+    private final boolean rangeSupport;
+
+    /**
+     * @param paths the resource paths, relative to {@code META-INF/resources}
+     * @param compressedVariants the classpath resources holding the compressed variants of the resources, by path and by
+     *        encoding
+     * @param compressMediaTypes the media types which can be compressed on the fly when there is no compressed variant
+     * @param maxSize the size above which a variant is not kept in memory
+     * @param config the static resources configuration
+     * @param classLoader the class loader used to load the resources
+     */
+    InMemoryStaticResources(Set<String> paths, Map<String, Map<String, String>> compressedVariants,
+            Set<String> compressMediaTypes, long maxSize, StaticResourcesConfig config, ClassLoader classLoader) {
+        this.resources = new HashMap<>();
+        for (String path : paths) {
+            Variant identity = load(classLoader, StaticResourcesRecorder.META_INF_RESOURCES + path, IDENTITY, maxSize);
+            Map<String, Variant> variants = new HashMap<>();
+            Map<String, String> variantResources = compressedVariants.get(path);
+            if (variantResources != null) {
+                for (Map.Entry<String, String> variantResource : variantResources.entrySet()) {
+                    Variant variant = load(classLoader, variantResource.getValue(), variantResource.getKey(), maxSize);
+                    if (variant != null) {
+                        variants.put(variantResource.getKey(), variant);
+                    }
+                }
+            }
+            if (identity == null && variants.isEmpty()) {
+                continue;
+            }
+            String mediaType = MimeMapping.getMimeTypeForFilename(path);
+            String contentType;
+            if (mediaType == null) {
+                contentType = "application/octet-stream";
+            } else if (mediaType.startsWith("text")) {
+                // same as the static handler with the UTF-8 default content encoding
+                contentType = mediaType + ";charset=UTF-8";
+            } else {
+                contentType = mediaType;
+            }
+            boolean compressible = mediaType != null && compressMediaTypes.contains(mediaType);
+            resources.put(path, new Resource(contentType, compressible, identity, variants));
+        }
+        this.cacheControl = config.cachingEnabled ? "public, immutable, max-age=" + config.maxAge.toSeconds() : null;
+        this.rangeSupport = config.enableRangeSupport;
+    }
+
+    int size() {
+        return resources.size();
+    }
+
+    /**
+     * Sends the resource identified by the given path, if it is served from memory and the request can be handled without
+     * reading it from the classpath.
+     *
+     * @return {@code true} if the response was sent
+     */
+    boolean handle(RoutingContext ctx, String path, boolean compressionEnabled) {
+        Resource resource = resources.get(path);
+        if (resource == null) {
+            return false;
+        }
+        MultiMap requestHeaders = ctx.request().headers();
+        if (rangeSupport && requestHeaders.contains(HttpHeaderNames.RANGE)) {
+            // the static handler supports the partial responses
+            return false;
+        }
+        Variant variant = resource.select(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING));
+        if (variant == null) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        MultiMap responseHeaders = response.headers();
+        responseHeaders.set(HttpHeaders.ETAG, variant.etag);
+        if (resource.hasVariants()) {
+            responseHeaders.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (cacheControl != null) {
+            responseHeaders.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (variant.encoding != IDENTITY) {
+            responseHeaders.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        } else if (compressionEnabled && resource.compressible) {
+            // there is no compressed variant, so let the compression handler compress the response on the fly
+            responseHeaders.remove(HttpHeaders.CONTENT_ENCODING);
+        }
+        if (matches(requestHeaders.get(HttpHeaders.IF_NONE_MATCH), variant.etag)) {
+            response.setStatusCode(304).end();
+            return true;
+        }
+        responseHeaders.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        if (ctx.request().method() == HttpMethod.HEAD) {
+            responseHeaders.set(HttpHeaders.CONTENT_LENGTH, variant.length);
+            response.end();
+        } else {
+            response.end(variant.content);
+        }
+        return true;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        int start = 0;
+        while (start < ifNoneMatch.length()) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end == -1) {
+                end = ifNoneMatch.length();
+            }
+            String candidate = ifNoneMatch.substring(start, end).trim();
+            // the weak comparison is used for the conditional GET requests
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * @return the quality value of the given encoding in the {@code Accept-Encoding} header, or {@code -1} if it is not
+     *         listed
+     */
+    static float quality(String acceptEncoding, String encoding) {
+        float wildcard = -1.0f;
+        int start = 0;
+        while (start < acceptEncoding.length()) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = acceptEncoding.length();
+            }
+            int parameters = acceptEncoding.indexOf(';', start);
+            int nameEnd = parameters == -1 || parameters > end ? end : parameters;
+            String name = acceptEncoding.substring(start, nameEnd).trim();
+            float quality = 1.0f;
+            if (nameEnd < end) {
+                String parameter = acceptEncoding.substring(nameEnd + 1, end).trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Float.parseFloat(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0f;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase(encoding)) {
+                return quality;
+            } else if (name.equals("*")) {
+                wildcard = quality;
+            }
+            start = end + 1;
+        }
+        return wildcard;
+    }
+
+    private static Variant load(ClassLoader classLoader, String name, String encoding, long maxSize) {
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            if (in == null) {
+                return null;
+            }
+            byte[] content = in.readNBytes((int) Math.min(maxSize + 1, Integer.MAX_VALUE - 8));
+            if (content.length > maxSize) {
+                return null;
+            }
+            return new Variant(encoding, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load the static resource " + name, e);
+        }
+    }
+
+    private static final class Resource {
+
+        final String contentType;
+        final boolean compressible;
+        final Variant identity;
+        final Map<String, Variant> variants;
+
+        Resource(String contentType, boolean compressible, Variant identity, Map<String, Variant> variants) {
+            this.contentType = contentType;
+            this.compressible = compressible;
+            this.identity = identity;
+            this.variants = variants;
+        }
+
+        boolean hasVariants() {
+            return !variants.isEmpty();
+        }
+
+        Variant select(String acceptEncoding) {
+            if (acceptEncoding != null && hasVariants()) {
+                Variant selected = null;
+                float selectedQuality = 0.0f;
+                for (String encoding : ENCODINGS) {
+                    Variant variant = variants.get(encoding);
+                    if (variant != null) {
+                        float quality = quality(acceptEncoding, encoding);
+                        if (quality > selectedQuality) {
+                            selected = variant;
+                            selectedQuality = quality;
+                        }
+                    }
+                }
+                if (selected != null) {
+                    return selected;
+                }
+            }
+            return identity;
+        }
+    }
+
+    private static final class Variant {
+
+        final String encoding;
+        final Buffer content;
+        final String length;
+        final String etag;
+
+        Variant(String encoding, byte[] content) {
+            this.encoding = encoding;
+            this.content = Buffer.buffer(content);
+            this.length = Integer.toString(content.length);
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            this.etag = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(content.length) + "\"";
+        }
+    }
+}
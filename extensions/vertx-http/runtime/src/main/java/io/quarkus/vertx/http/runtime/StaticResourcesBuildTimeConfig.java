@@ -0,0 +1,38 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class StaticResourcesBuildTimeConfig {
+
+    /**
+     * Set whether the static resources are served from memory. The resources are loaded when the application starts and
+     * are served with an {@code ETag} computed from their content, which allows the clients to use conditional requests.
+     * <p>
+     * This value is ignored in dev mode.
+     */
+    @ConfigItem
+    public boolean inMemory;
+
+    /**
+     * Set the maximum size of a static resource served from memory. Larger resources are served from the classpath. This
+     * limit applies to each encoding of a resource separately, so the compressed variant of a resource can be served from
+     * memory even if the resource itself is too large.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public MemorySize inMemoryMaxSize;
+
+    /**
+     * Set whether the static resources served from memory are compressed with gzip at build time when their media type is
+     * listed in {@code quarkus.http.compress-media-types}. The compressed variant is sent to the clients accepting the
+     * {@code gzip} encoding, so the resource does not have to be compressed for each request.
+     * <p>
+     * Variants compressed by the application build, such as {@code app.js.br} or {@code app.js.gz} next to
+     * {@code app.js}, are also served to the clients accepting their encoding.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean precompress;
+
+}
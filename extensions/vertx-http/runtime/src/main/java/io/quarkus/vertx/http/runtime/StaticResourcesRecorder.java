@@ -2,10 +2,14 @@
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import org.jboss.logging.Logger;
+
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
@@ -20,6 +24,8 @@
 @Recorder
 public class StaticResourcesRecorder {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesRecorder.class);
+
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
     private static volatile List<Path> hotDeploymentResourcePaths;
@@ -38,7 +44,14 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     * @param knownPaths the paths of the static resources
+     * @param inMemoryPaths the paths of the static resources served from memory
+     * @param compressedVariants the classpath resources holding the compressed variants of the static resources served from
+     *        memory, by path and by encoding
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Set<String> inMemoryPaths,
+            Map<String, Map<String, String>> compressedVariants) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -85,6 +98,8 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage.charAt(0) == '/')
                     ? config.indexPage.substring(1)
                     : config.indexPage;
+            final InMemoryStaticResources inMemoryResources = inMemoryPaths.isEmpty() ? null
+                    : loadInMemoryResources(inMemoryPaths, compressedVariants, config, currentCl);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -94,6 +109,10 @@ public void handle(RoutingContext ctx) {
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (inMemoryResources != null && inMemoryResources.handle(ctx,
+                                rel.endsWith("/") ? rel.concat(indexPage) : rel, httpBuildTimeConfig.enableCompression)) {
+                            return;
+                        }
                         compressIfNeeded(ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -120,6 +139,24 @@ public void accept(Route route) {
         };
     }
 
+    private InMemoryStaticResources loadInMemoryResources(Set<String> inMemoryPaths,
+            Map<String, Map<String, String>> compressedVariants, StaticResourcesConfig config, ClassLoader classLoader) {
+        Set<String> paths = inMemoryPaths;
+        if (!config.includeHidden) {
+            // the hidden files are rejected by the static handler
+            paths = new HashSet<>();
+            for (String path : inMemoryPaths) {
+                if (!path.contains("/.")) {
+                    paths.add(path);
+                }
+            }
+        }
+        InMemoryStaticResources resources = new InMemoryStaticResources(paths, compressedVariants, compressMediaTypes,
+                httpBuildTimeConfig.staticResources.inMemoryMaxSize.asLongValue(), config, classLoader);
+        LOG.debugf("%d static resources are served from memory", resources.size());
+        return resources;
+    }
+
     private void compressIfNeeded(RoutingContext ctx, String path) {
         if (httpBuildTimeConfig.enableCompression && isCompressed(path)) {
             // VertxHttpRecorder is adding "Content-Encoding: identity" to all requests if compression is enabled.
@@ -56,6 +56,7 @@
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigInstantiator;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
@@ -69,6 +70,7 @@
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.BatchingAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
@@ -145,6 +147,8 @@ public class VertxHttpRecorder {
 
     private static volatile Handler<RoutingContext> nonApplicationRedirectHandler;
 
+    private static volatile BatchingAccessLogReceiver batchingAccessLogReceiver;
+
     private static volatile int actualHttpPort = -1;
     private static volatile int actualHttpsPort = -1;
 
@@ -365,7 +369,7 @@ public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRoute
             LaunchMode launchMode, boolean requireBodyHandler,
             Handler<RoutingContext> bodyHandler,
             GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
-            Executor executor) {
+            Executor executor, ShutdownContext shutdown) {
         HttpConfiguration httpConfiguration = this.httpConfiguration.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -469,7 +473,27 @@ public void handle(RoutingContext event) {
         AccessLogConfig accessLog = httpConfiguration.accessLog;
         if (accessLog.enabled) {
             AccessLogReceiver receiver;
-            if (accessLog.logToFile) {
+            if (accessLog.logToFile && accessLog.batching) {
+                File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
+                BatchingAccessLogReceiver batchingReceiver = new BatchingAccessLogReceiver(outputDir.toPath(),
+                        accessLog.baseFileName, accessLog.logSuffix, accessLog.rotate,
+                        accessLog.maxFileSize.map(MemorySize::asLongValue).orElse(0L), accessLog.batchingQueueSize);
+                shutdown.addShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            batchingReceiver.close();
+                        } catch (IOException e) {
+                            LOGGER.error("Failed to close the access log", e);
+                        }
+                        if (batchingAccessLogReceiver == batchingReceiver) {
+                            batchingAccessLogReceiver = null;
+                        }
+                    }
+                });
+                batchingAccessLogReceiver = batchingReceiver;
+                receiver = batchingReceiver;
+            } else if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
                 receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
                         accessLog.rotate);
@@ -993,6 +1017,65 @@ public Handler<RoutingContext> getNonApplicationRedirectHandler() {
         return nonApplicationRedirectHandler;
     }
 
+    /**
+     * Returns a handler delegating to the bean of the given class. The bean is looked up when the first request is handled.
+     */
+    public Handler<RoutingContext> beanHandler(Class<? extends Handler<RoutingContext>> handlerClass) {
+        return new Handler<RoutingContext>() {
+
+            private volatile Handler<RoutingContext> delegate;
+
+            @Override
+            public void handle(RoutingContext context) {
+                Handler<RoutingContext> handler = delegate;
+                if (handler == null) {
+                    handler = Arc.container().instance(handlerClass).get();
+                    delegate = handler;
+                }
+                handler.handle(context);
+            }
+        };
+    }
+
+    public Consumer<MetricsFactory> registerAccessLogMetrics() {
+        AccessLogConfig accessLog = httpConfiguration.getValue().accessLog;
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!accessLog.enabled || !accessLog.logToFile || !accessLog.batching) {
+                    return;
+                }
+                metricsFactory.builder("http.server.access-log.written")
+                        .description("The number of access log messages written to the log file")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                BatchingAccessLogReceiver receiver = batchingAccessLogReceiver;
+                                return receiver != null ? receiver.getWritten() : 0;
+                            }
+                        });
+                metricsFactory.builder("http.server.access-log.dropped")
+                        .description("The number of access log messages dropped because the queue was full")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                BatchingAccessLogReceiver receiver = batchingAccessLogReceiver;
+                                return receiver != null ? receiver.getDropped() : 0;
+                            }
+                        });
+                metricsFactory.builder("http.server.access-log.pending")
+                        .description("The number of access log messages waiting to be written")
+                        .buildGauge(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                BatchingAccessLogReceiver receiver = batchingAccessLogReceiver;
+                                return receiver != null ? receiver.getPending() : 0;
+                            }
+                        });
+            }
+        };
+    }
+
     public GracefulShutdownFilter createGracefulShutdownHandler() {
         return new GracefulShutdownFilter();
     }
@@ -0,0 +1,283 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Log Receiver that stores logs in a directory under the specified file name, for applications logging many requests.
+ * <p>
+ * Web threads encode the messages and add them to a bounded lock-free queue. A dedicated thread drains the queue into a
+ * large buffer and writes it to the file when it is full or when the queue is empty, i.e. with a single write for many
+ * messages. If the queue is full the message is dropped rather than blocking the web thread.
+ * <p>
+ * The log file is rotated after midnight and, if a maximum size is set, when it would exceed the maximum size.
+ */
+public class BatchingAccessLogReceiver implements AccessLogReceiver, Closeable {
+
+    private static final Logger log = Logger.getLogger(BatchingAccessLogReceiver.class);
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final byte NEW_LINE = '\n';
+    // the writer thread wakes up regularly to rotate the log file even if nothing is logged
+    private static final long MAX_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Queue<byte[]> pendingMessages;
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+    private final long maxFileSize;
+
+    private final Thread writerThread;
+    private volatile boolean waiting;
+    private volatile boolean closed;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // only accessed by the writer thread
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private FileChannel channel;
+    private long fileSize;
+    private long changeOverPoint;
+    private String currentDateString;
+
+    /**
+     * @param outputDirectory the directory of the log file
+     * @param logBaseName the base name of the log file
+     * @param logNameSuffix the suffix of the log file
+     * @param rotate whether the log file is rotated after midnight
+     * @param maxFileSize the size after which the log file is rotated, or {@code 0} if the size is not limited
+     * @param queueSize the maximum number of messages waiting to be written
+     */
+    public BatchingAccessLogReceiver(Path outputDirectory, String logBaseName, String logNameSuffix, boolean rotate,
+            long maxFileSize, int queueSize) {
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName;
+        this.logNameSuffix = logNameSuffix.charAt(0) != '.' ? '.' + logNameSuffix : logNameSuffix;
+        this.rotate = rotate;
+        this.maxFileSize = maxFileSize;
+        this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
+        this.pendingMessages = PlatformDependent.newFixedMpscQueue(queueSize);
+        this.writerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeMessages();
+            }
+        }, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        if (closed || !pendingMessages.offer(message.getBytes(StandardCharsets.UTF_8))) {
+            dropped.increment();
+            return;
+        }
+        if (waiting) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * @return the number of messages written to the log file
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * @return the number of messages dropped because the queue was full
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of messages waiting to be written
+     */
+    public int getPending() {
+        return pendingMessages.size();
+    }
+
+    private void writeMessages() {
+        calculateChangeOverPoint();
+        rotateIfOutdated();
+        while (true) {
+            byte[] message = pendingMessages.poll();
+            if (message != null) {
+                append(message);
+                continue;
+            }
+            flush();
+            if (closed) {
+                if (pendingMessages.isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            waiting = true;
+            if (pendingMessages.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            waiting = false;
+            if (rotate && System.currentTimeMillis() > changeOverPoint) {
+                doRotate();
+            }
+        }
+        closeChannel();
+    }
+
+    private void append(byte[] message) {
+        if (maxFileSize > 0) {
+            long size = fileSize + buffer.position();
+            if (size > 0 && size + message.length + 1 > maxFileSize) {
+                flush();
+                doRotate();
+            }
+        }
+        if (buffer.remaining() < message.length + 1) {
+            flush();
+            if (buffer.remaining() < message.length + 1) {
+                // larger than the buffer
+                write(ByteBuffer.wrap(message));
+                buffer.put(NEW_LINE);
+                written.increment();
+                return;
+            }
+        }
+        buffer.put(message).put(NEW_LINE);
+        written.increment();
+    }
+
+    private void flush() {
+        if (buffer.position() == 0) {
+            return;
+        }
+        if (rotate && System.currentTimeMillis() > changeOverPoint) {
+            doRotate();
+        }
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    private void write(ByteBuffer data) {
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+                fileSize = channel.size();
+            }
+            while (data.hasRemaining()) {
+                fileSize += channel.write(data);
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+            // the messages are lost, the file is reopened for the next ones
+            data.position(data.limit());
+            closeChannel();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    private void rotateIfOutdated() {
+        if (!rotate || !Files.exists(defaultLogFile)) {
+            return;
+        }
+        try {
+            Calendar c = Calendar.getInstance();
+            c.setTimeInMillis(changeOverPoint);
+            c.add(Calendar.DATE, -1);
+            if (Files.getLastModifiedTime(defaultLogFile).toMillis() <= c.getTimeInMillis()) {
+                doRotate();
+            }
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        }
+    }
+
+    private void doRotate() {
+        closeChannel();
+        try {
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            fileSize = 0;
+            calculateChangeOverPoint();
+        }
+    }
+
+    /**
+     * Writes the pending messages and stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
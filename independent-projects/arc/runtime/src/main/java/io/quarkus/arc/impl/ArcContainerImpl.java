@@ -17,6 +17,8 @@
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -73,6 +75,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final Annotation[] DEFAULT_QUALIFIERS = { Default.Literal.INSTANCE };
 
     private final String id;
 
@@ -86,6 +89,8 @@ public class ArcContainerImpl implements ArcContainer {
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
     private final Contexts contexts;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // lookups without qualifiers that resolve to a single bean, read without allocating a Resolvable
+    private final ConcurrentMap<Type, DefaultLookup> defaultLookups;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -140,6 +145,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
+        defaultLookups = new ConcurrentHashMap<>();
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -247,7 +253,7 @@ public <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotatio
     private <T> Supplier<InstanceHandle<T>> createInstanceSupplier(boolean resolveAmbiguities, Class<T> type,
             Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         }
         Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
@@ -273,6 +279,10 @@ private <T> Supplier<InstanceHandle<T>> createInstanceSupplier(boolean resolveAm
         if (bean == null) {
             return null;
         }
+        InstanceHandle<T> sharedHandle = sharedInstanceHandle(bean);
+        if (sharedHandle != null) {
+            return new FixedValueSupplier<>(sharedHandle);
+        }
         return new Supplier<InstanceHandle<T>>() {
             @Override
             public InstanceHandle<T> get() {
@@ -406,6 +416,7 @@ public synchronized void shutdown() {
             // Clear caches
             Reflections.clearCaches();
             resolved.clear();
+            defaultLookups.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
 
@@ -457,10 +468,49 @@ private static void addBuiltInBeans(List<InjectableBean<?>> beans) {
         beans.add(new InjectionPointBean());
     }
 
+    @SuppressWarnings("unchecked")
     private <T> InstanceHandle<T> instanceHandle(Type type, Annotation... qualifiers) {
+        if (qualifiers == null || qualifiers.length == 0) {
+            // fast path for the most common programmatic lookup
+            DefaultLookup lookup = defaultLookups.get(type);
+            if (lookup == null) {
+                lookup = defaultLookup(type);
+                if (lookup == null) {
+                    return EagerInstanceHandle.unavailable();
+                }
+            }
+            return lookup.sharedHandle != null ? (InstanceHandle<T>) lookup.sharedHandle
+                    : beanInstanceHandle((InjectableBean<T>) lookup.bean, null);
+        }
         return beanInstanceHandle(getBean(type, qualifiers), null);
     }
 
+    private DefaultLookup defaultLookup(Type type) {
+        InjectableBean<?> bean = getBean(type);
+        if (bean == null) {
+            // unsatisfied and ambiguous lookups are not cached so that removed beans are reported for each lookup
+            return null;
+        }
+        DefaultLookup lookup = new DefaultLookup(bean, sharedInstanceHandle(bean));
+        DefaultLookup previous = defaultLookups.putIfAbsent(type, lookup);
+        return previous != null ? previous : lookup;
+    }
+
+    /**
+     * @return a handle that can be shared by all the lookups of the given bean, or {@code null} if the instance depends on
+     *         the lookup
+     */
+    private <T> InstanceHandle<T> sharedInstanceHandle(InjectableBean<T> bean) {
+        Class<? extends Annotation> scope = bean.getScope();
+        if (Singleton.class.equals(scope)) {
+            return SharedInstanceHandle.ofSingleton(bean, contexts.singletonContext);
+        }
+        if (bean instanceof BuiltInBean || Dependent.class.equals(scope) || !isNormalScope(scope)) {
+            return null;
+        }
+        return SharedInstanceHandle.ofClientProxy(bean);
+    }
+
     static <T> InstanceHandle<T> beanInstanceHandle(InjectableBean<T> bean, CreationalContextImpl<T> parentContext,
             boolean resetCurrentInjectionPoint, Consumer<T> destroyLogic) {
         if (bean != null) {
@@ -493,7 +543,7 @@ <T> InstanceHandle<T> beanInstanceHandle(InjectableBean<T> bean, CreationalConte
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         } else {
             registeredQualifiers.verify(qualifiers);
         }
@@ -510,7 +560,7 @@ Set<Bean<?>> getBeans(Type requiredType, Annotation... qualifiers) {
             throw new IllegalArgumentException("The given type is a type variable: " + requiredType);
         }
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         } else {
             registeredQualifiers.verify(qualifiers);
         }
@@ -831,7 +881,7 @@ private boolean hasAllInterceptionBindings(InjectableInterceptor<?> interceptor,
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         } else {
             registeredQualifiers.verify(qualifiers);
         }
@@ -899,6 +949,20 @@ public static ArcContainerImpl instance() {
         return unwrap(Arc.container());
     }
 
+    private static final class DefaultLookup {
+
+        final InjectableBean<?> bean;
+
+        // null if a new handle is needed for each lookup
+        final InstanceHandle<?> sharedHandle;
+
+        DefaultLookup(InjectableBean<?> bean, InstanceHandle<?> sharedHandle) {
+            this.bean = bean;
+            this.sharedHandle = sharedHandle;
+        }
+
+    }
+
     private static final class Resolvable {
 
         private static final Annotation[] ANY_QUALIFIER = { Any.Literal.INSTANCE };
@@ -0,0 +1,80 @@
+package io.quarkus.arc.impl;
+
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * A stateless {@link InstanceHandle} shared by all the programmatic lookups of a bean whose instance does not depend on
+ * the lookup, i.e. the client proxy of a normal scoped bean or the contextual instance of a {@link Singleton} bean.
+ * <p>
+ * Unlike {@link EagerInstanceHandle}, the handle remains usable after {@link #destroy()}: the client proxy delegates to a
+ * new contextual instance and a new singleton instance is created on demand.
+ *
+ * @param <T>
+ */
+final class SharedInstanceHandle<T> implements InstanceHandle<T> {
+
+    private final InjectableBean<T> bean;
+    // null for @Singleton beans
+    private final T clientProxy;
+    // null for normal scoped beans
+    private final InjectableContext singletonContext;
+
+    private SharedInstanceHandle(InjectableBean<T> bean, T clientProxy, InjectableContext singletonContext) {
+        this.bean = bean;
+        this.clientProxy = clientProxy;
+        this.singletonContext = singletonContext;
+    }
+
+    static <T> SharedInstanceHandle<T> ofClientProxy(InjectableBean<T> bean) {
+        // the bean of a normal scoped bean always returns its client proxy
+        return new SharedInstanceHandle<>(bean, bean.get(new CreationalContextImpl<>(bean)), null);
+    }
+
+    static <T> SharedInstanceHandle<T> ofSingleton(InjectableBean<T> bean, InjectableContext singletonContext) {
+        return new SharedInstanceHandle<>(bean, null, singletonContext);
+    }
+
+    @Override
+    public T get() {
+        if (clientProxy != null) {
+            return clientProxy;
+        }
+        T instance = singletonContext.get(bean);
+        if (instance == null) {
+            instance = ArcContainerImpl.beanInstanceHandle(bean, null, true, null).get();
+        }
+        return instance;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public InjectableBean<T> getBean() {
+        return bean;
+    }
+
+    @Override
+    public void destroy() {
+        InjectableContext context = Arc.container().getActiveContext(bean.getScope());
+        if (context == null) {
+            throw new ContextNotActiveException(
+                    "Cannot destroy instance of " + bean + " - no active context found for: " + bean.getScope());
+        }
+        context.destroy(bean);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [bean=" + bean + "]";
+    }
+
+}
@@ -324,14 +324,37 @@ public Throwable getFailure() {
         return buildFailure.get();
     }
 
+    /**
+     * Starts the container outside of a JUnit test, e.g. in a benchmark. The TCCL is replaced with the class loader of the
+     * deployment, call {@link #stop(ClassLoader)} with the returned class loader to shutdown the container.
+     *
+     * @param testClass the class used to locate the deployment
+     * @return the previous TCCL
+     */
+    public ClassLoader start(Class<?> testClass) {
+        return init(testClass);
+    }
+
+    /**
+     * Shuts down a container started with {@link #start(Class)}.
+     *
+     * @param oldTccl the class loader returned from {@link #start(Class)}
+     */
+    public void stop(ClassLoader oldTccl) {
+        Thread.currentThread().setContextClassLoader(oldTccl);
+        shutdown();
+    }
+
     private void shutdown() {
         Arc.shutdown();
     }
 
     private ClassLoader init(ExtensionContext context) {
         // retrieve test class from extension context
-        Class<?> testClass = context.getRequiredTestClass();
+        return init(context.getRequiredTestClass());
+    }
 
+    private ClassLoader init(Class<?> testClass) {
         // Make sure Arc is down
         Arc.shutdown();
 
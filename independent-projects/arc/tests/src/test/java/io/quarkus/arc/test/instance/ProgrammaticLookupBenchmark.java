@@ -0,0 +1,107 @@
+package io.quarkus.arc.test.instance;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Default;
+import jakarta.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.test.ArcTestContainer;
+
+/**
+ * Measures {@link ArcContainer#instance(Class, java.lang.annotation.Annotation...)} followed by
+ * {@link io.quarkus.arc.InstanceHandle#get()}.
+ * <p>
+ * Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.quarkus.arc.test.instance.ProgrammaticLookupBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgrammaticLookupBenchmark {
+
+    private ArcTestContainer container;
+    private ClassLoader oldTccl;
+    private ArcContainer arc;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        container = new ArcTestContainer(AppScopedService.class, SingletonService.class, DependentService.class);
+        oldTccl = container.start(ProgrammaticLookupBenchmark.class);
+        arc = Arc.container();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.stop(oldTccl);
+    }
+
+    @Benchmark
+    public Object applicationScoped() {
+        return arc.instance(AppScopedService.class).get();
+    }
+
+    @Benchmark
+    public Object singleton() {
+        return arc.instance(SingletonService.class).get();
+    }
+
+    @Benchmark
+    public Object dependent() {
+        return arc.instance(DependentService.class).get();
+    }
+
+    @Benchmark
+    public Object applicationScopedWithQualifier() {
+        return arc.instance(AppScopedService.class, Default.Literal.INSTANCE).get();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ProgrammaticLookupBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @ApplicationScoped
+    public static class AppScopedService {
+
+    }
+
+    @Singleton
+    public static class SingletonService {
+
+    }
+
+    @Dependent
+    public static class DependentService {
+
+    }
+
+}
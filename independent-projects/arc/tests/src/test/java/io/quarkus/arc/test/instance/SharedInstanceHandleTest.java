@@ -0,0 +1,123 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class SharedInstanceHandleTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class);
+
+    @Test
+    public void testApplicationScoped() {
+        ArcContainer arc = Arc.container();
+        InstanceHandle<Alpha> handle = arc.instance(Alpha.class);
+        assertSame(handle, arc.instance(Alpha.class));
+        Supplier<InstanceHandle<Alpha>> supplier = arc.instanceSupplier(Alpha.class);
+        assertSame(supplier.get(), supplier.get());
+        assertSame(handle.get(), supplier.get().get());
+        assertTrue(handle.isAvailable());
+        assertTrue(handle.get() instanceof ClientProxy);
+        String id = handle.get().getId();
+        assertEquals(id, arc.instance(Alpha.class).get().getId());
+
+        handle.destroy();
+        assertEquals(1, Alpha.DESTROYED.get());
+        // the shared handle remains usable and delegates to a new instance
+        assertNotEquals(id, handle.get().getId());
+    }
+
+    @Test
+    public void testSingleton() {
+        ArcContainer arc = Arc.container();
+        InstanceHandle<Bravo> handle = arc.instance(Bravo.class);
+        assertSame(handle, arc.instance(Bravo.class));
+        Bravo bravo = handle.get();
+        assertSame(bravo, arc.instance(Bravo.class).get());
+
+        handle.destroy();
+        assertEquals(1, Bravo.DESTROYED.get());
+        assertNotSame(bravo, handle.get());
+        assertSame(handle.get(), arc.instance(Bravo.class).get());
+    }
+
+    @Test
+    public void testDependent() {
+        ArcContainer arc = Arc.container();
+        InstanceHandle<Charlie> handle = arc.instance(Charlie.class);
+        assertNotSame(handle, arc.instance(Charlie.class));
+        assertNotSame(handle.get(), arc.instance(Charlie.class).get());
+        handle.destroy();
+        assertEquals(1, Charlie.DESTROYED.get());
+    }
+
+    @Test
+    public void testUnsatisfied() {
+        assertFalse(Arc.container().instance(Runnable.class).isAvailable());
+    }
+
+    @ApplicationScoped
+    static class Alpha {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    @Singleton
+    static class Bravo {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    @Dependent
+    static class Charlie {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
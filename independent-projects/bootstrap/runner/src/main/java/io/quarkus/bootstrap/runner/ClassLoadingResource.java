@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,17 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Returns the data of the resource as a buffer, which allows resources that are memory mapped to be read without
+     * copying them.
+     *
+     * @return the data of the resource, or {@code null} if it doesn't exist
+     */
+    default ByteBuffer getResourceBuffer(String resource) {
+        byte[] data = getResourceData(resource);
+        return data == null ? null : ByteBuffer.wrap(data);
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
@@ -36,4 +48,13 @@ public interface ClassLoadingResource {
     default void resetInternalCaches() {
         //no-op
     }
+
+    /**
+     * Whether this resource holds state, such as an open file, that should be released with
+     * {@link #resetInternalCaches()} once it has not been accessed for a while.
+     * Resources which can be accessed without such bookkeeping return false and are not tracked by the ClassLoader.
+     */
+    default boolean isBuffered() {
+        return true;
+    }
 }
@@ -53,18 +53,7 @@ public JarResource(ManifestInfo manifestInfo, Path jarPath) {
 
     @Override
     public void init(ClassLoader runnerClassLoader) {
-        final URL url;
-        try {
-            String path = jarPath.toAbsolutePath().toString();
-            if (!path.startsWith("/")) {
-                path = '/' + path;
-            }
-            URI uri = new URI("file", null, path, null);
-            url = uri.toURL();
-        } catch (URISyntaxException | MalformedURLException e) {
-            throw new RuntimeException("Unable to create protection domain for " + jarPath, e);
-        }
-        this.protectionDomain = new ProtectionDomain(new CodeSource(url, (Certificate[]) null), null, runnerClassLoader, null);
+        this.protectionDomain = createProtectionDomain(jarPath, runnerClassLoader);
     }
 
     @Override
@@ -104,30 +93,48 @@ public URL getResourceURL(String resource) {
             if (entry == null) {
                 return null;
             }
-            try {
-                String realName = JarEntries.getRealName(entry);
-                // Avoid ending the URL with / to avoid breaking compatibility
-                if (realName.endsWith("/")) {
-                    realName = realName.substring(0, realName.length() - 1);
-                }
-                final URI jarUri = jarPath.toUri();
-                // first create a URI which includes both the jar file path and the relative resource name
-                // and then invoke a toURL on it. The URI reconstruction allows for any encoding to be done
-                // for the "path" which includes the "realName"
-                final URL resUrl = new URI(jarUri.getScheme(), jarUri.getPath() + "!/" + realName, null).toURL();
-                // wrap it up into a "jar" protocol URL
-                //horrible hack to deal with '?' characters in the URL
-                //seems to be the only way, the URI constructor just does not let you handle them in a sane way
-                return new URL("jar", null, resUrl.getProtocol() + ':' + resUrl.getPath()
-                        + (resUrl.getQuery() == null ? "" : ("%3F" + resUrl.getQuery())));
-            } catch (MalformedURLException | URISyntaxException e) {
-                throw new RuntimeException(e);
-            }
+            return toJarUrl(jarPath, JarEntries.getRealName(entry));
         } finally {
             readLock.unlock();
         }
     }
 
+    static URL toJarUrl(Path jarPath, String realName) {
+        try {
+            // Avoid ending the URL with / to avoid breaking compatibility
+            if (realName.endsWith("/")) {
+                realName = realName.substring(0, realName.length() - 1);
+            }
+            final URI jarUri = jarPath.toUri();
+            // first create a URI which includes both the jar file path and the relative resource name
+            // and then invoke a toURL on it. The URI reconstruction allows for any encoding to be done
+            // for the "path" which includes the "realName"
+            final URL resUrl = new URI(jarUri.getScheme(), jarUri.getPath() + "!/" + realName, null).toURL();
+            // wrap it up into a "jar" protocol URL
+            //horrible hack to deal with '?' characters in the URL
+            //seems to be the only way, the URI constructor just does not let you handle them in a sane way
+            return new URL("jar", null, resUrl.getProtocol() + ':' + resUrl.getPath()
+                    + (resUrl.getQuery() == null ? "" : ("%3F" + resUrl.getQuery())));
+        } catch (MalformedURLException | URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static ProtectionDomain createProtectionDomain(Path jarPath, ClassLoader runnerClassLoader) {
+        final URL url;
+        try {
+            String path = jarPath.toAbsolutePath().toString();
+            if (!path.startsWith("/")) {
+                path = '/' + path;
+            }
+            URI uri = new URI("file", null, path, null);
+            url = uri.toURL();
+        } catch (URISyntaxException | MalformedURLException e) {
+            throw new RuntimeException("Unable to create protection domain for " + jarPath, e);
+        }
+        return new ProtectionDomain(new CodeSource(url, (Certificate[]) null), null, runnerClassLoader, null);
+    }
+
     @Override
     public ManifestInfo getManifestInfo() {
         return manifestInfo;
@@ -0,0 +1,270 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.ProtectionDomain;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A jar resource whose entries are stored uncompressed, so that the jar can be memory mapped and its entries read
+ * directly from the mapped buffer.
+ * <p>
+ * The jar is mapped and its central directory is indexed when the resource is initialized. After that, the index and
+ * the buffer are never modified, so the entries can be read concurrently without any locking, and classes can be
+ * defined from slices of the mapped buffer without copying their bytecode to the heap.
+ * <p>
+ * The entries which are nevertheless compressed, as well as the whole jar if it can not be opened, mapped or indexed,
+ * are read with a regular {@link JarResource}.
+ */
+public class MappedJarResource implements ClassLoadingResource {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int STORED = 0;
+
+    private final ManifestInfo manifestInfo;
+    private final Path jarPath;
+    private final JarResource fallback;
+
+    private volatile ProtectionDomain protectionDomain;
+    //Only written by init; null if the jar could not be mapped
+    private volatile ByteBuffer mapped;
+    private volatile Map<String, Entry> entries;
+
+    public MappedJarResource(ManifestInfo manifestInfo, Path jarPath) {
+        this.manifestInfo = manifestInfo;
+        this.jarPath = jarPath;
+        this.fallback = new JarResource(manifestInfo, jarPath);
+    }
+
+    @Override
+    public void init(ClassLoader runnerClassLoader) {
+        fallback.init(runnerClassLoader);
+        this.protectionDomain = fallback.getProtectionDomain();
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return;
+            }
+            // the mapping remains valid once the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            Map<String, Entry> index = readCentralDirectory(buffer);
+            if (index != null) {
+                this.mapped = buffer;
+                this.entries = index;
+            }
+        } catch (IOException e) {
+            // e.g. the jar can't be mapped on this platform, the entries are then read by the fallback which reports
+            // the failure if the jar can't be opened at all
+        }
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        final Map<String, Entry> entries = this.entries;
+        if (entries == null) {
+            return fallback.getResourceData(resource);
+        }
+        Entry entry = entries.get(resource);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.stored) {
+            return fallback.getResourceData(resource);
+        }
+        byte[] data = new byte[entry.size];
+        slice(entry).get(data);
+        return data;
+    }
+
+    @Override
+    public ByteBuffer getResourceBuffer(String resource) {
+        final Map<String, Entry> entries = this.entries;
+        if (entries == null) {
+            return fallback.getResourceBuffer(resource);
+        }
+        Entry entry = entries.get(resource);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.stored) {
+            return fallback.getResourceBuffer(resource);
+        }
+        return slice(entry);
+    }
+
+    @Override
+    public URL getResourceURL(String resource) {
+        final Map<String, Entry> entries = this.entries;
+        if (entries == null) {
+            return fallback.getResourceURL(resource);
+        }
+        if (entries.containsKey(resource)) {
+            return JarResource.toJarUrl(jarPath, resource);
+        }
+        // like ZipFile, also look for a directory entry
+        String dir = resource + '/';
+        if (entries.containsKey(dir)) {
+            return JarResource.toJarUrl(jarPath, dir);
+        }
+        return null;
+    }
+
+    @Override
+    public ManifestInfo getManifestInfo() {
+        return manifestInfo;
+    }
+
+    @Override
+    public ProtectionDomain getProtectionDomain() {
+        return protectionDomain;
+    }
+
+    @Override
+    public boolean isBuffered() {
+        // the fallback only opens the jar for the entries which are not stored
+        return entries == null;
+    }
+
+    @Override
+    public void close() {
+        // the mapping is released once the buffer is garbage collected
+        fallback.close();
+    }
+
+    @Override
+    public void resetInternalCaches() {
+        fallback.resetInternalCaches();
+    }
+
+    private ByteBuffer slice(Entry entry) {
+        // the shared buffer is never modified, each read works on its own view
+        ByteBuffer buffer = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int localHeader = entry.localHeaderOffset;
+        if (buffer.getInt(localHeader) != LOCAL_HEADER_SIGNATURE) {
+            throw new RuntimeException("Invalid local header for an entry of " + jarPath);
+        }
+        int dataOffset = localHeader + LOCAL_HEADER_SIZE + Short.toUnsignedInt(buffer.getShort(localHeader + 26))
+                + Short.toUnsignedInt(buffer.getShort(localHeader + 28));
+        if (dataOffset + entry.size > buffer.limit()) {
+            throw new RuntimeException("Invalid size for an entry of " + jarPath);
+        }
+        buffer.position(dataOffset);
+        buffer.limit(dataOffset + entry.size);
+        return buffer.slice();
+    }
+
+    /**
+     * @return the entries of the jar, or {@code null} if the jar can not be read from the buffer
+     */
+    private static Map<String, Entry> readCentralDirectory(ByteBuffer buffer) {
+        int end = findEndOfCentralDirectory(buffer);
+        if (end < 0) {
+            return null;
+        }
+        long count = Short.toUnsignedInt(buffer.getShort(end + 10));
+        long directoryOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+        if (count == 0xFFFF || directoryOffset == 0xFFFFFFFFL) {
+            // e.g. more than 65535 entries, the actual values are in the ZIP64 end of central directory record
+            int locator = end - ZIP64_LOCATOR_SIZE;
+            if (locator < 0 || buffer.getInt(locator) != ZIP64_LOCATOR_SIGNATURE) {
+                return null;
+            }
+            long zip64End = buffer.getLong(locator + 8);
+            if (zip64End < 0 || zip64End + 56 > locator || buffer.getInt((int) zip64End) != ZIP64_END_SIGNATURE) {
+                return null;
+            }
+            count = buffer.getLong((int) zip64End + 32);
+            directoryOffset = buffer.getLong((int) zip64End + 48);
+        }
+        if (count < 0 || count > Integer.MAX_VALUE || directoryOffset < 0 || directoryOffset >= buffer.limit()) {
+            return null;
+        }
+        Map<String, Entry> entries = new HashMap<>((int) (count / 0.75f) + 1);
+        int position = (int) directoryOffset;
+        for (int i = 0; i < count; i++) {
+            if (position + CENTRAL_HEADER_SIZE > buffer.limit()
+                    || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                return null;
+            }
+            int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+            long size = Integer.toUnsignedLong(buffer.getInt(position + 24));
+            int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+            if (size == 0xFFFFFFFFL || localHeaderOffset >= buffer.limit()) {
+                return null;
+            }
+            byte[] name = new byte[nameLength];
+            ByteBuffer nameBuffer = buffer.duplicate();
+            nameBuffer.position(position + CENTRAL_HEADER_SIZE);
+            nameBuffer.get(name);
+            entries.put(new String(name, StandardCharsets.UTF_8),
+                    new Entry((int) localHeaderOffset, (int) size, method == STORED));
+            position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer buffer) {
+        int last = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+        int first = Math.max(0, last - MAX_COMMENT_SIZE);
+        for (int i = last; i >= first; i--) {
+            if (buffer.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        MappedJarResource that = (MappedJarResource) o;
+        return Objects.equals(manifestInfo, that.manifestInfo) && jarPath.equals(that.jarPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(manifestInfo, jarPath);
+    }
+
+    private static final class Entry {
+        final int localHeaderOffset;
+        final int size;
+        final boolean stored;
+
+        Entry(int localHeaderOffset, int size, boolean stored) {
+            this.localHeaderOffset = localHeaderOffset;
+            this.size = size;
+            this.stored = stored;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -96,13 +97,13 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
             String classResource = name.replace('.', '/') + ".class";
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
-                byte[] data = resource.getResourceData(classResource);
+                ByteBuffer data = resource.getResourceBuffer(classResource);
                 if (data == null) {
                     continue;
                 }
                 definePackage(packageName, resources);
                 try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    return defineClass(name, data, resource.getProtectionDomain());
                 } catch (LinkageError e) {
                     loaded = findLoadedClass(name);
                     if (loaded != null) {
@@ -116,6 +117,10 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
     }
 
     private void accessingResource(final ClassLoadingResource resource) {
+        if (!resource.isBuffered()) {
+            //e.g. memory mapped resources, which don't need to be released
+            return;
+        }
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
             if (!postBootPhase) {
@@ -38,7 +38,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -62,6 +62,16 @@ public String getMainClass() {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, Set.of());
+    }
+
+    /**
+     * @param mappedJars the jars of the class path whose entries are stored uncompressed, and which can be memory mapped
+     *        when the application starts
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, Set<Path> mappedJars)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
@@ -72,7 +82,7 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Collection<String> resources = writeJar(data, jar, mappedJars.contains(jar));
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
@@ -123,7 +133,9 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                boolean mapped = in.readBoolean();
+                ClassLoadingResource resource = mapped ? new MappedJarResource(info, appRoot.resolve(path))
+                        : new JarResource(info, appRoot.resolve(path));
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -176,10 +188,11 @@ private static String readNullableString(DataInputStream in) throws IOException
     }
 
     /**
+     * @param mapped whether the jar can be memory mapped
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, boolean mapped) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
             if (manifest == null) {
@@ -199,6 +212,8 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
                     writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR));
                 }
             }
+            //the mapped jars are read without resolving the versioned entries of multi release jars
+            out.writeBoolean(mapped && !zip.isMultiRelease());
 
             Set<String> dirs = new LinkedHashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new LinkedHashMap<>();
@@ -330,11 +345,11 @@ private static class ResourceDirectoryTracker {
         private final Map<String, ClassLoadingResource[]> result = new HashMap<>();
         private final Map<String, Set<ClassLoadingResource>> overrides = new HashMap<>();
 
-        void addResourceDir(String dir, JarResource resource) {
+        void addResourceDir(String dir, ClassLoadingResource resource) {
             ClassLoadingResource[] existing = result.get(dir);
             if (existing == null) {
                 // this is the first the dir was ever tracked
-                result.put(dir, new JarResource[] { resource });
+                result.put(dir, new ClassLoadingResource[] { resource });
             } else {
                 ClassLoadingResource existingResource = existing[0];
                 if (existingResource.equals(resource)) {
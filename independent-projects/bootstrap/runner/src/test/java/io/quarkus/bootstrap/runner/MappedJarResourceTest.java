@@ -0,0 +1,121 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedJarResource}
+ */
+public class MappedJarResourceTest {
+
+    private static final String CLASS_RESOURCE = MappedJarResourceTest.Mapped.class.getName().replace('.', '/')
+            + ".class";
+
+    @Test
+    public void testStoredAndCompressedEntries() throws Exception {
+        Path jar = Files.createTempFile("mapped", ".jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            addEntry(out, "dir/", new byte[0], ZipEntry.STORED);
+            addEntry(out, "dir/stored.txt", "stored".getBytes(StandardCharsets.UTF_8), ZipEntry.STORED);
+            addEntry(out, "dir/deflated.txt", "deflated".getBytes(StandardCharsets.UTF_8), ZipEntry.DEFLATED);
+        }
+        MappedJarResource resource = new MappedJarResource(null, jar);
+        resource.init(getClass().getClassLoader());
+        try {
+            Assertions.assertFalse(resource.isBuffered());
+            Assertions.assertEquals("stored", new String(resource.getResourceData("dir/stored.txt"), StandardCharsets.UTF_8));
+            ByteBuffer buffer = resource.getResourceBuffer("dir/stored.txt");
+            Assertions.assertTrue(buffer.isDirect());
+            Assertions.assertEquals(6, buffer.remaining());
+            // compressed entries are read from the jar
+            Assertions.assertEquals("deflated",
+                    new String(resource.getResourceData("dir/deflated.txt"), StandardCharsets.UTF_8));
+            Assertions.assertNull(resource.getResourceData("dir/missing.txt"));
+            Assertions.assertNull(resource.getResourceBuffer("dir/missing.txt"));
+
+            URL url = resource.getResourceURL("dir/stored.txt");
+            try (InputStream is = url.openStream()) {
+                Assertions.assertEquals("stored", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            Assertions.assertNotNull(resource.getResourceURL("dir"));
+            Assertions.assertNull(resource.getResourceURL("dir/missing.txt"));
+        } finally {
+            resource.close();
+        }
+    }
+
+    @Test
+    public void testLoadClassFromMappedJar() throws Exception {
+        Path appRoot = Files.createTempDirectory("mapped-app");
+        Path jar = appRoot.resolve("app.jar");
+        byte[] classData;
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(CLASS_RESOURCE)) {
+            classData = is.readAllBytes();
+        }
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            addEntry(out, CLASS_RESOURCE, classData, ZipEntry.STORED);
+        }
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        SerializedApplication.write(data, Mapped.class.getName(), appRoot, List.of(jar), List.of(), List.of(), Set.of(jar));
+        SerializedApplication app = SerializedApplication.read(new ByteArrayInputStream(data.toByteArray()), appRoot);
+        RunnerClassLoader classLoader = app.getRunnerClassLoader();
+        try {
+            Class<?> mapped = classLoader.loadClass(Mapped.class.getName());
+            Assertions.assertSame(classLoader, mapped.getClassLoader());
+            Assertions.assertEquals("mapped", mapped.getMethod("hello").invoke(null));
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    @Test
+    public void testFallbackWhenJarCanNotBeMapped() throws Exception {
+        Path jar = Files.createTempDirectory("mapped").resolve("missing.jar");
+        MappedJarResource resource = new MappedJarResource(null, jar);
+        // the jar is opened lazily by the fallback, init does not fail
+        resource.init(getClass().getClassLoader());
+        try {
+            Assertions.assertTrue(resource.isBuffered());
+            Assertions.assertNotNull(resource.getProtectionDomain());
+        } finally {
+            resource.close();
+        }
+    }
+
+    private static void addEntry(ZipOutputStream out, String name, byte[] data, int method) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(method);
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setSize(data.length);
+            entry.setCompressedSize(data.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(data);
+        out.closeEntry();
+    }
+
+    public static class Mapped {
+        public static String hello() {
+            return "mapped";
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.quarkus.qute;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import io.quarkus.qute.EvaluatorImpl.Code;
+
+/**
+ * A template compiled into a Java class, usually generated at build time.
+ * <p>
+ * A compiled template produces the same output as the tree of nodes of the parsed template but it accesses the data with
+ * direct method calls and it's rendered synchronously. It's only used if:
+ * <ul>
+ * <li>it's registered for the id of the template via {@link EngineBuilder#addCompiledTemplate(CompiledTemplate)},</li>
+ * <li>the expressions of the parsed template match the expressions the template was compiled from,</li>
+ * <li>and the data are set with {@link TemplateInstance#data(String, Object)}.</li>
+ * </ul>
+ * Otherwise, the template is interpreted.
+ */
+public abstract class CompiledTemplate {
+
+    private final String templateId;
+    private final List<String> expressions;
+    private final String[] texts;
+    // encoded lazily, only the templates rendered to a Utf8Consumer need them
+    private final AtomicReferenceArray<byte[]> utf8Texts;
+
+    /**
+     *
+     * @param templateId the id of the template, e.g. {@code ItemResource/items.html}
+     * @param expressions the original expressions of the template, in the order defined by {@link Template#getExpressions()}
+     * @param texts the static text chunks referenced by {@link Output#text(int)}
+     */
+    protected CompiledTemplate(String templateId, String[] expressions, String[] texts) {
+        this.templateId = templateId;
+        this.expressions = ImmutableList.of(expressions);
+        this.texts = texts;
+        this.utf8Texts = new AtomicReferenceArray<>(texts.length);
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    /**
+     *
+     * @return the original expressions of the template
+     * @see Expression#toOriginalString()
+     */
+    public List<String> getExpressions() {
+        return expressions;
+    }
+
+    private byte[] getUtf8Text(int index) {
+        byte[] bytes = utf8Texts.get(index);
+        if (bytes == null) {
+            // concurrent renderings may encode the text more than once, the result is the same
+            bytes = texts[index].getBytes(StandardCharsets.UTF_8);
+            utf8Texts.set(index, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Renders the template.
+     * <p>
+     * If the data do not match the expectations of the compiled template, e.g. a parameter is missing or its value is not of
+     * the expected type, then nothing is written to the output and {@code false} is returned so that the template is
+     * interpreted instead.
+     *
+     * @param data the data map
+     * @param output
+     * @return {@code true} if the template was rendered, {@code false} otherwise
+     */
+    protected abstract boolean render(Map<String, Object> data, Output output);
+
+    boolean render(Map<String, Object> data, Expression[] templateExpressions, Engine engine, Consumer<String> consumer) {
+        return render(data, new Output(templateExpressions, engine, consumer));
+    }
+
+    /**
+     * The output of a compiled template.
+     */
+    public final class Output {
+
+        private final Expression[] templateExpressions;
+        private final Engine engine;
+        private final boolean hasResultMappers;
+        private final Consumer<String> consumer;
+        private final Utf8Consumer utf8Consumer;
+
+        Output(Expression[] templateExpressions, Engine engine, Consumer<String> consumer) {
+            this.templateExpressions = templateExpressions;
+            this.engine = engine;
+            this.hasResultMappers = !engine.getResultMappers().isEmpty();
+            this.consumer = consumer;
+            this.utf8Consumer = consumer instanceof Utf8Consumer ? (Utf8Consumer) consumer : null;
+        }
+
+        /**
+         *
+         * @param index the index of the static text chunk
+         */
+        public void text(int index) {
+            if (utf8Consumer != null) {
+                utf8Consumer.acceptUtf8(getUtf8Text(index));
+            } else {
+                consumer.accept(texts[index]);
+            }
+        }
+
+        /**
+         * Writes the result of an output expression, i.e. the same way as {@link SingleResultNode} does.
+         *
+         * @param value
+         * @param expression the index of the expression
+         */
+        public void value(Object value, int expression) {
+            value = SingleResultNode.extractValue(value);
+            if (value != null) {
+                consumer.accept(hasResultMappers ? engine.mapResult(value, templateExpressions[expression]) : value.toString());
+            }
+        }
+
+        /**
+         *
+         * @param property the name of the property that could not be resolved because its base object is {@code null}
+         * @param expression the index of the expression
+         * @return the exception that should be thrown
+         */
+        public TemplateException notFound(String property, int expression) {
+            Expression expr = templateExpressions[expression];
+            return engine.error("{prop} in expression \\{{expression}\\}")
+                    .code(Code.PROPERTY_NOT_FOUND)
+                    .origin(expr.getOrigin())
+                    .arguments(Map.of("prop", "Property \"" + property + "\" not found on the base object \"null\"",
+                            "expression", expr.toOriginalString()))
+                    .build();
+        }
+
+    }
+
+    /**
+     *
+     * @param name the name of the iteration metadata, without a prefix
+     * @param index the index of the iterated element
+     * @param hasNext
+     * @return the value of the iteration metadata
+     */
+    public static Object iterationMetadata(String name, int index, boolean hasNext) {
+        final int count = index + 1;
+        switch (name) {
+            case "count":
+                return count;
+            case "index":
+                return index;
+            case "indexParity":
+                return count % 2 == 0 ? "even" : "odd";
+            case "hasNext":
+                return hasNext;
+            case "isLast":
+                return !hasNext;
+            case "isFirst":
+                return index == 0;
+            case "isOdd":
+            case "odd":
+                return count % 2 != 0;
+            case "isEven":
+            case "even":
+                return count % 2 == 0;
+            default:
+                throw new IllegalArgumentException("Unsupported iteration metadata: " + name);
+        }
+    }
+
+}
@@ -32,6 +32,7 @@ public final class EngineBuilder {
     final List<TemplateInstance.Initializer> initializers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
+    final Map<String, CompiledTemplate> compiledTemplates;
     boolean removeStandaloneLines;
     boolean strictRendering;
     String iterationMetadataPrefix;
@@ -46,6 +47,7 @@ public final class EngineBuilder {
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
         this.initializers = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
         this.strictRendering = true;
         this.removeStandaloneLines = true;
         this.iterationMetadataPrefix = LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE;
@@ -189,6 +191,19 @@ public EngineBuilder addTemplateInstanceInitializer(TemplateInstance.Initializer
         return this;
     }
 
+    /**
+     * A compiled template is used to render the template with the same id, if the template is loaded by a
+     * {@link TemplateLocator} and if the strict rendering is enabled.
+     *
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(compiledTemplate.getTemplateId(), compiledTemplate);
+        return this;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
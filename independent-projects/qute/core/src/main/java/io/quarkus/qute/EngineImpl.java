@@ -34,6 +34,7 @@ class EngineImpl implements Engine {
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
+    private final Map<String, CompiledTemplate> compiledTemplates;
     final List<TemplateInstance.Initializer> initializers;
     final boolean removeStandaloneLines;
     private final long timeout;
@@ -50,6 +51,8 @@ class EngineImpl implements Engine {
         this.resultMappers = sort(builder.resultMappers);
         this.sectionHelperFunc = builder.sectionHelperFunc;
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
+        // Compiled templates do not implement the lenient handling of "not found" results
+        this.compiledTemplates = builder.strictRendering ? Map.copyOf(builder.compiledTemplates) : Map.of();
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
         this.timeout = builder.timeout;
@@ -173,7 +176,13 @@ private Template load(String id) {
             Optional<TemplateLocation> location = locator.locate(id);
             if (location.isPresent()) {
                 try (Reader r = location.get().read()) {
-                    return newParser(id, ensureBufferedReader(r), location.get().getVariant(), generateId()).parse();
+                    TemplateImpl template = (TemplateImpl) newParser(id, ensureBufferedReader(r), location.get().getVariant(),
+                            generateId()).parse();
+                    CompiledTemplate compiledTemplate = compiledTemplates.get(id);
+                    if (compiledTemplate != null) {
+                        template.useCompiledTemplate(compiledTemplate);
+                    }
+                    return template;
                 } catch (IOException e) {
                     LOGGER.warn("Unable to close the reader for " + id, e);
                 }
@@ -10,7 +10,7 @@
 /**
  * This node holds a single expression such as {@code foo.bar}.
  */
-class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<ResultNode>> {
+public class ExpressionNode implements TemplateNode, Function<Object, CompletionStage<ResultNode>> {
 
     private static final Logger LOG = Logger.getLogger("io.quarkus.qute.nodeResolve");
 
@@ -52,6 +52,20 @@ public Origin getOrigin() {
         return expression.getOrigin();
     }
 
+    public Expression getExpression() {
+        return expression;
+    }
+
+    @Override
+    public boolean isExpression() {
+        return true;
+    }
+
+    @Override
+    public ExpressionNode asExpression() {
+        return this;
+    }
+
     @Override
     public boolean isConstant() {
         return expression.isLiteral();
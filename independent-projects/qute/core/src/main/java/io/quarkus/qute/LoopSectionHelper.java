@@ -40,6 +40,22 @@ public class LoopSectionHelper implements SectionHelper {
         this.engine = context.getEngine();
     }
 
+    /**
+     *
+     * @return the alias of an iterated element
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     *
+     * @return the expression that resolves to the iterated object
+     */
+    public Expression getIterable() {
+        return iterable;
+    }
+
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
         return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
@@ -53,6 +53,14 @@ public SectionBlock(Origin origin, String id, String label, Map<String, String>
         this.nodes = ImmutableList.copyOf(nodes);
     }
 
+    /**
+     *
+     * @return an immutable list of template nodes
+     */
+    public List<TemplateNode> getNodes() {
+        return nodes;
+    }
+
     public boolean isEmpty() {
         return nodes.isEmpty();
     }
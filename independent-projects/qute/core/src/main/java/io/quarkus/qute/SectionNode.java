@@ -16,7 +16,7 @@
 /**
  * Section node.
  */
-class SectionNode implements TemplateNode {
+public class SectionNode implements TemplateNode {
 
     private static final Logger LOG = Logger.getLogger("io.quarkus.qute.nodeResolve");
 
@@ -67,6 +67,23 @@ public boolean isSection() {
         return true;
     }
 
+    @Override
+    public SectionNode asSection() {
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<SectionBlock> getBlocks() {
+        return blocks;
+    }
+
+    public SectionHelper getHelper() {
+        return helper;
+    }
+
     void optimizeNodes(Set<TemplateNode> nodes) {
         for (SectionBlock block : blocks) {
             block.optimizeNodes(nodes);
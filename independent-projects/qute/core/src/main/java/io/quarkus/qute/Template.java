@@ -156,6 +156,13 @@ default String render() {
      */
     List<ParameterDeclaration> getParameterDeclarations();
 
+    /**
+     * The nodes of the root section, i.e. the content of the template.
+     *
+     * @return an immutable list of the top-level nodes of the template
+     */
+    List<TemplateNode> getNodes();
+
     /**
      * Attempts to find the fragment with the specified identifier.
      * <p>
@@ -34,6 +34,8 @@ class TemplateImpl implements Template {
     final SectionNode root;
     private final List<ParameterDeclaration> parameterDeclarations;
     private final LazyValue<Map<String, Fragment>> fragments;
+    private CompiledTemplate compiledTemplate;
+    private Expression[] compiledExpressions;
 
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant) {
         this.engine = engine;
@@ -47,6 +49,24 @@ class TemplateImpl implements Template {
         this.fragments = initFragments(root);
     }
 
+    void useCompiledTemplate(CompiledTemplate compiledTemplate) {
+        List<Expression> expressions = getExpressions();
+        List<String> compiled = compiledTemplate.getExpressions();
+        if (expressions.size() != compiled.size()) {
+            LOG.debugf("Compiled template ignored - the expressions do not match: %s", this);
+            return;
+        }
+        for (int i = 0; i < compiled.size(); i++) {
+            if (!compiled.get(i).equals(expressions.get(i).toOriginalString())) {
+                LOG.debugf("Compiled template ignored - the expressions do not match: %s", this);
+                return;
+            }
+        }
+        this.compiledExpressions = expressions.toArray(new Expression[0]);
+        this.compiledTemplate = compiledTemplate;
+        LOG.debugf("Compiled template used: %s", this);
+    }
+
     @Override
     public TemplateInstance instance() {
         TemplateInstance instance = new TemplateInstanceImpl();
@@ -73,6 +93,11 @@ public List<ParameterDeclaration> getParameterDeclarations() {
         return parameterDeclarations;
     }
 
+    @Override
+    public List<TemplateNode> getNodes() {
+        return root.blocks.get(0).nodes;
+    }
+
     @Override
     public String getGeneratedId() {
         return generatedId;
@@ -219,6 +244,18 @@ private CompletionStage<String> renderAsyncNoTimeout() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            if (compiledTemplate != null && this.data == null && dataMap != null) {
+                // Sync rendering of a compiled template
+                try {
+                    if (compiledTemplate.render(dataMap, compiledExpressions, engine, consumer)) {
+                        runRenderedActions();
+                        return CompletedStage.VOID;
+                    }
+                } catch (Throwable e) {
+                    runRenderedActions();
+                    return CompletedStage.failure(e);
+                }
+            }
             CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
@@ -235,22 +272,25 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
             });
             return result;
         }
 
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -101,6 +101,9 @@ public interface TemplateInstance {
 
     /**
      * Triggers rendering.
+     * <p>
+     * If the consumer implements {@link Utf8Consumer} then the static text of the template is passed as UTF-8 encoded
+     * chunks.
      *
      * @param consumer To consume chunks of the rendered template
      * @return a completion stage that is completed once the rendering finished
@@ -57,6 +57,36 @@ default boolean isSection() {
         return false;
     }
 
+    /**
+     *
+     * @return {@code true} if the node represents a static text
+     * @see TextNode
+     */
+    default boolean isText() {
+        return false;
+    }
+
+    /**
+     *
+     * @return {@code true} if the node represents an output expression
+     * @see ExpressionNode
+     */
+    default boolean isExpression() {
+        return false;
+    }
+
+    default TextNode asText() {
+        throw new IllegalStateException();
+    }
+
+    default ExpressionNode asExpression() {
+        throw new IllegalStateException();
+    }
+
+    default SectionNode asSection() {
+        throw new IllegalStateException();
+    }
+
     /**
      * Represents an origin of a template node.
      */
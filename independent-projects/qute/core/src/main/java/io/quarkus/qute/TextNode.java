@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -10,6 +11,8 @@ public class TextNode implements TemplateNode, ResultNode {
 
     private final CompletedStage<ResultNode> result;
     private final String value;
+    // encoded lazily, only the templates rendered to a Utf8Consumer need it
+    private volatile byte[] utf8;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
@@ -32,13 +35,37 @@ public boolean isConstant() {
         return true;
     }
 
+    @Override
+    public boolean isText() {
+        return true;
+    }
+
+    @Override
+    public TextNode asText() {
+        return this;
+    }
+
     public String getValue() {
         return value;
     }
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer) {
+            ((Utf8Consumer) consumer).acceptUtf8(getUtf8());
+        } else {
+            consumer.accept(value);
+        }
+    }
+
+    private byte[] getUtf8() {
+        byte[] bytes = utf8;
+        if (bytes == null) {
+            // concurrent renderings may encode the value more than once, the result is the same
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            utf8 = bytes;
+        }
+        return bytes;
     }
 
     @Override
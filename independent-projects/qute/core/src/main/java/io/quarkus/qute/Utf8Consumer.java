@@ -0,0 +1,20 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the rendered chunks of a template which also accepts chunks that are already encoded in UTF-8.
+ * <p>
+ * If a consumer passed to {@link TemplateInstance#consume(Consumer)} implements this interface then the static text of the
+ * template is passed to {@link #acceptUtf8(byte[])}. The static text is encoded the first time it is rendered this way and
+ * does not have to be encoded again for each rendering.
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     *
+     * @param utf8 the chunk encoded in UTF-8, must not be modified
+     */
+    void acceptUtf8(byte[] utf8);
+
+}
@@ -0,0 +1,204 @@
+package io.quarkus.qute;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.qute.TemplateLocator.TemplateLocation;
+
+/**
+ * Compares the rendering of a template by the interpreter with the rendering by a {@link CompiledTemplate}.
+ * <p>
+ * The compiled template is written by hand the way the Quarkus extension generates it for a type-safe template, and the
+ * interpreter uses a value resolver with direct field accesses, like the resolvers generated for the template data. Run
+ * with:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.quarkus.qute.CompiledTemplateBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledTemplateBenchmark {
+
+    private static final String ID = "items";
+    private static final String CONTENT = "<h1>{title}</h1><ul>{#for item in items}"
+            + "<li class=\"{item_indexParity}\">{item.name}: {item.price}{#if item.discounted} (discounted){/if}</li>"
+            + "{/for}</ul>";
+
+    @Param({ "10", "100" })
+    int size;
+
+    private Template interpreted;
+    private Template compiled;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item("Item " + i, new BigDecimal(i).add(BigDecimal.valueOf(99, 2)), i % 3 == 0));
+        }
+        interpreted = Engine.builder().addDefaults().addValueResolver(new ItemResolver()).addLocator(new Locator())
+                .build().getTemplate(ID);
+        List<String> expressions = new ArrayList<>();
+        for (Expression expression : interpreted.getExpressions()) {
+            expressions.add(expression.toOriginalString());
+        }
+        ItemsCompiled itemsCompiled = new ItemsCompiled(expressions);
+        compiled = Engine.builder().addDefaults().addValueResolver(new ItemResolver()).addLocator(new Locator())
+                .addCompiledTemplate(itemsCompiled).build().getTemplate(ID);
+
+        String expected = interpreted();
+        if (!expected.equals(compiled()) || itemsCompiled.rendered.get() != 1) {
+            throw new IllegalStateException("The compiled template is not used or its output is different");
+        }
+    }
+
+    @Benchmark
+    public String interpreted() {
+        return interpreted.data("title", "Items").data("items", items).render();
+    }
+
+    @Benchmark
+    public String compiled() {
+        return compiled.data("title", "Items").data("items", items).render();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CompiledTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    public static class Item {
+
+        public final String name;
+        public final BigDecimal price;
+        public final boolean discounted;
+
+        Item(String name, BigDecimal price, boolean discounted) {
+            this.name = name;
+            this.price = price;
+            this.discounted = discounted;
+        }
+    }
+
+    static class ItemResolver implements ValueResolver {
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof Item;
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            Item item = (Item) context.getBase();
+            switch (context.getName()) {
+                case "name":
+                    return CompletedStage.of(item.name);
+                case "price":
+                    return CompletedStage.of(item.price);
+                case "discounted":
+                    return CompletedStage.of(item.discounted);
+                default:
+                    return Results.notFound(context);
+            }
+        }
+    }
+
+    static class Locator implements TemplateLocator {
+
+        @Override
+        public Optional<TemplateLocation> locate(String id) {
+            if (!ID.equals(id)) {
+                return Optional.empty();
+            }
+            return Optional.of(new TemplateLocation() {
+
+                @Override
+                public java.io.Reader read() {
+                    return new StringReader(CONTENT);
+                }
+
+                @Override
+                public Optional<Variant> getVariant() {
+                    return Optional.empty();
+                }
+            });
+        }
+    }
+
+    // The class would be generated for the template
+    static class ItemsCompiled extends CompiledTemplate {
+
+        final AtomicInteger rendered = new AtomicInteger();
+        private final int title;
+        private final int indexParity;
+        private final int name;
+        private final int price;
+
+        ItemsCompiled(List<String> expressions) {
+            super(ID, expressions.toArray(new String[0]), new String[] { "<h1>", "</h1><ul>", "<li class=\"", "\">", ": ",
+                    " (discounted)", "</li>", "</ul>" });
+            this.title = expressions.indexOf("title");
+            this.indexParity = expressions.indexOf("item_indexParity");
+            this.name = expressions.indexOf("item.name");
+            this.price = expressions.indexOf("item.price");
+        }
+
+        @Override
+        protected boolean render(Map<String, Object> data, Output output) {
+            Object title = data.get("title");
+            Object items = data.get("items");
+            if (!(items instanceof List)) {
+                return false;
+            }
+            List<?> list = (List<?>) items;
+            output.text(0);
+            output.value(title, this.title);
+            output.text(1);
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                Item item = (Item) list.get(i);
+                output.text(2);
+                output.value(iterationMetadata("indexParity", i, i + 1 < size), indexParity);
+                output.text(3);
+                output.value(item.name, name);
+                output.text(4);
+                output.value(item.price, price);
+                if (item.discounted) {
+                    output.text(5);
+                }
+                output.text(6);
+            }
+            output.text(7);
+            rendered.incrementAndGet();
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.TemplateLocator.TemplateLocation;
+
+public class CompiledTemplateTest {
+
+    @Test
+    public void testCompiledTemplateUsed() {
+        HelloCompiled compiled = new HelloCompiled("name");
+        Engine engine = engine("Hello {name}!", compiled);
+        Template hello = engine.getTemplate("hello");
+        AtomicBoolean rendered = new AtomicBoolean();
+        assertEquals("Hello Lu!", hello.data("name", "Lu").onRendered(() -> rendered.set(true)).render());
+        assertEquals(1, compiled.rendered.get());
+        assertTrue(rendered.get());
+        // Optional is unwrapped
+        assertEquals("Hello Lu!", hello.data("name", Optional.of("Lu")).render());
+        assertEquals(2, compiled.rendered.get());
+        // Data object is not supported
+        assertEquals("Hello Lu!", hello.render(Map.of("name", "Lu")));
+        assertEquals(2, compiled.rendered.get());
+        // Missing param
+        assertThrows(TemplateException.class, () -> hello.data("surname", "Lu").render());
+        assertEquals(2, compiled.rendered.get());
+    }
+
+    @Test
+    public void testExpressionsMismatch() {
+        HelloCompiled compiled = new HelloCompiled("surname");
+        Engine engine = engine("Hello {name}!", compiled);
+        assertEquals("Hello Lu!", engine.getTemplate("hello").data("name", "Lu").render());
+        assertEquals(0, compiled.rendered.get());
+    }
+
+    @Test
+    public void testResultMappers() {
+        HelloCompiled compiled = new HelloCompiled("name");
+        Engine engine = Engine.builder().addDefaults().addLocator(locator("Hello {name}!"))
+                .addResultMapper((res, expr) -> res.toString().toUpperCase())
+                .addCompiledTemplate(compiled).build();
+        assertEquals("Hello LU!", engine.getTemplate("hello").data("name", "Lu").render());
+        assertEquals(1, compiled.rendered.get());
+    }
+
+    @Test
+    public void testNotFound() {
+        HelloCompiled compiled = new HelloCompiled("name");
+        Engine engine = engine("Hello {name}!", compiled);
+        TemplateException e = assertThrows(TemplateException.class,
+                () -> engine.getTemplate("hello").data("name", null).render());
+        assertEquals(
+                "Rendering error in template [hello] line 1: Property \"length\" not found on the base object \"null\" in expression {name}",
+                e.getMessage());
+    }
+
+    @Test
+    public void testIterationMetadata() {
+        assertEquals(1, CompiledTemplate.iterationMetadata("count", 0, true));
+        assertEquals("even", CompiledTemplate.iterationMetadata("indexParity", 1, true));
+        assertEquals(true, CompiledTemplate.iterationMetadata("isLast", 1, false));
+        assertEquals(List.of(true, false), List.of(CompiledTemplate.iterationMetadata("odd", 0, true),
+                CompiledTemplate.iterationMetadata("isEven", 0, true)));
+    }
+
+    private static Engine engine(String content, CompiledTemplate compiledTemplate) {
+        return Engine.builder().addDefaults().addLocator(locator(content)).addCompiledTemplate(compiledTemplate).build();
+    }
+
+    private static TemplateLocator locator(String content) {
+        return id -> Optional.of(new TemplateLocation() {
+
+            @Override
+            public java.io.Reader read() {
+                return new StringReader(content);
+            }
+
+            @Override
+            public Optional<Variant> getVariant() {
+                return Optional.empty();
+            }
+        });
+    }
+
+    // The class would be generated for the "Hello {name}!" template
+    static class HelloCompiled extends CompiledTemplate {
+
+        final AtomicInteger rendered = new AtomicInteger();
+
+        HelloCompiled(String expression) {
+            super("hello", new String[] { expression }, new String[] { "Hello ", "!" });
+        }
+
+        @Override
+        protected boolean render(Map<String, Object> data, Output output) {
+            if (!data.containsKey("name")) {
+                return false;
+            }
+            Object name = data.get("name");
+            if (name == null) {
+                // Simulate the access to a property of a null base object
+                throw output.notFound("length", 0);
+            }
+            output.text(0);
+            output.value(name, 0);
+            output.text(1);
+            rendered.incrementAndGet();
+            return true;
+        }
+
+    }
+
+}
@@ -3,6 +3,9 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
@@ -41,4 +44,28 @@ public void testGetTemplate() {
         String generatedId = hello.getGeneratedId();
         assertEquals(generatedId, hello.instance().getTemplate().getGeneratedId());
     }
+
+    @Test
+    public void testConsumeUtf8() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Hello {foo}, žluťoučký kůň!");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StringBuilder strings = new StringBuilder();
+        hello.data("foo", "ďábel").consume(new Utf8Consumer() {
+
+            @Override
+            public void accept(String chunk) {
+                strings.append(chunk);
+                out.writeBytes(chunk.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void acceptUtf8(byte[] utf8) {
+                out.writeBytes(utf8);
+            }
+        }).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        // Only the result of the expression is passed as a string
+        assertEquals("ďábel", strings.toString());
+        assertEquals("Hello ďábel, žluťoučký kůň!", out.toString(StandardCharsets.UTF_8));
+    }
 }
@@ -73,4 +73,56 @@ public class QuarkusRestClientProperties {
      */
     public static final String ALPN = "io.quarkus.rest.client.alpn";
 
+    /**
+     * Set to true to store the responses of the client in a private HTTP cache that honors the {@code Cache-Control},
+     * {@code ETag} and {@code Last-Modified} response headers.
+     */
+    public static final String RESPONSE_CACHE = "io.quarkus.rest.client.response-cache";
+
+    /**
+     * The maximum number of responses stored in the response cache, 100 by default.
+     */
+    public static final String RESPONSE_CACHE_MAX_ENTRIES = "io.quarkus.rest.client.response-cache-max-entries";
+
+    /**
+     * The maximum size in bytes of a response body stored in the response cache, 1 MiB by default.
+     */
+    public static final String RESPONSE_CACHE_MAX_ENTRY_SIZE = "io.quarkus.rest.client.response-cache-max-entry-size";
+
+    /**
+     * The directory where the response cache stores the response bodies. The bodies are kept in memory if not set.
+     */
+    public static final String RESPONSE_CACHE_DIRECTORY = "io.quarkus.rest.client.response-cache-directory";
+
+    /**
+     * Set to {@code true} to answer identical in-flight idempotent requests with a single request to the server.
+     */
+    public static final String COALESCE_REQUESTS = "io.quarkus.rest.client.coalesce-requests";
+
+    /**
+     * A collection of the names of the headers that must have the same value for two requests to be
+     * {@link #COALESCE_REQUESTS coalesced}. The other headers are ignored. All the headers are compared if not set,
+     * except the {@link #COALESCE_EXCLUDED_HEADERS excluded} ones.
+     */
+    public static final String COALESCE_INCLUDED_HEADERS = "io.quarkus.rest.client.coalesce-included-headers";
+
+    /**
+     * A collection of the names of the headers that are ignored when comparing two requests to
+     * {@link #COALESCE_REQUESTS coalesce} them. Ignored if {@link #COALESCE_INCLUDED_HEADERS} is set.
+     */
+    public static final String COALESCE_EXCLUDED_HEADERS = "io.quarkus.rest.client.coalesce-excluded-headers";
+
+    /**
+     * Set to {@code true} to send a second copy of the idempotent requests whose response takes longer than usual, to
+     * another instance of the service if Stork is used. The first response is used.
+     */
+    public static final String HEDGE_REQUESTS = "io.quarkus.rest.client.hedge-requests";
+
+    /**
+     * The delay in milliseconds after which a second copy of a request is sent when
+     * {@link #HEDGE_REQUESTS hedging} is enabled. The 95th percentile of the latency of the recent requests is used if not
+     * set.
+     */
+    public static final String HEDGE_DELAY = "io.quarkus.rest.client.hedge-delay";
+
 }
@@ -29,6 +29,9 @@
 import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
 import org.jboss.resteasy.reactive.client.impl.AsyncInvokerImpl;
 import org.jboss.resteasy.reactive.client.impl.ClientRequestContextImpl;
+import org.jboss.resteasy.reactive.client.impl.ClientResponseCache;
+import org.jboss.resteasy.reactive.client.impl.RequestCoalescer;
+import org.jboss.resteasy.reactive.client.impl.RequestHedger;
 import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
 import org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder;
 import org.jboss.resteasy.reactive.client.impl.multipart.QuarkusMultipartForm;
@@ -72,13 +75,25 @@ public class ClientSendRequestHandler implements ClientRestHandler {
     private final LoggingScope loggingScope;
     private final ClientLogger clientLogger;
     private final Map<Class<?>, MultipartResponseData> multipartResponseDataMap;
+    private final ClientResponseCache responseCache;
+    private final RequestCoalescer requestCoalescer;
+    private final RequestHedger requestHedger;
 
     public ClientSendRequestHandler(boolean followRedirects, LoggingScope loggingScope, ClientLogger logger,
             Map<Class<?>, MultipartResponseData> multipartResponseDataMap) {
+        this(followRedirects, loggingScope, logger, multipartResponseDataMap, null, null, null);
+    }
+
+    public ClientSendRequestHandler(boolean followRedirects, LoggingScope loggingScope, ClientLogger logger,
+            Map<Class<?>, MultipartResponseData> multipartResponseDataMap, ClientResponseCache responseCache,
+            RequestCoalescer requestCoalescer, RequestHedger requestHedger) {
         this.followRedirects = followRedirects;
         this.loggingScope = loggingScope;
         this.clientLogger = logger;
         this.multipartResponseDataMap = multipartResponseDataMap;
+        this.responseCache = responseCache;
+        this.requestCoalescer = requestCoalescer;
+        this.requestHedger = requestHedger;
     }
 
     @Override
@@ -86,7 +101,51 @@ public void handle(RestClientRequestContext requestContext) {
         if (requestContext.isAborted()) {
             return;
         }
+        boolean storeResponse = responseCache != null && responseCache.isCacheable(requestContext);
+        ClientResponseCache.CachedResponse cachedEntry = null;
+        if (storeResponse) {
+            cachedEntry = responseCache.lookup(requestContext);
+            if (cachedEntry != null) {
+                if (responseCache.isFresh(cachedEntry, requestContext)) {
+                    serveFromCache(requestContext, cachedEntry, ClientResponseCache.HIT, new Runnable() {
+                        @Override
+                        public void run() {
+                            sendRequest(requestContext, true, null);
+                        }
+                    });
+                    return;
+                }
+                if (!responseCache.addValidators(cachedEntry, requestContext)) {
+                    cachedEntry = null;
+                }
+            }
+        } else if (responseCache != null) {
+            responseCache.invalidateIfUnsafe(requestContext);
+        }
+        sendRequest(requestContext, storeResponse, cachedEntry);
+    }
+
+    private void sendRequest(RestClientRequestContext requestContext, boolean storeResponse,
+            ClientResponseCache.CachedResponse revalidatedEntry) {
         requestContext.suspend();
+        RequestCoalescer.Call call = null;
+        if (requestCoalescer != null && RequestCoalescer.isCoalescable(requestContext)) {
+            call = requestCoalescer.join(requestContext, new Runnable() {
+                @Override
+                public void run() {
+                    send(requestContext, storeResponse, revalidatedEntry, null);
+                }
+            });
+            if (call == null) {
+                // resumed with the response of the identical in-flight request
+                return;
+            }
+        }
+        send(requestContext, storeResponse, revalidatedEntry, call);
+    }
+
+    private void send(RestClientRequestContext requestContext, boolean storeResponse,
+            ClientResponseCache.CachedResponse revalidatedEntry, RequestCoalescer.Call call) {
         Uni<HttpClientRequest> future = createRequest(requestContext)
                 .runSubscriptionOn(new Executor() {
                     @Override
@@ -208,7 +267,16 @@ public void handle(AsyncResult<AsyncFile> openedAsyncFile) {
                             clientLogger.logRequest(httpClientRequest, actualEntity, false);
                         }
                     }
-                    attachSentHandlers(sent, httpClientRequest, requestContext);
+                    if (requestHedger != null && RequestCoalescer.isCoalescable(requestContext)) {
+                        sent = requestHedger.hedge(requestContext, httpClientRequest,
+                                new Function<URI, Future<HttpClientRequest>>() {
+                                    @Override
+                                    public Future<HttpClientRequest> apply(URI uri) {
+                                        return sendHedged(requestContext, uri);
+                                    }
+                                });
+                    }
+                    attachSentHandlers(sent, httpClientRequest, requestContext, storeResponse, revalidatedEntry, call);
                 }
             }
         }, new Consumer<>() {
@@ -233,6 +301,15 @@ public void accept(Throwable event) {
     private void attachSentHandlers(Future<HttpClientResponse> sent,
             HttpClientRequest httpClientRequest,
             RestClientRequestContext requestContext) {
+        attachSentHandlers(sent, httpClientRequest, requestContext, false, null, null);
+    }
+
+    private void attachSentHandlers(Future<HttpClientResponse> sent,
+            HttpClientRequest httpClientRequest,
+            RestClientRequestContext requestContext,
+            boolean storeResponse,
+            ClientResponseCache.CachedResponse revalidatedEntry,
+            RequestCoalescer.Call call) {
         sent.onSuccess(new Handler<>() {
             @Override
             public void handle(HttpClientResponse clientResponse) {
@@ -248,6 +325,25 @@ public void handle(HttpClientResponse clientResponse) {
                         }
                     }
 
+                    if (revalidatedEntry != null && status == 304) {
+                        if (loggingScope != LoggingScope.NONE) {
+                            clientLogger.logResponse(clientResponse, false);
+                        }
+                        serveFromCache(requestContext, responseCache.revalidated(revalidatedEntry, requestContext),
+                                ClientResponseCache.REVALIDATED, new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        // the stored body is lost, ask for the full response
+                                        responseCache.removeValidators(requestContext);
+                                        send(requestContext, true, null, call);
+                                    }
+                                });
+                        return;
+                    }
+                    if (storeResponse) {
+                        responseCache.record(requestContext, ClientResponseCache.MISS);
+                    }
+
                     if (isResponseMultipart(requestContext)) {
                         QuarkusMultipartResponseDecoder multipartDecoder = new QuarkusMultipartResponseDecoder(
                                 clientResponse);
@@ -352,6 +448,12 @@ public void handle(Buffer buffer) {
                                         clientLogger.logResponse(clientResponse, false);
                                     }
                                     try {
+                                        if (storeResponse) {
+                                            responseCache.store(requestContext, buffer);
+                                        }
+                                        if (call != null) {
+                                            call.complete(requestContext, buffer.getBytes());
+                                        }
                                         if (buffer.length() > 0) {
                                             requestContext.setResponseEntityStream(
                                                     new ByteArrayInputStream(buffer.getBytes()));
@@ -384,6 +486,58 @@ public void handle(Throwable failure) {
                 });
     }
 
+    /**
+     * @param fallback sends the request to the server if the stored body cannot be read
+     */
+    private void serveFromCache(RestClientRequestContext requestContext, ClientResponseCache.CachedResponse entry,
+            String status, Runnable fallback) {
+        requestContext.suspend();
+        responseCache.read(entry, new Handler<>() {
+            @Override
+            public void handle(AsyncResult<byte[]> read) {
+                if (read.failed()) {
+                    log.debugf(read.cause(), "Unable to read the cached response of %s, sending the request",
+                            requestContext.getUri());
+                    fallback.run();
+                    return;
+                }
+                responseCache.record(requestContext, status);
+                requestContext.setResponseStatus(200);
+                requestContext.setResponseReasonPhrase(entry.getReasonPhrase());
+                requestContext.setResponseHeaders(entry.getHeaders());
+                byte[] body = read.result();
+                requestContext.setResponseEntityStream(body.length > 0 ? new ByteArrayInputStream(body) : null);
+                requestContext.resume();
+            }
+        });
+    }
+
+    private Future<HttpClientRequest> sendHedged(RestClientRequestContext requestContext, URI uri) {
+        Promise<HttpClientRequest> sent = Promise.promise();
+        createRequest(requestContext, uri).subscribe().with(new Consumer<>() {
+            @Override
+            public void accept(HttpClientRequest httpClientRequest) {
+                try {
+                    ClientSendRequestHandler.this.adaptRequest(httpClientRequest);
+                    ClientSendRequestHandler.this.setRequestHeadersAndPrepareBody(httpClientRequest, requestContext);
+                    httpClientRequest.send();
+                    if (loggingScope != LoggingScope.NONE) {
+                        clientLogger.logRequest(httpClientRequest, null, false);
+                    }
+                    sent.complete(httpClientRequest);
+                } catch (Throwable t) {
+                    sent.fail(t);
+                }
+            }
+        }, new Consumer<>() {
+            @Override
+            public void accept(Throwable failure) {
+                sent.fail(failure);
+            }
+        });
+        return sent.future();
+    }
+
     private boolean isResponseMultipart(RestClientRequestContext requestContext) {
         MultivaluedMap<String, String> responseHeaders = requestContext.getResponseHeaders();
         List<String> contentTypes = responseHeaders.get(CONTENT_TYPE);
@@ -406,8 +560,11 @@ private void reportFinish(Throwable throwable, RestClientRequestContext requestC
     }
 
     public Uni<HttpClientRequest> createRequest(RestClientRequestContext state) {
+        return createRequest(state, state.getUri());
+    }
+
+    private Uni<HttpClientRequest> createRequest(RestClientRequestContext state, URI uri) {
         HttpClient httpClient = state.getHttpClient();
-        URI uri = state.getUri();
         Object readTimeout = state.getConfiguration().getProperty(QuarkusRestClientProperties.READ_TIMEOUT);
         Uni<RequestOptions> requestOptions;
         state.setMultipartResponsesData(multipartResponseDataMap);
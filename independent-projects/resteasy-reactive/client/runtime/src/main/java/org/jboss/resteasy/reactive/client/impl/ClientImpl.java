@@ -92,6 +92,9 @@ public class ClientImpl implements Client {
     final SSLContext sslContext;
     private boolean isClosed;
     final HandlerChain handlerChain;
+    final ClientResponseCache responseCache;
+    final RequestCoalescer requestCoalescer;
+    final RequestHedger requestHedger;
     final Vertx vertx;
     private final MultiQueryParamMode multiQueryParamMode;
     private final String userAgent;
@@ -200,7 +203,11 @@ public Vertx get() {
             });
         }
 
-        handlerChain = new HandlerChain(followRedirects, loggingScope, clientContext.getMultipartResponsesData(), clientLogger);
+        responseCache = ClientResponseCache.create(configuration, this.vertx);
+        requestCoalescer = RequestCoalescer.create(configuration);
+        requestHedger = RequestHedger.create(configuration, this.vertx);
+        handlerChain = new HandlerChain(followRedirects, loggingScope, clientContext.getMultipartResponsesData(), clientLogger,
+                responseCache, requestCoalescer, requestHedger);
     }
 
     public ClientContext getClientContext() {
@@ -212,6 +219,9 @@ public void close() {
         if (isClosed)
             return;
         isClosed = true;
+        if (responseCache != null) {
+            responseCache.clear();
+        }
         httpClient.close();
         if (closeVertx) {
             vertx.close();
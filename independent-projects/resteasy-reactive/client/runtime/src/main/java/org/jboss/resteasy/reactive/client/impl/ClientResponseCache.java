@@ -0,0 +1,631 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.common.headers.CacheControlDelegate;
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+import org.jboss.resteasy.reactive.common.util.DateUtil;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileProps;
+
+/**
+ * A private HTTP cache of the responses of a client, enabled with {@link QuarkusRestClientProperties#RESPONSE_CACHE}.
+ * <p>
+ * Only the successful responses of {@code GET} requests are stored. A stored response is served without contacting the
+ * server while it is fresh according to its {@code Cache-Control: max-age} or {@code Expires} headers. Once stale, the
+ * request is sent with the {@code If-None-Match} and {@code If-Modified-Since} headers computed from the {@code ETag} and
+ * {@code Last-Modified} headers of the stored response, and a {@code 304 Not Modified} response is answered with the
+ * stored body. Requests that are not {@code GET} or {@code HEAD} invalidate the responses stored for their URI.
+ * <p>
+ * The responses to requests carrying an {@code Authorization} header are stored per credentials: they are only served to
+ * requests carrying the same header, so that a client shared by several callers never serves the response fetched for one
+ * of them to another one.
+ * <p>
+ * The bodies are kept in memory unless a directory is configured with
+ * {@link QuarkusRestClientProperties#RESPONSE_CACHE_DIRECTORY}, in which case the files left in the directory by a previous
+ * run are deleted when the cache is created, and a body that can't be read anymore is fetched from the server again.
+ * In both cases, the number of entries is bounded and the least recently used entries are evicted first.
+ */
+public class ClientResponseCache {
+
+    private static final Logger log = Logger.getLogger(ClientResponseCache.class);
+
+    /**
+     * The name of the request property that holds the outcome of the cache lookup, one of {@link #HIT},
+     * {@link #REVALIDATED} or {@link #MISS}. The property is not set if the request cannot be served from the cache.
+     */
+    public static final String STATUS_PROPERTY = "ResponseCacheStatus";
+
+    /**
+     * The response was served from the cache without contacting the server.
+     */
+    public static final String HIT = "hit";
+    /**
+     * The server answered {@code 304 Not Modified} and the response was served from the cache.
+     */
+    public static final String REVALIDATED = "revalidated";
+    /**
+     * The response was not in the cache or the server sent a new representation.
+     */
+    public static final String MISS = "miss";
+
+    public static final int DEFAULT_MAX_ENTRIES = 100;
+    public static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String AGE = "Age";
+    private static final String EXPIRES = "Expires";
+    private static final String VARY = "Vary";
+    // separates the URI from the credentials digest in the keys, it can't appear in a URI
+    private static final char CREDENTIALS_SEPARATOR = ' ';
+    // headers that describe the body and must not be replaced by the headers of a 304 response
+    private static final List<String> REPRESENTATION_HEADERS = List.of(HttpHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT), HttpHeaders.CONTENT_ENCODING.toLowerCase(Locale.ROOT));
+
+    // the files older than this class were written by a previous run of the application
+    private static final long LOADED_AT = System.currentTimeMillis();
+
+    private final int maxEntrySize;
+    private final Path directory;
+    private final Vertx vertx;
+    private final Map<String, CachedResponse> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ClientResponseCache(int maxEntries, int maxEntrySize, Path directory, Vertx vertx) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("The maximum number of entries of the response cache must be > 0");
+        }
+        this.maxEntrySize = maxEntrySize;
+        this.directory = directory;
+        this.vertx = vertx;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                if (size() > maxEntries) {
+                    discard(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+        if (directory != null) {
+            removeOrphanedFiles();
+        }
+    }
+
+    /**
+     * @return the cache configured in the given configuration, or {@code null} if the cache is not enabled
+     */
+    static ClientResponseCache create(Configuration configuration, Vertx vertx) {
+        Object enabled = configuration.getProperty(QuarkusRestClientProperties.RESPONSE_CACHE);
+        if (enabled == null || !(Boolean) enabled) {
+            return null;
+        }
+        Object maxEntries = configuration.getProperty(QuarkusRestClientProperties.RESPONSE_CACHE_MAX_ENTRIES);
+        Object maxEntrySize = configuration.getProperty(QuarkusRestClientProperties.RESPONSE_CACHE_MAX_ENTRY_SIZE);
+        Object directory = configuration.getProperty(QuarkusRestClientProperties.RESPONSE_CACHE_DIRECTORY);
+        return new ClientResponseCache(maxEntries != null ? (Integer) maxEntries : DEFAULT_MAX_ENTRIES,
+                maxEntrySize != null ? (Integer) maxEntrySize : DEFAULT_MAX_ENTRY_SIZE,
+                directory != null ? Path.of(directory.toString()) : null, vertx);
+    }
+
+    /**
+     * Returns the stored response that matches the given cacheable request, or {@code null} if there is none.
+     *
+     * @see #isCacheable(RestClientRequestContext)
+     */
+    public CachedResponse lookup(RestClientRequestContext requestContext) {
+        CachedResponse entry;
+        synchronized (entries) {
+            entry = entries.get(key(requestContext));
+        }
+        if (entry != null && !entry.matches(requestContext.getRequestHeaders())) {
+            // a different variant, it will be replaced by the response to this request
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * @return {@code true} if the response to the given request can be served from or stored in the cache
+     */
+    public boolean isCacheable(RestClientRequestContext requestContext) {
+        if (!"GET".equals(requestContext.getHttpMethod()) || requestContext.getEntity() != null
+                || !requestContext.isRegisterBodyHandler() || requestContext.isFileDownload()
+                || requestContext.isInputStreamDownload()) {
+            return false;
+        }
+        ClientRequestHeaders headers = requestContext.getRequestHeaders();
+        if (headers.getHeader(IF_NONE_MATCH) != null || headers.getHeader(IF_MODIFIED_SINCE) != null) {
+            // the caller handles conditional requests itself
+            return false;
+        }
+        String cacheControl = headers.getHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || !parseCacheControl(cacheControl).isNoStore();
+    }
+
+    /**
+     * Invalidates the stored responses of the URI of the given request if its method is unsafe, e.g. {@code POST}.
+     */
+    public void invalidateIfUnsafe(RestClientRequestContext requestContext) {
+        switch (requestContext.getHttpMethod()) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+            case "TRACE":
+                break;
+            default:
+                invalidateUri(requestContext.getUri().toString());
+        }
+    }
+
+    /**
+     * @return {@code true} if the given entry can be served without contacting the server
+     */
+    public boolean isFresh(CachedResponse entry, RestClientRequestContext requestContext) {
+        if (entry.noCache || System.currentTimeMillis() >= entry.expiresAt) {
+            return false;
+        }
+        String cacheControl = requestContext.getRequestHeaders().getHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || !parseCacheControl(cacheControl).isNoCache();
+    }
+
+    /**
+     * Adds the validators of the given entry to the request.
+     *
+     * @return {@code true} if the entry can be revalidated
+     */
+    public boolean addValidators(CachedResponse entry, RestClientRequestContext requestContext) {
+        if (entry.etag == null && entry.lastModified == null) {
+            return false;
+        }
+        if (entry.etag != null) {
+            requestContext.getRequestHeaders().header(IF_NONE_MATCH, entry.etag);
+        }
+        if (entry.lastModified != null) {
+            requestContext.getRequestHeaders().header(IF_MODIFIED_SINCE, entry.lastModified);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the validators added by {@link #addValidators(CachedResponse, RestClientRequestContext)}.
+     */
+    public void removeValidators(RestClientRequestContext requestContext) {
+        requestContext.getRequestHeaders().header(IF_NONE_MATCH, null);
+        requestContext.getRequestHeaders().header(IF_MODIFIED_SINCE, null);
+    }
+
+    /**
+     * Stores the response of the given request if it is cacheable.
+     */
+    public void store(RestClientRequestContext requestContext, Buffer body) {
+        if (requestContext.getResponseStatus() != 200 || body.length() > maxEntrySize) {
+            return;
+        }
+        MultivaluedMap<String, String> responseHeaders = requestContext.getResponseHeaders();
+        String key = key(requestContext);
+        long expiresAt = expiresAt(responseHeaders);
+        CacheControl cacheControl = responseCacheControl(responseHeaders);
+        String etag = responseHeaders.getFirst(HttpHeaders.ETAG);
+        String lastModified = responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+        Map<String, String> vary = vary(responseHeaders, requestContext.getRequestHeaders());
+        if ((cacheControl != null && cacheControl.isNoStore()) || vary == null
+                || (expiresAt <= System.currentTimeMillis() && etag == null && lastModified == null)) {
+            // uncacheable, or stale and not revalidable
+            invalidate(key);
+            return;
+        }
+        CachedResponse entry = new CachedResponse(key, requestContext.getResponseReasonPhrase(), copy(responseHeaders), vary,
+                etag,
+                lastModified, expiresAt, cacheControl != null && cacheControl.isNoCache());
+        if (directory == null) {
+            entry.body = body.getBytes();
+            put(entry);
+        } else {
+            Path file = directory.resolve(UUID.randomUUID().toString());
+            vertx.fileSystem().mkdirs(directory.toString(), new Handler<AsyncResult<Void>>() {
+                @Override
+                public void handle(AsyncResult<Void> created) {
+                    vertx.fileSystem().writeFile(file.toString(), body, new Handler<AsyncResult<Void>>() {
+                        @Override
+                        public void handle(AsyncResult<Void> written) {
+                            if (written.succeeded()) {
+                                entry.file = file;
+                                put(entry);
+                            } else {
+                                log.debugf(written.cause(), "Unable to store the response of %s in %s", key, file);
+                            }
+                        }
+                    });
+                }
+            });
+        }
+    }
+
+    /**
+     * Updates the given entry with the headers of a {@code 304 Not Modified} response.
+     *
+     * @return the updated entry
+     */
+    public CachedResponse revalidated(CachedResponse entry, RestClientRequestContext requestContext) {
+        MultivaluedMap<String, String> responseHeaders = requestContext.getResponseHeaders();
+        MultivaluedMap<String, String> headers = copy(entry.headers);
+        for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+            if (!REPRESENTATION_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                headers.put(header.getKey(), header.getValue());
+            }
+        }
+        CacheControl cacheControl = responseCacheControl(headers);
+        String etag = headers.getFirst(HttpHeaders.ETAG);
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        CachedResponse updated = new CachedResponse(entry.key, entry.reasonPhrase, headers, entry.vary, etag, lastModified,
+                expiresAt(headers), cacheControl != null && cacheControl.isNoCache());
+        updated.body = entry.body;
+        updated.file = entry.file;
+        synchronized (entries) {
+            if (entries.get(entry.key) == entry) {
+                // the body is shared with the new entry
+                entries.put(entry.key, updated);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Reads the body of the given entry.
+     */
+    public void read(CachedResponse entry, Handler<AsyncResult<byte[]>> handler) {
+        if (entry.file == null) {
+            handler.handle(Future.succeededFuture(entry.body));
+            return;
+        }
+        vertx.fileSystem().readFile(entry.file.toString(), new Handler<AsyncResult<Buffer>>() {
+            @Override
+            public void handle(AsyncResult<Buffer> read) {
+                if (read.succeeded()) {
+                    handler.handle(Future.succeededFuture(read.result().getBytes()));
+                } else {
+                    invalidate(entry.key);
+                    handler.handle(Future.failedFuture(read.cause()));
+                }
+            }
+        });
+    }
+
+    /**
+     * Records the outcome of the lookup of the given request, see {@link #STATUS_PROPERTY}.
+     */
+    public void record(RestClientRequestContext requestContext, String status) {
+        switch (status) {
+            case HIT:
+                hits.increment();
+                break;
+            case REVALIDATED:
+                revalidations.increment();
+                break;
+            default:
+                misses.increment();
+        }
+        requestContext.getClientFilterProperties().put(STATUS_PROPERTY, status);
+    }
+
+    public void invalidate(String key) {
+        CachedResponse removed;
+        synchronized (entries) {
+            removed = entries.remove(key);
+        }
+        if (removed != null) {
+            discard(removed);
+        }
+    }
+
+    /**
+     * Invalidates the responses stored for the given URI, whatever the credentials of the requests.
+     */
+    public void invalidateUri(String uri) {
+        String credentialsPrefix = uri + CREDENTIALS_SEPARATOR;
+        List<CachedResponse> removed = new ArrayList<>();
+        synchronized (entries) {
+            for (Iterator<Map.Entry<String, CachedResponse>> it = entries.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, CachedResponse> entry = it.next();
+                if (entry.getKey().equals(uri) || entry.getKey().startsWith(credentialsPrefix)) {
+                    removed.add(entry.getValue());
+                    it.remove();
+                }
+            }
+        }
+        for (CachedResponse entry : removed) {
+            discard(entry);
+        }
+    }
+
+    public void clear() {
+        List<CachedResponse> removed;
+        synchronized (entries) {
+            removed = new ArrayList<>(entries.values());
+            entries.clear();
+        }
+        for (CachedResponse entry : removed) {
+            discard(entry);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the number of responses served from the cache without contacting the server
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of responses served from the cache after a {@code 304 Not Modified} response
+     */
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    /**
+     * @return the number of cacheable requests that could not be served from the cache
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void put(CachedResponse entry) {
+        CachedResponse previous;
+        synchronized (entries) {
+            previous = entries.put(entry.key, entry);
+        }
+        if (previous != null && previous.file != null && !previous.file.equals(entry.file)) {
+            discard(previous);
+        }
+    }
+
+    /**
+     * Deletes the files stored in the directory by a previous run, they can't be served since the entries are only kept in
+     * memory.
+     */
+    private void removeOrphanedFiles() {
+        vertx.fileSystem().readDir(directory.toString(), new Handler<AsyncResult<List<String>>>() {
+            @Override
+            public void handle(AsyncResult<List<String>> files) {
+                if (files.failed()) {
+                    // the directory does not exist yet
+                    return;
+                }
+                for (String file : files.result()) {
+                    vertx.fileSystem().props(file, new Handler<AsyncResult<FileProps>>() {
+                        @Override
+                        public void handle(AsyncResult<FileProps> props) {
+                            if (props.succeeded() && props.result().isRegularFile()
+                                    && props.result().lastModifiedTime() < LOADED_AT) {
+                                delete(Path.of(file));
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void discard(CachedResponse entry) {
+        if (entry.file != null) {
+            delete(entry.file);
+        }
+    }
+
+    private void delete(Path file) {
+        vertx.fileSystem().delete(file.toString(), new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> deleted) {
+                if (deleted.failed()) {
+                    log.debugf(deleted.cause(), "Unable to delete the cached response %s", file);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the URI of the request, followed by a digest of its credentials if it carries an {@code Authorization} header
+     */
+    private static String key(RestClientRequestContext requestContext) {
+        String uri = requestContext.getUri().toString();
+        String authorization = requestContext.getRequestHeaders().getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null) {
+            return uri;
+        }
+        // the credentials are not kept in memory, only their digest
+        return uri + CREDENTIALS_SEPARATOR + digest(authorization);
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long expiresAt(MultivaluedMap<String, String> responseHeaders) {
+        long now = System.currentTimeMillis();
+        CacheControl cacheControl = responseCacheControl(responseHeaders);
+        if (cacheControl != null && cacheControl.getMaxAge() >= 0) {
+            long age = 0;
+            String ageHeader = responseHeaders.getFirst(AGE);
+            if (ageHeader != null) {
+                try {
+                    age = Long.parseLong(ageHeader.trim());
+                } catch (NumberFormatException e) {
+                    // ignore the header
+                }
+            }
+            return now + (cacheControl.getMaxAge() - age) * 1000;
+        }
+        String expires = responseHeaders.getFirst(EXPIRES);
+        if (expires != null) {
+            Date expiresDate = parseDate(expires);
+            if (expiresDate == null) {
+                // invalid dates represent a time in the past
+                return now;
+            }
+            Date date = parseDate(responseHeaders.getFirst(HttpHeaders.DATE));
+            // use the clock of the server to compute the freshness lifetime
+            return now + expiresDate.getTime() - (date != null ? date.getTime() : now);
+        }
+        return now;
+    }
+
+    private static CacheControl responseCacheControl(MultivaluedMap<String, String> responseHeaders) {
+        List<String> values = responseHeaders.get(HttpHeaders.CACHE_CONTROL);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return parseCacheControl(String.join(",", values));
+    }
+
+    private static CacheControl parseCacheControl(String value) {
+        try {
+            return CacheControlDelegate.INSTANCE.fromString(value);
+        } catch (IllegalArgumentException e) {
+            // do not cache anything if the header is invalid
+            CacheControl cacheControl = new CacheControl();
+            cacheControl.setNoStore(true);
+            return cacheControl;
+        }
+    }
+
+    private static Date parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return DateUtil.parseDate(value);
+        } catch (DateUtil.DateParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the values of the request headers listed in the {@code Vary} header, or {@code null} if the response varies
+     *         on any header
+     */
+    private static Map<String, String> vary(MultivaluedMap<String, String> responseHeaders,
+            ClientRequestHeaders requestHeaders) {
+        List<String> values = responseHeaders.get(VARY);
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> vary = new HashMap<>();
+        for (String value : values) {
+            for (String name : value.split(",")) {
+                name = name.trim();
+                if (name.equals("*")) {
+                    return null;
+                }
+                if (!name.isEmpty()) {
+                    vary.put(name, requestHeaders.getHeader(name));
+                }
+            }
+        }
+        return vary;
+    }
+
+    private static MultivaluedMap<String, String> copy(MultivaluedMap<String, String> headers) {
+        MultivaluedMap<String, String> copy = new CaseInsensitiveMap<>();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            copy.addAll(header.getKey(), header.getValue());
+        }
+        return copy;
+    }
+
+    /**
+     * A stored response.
+     */
+    public static final class CachedResponse {
+
+        private final String key;
+        private final String reasonPhrase;
+        private final MultivaluedMap<String, String> headers;
+        private final Map<String, String> vary;
+        private final String etag;
+        private final String lastModified;
+        private final long expiresAt;
+        private final boolean noCache;
+        // one of body and file is set
+        private volatile byte[] body;
+        private volatile Path file;
+
+        CachedResponse(String key, String reasonPhrase, MultivaluedMap<String, String> headers, Map<String, String> vary,
+                String etag, String lastModified, long expiresAt, boolean noCache) {
+            this.key = key;
+            this.reasonPhrase = reasonPhrase;
+            this.headers = headers;
+            this.vary = vary;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAt = expiresAt;
+            this.noCache = noCache;
+        }
+
+        public String getReasonPhrase() {
+            return reasonPhrase;
+        }
+
+        /**
+         * @return a mutable copy of the stored response headers
+         */
+        public MultivaluedMap<String, String> getHeaders() {
+            return copy(headers);
+        }
+
+        boolean matches(ClientRequestHeaders requestHeaders) {
+            for (Map.Entry<String, String> header : vary.entrySet()) {
+                if (!Objects.equals(header.getValue(), requestHeaders.getHeader(header.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -11,6 +11,8 @@
 import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
 import org.jboss.resteasy.reactive.common.util.EmptyInputStream;
 
+import io.vertx.core.http.HttpClientResponse;
+
 /**
  * This is the Response class client response
  * object with more deserialising powers than user-created responses @{link {@link ResponseImpl}.
@@ -68,7 +70,11 @@ restClientRequestContext.properties, restClientRequestContext, getStringHeaders(
         }
     }
 
+    /**
+     * @return the HTTP version of the response, or {@code null} if the response was served from the response cache
+     */
     public String getHttpVersion() {
-        return restClientRequestContext.getVertxClientResponse().version().toString();
+        HttpClientResponse vertxClientResponse = restClientRequestContext.getVertxClientResponse();
+        return vertxClientResponse != null ? vertxClientResponse.version().toString() : null;
     }
 }
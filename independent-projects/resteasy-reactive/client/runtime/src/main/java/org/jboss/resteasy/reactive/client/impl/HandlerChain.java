@@ -34,7 +34,14 @@ class HandlerChain {
 
     public HandlerChain(boolean followRedirects, LoggingScope loggingScope,
             Map<Class<?>, MultipartResponseData> multipartData, ClientLogger clientLogger) {
-        this.clientSendHandler = new ClientSendRequestHandler(followRedirects, loggingScope, clientLogger, multipartData);
+        this(followRedirects, loggingScope, multipartData, clientLogger, null, null, null);
+    }
+
+    public HandlerChain(boolean followRedirects, LoggingScope loggingScope,
+            Map<Class<?>, MultipartResponseData> multipartData, ClientLogger clientLogger,
+            ClientResponseCache responseCache, RequestCoalescer requestCoalescer, RequestHedger requestHedger) {
+        this.clientSendHandler = new ClientSendRequestHandler(followRedirects, loggingScope, clientLogger, multipartData,
+                responseCache, requestCoalescer, requestHedger);
         this.clientSetResponseEntityRestHandler = new ClientSetResponseEntityRestHandler();
         this.clientResponseCompleteRestHandler = new ClientResponseCompleteRestHandler();
         this.clientErrorHandler = new ClientErrorHandler(loggingScope);
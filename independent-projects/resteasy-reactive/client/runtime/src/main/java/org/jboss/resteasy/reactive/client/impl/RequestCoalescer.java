@@ -0,0 +1,252 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * Coalesces identical in-flight requests of a client, enabled with {@link QuarkusRestClientProperties#COALESCE_REQUESTS}.
+ * <p>
+ * Requests are identical if they have the same method, URI and headers. Only the headers listed in
+ * {@link QuarkusRestClientProperties#COALESCE_INCLUDED_HEADERS} are compared if set, otherwise all the headers except
+ * the ones listed in {@link QuarkusRestClientProperties#COALESCE_EXCLUDED_HEADERS}. The first request of a group is
+ * sent, the others wait for its response and are answered with a copy of its status, headers and body, on their own
+ * Vert.x context. If the response of the first request cannot be shared, e.g. because its body is streamed, the waiting
+ * requests are sent on their own.
+ * <p>
+ * Only the requests that are idempotent and do not stream their response can be coalesced.
+ */
+public class RequestCoalescer {
+
+    private final ConcurrentMap<String, Call> calls = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    // null to compare all the headers
+    private final Set<String> includedHeaders;
+    private final Set<String> excludedHeaders;
+
+    /**
+     * @param includedHeaders the names of the headers to compare, or {@code null} to compare all the headers
+     * @param excludedHeaders the names of the headers to ignore if all the headers are compared
+     */
+    public RequestCoalescer(Collection<String> includedHeaders, Collection<String> excludedHeaders) {
+        this.includedHeaders = includedHeaders == null ? null : headerNames(includedHeaders);
+        this.excludedHeaders = headerNames(excludedHeaders);
+    }
+
+    /**
+     * @return the coalescer configured in the given configuration, or {@code null} if coalescing is not enabled
+     */
+    static RequestCoalescer create(Configuration configuration) {
+        Object enabled = configuration.getProperty(QuarkusRestClientProperties.COALESCE_REQUESTS);
+        if (enabled == null || !(Boolean) enabled) {
+            return null;
+        }
+        return new RequestCoalescer(headerNames(configuration, QuarkusRestClientProperties.COALESCE_INCLUDED_HEADERS),
+                headerNames(configuration, QuarkusRestClientProperties.COALESCE_EXCLUDED_HEADERS));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<String> headerNames(Configuration configuration, String property) {
+        Object names = configuration.getProperty(property);
+        if (names == null) {
+            return null;
+        }
+        if (names instanceof String) {
+            return Arrays.asList(((String) names).split(","));
+        }
+        return (Collection<String>) names;
+    }
+
+    private static Set<String> headerNames(Collection<String> names) {
+        Set<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (names != null) {
+            for (String name : names) {
+                result.add(name.trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Joins the in-flight request identical to the given request, or starts a new one.
+     *
+     * @param requestContext the suspended request
+     * @param sendAlone the action that sends the given request if the response of the in-flight request cannot be shared
+     * @return the call to complete once the response of the given request is received, or {@code null} if the request
+     *         joined an in-flight request, in which case it is resumed when the in-flight request completes
+     */
+    public Call join(RestClientRequestContext requestContext, Runnable sendAlone) {
+        String key = key(requestContext);
+        Follower follower = new Follower(requestContext, sendAlone);
+        Call[] started = new Call[1];
+        calls.compute(key, (k, existing) -> {
+            if (existing != null && existing.add(follower)) {
+                return existing;
+            }
+            started[0] = new Call(k);
+            return started[0];
+        });
+        Call call = started[0];
+        if (call == null) {
+            coalesced.increment();
+        } else {
+            // the followers are sent on their own if the response of the leader is not shared
+            requestContext.registerCompletionCallback(throwable -> call.abandon());
+        }
+        return call;
+    }
+
+    /**
+     * @return the number of requests that were answered with the response of an identical request
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return {@code true} if the given request can be coalesced
+     */
+    public static boolean isCoalescable(RestClientRequestContext requestContext) {
+        String method = requestContext.getHttpMethod();
+        return ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method))
+                && requestContext.getEntity() == null && requestContext.isRegisterBodyHandler()
+                && !requestContext.isFileDownload() && !requestContext.isInputStreamDownload();
+    }
+
+    private String key(RestClientRequestContext requestContext) {
+        StringBuilder key = new StringBuilder(requestContext.getHttpMethod()).append(' ')
+                .append(requestContext.getUri());
+        // the order of the headers is not relevant
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> header : requestContext.getRequestHeaders().asMap().entrySet()) {
+            if (includedHeaders != null ? includedHeaders.contains(header.getKey())
+                    : !excludedHeaders.contains(header.getKey())) {
+                headers.put(header.getKey(), header.getValue());
+            }
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            key.append('\n').append(header.getKey()).append(": ").append(header.getValue());
+        }
+        return key.toString();
+    }
+
+    /**
+     * An in-flight request.
+     */
+    public final class Call {
+
+        private final String key;
+        // guarded by this
+        private List<Follower> followers = new ArrayList<>();
+
+        Call(String key) {
+            this.key = key;
+        }
+
+        synchronized boolean add(Follower follower) {
+            if (followers == null) {
+                return false;
+            }
+            followers.add(follower);
+            return true;
+        }
+
+        private List<Follower> close() {
+            calls.remove(key, this);
+            synchronized (this) {
+                List<Follower> result = followers;
+                followers = null;
+                return result;
+            }
+        }
+
+        /**
+         * Answers the waiting requests with the response of the given request.
+         */
+        public void complete(RestClientRequestContext requestContext, byte[] body) {
+            List<Follower> result = close();
+            if (result == null) {
+                return;
+            }
+            for (Follower follower : result) {
+                RestClientRequestContext context = follower.requestContext;
+                MultivaluedMap<String, String> headers = new CaseInsensitiveMap<>();
+                for (Map.Entry<String, List<String>> header : requestContext.getResponseHeaders().entrySet()) {
+                    headers.addAll(header.getKey(), header.getValue());
+                }
+                context.setResponseStatus(requestContext.getResponseStatus());
+                context.setResponseReasonPhrase(requestContext.getResponseReasonPhrase());
+                context.setResponseHeaders(headers);
+                context.setResponseEntityStream(body.length > 0 ? new ByteArrayInputStream(body) : null);
+                follower.resume();
+            }
+        }
+
+        /**
+         * Sends the waiting requests on their own.
+         */
+        public void abandon() {
+            List<Follower> result = close();
+            if (result == null) {
+                return;
+            }
+            for (Follower follower : result) {
+                follower.sendAlone.run();
+            }
+        }
+    }
+
+    private static final class Follower {
+
+        final RestClientRequestContext requestContext;
+        final Runnable sendAlone;
+        // the context the follower would have received its own response on
+        private final Context context;
+
+        Follower(RestClientRequestContext requestContext, Runnable sendAlone) {
+            this.requestContext = requestContext;
+            this.sendAlone = sendAlone;
+            ClientRequestContextImpl clientRequestContext = requestContext.getClientRequestContext();
+            Context captured = clientRequestContext != null ? clientRequestContext.getContext() : null;
+            this.context = captured != null ? captured : Vertx.currentContext();
+        }
+
+        void resume() {
+            if (context == null) {
+                requestContext.resume();
+                return;
+            }
+            requestContext.resume(new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import jakarta.ws.rs.core.Configuration;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.stork.Stork;
+import io.smallrye.stork.api.ServiceInstance;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+
+/**
+ * Sends a second copy of the idempotent requests of a client whose response takes longer than usual, enabled with
+ * {@link QuarkusRestClientProperties#HEDGE_REQUESTS}. The first response is used and the other request is reset.
+ * <p>
+ * The second request is sent after the delay configured with {@link QuarkusRestClientProperties#HEDGE_DELAY}, or after
+ * the 95th percentile of the latency of the recent requests of the client. If the request was resolved by Stork, the
+ * second request is sent to another instance of the service.
+ */
+public class RequestHedger {
+
+    private static final Logger log = Logger.getLogger(RequestHedger.class);
+
+    // the latency of the last requests is recorded to compute the 95th percentile
+    private static final int WINDOW = 256;
+    private static final int MIN_SAMPLES = 32;
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final Vertx vertx;
+    private final long fixedDelayMs;
+
+    private final long[] latencies = new long[WINDOW];
+    // guarded by latencies
+    private long recorded;
+    private volatile long p95Ms = -1;
+
+    private final LongAdder hedged = new LongAdder();
+
+    /**
+     * @param vertx the Vert.x instance used to schedule the second requests
+     * @param fixedDelayMs the delay after which the second request is sent, or a negative value to use the 95th
+     *        percentile of the latency of the recent requests
+     */
+    public RequestHedger(Vertx vertx, long fixedDelayMs) {
+        this.vertx = vertx;
+        this.fixedDelayMs = fixedDelayMs;
+    }
+
+    /**
+     * @return the hedger configured in the given configuration, or {@code null} if hedging is not enabled
+     */
+    static RequestHedger create(Configuration configuration, Vertx vertx) {
+        Object enabled = configuration.getProperty(QuarkusRestClientProperties.HEDGE_REQUESTS);
+        if (enabled == null || !(Boolean) enabled) {
+            return null;
+        }
+        Object delay = configuration.getProperty(QuarkusRestClientProperties.HEDGE_DELAY);
+        return new RequestHedger(vertx, delay != null ? ((Number) delay).longValue() : -1);
+    }
+
+    /**
+     * Hedges the given request.
+     *
+     * @param requestContext the request
+     * @param primaryRequest the request that was sent
+     * @param sender sends a copy of the request to the given URI
+     * @return the first response
+     */
+    public Future<HttpClientResponse> hedge(RestClientRequestContext requestContext, HttpClientRequest primaryRequest,
+            Function<URI, Future<HttpClientRequest>> sender) {
+        Future<HttpClientResponse> primary = primaryRequest.response();
+        long start = System.nanoTime();
+        primary.onSuccess(new Handler<HttpClientResponse>() {
+            @Override
+            public void handle(HttpClientResponse response) {
+                record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+        long delay = getDelay();
+        if (delay < 0) {
+            // not enough samples yet
+            return primary;
+        }
+        Hedge hedge = new Hedge(primaryRequest);
+        long timerId = vertx.setTimer(Math.max(delay, 1), new Handler<Long>() {
+            @Override
+            public void handle(Long ignored) {
+                if (!hedge.start()) {
+                    return;
+                }
+                hedged.increment();
+                alternativeUri(requestContext).subscribe().with(uri -> {
+                    log.debugf("Hedging the request to %s with a request to %s after %d ms", requestContext.getUri(), uri,
+                            delay);
+                    sender.apply(uri).onComplete(new Handler<AsyncResult<HttpClientRequest>>() {
+                        @Override
+                        public void handle(AsyncResult<HttpClientRequest> sent) {
+                            if (sent.failed()) {
+                                hedge.complete(Future.failedFuture(sent.cause()), null);
+                            } else {
+                                hedge.secondSent(sent.result());
+                            }
+                        }
+                    });
+                }, failure -> hedge.complete(Future.failedFuture(failure), null));
+            }
+        });
+        primary.onComplete(new Handler<AsyncResult<HttpClientResponse>>() {
+            @Override
+            public void handle(AsyncResult<HttpClientResponse> result) {
+                vertx.cancelTimer(timerId);
+                hedge.complete(result, primaryRequest);
+            }
+        });
+        return hedge.first.future();
+    }
+
+    /**
+     * @return the number of requests for which a second request was sent
+     */
+    public long getHedged() {
+        return hedged.sum();
+    }
+
+    /**
+     * @return the current delay after which a second request is sent, or {@code -1} if it is not known yet
+     */
+    public long getDelay() {
+        return fixedDelayMs >= 0 ? fixedDelayMs : p95Ms;
+    }
+
+    private static final class Hedge {
+
+        final Promise<HttpClientResponse> first = Promise.promise();
+        private final HttpClientRequest primaryRequest;
+        // guarded by this
+        private HttpClientRequest secondRequest;
+        // the number of requests that did not fail yet
+        private int pending = 1;
+
+        Hedge(HttpClientRequest primaryRequest) {
+            this.primaryRequest = primaryRequest;
+        }
+
+        synchronized boolean start() {
+            if (first.future().isComplete()) {
+                return false;
+            }
+            pending++;
+            return true;
+        }
+
+        void secondSent(HttpClientRequest request) {
+            synchronized (this) {
+                secondRequest = request;
+            }
+            if (first.future().isComplete()) {
+                // the primary request won in the meantime
+                request.reset();
+            }
+            request.response().onComplete(new Handler<AsyncResult<HttpClientResponse>>() {
+                @Override
+                public void handle(AsyncResult<HttpClientResponse> result) {
+                    complete(result, request);
+                }
+            });
+        }
+
+        void complete(AsyncResult<HttpClientResponse> result, HttpClientRequest request) {
+            HttpClientRequest other;
+            boolean failed;
+            synchronized (this) {
+                other = request == primaryRequest ? secondRequest : primaryRequest;
+                failed = result.failed() && --pending == 0;
+            }
+            if (result.succeeded()) {
+                if (first.tryComplete(result.result())) {
+                    if (other != null) {
+                        // the other response is not needed anymore
+                        other.reset();
+                    }
+                } else {
+                    request.reset();
+                }
+            } else if (failed) {
+                // all the requests failed
+                first.tryFail(result.cause());
+            }
+        }
+    }
+
+    private Uni<URI> alternativeUri(RestClientRequestContext requestContext) {
+        URI uri = requestContext.getUri();
+        Object serviceUri = requestContext.getProperties().get(StorkClientRequestFilter.SERVICE_URI_PROPERTY);
+        if (!(serviceUri instanceof URI)) {
+            return Uni.createFrom().item(uri);
+        }
+        URI storkUri = (URI) serviceUri;
+        io.smallrye.stork.api.Service service = Stork.getInstance().getService(storkUri.getHost());
+        return service.getInstances().map(instances -> {
+            List<ServiceInstance> others = new ArrayList<>(instances.size());
+            for (ServiceInstance instance : instances) {
+                if (!StorkClientRequestFilter.uri(storkUri, instance).equals(uri)) {
+                    others.add(instance);
+                }
+            }
+            if (others.isEmpty()) {
+                return uri;
+            }
+            return StorkClientRequestFilter.uri(storkUri, service.selectInstance(others));
+        });
+    }
+
+    void record(long latencyMs) {
+        if (fixedDelayMs >= 0) {
+            return;
+        }
+        long[] window;
+        // the responses are received on several event loops
+        synchronized (latencies) {
+            latencies[(int) (recorded % WINDOW)] = latencyMs;
+            recorded++;
+            if (recorded < MIN_SAMPLES || recorded % RECOMPUTE_INTERVAL != 0) {
+                return;
+            }
+            window = Arrays.copyOf(latencies, (int) Math.min(recorded, WINDOW));
+        }
+        Arrays.sort(window);
+        p95Ms = window[(int) Math.ceil(window.length * 0.95) - 1];
+    }
+}
@@ -22,6 +22,11 @@
 public class StorkClientRequestFilter implements ResteasyReactiveClientRequestFilter {
     private static final Logger log = Logger.getLogger(StorkClientRequestFilter.class);
 
+    /**
+     * The property holding the {@code stork://} URI of a request whose URI was resolved by Stork
+     */
+    public static final String SERVICE_URI_PROPERTY = "StorkServiceUri";
+
     @Override
     public void filter(ResteasyReactiveClientRequestContext requestContext) {
         URI uri = requestContext.getUri();
@@ -46,36 +51,50 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
 
             serviceInstance.subscribe()
                     .with(instance -> {
-                        boolean isHttps = instance.isSecure() || "storks".equals(uri.getScheme());
-                        String scheme = isHttps ? "https" : "http";
+                        URI newUri;
                         try {
-                            // In the case the service instance does not set the host and/or port
-                            String host = instance.getHost() == null ? "localhost" : instance.getHost();
-                            int port = instance.getPort();
-                            if (instance.getPort() == 0) {
-                                if (isHttps) {
-                                    port = 433;
-                                } else {
-                                    port = 80;
-                                }
-                            }
-                            URI newUri = new URI(scheme,
-                                    uri.getUserInfo(), host, port,
-                                    uri.getPath(), uri.getQuery(), uri.getFragment());
-                            requestContext.setUri(newUri);
-                            if (measureTime && instance.gatherStatistics()) {
-                                requestContext.setCallStatsCollector(instance);
-                            }
-                            requestContext.resume();
-                        } catch (URISyntaxException e) {
-                            requestContext.resume(new IllegalArgumentException("Invalid URI", e));
+                            newUri = uri(uri, instance);
+                        } catch (IllegalArgumentException e) {
+                            requestContext.resume(e);
+                            return;
+                        }
+                        requestContext.setProperty(SERVICE_URI_PROPERTY, uri);
+                        requestContext.setUri(newUri);
+                        if (measureTime && instance.gatherStatistics()) {
+                            requestContext.setCallStatsCollector(instance);
                         }
+                        requestContext.resume();
                     },
                             requestContext::resume);
         }
 
     }
 
+    /**
+     * @return the URI of the given {@code stork://} URI on the given service instance
+     */
+    static URI uri(URI storkUri, ServiceInstance instance) {
+        boolean isHttps = instance.isSecure() || "storks".equals(storkUri.getScheme());
+        String scheme = isHttps ? "https" : "http";
+        // In the case the service instance does not set the host and/or port
+        String host = instance.getHost() == null ? "localhost" : instance.getHost();
+        int port = instance.getPort();
+        if (instance.getPort() == 0) {
+            if (isHttps) {
+                port = 433;
+            } else {
+                port = 80;
+            }
+        }
+        try {
+            return new URI(scheme,
+                    storkUri.getUserInfo(), host, port,
+                    storkUri.getPath(), storkUri.getQuery(), storkUri.getFragment());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid URI", e);
+        }
+    }
+
     private boolean shouldMeasureTime(GenericType<?> responseType) {
         return !Multi.class.equals(responseType.getRawType());
     }
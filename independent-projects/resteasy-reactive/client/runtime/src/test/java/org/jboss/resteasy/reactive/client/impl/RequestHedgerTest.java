@@ -0,0 +1,77 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestHedgerTest {
+
+    @Test
+    public void delayIsUnknownUntilEnoughSamplesAreRecorded() {
+        RequestHedger hedger = new RequestHedger(null, -1);
+        for (int i = 1; i < 32; i++) {
+            hedger.record(i);
+            assertEquals(-1, hedger.getDelay());
+        }
+        hedger.record(32);
+        // the 95th percentile of 1..32
+        assertEquals(31, hedger.getDelay());
+    }
+
+    @Test
+    public void delayIsThe95thPercentileOfTheLastRequests() {
+        RequestHedger hedger = new RequestHedger(null, -1);
+        for (int i = 0; i < 256; i++) {
+            hedger.record(i < 243 ? 10 : 1000);
+        }
+        // 13 of the last 256 requests are slow, i.e. more than 5%
+        assertEquals(1000, hedger.getDelay());
+
+        for (int i = 0; i < 256; i++) {
+            hedger.record(i < 244 ? 10 : 1000);
+        }
+        // 12 of the last 256 requests are slow, i.e. less than 5%
+        assertEquals(10, hedger.getDelay());
+    }
+
+    @Test
+    public void fixedDelayIsNotReplaced() {
+        RequestHedger hedger = new RequestHedger(null, 50);
+        for (int i = 0; i < 64; i++) {
+            hedger.record(1000);
+        }
+        assertEquals(50, hedger.getDelay());
+    }
+
+    @Test
+    public void concurrentSamplesAreAllRecorded() throws InterruptedException {
+        RequestHedger hedger = new RequestHedger(null, -1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch done = new CountDownLatch(4);
+            List<Runnable> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < 64; i++) {
+                        hedger.record(20);
+                    }
+                    done.countDown();
+                });
+            }
+            tasks.forEach(executor::execute);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        // the percentile is recomputed once the 256 samples recorded by the concurrent threads are counted
+        assertEquals(20, hedger.getDelay());
+    }
+}
@@ -155,7 +155,9 @@ public void dump(int level) {
     }
 
     private void dumpValue(T value, int level) {
-        if (value instanceof List) {
+        if (value instanceof Dumpable) {
+            ((Dumpable) value).dump(level);
+        } else if (value instanceof List) {
             for (Object x : (List) value) {
                 if (x instanceof Dumpable)
                     ((Dumpable) x).dump(level);
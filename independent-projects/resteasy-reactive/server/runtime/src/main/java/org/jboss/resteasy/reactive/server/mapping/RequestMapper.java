@@ -6,21 +6,20 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-
-import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
 public class RequestMapper<T> {
 
-    private static final String[] EMPTY_STRING_ARRAY = new String[0];
-
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PathMatcher<RequestPathTrie<T>> requestPaths;
+    private final PathMatcher.Builder<RequestPathTrie<T>> pathMatcherBuilder;
+    // the sorted templates per stem, shared with the tries
+    private final PathMatcher<ArrayList<RequestPath<T>>> templatePaths;
+    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> templatePathMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
+        templatePathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -32,10 +31,11 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             paths.add(i);
             max = Math.max(max, i.template.countPathParamNames());
         }
+        maxParams = max;
         aggregates.forEach(this::sortAggregates);
         aggregates.forEach(this::addPrefixPaths);
-        maxParams = max;
         requestPaths = pathMatcherBuilder.build();
+        templatePaths = templatePathMatcherBuilder.build();
     }
 
     private void sortAggregates(String stem, List<RequestPath<T>> list) {
@@ -48,7 +48,9 @@ public int compare(RequestPath<T> t1, RequestPath<T> t2) {
     }
 
     private void addPrefixPaths(String stem, ArrayList<RequestPath<T>> list) {
-        pathMatcherBuilder.addPrefixPath(stem, list);
+        // the templates that share a stem are compiled into a trie, so that they can be matched in a single pass
+        pathMatcherBuilder.addPrefixPath(stem, new RequestPathTrie<>(list, maxParams));
+        templatePathMatcherBuilder.addPrefixPath(stem, list);
     }
 
     public RequestMatch<T> map(String path) {
@@ -61,90 +63,12 @@ public RequestMatch<T> map(String path) {
         return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
-        var value = initialMatch.getValue();
-        if (initialMatch.getValue() == null) {
+    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<RequestPathTrie<T>> initialMatch) {
+        RequestPathTrie<T> value = initialMatch.getValue();
+        if (value == null) {
             return null;
         }
-        int pathLength = path.length();
-        for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
-            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    for (String group : segment.groups) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(group), false);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
-                }
-            }
-            if (!matched) {
-                continue;
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
-                }
-            }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
-                } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
-                }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
-            }
-        }
-        return null;
+        return value.match(path, initialMatch.getMatched().length());
     }
 
     public static class RequestPath<T> implements Dumpable {
@@ -205,7 +129,7 @@ public void dump() {
     }
 
     public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        return templatePaths;
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
@@ -0,0 +1,366 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+
+import org.jboss.resteasy.reactive.common.util.URIDecoder;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+
+/**
+ * A trie of the template components of the {@link RequestPath}s that share the same stem.
+ * <p>
+ * The literal, path parameter and regex components of the templates are merged into a tree, so that the common prefix of
+ * several templates is only matched once. Each node knows the best (i.e. lowest) rank of the templates in its subtree,
+ * where the rank of a template is its position in the sorted list of templates. The match is a depth first search that
+ * skips the subtrees that cannot contain a better match than the one already found, and therefore it selects the same
+ * template as a linear iteration over the sorted templates would.
+ * <p>
+ * The path parameters are recorded as offsets and only decoded once the best match is known.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+final class RequestPathTrie<T> implements Dumpable {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
+    // the literal children of a node are hashed if there are at least this many of them
+    static final int LITERAL_INDEX_THRESHOLD = 8;
+
+    private final Node<T> root;
+    private final List<RequestPath<T>> paths;
+    private final int maxParams;
+
+    /**
+     * @param paths the sorted templates, the first one has the highest priority
+     * @param maxParams the maximum number of path parameters of all the templates of the mapper
+     */
+    RequestPathTrie(List<RequestPath<T>> paths, int maxParams) {
+        this.paths = paths;
+        this.maxParams = maxParams;
+        NodeBuilder<T> rootBuilder = new NodeBuilder<>(null);
+        for (int rank = 0; rank < paths.size(); rank++) {
+            RequestPath<T> path = paths.get(rank);
+            NodeBuilder<T> current = rootBuilder;
+            // The first component is always the stem which was already matched
+            URITemplate.TemplateComponent[] components = path.template.components;
+            for (int i = 1; i < components.length; ++i) {
+                current = current.child(components[i]);
+            }
+            current.addTerminal(path, rank);
+        }
+        this.root = rootBuilder.build();
+    }
+
+    /**
+     * @param path the request path
+     * @param matchPos the position right after the matched stem
+     * @return the match or {@code null}
+     */
+    RequestMatch<T> match(String path, int matchPos) {
+        Search<T> search = new Search<>(path, maxParams);
+        search.visit(root, matchPos, 0);
+        if (search.best == null) {
+            return null;
+        }
+        return search.toMatch();
+    }
+
+    @Override
+    public void dump(int level) {
+        for (RequestPath<T> path : paths) {
+            path.dump(level);
+        }
+    }
+
+    static final class Node<T> {
+
+        final URITemplate.TemplateComponent component;
+        // the best rank in this subtree
+        final int minRank;
+        // sorted by minRank, does not contain the literal children if they are indexed
+        final Node<T>[] children;
+        // null unless the node has many literal children
+        final LiteralIndex<T> literals;
+        // the templates that end at this node, sorted by rank
+        final RequestPath<T>[] terminals;
+        final int[] terminalRanks;
+
+        Node(URITemplate.TemplateComponent component, int minRank, Node<T>[] children, LiteralIndex<T> literals,
+                RequestPath<T>[] terminals, int[] terminalRanks) {
+            this.component = component;
+            this.minRank = minRank;
+            this.children = children;
+            this.literals = literals;
+            this.terminals = terminals;
+            this.terminalRanks = terminalRanks;
+        }
+    }
+
+    /**
+     * A hash table of literal children, keyed by their text. The hash of the request path is computed incrementally for
+     * each distinct literal length, so that looking up the matching literals does not allocate.
+     */
+    static final class LiteralIndex<T> {
+
+        // sorted in ascending order
+        final int[] lengths;
+        final Node<T>[][] buckets;
+        final int mask;
+
+        @SuppressWarnings("unchecked")
+        LiteralIndex(List<Node<T>> literals) {
+            int size = Integer.highestOneBit(literals.size() * 2 - 1) << 1;
+            List<Node<T>>[] table = new List[size];
+            mask = size - 1;
+            int[] allLengths = new int[literals.size()];
+            for (int i = 0; i < literals.size(); i++) {
+                Node<T> literal = literals.get(i);
+                String text = literal.component.literalText;
+                allLengths[i] = text.length();
+                int bucket = spread(text.hashCode()) & mask;
+                if (table[bucket] == null) {
+                    table[bucket] = new ArrayList<>(1);
+                }
+                table[bucket].add(literal);
+            }
+            lengths = Arrays.stream(allLengths).distinct().sorted().toArray();
+            buckets = new Node[size][];
+            for (int i = 0; i < size; i++) {
+                if (table[i] != null) {
+                    buckets[i] = table[i].toArray(new Node[0]);
+                }
+            }
+        }
+
+        static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    private static final class NodeBuilder<T> {
+
+        final URITemplate.TemplateComponent component;
+        final List<NodeBuilder<T>> children = new ArrayList<>();
+        final List<RequestPath<T>> terminals = new ArrayList<>();
+        final List<Integer> terminalRanks = new ArrayList<>();
+
+        NodeBuilder(URITemplate.TemplateComponent component) {
+            this.component = component;
+        }
+
+        NodeBuilder<T> child(URITemplate.TemplateComponent component) {
+            // A custom regex consumes the remainder of the template so it is never shared
+            if (component.type != URITemplate.Type.CUSTOM_REGEX) {
+                for (NodeBuilder<T> child : children) {
+                    if (child.component.type == component.type
+                            && (component.type == URITemplate.Type.DEFAULT_REGEX
+                                    || child.component.literalText.equals(component.literalText))) {
+                        return child;
+                    }
+                }
+            }
+            NodeBuilder<T> child = new NodeBuilder<>(component);
+            children.add(child);
+            return child;
+        }
+
+        void addTerminal(RequestPath<T> path, int rank) {
+            terminals.add(path);
+            terminalRanks.add(rank);
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> build() {
+            Node<T>[] builtChildren = new Node[children.size()];
+            List<Node<T>> literalChildren = new ArrayList<>();
+            for (int i = 0; i < builtChildren.length; i++) {
+                builtChildren[i] = children.get(i).build();
+                if (builtChildren[i].component.type == URITemplate.Type.LITERAL) {
+                    literalChildren.add(builtChildren[i]);
+                }
+            }
+            Arrays.sort(builtChildren, new Comparator<Node<T>>() {
+                @Override
+                public int compare(Node<T> n1, Node<T> n2) {
+                    return Integer.compare(n1.minRank, n2.minRank);
+                }
+            });
+            int min = Integer.MAX_VALUE;
+            int[] ranks = new int[terminalRanks.size()];
+            for (int i = 0; i < ranks.length; i++) {
+                ranks[i] = terminalRanks.get(i);
+                min = Math.min(min, ranks[i]);
+            }
+            if (builtChildren.length > 0) {
+                min = Math.min(min, builtChildren[0].minRank);
+            }
+            LiteralIndex<T> literals = null;
+            if (literalChildren.size() >= LITERAL_INDEX_THRESHOLD) {
+                literals = new LiteralIndex<>(literalChildren);
+                List<Node<T>> others = new ArrayList<>();
+                for (Node<T> child : builtChildren) {
+                    if (child.component.type != URITemplate.Type.LITERAL) {
+                        others.add(child);
+                    }
+                }
+                builtChildren = others.toArray(new Node[0]);
+            }
+            // the terminals were added in rank order
+            return new Node<>(component, min, builtChildren, literals, terminals.toArray(new RequestPath[0]), ranks);
+        }
+    }
+
+    /**
+     * The state of a single match. The offsets of the default regex parameters are recorded for the current branch of the
+     * search, and copied once a better match is found.
+     */
+    private static final class Search<T> {
+
+        final String path;
+        final int pathLength;
+        final int[] offsets;
+        final int[] bestOffsets;
+        RequestPath<T> best;
+        int bestRank = Integer.MAX_VALUE;
+        int bestEnd;
+        int bestParamCount;
+        Matcher bestMatcher;
+
+        Search(String path, int maxParams) {
+            this.path = path;
+            this.pathLength = path.length();
+            this.offsets = maxParams > 0 ? new int[maxParams * 2] : null;
+            this.bestOffsets = maxParams > 0 ? new int[maxParams * 2] : null;
+        }
+
+        void visit(Node<T> node, int matchPos, int paramCount) {
+            checkTerminals(node, matchPos, paramCount, null);
+            if (node.literals != null) {
+                visitLiterals(node.literals, matchPos, paramCount);
+            }
+            Node<T>[] children = node.children;
+            for (int i = 0; i < children.length; ++i) {
+                Node<T> child = children[i];
+                if (child.minRank >= bestRank) {
+                    // the children are sorted, none of the remaining subtrees contains a better match
+                    return;
+                }
+                URITemplate.TemplateComponent segment = child.component;
+                if (segment.type == URITemplate.Type.LITERAL) {
+                    String literal = segment.literalText;
+                    if (path.startsWith(literal, matchPos)) {
+                        visit(child, matchPos + literal.length(), paramCount);
+                    }
+                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (matchPos == pathLength) {
+                        continue;
+                    }
+                    int end = path.indexOf('/', matchPos);
+                    if (end == -1) {
+                        end = pathLength;
+                    }
+                    offsets[paramCount * 2] = matchPos;
+                    offsets[paramCount * 2 + 1] = end;
+                    visit(child, end, paramCount + 1);
+                } else {
+                    Matcher matcher = segment.pattern.matcher(path);
+                    if (matcher.find(matchPos) && matcher.start() == matchPos) {
+                        checkTerminals(child, matcher.end(), paramCount, matcher);
+                    }
+                }
+            }
+        }
+
+        private void visitLiterals(LiteralIndex<T> literals, int matchPos, int paramCount) {
+            // the order in which the literals are visited does not matter as only a better match can replace the best one
+            int hash = 0;
+            int hashedLength = 0;
+            int[] lengths = literals.lengths;
+            for (int i = 0; i < lengths.length; ++i) {
+                int length = lengths[i];
+                if (matchPos + length > pathLength) {
+                    return;
+                }
+                for (; hashedLength < length; hashedLength++) {
+                    hash = 31 * hash + path.charAt(matchPos + hashedLength);
+                }
+                Node<T>[] bucket = literals.buckets[LiteralIndex.spread(hash) & literals.mask];
+                if (bucket == null) {
+                    continue;
+                }
+                for (int j = 0; j < bucket.length; ++j) {
+                    Node<T> child = bucket[j];
+                    String literal = child.component.literalText;
+                    if (child.minRank < bestRank && literal.length() == length && path.startsWith(literal, matchPos)) {
+                        visit(child, matchPos + length, paramCount);
+                    }
+                }
+            }
+        }
+
+        private void checkTerminals(Node<T> node, int matchPos, int paramCount, Matcher matcher) {
+            RequestPath<T>[] terminals = node.terminals;
+            for (int i = 0; i < terminals.length; ++i) {
+                int rank = node.terminalRanks[i];
+                if (rank >= bestRank) {
+                    return;
+                }
+                if (isMatch(terminals[i], matchPos)) {
+                    best = terminals[i];
+                    bestRank = rank;
+                    bestEnd = matchPos;
+                    bestParamCount = paramCount;
+                    bestMatcher = matcher;
+                    if (paramCount > 0) {
+                        System.arraycopy(offsets, 0, bestOffsets, 0, paramCount * 2);
+                    }
+                    return;
+                }
+            }
+        }
+
+        private boolean isMatch(RequestPath<T> potentialMatch, int matchPos) {
+            if (matchPos == pathLength) {
+                return true;
+            }
+            //according to the spec every template ends with (/.*)?
+            if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                return potentialMatch.prefixTemplate || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+            } else if (path.charAt(matchPos) == '/') {
+                return potentialMatch.prefixTemplate || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+            }
+            return false;
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        RequestMatch<T> toMatch() {
+            String[] params = bestOffsets != null ? new String[bestOffsets.length / 2] : EMPTY_STRING_ARRAY;
+            int paramCount = 0;
+            for (; paramCount < bestParamCount; paramCount++) {
+                params[paramCount] = URIDecoder.decodeURIComponent(
+                        path.substring(bestOffsets[paramCount * 2], bestOffsets[paramCount * 2 + 1]), false);
+            }
+            if (bestMatcher != null) {
+                URITemplate.TemplateComponent segment = best.template.components[best.template.components.length - 1];
+                for (String group : segment.groups) {
+                    params[paramCount++] = URIDecoder.decodeURIComponent(bestMatcher.group(group), false);
+                }
+            }
+            if (paramCount < params.length) {
+                params[paramCount] = null;
+            }
+            String remaining;
+            if (bestEnd == pathLength) {
+                remaining = "";
+            } else if (bestEnd == 1) {
+                remaining = path;
+            } else {
+                remaining = path.substring(bestEnd);
+            }
+            return new RequestMatch(best.template, best.value, params, remaining);
+        }
+    }
+}
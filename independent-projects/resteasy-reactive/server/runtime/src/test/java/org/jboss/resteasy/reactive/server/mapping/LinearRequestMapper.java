@@ -0,0 +1,134 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+import org.jboss.resteasy.reactive.common.util.URIDecoder;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+
+/**
+ * The previous implementation of {@link RequestMapper}, which iterates over all the templates of a stem. It is used as a
+ * reference by the tests and the benchmark.
+ */
+class LinearRequestMapper<T> {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
+    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
+    private final int maxParams;
+
+    LinearRequestMapper(ArrayList<RequestPath<T>> templates) {
+        PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder = new PathMatcher.Builder<>();
+        int max = 0;
+        Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
+        for (RequestPath<T> i : templates) {
+            aggregates.computeIfAbsent(i.template.stem, k -> new ArrayList<>()).add(i);
+            max = Math.max(max, i.template.countPathParamNames());
+        }
+        for (Map.Entry<String, ArrayList<RequestPath<T>>> entry : aggregates.entrySet()) {
+            entry.getValue().sort(new Comparator<RequestPath<T>>() {
+                @Override
+                public int compare(RequestPath<T> t1, RequestPath<T> t2) {
+                    return t2.template.compareTo(t1.template);
+                }
+            });
+            pathMatcherBuilder.addPrefixPath(entry.getKey(), entry.getValue());
+        }
+        maxParams = max;
+        requestPaths = pathMatcherBuilder.build();
+    }
+
+    RequestMatch<T> map(String path) {
+        var result = mapFromPathMatcher(path, requestPaths.match(path));
+        if (result != null) {
+            return result;
+        }
+        return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
+    }
+
+    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
+        List<RequestPath<T>> value = initialMatch.getValue();
+        if (value == null) {
+            return null;
+        }
+        int pathLength = path.length();
+        for (int index = 0; index < value.size(); index++) {
+            RequestPath<T> potentialMatch = value.get(index);
+            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            int paramCount = 0;
+            boolean matched = true;
+            boolean prefixAllowed = potentialMatch.prefixTemplate;
+            int matchPos = initialMatch.getMatched().length();
+            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                    Matcher matcher = segment.pattern.matcher(path);
+                    matched = matcher.find(matchPos);
+                    if (!matched || matcher.start() != matchPos) {
+                        break;
+                    }
+                    matchPos = matcher.end();
+                    for (String group : segment.groups) {
+                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(group), false);
+                    }
+                } else if (segment.type == URITemplate.Type.LITERAL) {
+                    if (matchPos + segment.literalText.length() > pathLength) {
+                        matched = false;
+                        break;
+                    }
+                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
+                            matched = false;
+                            break;
+                        }
+                    }
+                    if (!matched) {
+                        break;
+                    }
+                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (matchPos == pathLength) {
+                        matched = false;
+                        break;
+                    }
+                    int start = matchPos;
+                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                        matchPos++;
+                    }
+                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
+                }
+            }
+            if (!matched) {
+                continue;
+            }
+            if (paramCount < params.length) {
+                params[paramCount] = null;
+            }
+            boolean fullMatch = matchPos == pathLength;
+            boolean doPrefixMatch = false;
+            if (!fullMatch) {
+                if (matchPos == 1) {
+                    doPrefixMatch = prefixAllowed || pathLength == 1;
+                } else if (path.charAt(matchPos) == '/') {
+                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1;
+                }
+            }
+            if (fullMatch || doPrefixMatch) {
+                String remaining;
+                if (fullMatch) {
+                    remaining = "";
+                } else if (matchPos == 1) {
+                    remaining = path;
+                } else {
+                    remaining = path.substring(matchPos);
+                }
+                return new RequestMatch<>(potentialMatch.template, potentialMatch.value, params, remaining);
+            }
+        }
+        return null;
+    }
+}
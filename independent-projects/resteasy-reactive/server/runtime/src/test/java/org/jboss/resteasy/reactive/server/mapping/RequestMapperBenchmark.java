@@ -0,0 +1,113 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the trie based {@link RequestMapper} with the previous linear implementation on large route tables.
+ * <p>
+ * The templates are spread over a few stems, so that each stem has many candidates, like the method mappers of a large
+ * resource class. Run with:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.jboss.resteasy.reactive.server.mapping.RequestMapperBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMapperBenchmark {
+
+    @Param({ "60", "600" })
+    int routes;
+
+    private RequestMapper<String> trieMapper;
+    private LinearRequestMapper<String> linearMapper;
+    private String[] paths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestPath<String>> templates = new ArrayList<>();
+        List<String> requests = new ArrayList<>();
+        for (int i = 0; i < routes; i++) {
+            String stem = "/api/resource" + (i % 5);
+            String template;
+            String request;
+            switch (i % 4) {
+                case 0:
+                    template = stem + "/items" + i;
+                    request = template;
+                    break;
+                case 1:
+                    template = stem + "/items" + i + "/{id}";
+                    request = stem + "/items" + i + "/42";
+                    break;
+                case 2:
+                    template = stem + "/{tenant}/items" + i + "/{id}/details";
+                    request = stem + "/acme/items" + i + "/42/details";
+                    break;
+                default:
+                    template = stem + "/items" + i + "/{id: [0-9]+}/{name}";
+                    request = stem + "/items" + i + "/42/foo";
+                    break;
+            }
+            templates.add(new RequestPath<>(false, new URITemplate(template, false), template));
+            requests.add(request);
+        }
+        trieMapper = new RequestMapper<>(templates);
+        linearMapper = new LinearRequestMapper<>(templates);
+        paths = requests.toArray(new String[0]);
+        // shuffle so that the order of the requests does not match the order of the templates
+        Random random = new Random(42);
+        for (int i = paths.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String tmp = paths[i];
+            paths[i] = paths[j];
+            paths[j] = tmp;
+        }
+    }
+
+    private String nextPath() {
+        String path = paths[index];
+        index = (index + 1) % paths.length;
+        return path;
+    }
+
+    @Benchmark
+    public RequestMatch<String> trie() {
+        return trieMapper.map(nextPath());
+    }
+
+    @Benchmark
+    public RequestMatch<String> linear() {
+        return linearMapper.map(nextPath());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RequestMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
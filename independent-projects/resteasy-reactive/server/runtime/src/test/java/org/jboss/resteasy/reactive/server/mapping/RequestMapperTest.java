@@ -0,0 +1,147 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    private static final List<String> TEMPLATES = List.of(
+            "/",
+            "/hello",
+            "/hello/",
+            "/hello/{name}",
+            "/hello/{name}/greeting",
+            "/hello/{name}/{greeting}",
+            "/hello/world",
+            "/hello/{name}.{ext}",
+            "/hello/{id: \\d+}",
+            "/hello/{id: \\d+}/{other: [a-z]+}",
+            "/users/{id}",
+            "/users/{id}/orders",
+            "/users/{id}/orders/{orderId}",
+            "/users/me",
+            "/users/me/orders",
+            "/users/{id: [0-9]+}/avatar",
+            "/{any}",
+            "/{any}/details",
+            "/files/{path: .*}",
+            "/a%20b/{p}");
+
+    private static final List<String> PATHS = List.of(
+            "/", "/hello", "/hello/", "/hello/bob", "/hello/bob/", "/hello/bob/greeting", "/hello/bob/hi",
+            "/hello/bob/hi/more", "/hello/world", "/hello/world/", "/hello/bob.json", "/hello/42", "/hello/42/abc",
+            "/hello/42/ABC", "/users", "/users/", "/users/1", "/users/me", "/users/me/orders", "/users/1/orders",
+            "/users/1/orders/2", "/users/1/orders/2/items", "/users/12/avatar", "/users/ab/avatar", "/foo",
+            "/foo/details", "/foo/bar", "/files/a/b/c.txt", "/files/", "/a%20b/x", "/hello/b%2Fo", "//", "/hello//greeting",
+            "/unknown/path/entirely", "/usersx", "/hellox/bob");
+
+    @Test
+    public void testSameMatchesAsLinearMapper() {
+        for (boolean prefix : new boolean[] { false, true }) {
+            ArrayList<RequestPath<String>> templates = new ArrayList<>();
+            for (String template : TEMPLATES) {
+                templates.add(new RequestPath<>(prefix, new URITemplate(template, prefix), template));
+            }
+            RequestMapper<String> mapper = new RequestMapper<>(templates);
+            LinearRequestMapper<String> linear = new LinearRequestMapper<>(templates);
+            for (String path : PATHS) {
+                assertSameMatch(path, linear.map(path), mapper.map(path));
+            }
+        }
+    }
+
+    @Test
+    public void testLargeRouteTable() {
+        // many literal siblings, so that the literal children are hashed
+        ArrayList<RequestPath<String>> templates = new ArrayList<>();
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < 3 * RequestPathTrie.LITERAL_INDEX_THRESHOLD; i++) {
+            templates.add(template("/api/{tenant}/items" + i));
+            templates.add(template("/api/{tenant}/items" + i + "/{id}"));
+            templates.add(template("/api/{tenant}/i" + i + "/{id: [0-9]+}"));
+            templates.add(template("/api/" + i));
+            paths.add("/api/acme/items" + i);
+            paths.add("/api/acme/items" + i + "/");
+            paths.add("/api/acme/items" + i + "/42");
+            paths.add("/api/acme/items" + i + "/42/more");
+            paths.add("/api/acme/i" + i + "/42");
+            paths.add("/api/acme/i" + i + "/abc");
+            paths.add("/api/" + i);
+            paths.add("/api/" + i + "/items" + i);
+        }
+        templates.add(template("/api/{tenant}/{any}"));
+        RequestMapper<String> mapper = new RequestMapper<>(templates);
+        LinearRequestMapper<String> linear = new LinearRequestMapper<>(templates);
+        for (String path : paths) {
+            assertSameMatch(path, linear.map(path), mapper.map(path));
+        }
+    }
+
+    @Test
+    public void testPathParameters() {
+        ArrayList<RequestPath<String>> templates = new ArrayList<>();
+        for (String template : TEMPLATES) {
+            templates.add(new RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        RequestMapper<String> mapper = new RequestMapper<>(templates);
+
+        RequestMatch<String> match = mapper.map("/users/1/orders/2");
+        assertNotNull(match);
+        assertEquals("/users/{id}/orders/{orderId}", match.value);
+        assertEquals("1", match.pathParamValues[0]);
+        assertEquals("2", match.pathParamValues[1]);
+
+        match = mapper.map("/users/me");
+        assertNotNull(match);
+        assertEquals("/users/me", match.value);
+
+        match = mapper.map("/hello/42/abc");
+        assertNotNull(match);
+        assertEquals("/hello/{id: \\d+}/{other: [a-z]+}", match.value);
+        assertEquals("42", match.pathParamValues[0]);
+        assertEquals("abc", match.pathParamValues[1]);
+
+        match = mapper.map("/hello/b%20b");
+        assertNotNull(match);
+        assertEquals("/hello/{name}", match.value);
+        assertEquals("b b", match.pathParamValues[0]);
+    }
+
+    @Test
+    public void testRequestPathsExposeTheSortedTemplates() {
+        ArrayList<RequestPath<String>> templates = new ArrayList<>();
+        templates.add(template("/users/{id}"));
+        templates.add(template("/users/{id}/orders"));
+        RequestMapper<String> mapper = new RequestMapper<>(templates);
+
+        ArrayList<RequestPath<String>> users = mapper.getRequestPaths().match("/users/1").getValue();
+        assertNotNull(users);
+        assertEquals(2, users.size());
+        assertEquals("/users/{id}/orders", users.get(0).value);
+        assertEquals("/users/{id}", users.get(1).value);
+    }
+
+    private static RequestPath<String> template(String template) {
+        return new RequestPath<>(false, new URITemplate(template, false), template);
+    }
+
+    private static void assertSameMatch(String path, RequestMatch<String> expected, RequestMatch<String> actual) {
+        if (expected == null) {
+            assertNull(actual, path);
+            return;
+        }
+        assertNotNull(actual, path);
+        assertEquals(expected.value, actual.value, path);
+        assertEquals(expected.remaining, actual.remaining, path);
+        assertArrayEquals(expected.pathParamValues, actual.pathParamValues, path);
+    }
+}
@@ -11,8 +11,10 @@
 import jakarta.ws.rs.ext.Provider;
 
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
 
 import io.vertx.core.buffer.Buffer;
 
@@ -35,6 +37,12 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
 
     @Override
     public void writeResponse(Buffer buffer, Type genericType, ServerRequestContext context) throws WebApplicationException {
-        context.serverResponse().end(buffer.getBytes());
+        ServerHttpResponse response = context.serverResponse();
+        if (response instanceof VertxResteasyReactiveRequestContext) {
+            // the buffer can be written as is, e.g. a composite buffer is not copied
+            ((VertxResteasyReactiveRequestContext) response).end(buffer);
+        } else {
+            response.end(buffer.getBytes());
+        }
     }
 }